@@ -0,0 +1,144 @@
+package org.orbitalLogistic.gateway.services;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.orbitalLogistic.jwt.JwtVerifier;
+import org.orbitalLogistic.jwt.VerifiedToken;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private SecretKey signingKey;
+    private String secretKey;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        signingKey = Jwts.SIG.HS256.key().build();
+        secretKey = Base64.getEncoder().encodeToString(signingKey.getEncoded());
+        jwtService = new JwtService(new JwtVerifier(secretKey));
+    }
+
+    @Test
+    @DisplayName("Should verify a valid token with its subject and roles")
+    void verify_ValidToken() {
+        String token = token("alice", List.of("ADMIN"), inMillis(60_000), signingKey);
+
+        Optional<VerifiedToken> verified = jwtService.verify(token);
+
+        assertTrue(verified.isPresent());
+        assertEquals("alice", verified.get().subject());
+        assertEquals(List.of("ADMIN"), verified.get().roles());
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated token from the cache")
+    void verify_RepeatedToken_CacheHit() {
+        String token = token("alice", List.of("ADMIN"), inMillis(60_000), signingKey);
+
+        VerifiedToken first = jwtService.verify(token).orElseThrow();
+        VerifiedToken second = jwtService.verify(token).orElseThrow();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Should reject a cached token once it has expired")
+    void verify_CachedTokenExpires() throws InterruptedException {
+        // exp has second precision, so wait for the value actually written into the token
+        String token = token("alice", List.of("ADMIN"), inMillis(1_500), signingKey);
+        VerifiedToken verified = jwtService.verify(token).orElseThrow();
+
+        Thread.sleep(Math.max(0, verified.expiresAtMillis() - System.currentTimeMillis()) + 100);
+
+        assertTrue(jwtService.verify(token).isEmpty());
+        assertFalse(jwtService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Should verify a token again after it was evicted from a full cache")
+    void verify_EvictedToken_VerifiedAgain() {
+        JwtService smallCache = new JwtService(new JwtVerifier(secretKey, 1));
+        String alice = token("alice", List.of("ADMIN"), inMillis(60_000), signingKey);
+        String bob = token("bob", List.of("LOGISTICS_OFFICER"), inMillis(60_000), signingKey);
+
+        assertTrue(smallCache.validateToken(alice));
+        assertTrue(smallCache.validateToken(bob));
+
+        assertEquals("alice", smallCache.verify(alice).orElseThrow().subject());
+        assertEquals("bob", smallCache.verify(bob).orElseThrow().subject());
+    }
+
+    @Test
+    @DisplayName("Should reject a token whose payload was changed after signing")
+    void verify_TamperedPayload() {
+        String token = token("alice", List.of("LOGISTICS_OFFICER"), inMillis(60_000), signingKey);
+        assertTrue(jwtService.validateToken(token));
+
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                        .replace("LOGISTICS_OFFICER", "ADMIN")
+                        .getBytes(StandardCharsets.UTF_8));
+        String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        assertTrue(jwtService.verify(forged).isEmpty());
+        assertThrows(JwtException.class, () -> jwtService.extractAllClaims(forged));
+    }
+
+    @Test
+    @DisplayName("Should reject a token with a changed signature")
+    void verify_TamperedSignature() {
+        String token = token("alice", List.of("ADMIN"), inMillis(60_000), signingKey);
+        // the first signature character carries six signature bits, the last one partly padding
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char first = token.charAt(signatureStart);
+        String forged = token.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A')
+                + token.substring(signatureStart + 1);
+
+        assertFalse(jwtService.validateToken(forged));
+    }
+
+    @Test
+    @DisplayName("Should reject a token signed with another key")
+    void verify_OtherKey() {
+        String token = token("alice", List.of("ADMIN"), inMillis(60_000), Jwts.SIG.HS256.key().build());
+
+        assertFalse(jwtService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Should reject expired, unexpiring, malformed and missing tokens")
+    void verify_InvalidTokens() {
+        assertFalse(jwtService.validateToken(token("alice", List.of(), inMillis(-60_000), signingKey)));
+        assertFalse(jwtService.validateToken(token("alice", List.of(), null, signingKey)));
+        assertFalse(jwtService.validateToken("malformed.token.string"));
+        assertFalse(jwtService.validateToken(""));
+        assertFalse(jwtService.validateToken(null));
+    }
+
+    private static Date inMillis(long millis) {
+        return new Date(System.currentTimeMillis() + millis);
+    }
+
+    private static String token(String subject, List<String> roles, Date expiration, SecretKey key) {
+        return Jwts.builder()
+                .subject(subject)
+                .claim("roles", roles)
+                .issuedAt(new Date())
+                .expiration(expiration)
+                .signWith(key)
+                .compact();
+    }
+}
@@ -8,5 +8,8 @@ import java.util.Optional;
 public interface GetCargoStorageUseCase {
     Optional<CargoStorage> getStorageById(Long id);
     List<CargoStorage> getAllStorages(int page, int size);
+    List<CargoStorage> getStoragesAfter(Long afterId, int size);
+    long countStorages();
+    long estimateStorages();
     List<CargoStorage> searchStorages(Long storageUnitId, Long cargoId, int page, int size);
 }
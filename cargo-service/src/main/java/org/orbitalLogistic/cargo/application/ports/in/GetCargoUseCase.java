@@ -11,5 +11,8 @@ public interface GetCargoUseCase {
     Optional<Cargo> getCargoById(Long id);
     List<Cargo> getAllCargos(int page, int size);
     List<Cargo> searchCargos(String name, CargoType cargoType, HazardLevel hazardLevel, int page, int size);
+    List<Cargo> searchCargosRanked(String name, CargoType cargoType, HazardLevel hazardLevel, int page, int size);
+    List<Cargo> getCargosAfter(Long afterId, int size);
+    List<Cargo> searchCargosAfter(String name, CargoType cargoType, HazardLevel hazardLevel, Long afterId, int size);
     boolean cargoExists(Long id);
 }
@@ -14,5 +14,7 @@ public interface CargoRepository {
     boolean existsById(Long id);
     void deleteById(Long id);
     List<Cargo> findWithFilters(String name, String cargoType, String hazardLevel, int limit, int offset);
+    List<Cargo> findWithFiltersAfter(String name, String cargoType, String hazardLevel, Long afterId, int limit);
+    List<Cargo> findBySimilarName(String name, String cargoType, String hazardLevel, int limit, int offset);
     long countWithFilters(String name, String cargoType, String hazardLevel);
 }
@@ -14,6 +14,8 @@ public interface CargoStorageRepository {
     void deleteById(Long id);
     boolean existsById(Long id);
     List<CargoStorage> findWithFilters(Long storageUnitId, Long cargoId, Integer minQuantity, int limit, int offset);
+    List<CargoStorage> findWithFiltersAfter(Long storageUnitId, Long cargoId, Integer minQuantity, Long afterId, int limit);
     long countWithFilters(Long storageUnitId, Long cargoId, Integer minQuantity);
+    long estimateWithFilters(Long storageUnitId, Long cargoId, Integer minQuantity);
     Integer sumQuantityByCargoId(Long cargoId);
 }
@@ -2,6 +2,7 @@ package org.orbitalLogistic.cargo.application.ports.out;
 
 import org.orbitalLogistic.cargo.domain.model.StorageUnit;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +16,26 @@ public interface StorageUnitRepository {
     long countByLocation(String location);
     void deleteById(Long id);
     boolean existsById(Long id);
+
+    /**
+     * Atomically adds the given mass and volume to the unit's current load if the result stays
+     * within capacity. Negative amounts release capacity and are never refused, even when the unit
+     * is loaded beyond a lowered capacity. Returns the updated unit, or empty when the unit does
+     * not exist or has not enough free capacity.
+     */
+    Optional<StorageUnit> reserveCapacity(Long id, BigDecimal mass, BigDecimal volume);
+
+    /**
+     * Updates everything except the current load, which only {@link #reserveCapacity} and
+     * {@link #updateCurrentLoad} write. Returns empty when the unit does not exist.
+     */
+    Optional<StorageUnit> updateDetails(StorageUnit storageUnit);
+
+    /**
+     * Reads the unit and locks its row until the end of the transaction, so no reservation
+     * changes the load in between.
+     */
+    Optional<StorageUnit> findByIdForUpdate(Long id);
+
+    Optional<StorageUnit> updateCurrentLoad(Long id, BigDecimal mass, BigDecimal volume);
 }
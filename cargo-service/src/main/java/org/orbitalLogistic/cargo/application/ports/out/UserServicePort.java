@@ -1,6 +1,11 @@
 package org.orbitalLogistic.cargo.application.ports.out;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface UserServicePort {
     boolean userExists(Long userId);
     String getUserById(Long userId);
+    Map<Long, Boolean> usersExist(Collection<Long> userIds);
+    Map<Long, String> getUsernamesByIds(Collection<Long> userIds);
 }
@@ -7,7 +7,6 @@ import org.orbitalLogistic.cargo.application.ports.out.*;
 import org.orbitalLogistic.cargo.domain.exception.*;
 import org.orbitalLogistic.cargo.domain.model.Cargo;
 import org.orbitalLogistic.cargo.domain.model.CargoStorage;
-import org.orbitalLogistic.cargo.domain.model.StorageUnit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,9 +32,6 @@ public class CreateCargoStorageService implements CreateCargoStorageUseCase {
         Cargo cargo = cargoRepository.findById(storage.getCargoId())
                 .orElseThrow(() -> new CargoNotFoundException("Cargo not found with id: " + storage.getCargoId()));
 
-        StorageUnit storageUnit = storageUnitRepository.findById(storage.getStorageUnitId())
-                .orElseThrow(() -> new StorageUnitNotFoundException("Storage unit not found with id: " + storage.getStorageUnitId()));
-
         if (storage.getLastCheckedByUserId() != null && !userServicePort.userExists(storage.getLastCheckedByUserId())) {
             throw new UserNotFoundException("User not found with id: " + storage.getLastCheckedByUserId());
         }
@@ -45,24 +41,9 @@ public class CreateCargoStorageService implements CreateCargoStorageUseCase {
         BigDecimal requiredVolume = cargo.getVolumePerUnit()
                 .multiply(BigDecimal.valueOf(storage.getQuantity()));
 
-        BigDecimal availableMass = storageUnit.getMaxMass().subtract(storageUnit.getCurrentMass());
-        BigDecimal availableVolume = storageUnit.getMaxVolume().subtract(storageUnit.getCurrentVolume());
-
-        if (requiredMass.compareTo(availableMass) > 0) {
-            throw new InsufficientCapacityException(
-                    "Insufficient mass capacity. Required: " + requiredMass + ", available: " + availableMass
-            );
-        }
-
-        if (requiredVolume.compareTo(availableVolume) > 0) {
-            throw new InsufficientCapacityException(
-                    "Insufficient volume capacity. Required: " + requiredVolume + ", available: " + availableVolume
-            );
-        }
-
-        storageUnit.setCurrentMass(storageUnit.getCurrentMass().add(requiredMass));
-        storageUnit.setCurrentVolume(storageUnit.getCurrentVolume().add(requiredVolume));
-        storageUnitRepository.save(storageUnit);
+        storageUnitRepository.reserveCapacity(storage.getStorageUnitId(), requiredMass, requiredVolume)
+                .orElseThrow(() -> StorageCapacity.rejectedReservation(
+                        storageUnitRepository, storage.getStorageUnitId(), requiredMass, requiredVolume));
 
         CargoStorage saved = cargoStorageRepository.save(storage);
         log.info("Cargo storage created with id: {}", saved.getId());
@@ -11,7 +11,6 @@ import org.orbitalLogistic.cargo.domain.exception.CargoStorageNotFoundException;
 import org.orbitalLogistic.cargo.domain.exception.StorageUnitNotFoundException;
 import org.orbitalLogistic.cargo.domain.model.Cargo;
 import org.orbitalLogistic.cargo.domain.model.CargoStorage;
-import org.orbitalLogistic.cargo.domain.model.StorageUnit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,15 +36,11 @@ public class DeleteCargoStorageService implements DeleteCargoStorageUseCase {
         Cargo cargo = cargoRepository.findById(storage.getCargoId())
                 .orElseThrow(() -> new CargoNotFoundException("Cargo not found with id: " + storage.getCargoId()));
 
-        StorageUnit storageUnit = storageUnitRepository.findById(storage.getStorageUnitId())
-                .orElseThrow(() -> new StorageUnitNotFoundException("Storage unit not found with id: " + storage.getStorageUnitId()));
-
         BigDecimal releasedMass = cargo.getMassPerUnit().multiply(BigDecimal.valueOf(storage.getQuantity()));
         BigDecimal releasedVolume = cargo.getVolumePerUnit().multiply(BigDecimal.valueOf(storage.getQuantity()));
 
-        storageUnit.setCurrentMass(storageUnit.getCurrentMass().subtract(releasedMass));
-        storageUnit.setCurrentVolume(storageUnit.getCurrentVolume().subtract(releasedVolume));
-        storageUnitRepository.save(storageUnit);
+        storageUnitRepository.reserveCapacity(storage.getStorageUnitId(), releasedMass.negate(), releasedVolume.negate())
+                .orElseThrow(() -> new StorageUnitNotFoundException("Storage unit not found with id: " + storage.getStorageUnitId()));
 
         cargoStorageRepository.deleteById(id);
         log.info("Cargo storage deleted with id: {}", id);
@@ -45,6 +45,35 @@ public class GetCargoService implements GetCargoUseCase {
         return cargoRepository.findWithFilters(name, typeStr, hazardStr, size, offset);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Cargo> searchCargosRanked(String name, CargoType cargoType, HazardLevel hazardLevel, int page, int size) {
+        log.debug("Ranked cargo search - name: {}, type: {}, hazard: {}", name, cargoType, hazardLevel);
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Fuzzy search requires a name");
+        }
+        String typeStr = cargoType != null ? cargoType.name() : null;
+        String hazardStr = hazardLevel != null ? hazardLevel.name() : null;
+        return cargoRepository.findBySimilarName(name, typeStr, hazardStr, size, page * size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Cargo> getCargosAfter(Long afterId, int size) {
+        log.debug("Getting cargos after id: {}, size: {}", afterId, size);
+        return cargoRepository.findWithFiltersAfter(null, null, null, afterId, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Cargo> searchCargosAfter(String name, CargoType cargoType, HazardLevel hazardLevel, Long afterId, int size) {
+        log.debug("Searching cargos after id: {} with filters - name: {}, type: {}, hazard: {}",
+                afterId, name, cargoType, hazardLevel);
+        String typeStr = cargoType != null ? cargoType.name() : null;
+        String hazardStr = hazardLevel != null ? hazardLevel.name() : null;
+        return cargoRepository.findWithFiltersAfter(name, typeStr, hazardStr, afterId, size);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean cargoExists(Long id) {
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.orbitalLogistic.cargo.application.ports.in.GetCargoStorageUseCase;
 import org.orbitalLogistic.cargo.application.ports.out.CargoStorageRepository;
 import org.orbitalLogistic.cargo.domain.model.CargoStorage;
+import org.orbitalLogistic.pagination.ExactCountCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +18,7 @@ import java.util.Optional;
 public class GetCargoStorageService implements GetCargoStorageUseCase {
 
     private final CargoStorageRepository cargoStorageRepository;
+    private final ExactCountCache exactCountCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -33,6 +35,26 @@ public class GetCargoStorageService implements GetCargoStorageUseCase {
         return cargoStorageRepository.findWithFilters(null, null, null, size, offset);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<CargoStorage> getStoragesAfter(Long afterId, int size) {
+        log.debug("Getting cargo storages after id: {}, size: {}", afterId, size);
+        return cargoStorageRepository.findWithFiltersAfter(null, null, null, afterId, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countStorages() {
+        return exactCountCache.get("cargo-storages",
+                () -> cargoStorageRepository.countWithFilters(null, null, null));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long estimateStorages() {
+        return cargoStorageRepository.estimateWithFilters(null, null, null);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<CargoStorage> searchStorages(Long storageUnitId, Long cargoId, int page, int size) {
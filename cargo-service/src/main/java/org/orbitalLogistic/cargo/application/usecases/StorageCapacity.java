@@ -0,0 +1,44 @@
+package org.orbitalLogistic.cargo.application.usecases;
+
+import org.orbitalLogistic.cargo.application.ports.out.StorageUnitRepository;
+import org.orbitalLogistic.cargo.domain.exception.InsufficientCapacityException;
+import org.orbitalLogistic.cargo.domain.exception.StorageUnitNotFoundException;
+import org.orbitalLogistic.cargo.domain.model.StorageUnit;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+final class StorageCapacity {
+
+    private StorageCapacity() {
+    }
+
+    /**
+     * Explains why {@link StorageUnitRepository#reserveCapacity} rejected a reservation.
+     * Only runs on the failure path, so the extra read does not cost anything for successful reservations.
+     */
+    static RuntimeException rejectedReservation(StorageUnitRepository storageUnitRepository,
+                                                Long storageUnitId, BigDecimal mass, BigDecimal volume) {
+        Optional<StorageUnit> found = storageUnitRepository.findById(storageUnitId);
+        if (found.isEmpty()) {
+            return new StorageUnitNotFoundException("Storage unit not found with id: " + storageUnitId);
+        }
+
+        StorageUnit storageUnit = found.get();
+        BigDecimal availableMass = storageUnit.getMaxMass().subtract(storageUnit.getCurrentMass());
+        if (mass.compareTo(availableMass) > 0) {
+            return new InsufficientCapacityException(
+                    "Insufficient mass capacity. Required: " + mass + ", available: " + availableMass
+            );
+        }
+
+        BigDecimal availableVolume = storageUnit.getMaxVolume().subtract(storageUnit.getCurrentVolume());
+        if (volume.compareTo(availableVolume) > 0) {
+            return new InsufficientCapacityException(
+                    "Insufficient volume capacity. Required: " + volume + ", available: " + availableVolume
+            );
+        }
+
+        return new InsufficientCapacityException("Insufficient capacity in storage unit with id: " + storageUnitId);
+    }
+}
@@ -10,7 +10,6 @@ import org.orbitalLogistic.cargo.application.ports.out.UserServicePort;
 import org.orbitalLogistic.cargo.domain.exception.*;
 import org.orbitalLogistic.cargo.domain.model.Cargo;
 import org.orbitalLogistic.cargo.domain.model.CargoStorage;
-import org.orbitalLogistic.cargo.domain.model.StorageUnit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,34 +37,16 @@ public class UpdateCargoStorageService implements UpdateCargoStorageUseCase {
         Cargo cargo = cargoRepository.findById(storage.getCargoId())
                 .orElseThrow(() -> new CargoNotFoundException("Cargo not found with id: " + storage.getCargoId()));
 
-        StorageUnit storageUnit = storageUnitRepository.findById(storage.getStorageUnitId())
-                .orElseThrow(() -> new StorageUnitNotFoundException("Storage unit not found with id: " + storage.getStorageUnitId()));
-
         int quantityDiff = newQuantity - storage.getQuantity();
-        BigDecimal massDiff = cargo.getMassPerUnit().multiply(BigDecimal.valueOf(quantityDiff));
-        BigDecimal volumeDiff = cargo.getVolumePerUnit().multiply(BigDecimal.valueOf(quantityDiff));
-
-        if (quantityDiff > 0) {
-            BigDecimal availableMass = storageUnit.getMaxMass().subtract(storageUnit.getCurrentMass());
-            BigDecimal availableVolume = storageUnit.getMaxVolume().subtract(storageUnit.getCurrentVolume());
+        if (quantityDiff != 0) {
+            BigDecimal massDiff = cargo.getMassPerUnit().multiply(BigDecimal.valueOf(quantityDiff));
+            BigDecimal volumeDiff = cargo.getVolumePerUnit().multiply(BigDecimal.valueOf(quantityDiff));
 
-            if (massDiff.compareTo(availableMass) > 0) {
-                throw new InsufficientCapacityException(
-                        "Insufficient mass capacity. Required: " + massDiff + ", available: " + availableMass
-                );
-            }
-
-            if (volumeDiff.compareTo(availableVolume) > 0) {
-                throw new InsufficientCapacityException(
-                        "Insufficient volume capacity. Required: " + volumeDiff + ", available: " + availableVolume
-                );
-            }
+            storageUnitRepository.reserveCapacity(storage.getStorageUnitId(), massDiff, volumeDiff)
+                    .orElseThrow(() -> StorageCapacity.rejectedReservation(
+                            storageUnitRepository, storage.getStorageUnitId(), massDiff, volumeDiff));
         }
 
-        storageUnit.setCurrentMass(storageUnit.getCurrentMass().add(massDiff));
-        storageUnit.setCurrentVolume(storageUnit.getCurrentVolume().add(volumeDiff));
-        storageUnitRepository.save(storageUnit);
-
         storage.setQuantity(newQuantity);
         CargoStorage updated = cargoStorageRepository.save(storage);
         log.info("Inventory updated for storage id: {}", updated.getId());
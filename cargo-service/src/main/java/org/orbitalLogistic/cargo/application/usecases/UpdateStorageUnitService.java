@@ -49,7 +49,9 @@ public class UpdateStorageUnitService implements UpdateStorageUnitUseCase {
         existing.setMaxVolume(unit.getMaxVolume());
         existing.setIsActive(unit.getIsActive());
 
-        StorageUnit updated = storageUnitRepository.save(existing);
+        // the load is left to the atomic reservations, a stale copy would overwrite them
+        StorageUnit updated = storageUnitRepository.updateDetails(existing)
+                .orElseThrow(() -> new StorageUnitNotFoundException("Storage unit not found with id: " + id));
         log.info("Storage unit updated with id: {}", updated.getId());
         return updated;
     }
@@ -59,7 +61,8 @@ public class UpdateStorageUnitService implements UpdateStorageUnitUseCase {
     public StorageUnit recalculateCapacity(Long id) {
         log.debug("Recalculating capacity for storage unit id: {}", id);
 
-        StorageUnit unit = storageUnitRepository.findById(id)
+        // locked first, so reservations committed before see their cargo storages counted and later ones wait
+        storageUnitRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new StorageUnitNotFoundException("Storage unit not found with id: " + id));
 
         List<CargoStorage> storages = cargoStorageRepository.findByStorageUnitId(id);
@@ -75,9 +78,8 @@ public class UpdateStorageUnitService implements UpdateStorageUnitUseCase {
             totalVolume = totalVolume.add(cargo.getVolumePerUnit().multiply(BigDecimal.valueOf(storage.getQuantity())));
         }
 
-        unit.setCurrentMass(totalMass);
-        unit.setCurrentVolume(totalVolume);
-        StorageUnit updated = storageUnitRepository.save(unit);
+        StorageUnit updated = storageUnitRepository.updateCurrentLoad(id, totalMass, totalVolume)
+                .orElseThrow(() -> new StorageUnitNotFoundException("Storage unit not found with id: " + id));
         log.info("Capacity recalculated for storage unit id: {}", updated.getId());
         return updated;
     }
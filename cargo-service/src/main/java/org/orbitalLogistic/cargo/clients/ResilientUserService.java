@@ -1,5 +1,8 @@
 package org.orbitalLogistic.cargo.clients;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import org.orbitalLogistic.cargo.domain.exception.UserServiceException;
@@ -31,7 +34,7 @@ public class ResilientUserService {
         } catch (CallNotPermittedException e) {
             return getUserByIdFallback(id, e);
         } catch (FeignException.NotFound e) {
-            throw new UserServiceException("User with ID " + id + " not found");
+            throw new UserServiceException("User with ID " + id + " not found", e);
         } catch (FeignException e) {
             throw new UserServiceException("User Service unavailable!");
         }
@@ -56,12 +59,56 @@ public class ResilientUserService {
         } catch (CallNotPermittedException e) {
             return userExistsFallback(id, e);
         } catch (FeignException.NotFound e) {
-            throw new UserServiceException("User with ID " + id + " not found");
+            throw new UserServiceException("User with ID " + id + " not found", e);
         } catch (FeignException e) {
             throw new UserServiceException("User Service unavailable!");
         }
     }
 
+    public List<UserDTO> getUsersByIds(Collection<Long> ids) {
+        CircuitBreaker cb = registry.circuitBreaker("userService");
+
+        Supplier<List<UserDTO>> supplier = CircuitBreaker.decorateSupplier(
+            cb,
+            () -> userServiceApi.getUsersByIds(ids)
+        );
+
+        try {
+            return supplier.get();
+        } catch (CallNotPermittedException e) {
+            return getUsersByIdsFallback(ids, e);
+        } catch (FeignException e) {
+            throw new UserServiceException("User Service unavailable!");
+        }
+    }
+
+    public Map<Long, Boolean> usersExist(Collection<Long> ids) {
+        CircuitBreaker cb = registry.circuitBreaker("userService");
+
+        Supplier<Map<Long, Boolean>> supplier = CircuitBreaker.decorateSupplier(
+            cb,
+            () -> userServiceApi.usersExist(ids)
+        );
+
+        try {
+            return supplier.get();
+        } catch (CallNotPermittedException e) {
+            return usersExistFallback(ids, e);
+        } catch (FeignException e) {
+            throw new UserServiceException("User Service unavailable!");
+        }
+    }
+
+    public List<UserDTO> getUsersByIdsFallback(Collection<Long> ids, Throwable t) {
+        log.error("FALLBACK getUsersByIds! ids: {}, error: {}", ids.size(), t.getClass().getSimpleName());
+        throw new UserServiceException("User service unavailable!");
+    }
+
+    public Map<Long, Boolean> usersExistFallback(Collection<Long> ids, Throwable t) {
+        log.error("FALLBACK usersExist! ids: {}, error: {}", ids.size(), t.getClass().getSimpleName());
+        throw new UserServiceException("User service unavailable!");
+    }
+
     public Boolean userExistsFallback(Long id, Throwable t) {
         log.error("FALLBACK userExists! userId: {}, error: {}", id, t.getClass().getSimpleName());
         if (!(t instanceof UserServiceException && t.getMessage().contains("not found"))) {
@@ -0,0 +1,7 @@
+package org.orbitalLogistic.cargo.clients;
+
+public record UserDTO(
+        Long id,
+        String username,
+        String email
+) {}
@@ -0,0 +1,31 @@
+package org.orbitalLogistic.cargo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * With spring.threads.virtual.enabled Feign switches to the JDK HttpClient transport
+ * (spring.cloud.openfeign.http2client.enabled follows the same flag), whose blocking send parks
+ * the calling virtual thread instead of holding a platform thread. Load balancing still wraps it.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class FeignTransportConfiguration {
+
+    @Bean
+    public HttpClient feignHttpClient(@Value("${clients.http.connect-timeout:2s}") Duration connectTimeout) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+}
@@ -11,6 +11,7 @@ import org.orbitalLogistic.cargo.domain.exception.CargoNotFoundException;
 import org.orbitalLogistic.cargo.domain.model.Cargo;
 import org.orbitalLogistic.cargo.domain.model.enums.CargoType;
 import org.orbitalLogistic.cargo.domain.model.enums.HazardLevel;
+import org.orbitalLogistic.cargo.infrastructure.adapters.in.rest.dto.common.IdCursor;
 import org.orbitalLogistic.cargo.infrastructure.adapters.in.rest.dto.request.CreateCargoRequest;
 import org.orbitalLogistic.cargo.infrastructure.adapters.in.rest.dto.request.UpdateCargoRequest;
 import org.orbitalLogistic.cargo.infrastructure.adapters.in.rest.dto.response.CargoResponse;
@@ -61,17 +62,18 @@ public class CargoRestController {
     @GetMapping
     public ResponseEntity<List<CargoResponse>> getAllCargos(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        log.debug("Getting all cargos - page: {}, size: {}", page, size);
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
+        log.debug("Getting all cargos - page: {}, size: {}, cursor: {}", page, size, cursor);
         
         if (size > 50) size = 50;
+        if (size < 1) size = 1;
         
-        List<Cargo> cargos = getCargoUseCase.getAllCargos(page, size);
-        List<CargoResponse> response = cargos.stream()
-                .map(cargoMapper::toResponse)
-                .collect(Collectors.toList());
+        List<Cargo> cargos = cursor != null
+                ? getCargoUseCase.getCargosAfter(IdCursor.decode(cursor).id(), size)
+                : getCargoUseCase.getAllCargos(page, size);
         
-        return ResponseEntity.ok(response);
+        return withNextCursor(cargos, size);
     }
 
     @GetMapping("/search")
@@ -80,18 +82,31 @@ public class CargoRestController {
             @RequestParam(required = false) CargoType cargoType,
             @RequestParam(required = false) HazardLevel hazardLevel,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        log.debug("Searching cargos - name: {}, cargoType: {}, hazardLevel: {}, page: {}, size: {}",
-                name, cargoType, hazardLevel, page, size);
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean fuzzy) {
+        log.debug("Searching cargos - name: {}, cargoType: {}, hazardLevel: {}, page: {}, size: {}, cursor: {}, fuzzy: {}",
+                name, cargoType, hazardLevel, page, size, cursor, fuzzy);
         
         if (size > 50) size = 50;
+        if (size < 1) size = 1;
         
-        List<Cargo> cargos = getCargoUseCase.searchCargos(name, cargoType, hazardLevel, page, size);
-        List<CargoResponse> response = cargos.stream()
-                .map(cargoMapper::toResponse)
-                .collect(Collectors.toList());
+        if (fuzzy) {
+            // Ranked by similarity, so there is no id order to hand out a cursor for
+            if (cursor != null) {
+                throw new IllegalArgumentException("cursor cannot be combined with fuzzy search");
+            }
+            List<Cargo> ranked = getCargoUseCase.searchCargosRanked(name, cargoType, hazardLevel, page, size);
+            return ResponseEntity.ok(ranked.stream()
+                    .map(cargoMapper::toResponse)
+                    .collect(Collectors.toList()));
+        }
         
-        return ResponseEntity.ok(response);
+        List<Cargo> cargos = cursor != null
+                ? getCargoUseCase.searchCargosAfter(name, cargoType, hazardLevel, IdCursor.decode(cursor).id(), size)
+                : getCargoUseCase.searchCargos(name, cargoType, hazardLevel, page, size);
+        
+        return withNextCursor(cargos, size);
     }
 
     @PutMapping("/{id}")
@@ -117,4 +132,19 @@ public class CargoRestController {
         
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<List<CargoResponse>> withNextCursor(List<Cargo> cargos, int size) {
+        List<CargoResponse> response = cargos.stream()
+                .map(cargoMapper::toResponse)
+                .collect(Collectors.toList());
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (!cargos.isEmpty()) {
+            String nextCursor = IdCursor.next(cargos.size(), size, cargos.get(cargos.size() - 1).getId());
+            if (nextCursor != null) {
+                builder.header(IdCursor.NEXT_CURSOR_HEADER, nextCursor);
+            }
+        }
+        return builder.body(response);
+    }
 }
@@ -9,10 +9,12 @@ import org.orbitalLogistic.cargo.application.ports.in.GetCargoStorageUseCase;
 import org.orbitalLogistic.cargo.application.ports.in.UpdateCargoStorageUseCase;
 import org.orbitalLogistic.cargo.domain.exception.CargoStorageNotFoundException;
 import org.orbitalLogistic.cargo.domain.model.CargoStorage;
+import org.orbitalLogistic.cargo.infrastructure.adapters.in.rest.dto.common.IdCursor;
 import org.orbitalLogistic.cargo.infrastructure.adapters.in.rest.dto.request.CreateCargoStorageRequest;
 import org.orbitalLogistic.cargo.infrastructure.adapters.in.rest.dto.request.UpdateInventoryRequest;
 import org.orbitalLogistic.cargo.infrastructure.adapters.in.rest.dto.response.CargoStorageResponse;
 import org.orbitalLogistic.cargo.infrastructure.adapters.in.rest.mapper.CargoStorageRestMapper;
+import org.orbitalLogistic.pagination.IncludeTotal;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -61,17 +63,35 @@ public class CargoStorageRestController {
     @GetMapping
     public ResponseEntity<List<CargoStorageResponse>> getAllStorages(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        log.debug("Getting all cargo storages - page: {}, size: {}", page, size);
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String includeTotal) {
+        log.debug("Getting all cargo storages - page: {}, size: {}, cursor: {}", page, size, cursor);
         
         if (size > 50) size = 50;
+        if (size < 1) size = 1;
+        IncludeTotal totalMode = IncludeTotal.parse(includeTotal, IncludeTotal.NONE);
         
-        List<CargoStorage> storages = getCargoStorageUseCase.getAllStorages(page, size);
+        List<CargoStorage> storages = cursor != null
+                ? getCargoStorageUseCase.getStoragesAfter(IdCursor.decode(cursor).id(), size)
+                : getCargoStorageUseCase.getAllStorages(page, size);
         List<CargoStorageResponse> response = storages.stream()
                 .map(storageMapper::toResponse)
                 .collect(Collectors.toList());
         
-        return ResponseEntity.ok(response);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        switch (totalMode) {
+            case EXACT -> builder.header("X-Total-Count", String.valueOf(getCargoStorageUseCase.countStorages()));
+            case ESTIMATE -> builder.header("X-Total-Count", String.valueOf(getCargoStorageUseCase.estimateStorages()));
+            case NONE -> { }
+        }
+        if (!storages.isEmpty()) {
+            String nextCursor = IdCursor.next(storages.size(), size, storages.get(storages.size() - 1).getId());
+            if (nextCursor != null) {
+                builder.header(IdCursor.NEXT_CURSOR_HEADER, nextCursor);
+            }
+        }
+        return builder.body(response);
     }
 
     @PutMapping("/{id}/quantity")
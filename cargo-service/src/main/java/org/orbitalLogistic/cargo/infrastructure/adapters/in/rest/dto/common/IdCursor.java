@@ -0,0 +1,36 @@
+package org.orbitalLogistic.cargo.infrastructure.adapters.in.rest.dto.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position for lists ordered by id descending.
+ */
+public record IdCursor(Long id) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    public static IdCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return new IdCursor(Long.parseLong(raw));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Cursor for the page following {@code lastId}, or null when a short page shows there is none.
+     */
+    public static String next(int pageSize, int requestedSize, Long lastId) {
+        if (pageSize < requestedSize) {
+            return null;
+        }
+        return new IdCursor(lastId).encode();
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,24 +1,43 @@
 package org.orbitalLogistic.cargo.infrastructure.adapters.out.client;
 
-import lombok.RequiredArgsConstructor;
+import feign.FeignException;
 import lombok.extern.slf4j.Slf4j;
+import org.orbitalLogistic.cache.LookupCache;
+import org.orbitalLogistic.cache.LookupCaches;
 import org.orbitalLogistic.cargo.application.ports.out.UserServicePort;
 import org.orbitalLogistic.cargo.clients.ResilientUserService;
+import org.orbitalLogistic.cargo.clients.UserDTO;
 import org.orbitalLogistic.cargo.domain.exception.UserNotFoundException;
 import org.orbitalLogistic.cargo.domain.exception.UserServiceException;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class UserServiceAdapter implements UserServicePort {
 
     private final ResilientUserService resilientUserService;
+    private final LookupCache<Long, String> usernames;
+    private final LookupCache<Long, Boolean> userExists;
+
+    public UserServiceAdapter(ResilientUserService resilientUserService, LookupCaches lookupCaches) {
+        this.resilientUserService = resilientUserService;
+        this.usernames = lookupCaches.<Long, String>builder("client.usernames")
+                .notFoundWhen(LookupCache.causedBy(FeignException.NotFound.class))
+                .build();
+        this.userExists = lookupCaches.<Long, Boolean>builder("client.user-exists")
+                .negativeWhen(exists -> !exists)
+                .notFoundWhen(LookupCache.causedBy(FeignException.NotFound.class))
+                .build();
+    }
 
     @Override
     public boolean userExists(Long userId) {
         try {
-            Boolean exists = resilientUserService.userExists(userId);
+            Boolean exists = userExists.get(userId, resilientUserService::userExists);
             return exists != null && exists;
         } catch (Exception e) {
             log.error("Failed to check user existence for userId {}: {}", userId, e.getMessage());
@@ -29,7 +48,7 @@ public class UserServiceAdapter implements UserServicePort {
     @Override
     public String getUserById(Long userId) {
         try {
-            String username = resilientUserService.getUserById(userId);
+            String username = usernames.get(userId, resilientUserService::getUserById);
             if (username == null) {
                 throw new UserNotFoundException("User not found with id: " + userId);
             }
@@ -39,4 +58,42 @@ public class UserServiceAdapter implements UserServicePort {
             throw new UserServiceException("User service is unavailable: " + e.getMessage());
         }
     }
+
+    @Override
+    public Map<Long, Boolean> usersExist(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return resilientUserService.usersExist(userIds);
+        } catch (Exception e) {
+            log.error("Failed to check existence of {} users: {}", userIds.size(), e.getMessage());
+            throw new UserServiceException("User service is unavailable: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Map<Long, String> getUsernamesByIds(Collection<Long> userIds) {
+        Map<Long, String> usernames = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return usernames;
+        }
+        try {
+            for (UserDTO user : resilientUserService.getUsersByIds(userIds)) {
+                usernames.put(user.id(), user.username());
+            }
+            return usernames;
+        } catch (Exception e) {
+            log.error("Failed to get {} users by ids: {}", userIds.size(), e.getMessage());
+            throw new UserServiceException("User service is unavailable: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Drops the cached lookups of a user, e.g. after it was deleted.
+     */
+    public void evictUser(Long userId) {
+        usernames.invalidate(userId);
+        userExists.invalidate(userId);
+    }
 }
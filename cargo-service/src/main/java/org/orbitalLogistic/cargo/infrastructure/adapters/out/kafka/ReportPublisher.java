@@ -1,20 +1,37 @@
 package org.orbitalLogistic.cargo.infrastructure.adapters.out.kafka;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.orbitalLogistic.cargo.application.ports.out.ReportSender;
 import org.orbitalLogistic.cargo.domain.model.CargoStorage;
+import org.orbitalLogistic.outbox.ReportOutboxRepository;
+import org.springframework.kafka.support.JacksonUtils;
 import org.springframework.stereotype.Component;
-import org.springframework.kafka.core.KafkaTemplate;
 
+/**
+ * Stores the report event in the outbox of the current transaction; the shared
+ * {@link org.orbitalLogistic.outbox.OutboxRelay} publishes it keyed by cargo id,
+ * so events of one cargo stay in order.
+ */
 @Component
 @RequiredArgsConstructor
 public class ReportPublisher implements ReportSender {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    static final String TOPIC = "cargo-reports-data";
+
+    // same mapper JsonSerializer used before, so consumers see unchanged payloads
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    private final ReportOutboxRepository reportOutboxRepository;
 
     @Override
     public void send(CargoStorage storage) {
-        kafkaTemplate.send("cargo-reports-data", storage);
+        try {
+            reportOutboxRepository.append(TOPIC, String.valueOf(storage.getCargoId()),
+                    objectMapper.writeValueAsString(storage));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cargo report event", e);
+        }
     }
 }
-
@@ -71,19 +71,7 @@ public class CargoRepositoryAdapter implements CargoRepository {
     public List<Cargo> findWithFilters(String name, String cargoType, String hazardLevel, int limit, int offset) {
         StringBuilder sql = new StringBuilder("SELECT * FROM cargo WHERE 1=1");
         List<Object> params = new ArrayList<>();
-
-        if (name != null && !name.isBlank()) {
-            sql.append(" AND LOWER(name) LIKE LOWER(?)");
-            params.add("%" + name + "%");
-        }
-        if (cargoType != null && !cargoType.isBlank()) {
-            sql.append(" AND cargo_type = ?");
-            params.add(cargoType);
-        }
-        if (hazardLevel != null && !hazardLevel.isBlank()) {
-            sql.append(" AND hazard_level = ?");
-            params.add(hazardLevel);
-        }
+        appendFilters(sql, params, name, cargoType, hazardLevel);
 
         sql.append(" ORDER BY id DESC LIMIT ? OFFSET ?");
         params.add(limit);
@@ -94,13 +82,52 @@ public class CargoRepositoryAdapter implements CargoRepository {
                 params.toArray());
     }
 
+    @Override
+    public List<Cargo> findWithFiltersAfter(String name, String cargoType, String hazardLevel, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM cargo WHERE id < ?");
+        List<Object> params = new ArrayList<>();
+        params.add(afterId);
+        appendFilters(sql, params, name, cargoType, hazardLevel);
+
+        sql.append(" ORDER BY id DESC LIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> mapper.toDomain(mapResultSetToEntity(rs)),
+                params.toArray());
+    }
+
+    @Override
+    public List<Cargo> findBySimilarName(String name, String cargoType, String hazardLevel, int limit, int offset) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM cargo WHERE ? <% name");
+        List<Object> params = new ArrayList<>();
+        params.add(name);
+        appendFilters(sql, params, null, cargoType, hazardLevel);
+
+        sql.append(" ORDER BY word_similarity(?, name) DESC, id DESC LIMIT ? OFFSET ?");
+        params.add(name);
+        params.add(limit);
+        params.add(offset);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> mapper.toDomain(mapResultSetToEntity(rs)),
+                params.toArray());
+    }
+
     @Override
     public long countWithFilters(String name, String cargoType, String hazardLevel) {
         StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM cargo WHERE 1=1");
         List<Object> params = new ArrayList<>();
+        appendFilters(sql, params, name, cargoType, hazardLevel);
+
+        Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, params.toArray());
+        return count != null ? count : 0L;
+    }
 
+    private void appendFilters(StringBuilder sql, List<Object> params,
+                               String name, String cargoType, String hazardLevel) {
         if (name != null && !name.isBlank()) {
-            sql.append(" AND LOWER(name) LIKE LOWER(?)");
+            sql.append(" AND name ILIKE ?");
             params.add("%" + name + "%");
         }
         if (cargoType != null && !cargoType.isBlank()) {
@@ -111,9 +138,6 @@ public class CargoRepositoryAdapter implements CargoRepository {
             sql.append(" AND hazard_level = ?");
             params.add(hazardLevel);
         }
-
-        Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, params.toArray());
-        return count != null ? count : 0L;
     }
 
     private CargoEntity mapResultSetToEntity(ResultSet rs) throws SQLException {
@@ -6,6 +6,7 @@ import org.orbitalLogistic.cargo.domain.model.CargoStorage;
 import org.orbitalLogistic.cargo.infrastructure.adapters.out.persistence.entity.CargoStorageEntity;
 import org.orbitalLogistic.cargo.infrastructure.adapters.out.persistence.mapper.CargoStoragePersistenceMapper;
 import org.orbitalLogistic.cargo.infrastructure.adapters.out.persistence.repository.CargoStorageJdbcRepository;
+import org.orbitalLogistic.pagination.PlanEstimates;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
@@ -74,19 +75,7 @@ public class CargoStorageRepositoryAdapter implements CargoStorageRepository {
     public List<CargoStorage> findWithFilters(Long storageUnitId, Long cargoId, Integer minQuantity, int limit, int offset) {
         StringBuilder sql = new StringBuilder("SELECT * FROM cargo_storage WHERE 1=1");
         List<Object> params = new ArrayList<>();
-
-        if (storageUnitId != null) {
-            sql.append(" AND storage_unit_id = ?");
-            params.add(storageUnitId);
-        }
-        if (cargoId != null) {
-            sql.append(" AND cargo_id = ?");
-            params.add(cargoId);
-        }
-        if (minQuantity != null) {
-            sql.append(" AND quantity >= ?");
-            params.add(minQuantity);
-        }
+        appendFilters(sql, params, storageUnitId, cargoId, minQuantity);
 
         sql.append(" ORDER BY id DESC LIMIT ? OFFSET ?");
         params.add(limit);
@@ -97,11 +86,49 @@ public class CargoStorageRepositoryAdapter implements CargoStorageRepository {
                 params.toArray());
     }
 
+    @Override
+    public List<CargoStorage> findWithFiltersAfter(Long storageUnitId, Long cargoId, Integer minQuantity,
+                                                   Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM cargo_storage WHERE id < ?");
+        List<Object> params = new ArrayList<>();
+        params.add(afterId);
+        appendFilters(sql, params, storageUnitId, cargoId, minQuantity);
+
+        sql.append(" ORDER BY id DESC LIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> mapper.toDomain(mapResultSetToEntity(rs)),
+                params.toArray());
+    }
+
     @Override
     public long countWithFilters(Long storageUnitId, Long cargoId, Integer minQuantity) {
         StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM cargo_storage WHERE 1=1");
         List<Object> params = new ArrayList<>();
+        appendFilters(sql, params, storageUnitId, cargoId, minQuantity);
 
+        Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, params.toArray());
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public long estimateWithFilters(Long storageUnitId, Long cargoId, Integer minQuantity) {
+        StringBuilder sql = new StringBuilder("EXPLAIN SELECT 1 FROM cargo_storage WHERE 1=1");
+        List<Object> params = new ArrayList<>();
+        appendFilters(sql, params, storageUnitId, cargoId, minQuantity);
+
+        return PlanEstimates.rows(jdbcTemplate.queryForList(sql.toString(), String.class, params.toArray()));
+    }
+
+    @Override
+    public Integer sumQuantityByCargoId(Long cargoId) {
+        Integer sum = jdbcRepository.sumQuantityByCargoId(cargoId);
+        return sum != null ? sum : 0;
+    }
+
+    private void appendFilters(StringBuilder sql, List<Object> params,
+                               Long storageUnitId, Long cargoId, Integer minQuantity) {
         if (storageUnitId != null) {
             sql.append(" AND storage_unit_id = ?");
             params.add(storageUnitId);
@@ -114,15 +141,6 @@ public class CargoStorageRepositoryAdapter implements CargoStorageRepository {
             sql.append(" AND quantity >= ?");
             params.add(minQuantity);
         }
-
-        Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, params.toArray());
-        return count != null ? count : 0L;
-    }
-
-    @Override
-    public Integer sumQuantityByCargoId(Long cargoId) {
-        Integer sum = jdbcRepository.sumQuantityByCargoId(cargoId);
-        return sum != null ? sum : 0;
     }
 
     private CargoStorageEntity mapResultSetToEntity(ResultSet rs) throws SQLException {
@@ -9,6 +9,7 @@ import org.orbitalLogistic.cargo.infrastructure.adapters.out.persistence.reposit
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -80,6 +81,52 @@ public class StorageUnitRepositoryAdapter implements StorageUnitRepository {
         return jdbcRepository.existsById(id);
     }
 
+    @Override
+    public Optional<StorageUnit> reserveCapacity(Long id, BigDecimal mass, BigDecimal volume) {
+        // only growth is checked against capacity, a release must succeed even for an overfull unit
+        String sql = "UPDATE storage_unit " +
+                "SET current_mass = current_mass + ?, current_volume = current_volume + ? " +
+                "WHERE id = ? " +
+                "AND (? <= 0 OR current_mass + ? <= total_mass_capacity) " +
+                "AND (? <= 0 OR current_volume + ? <= total_volume_capacity) " +
+                "RETURNING *";
+
+        List<StorageUnit> updated = jdbcTemplate.query(sql,
+                (rs, rowNum) -> mapper.toDomain(mapResultSetToEntity(rs)),
+                mass, volume, id, mass, mass, volume, volume);
+        return updated.stream().findFirst();
+    }
+
+    @Override
+    public Optional<StorageUnit> updateDetails(StorageUnit storageUnit) {
+        StorageUnitEntity entity = mapper.toEntity(storageUnit);
+        String sql = "UPDATE storage_unit " +
+                "SET unit_code = ?, location = ?, storage_type = ?, " +
+                "total_mass_capacity = ?, total_volume_capacity = ? " +
+                "WHERE id = ? RETURNING *";
+
+        List<StorageUnit> updated = jdbcTemplate.query(sql,
+                (rs, rowNum) -> mapper.toDomain(mapResultSetToEntity(rs)),
+                entity.getUnitCode(), entity.getLocation(), entity.getStorageType(),
+                entity.getTotalMassCapacity(), entity.getTotalVolumeCapacity(), entity.getId());
+        return updated.stream().findFirst();
+    }
+
+    @Override
+    public Optional<StorageUnit> findByIdForUpdate(Long id) {
+        List<StorageUnit> locked = jdbcTemplate.query("SELECT * FROM storage_unit WHERE id = ? FOR UPDATE",
+                (rs, rowNum) -> mapper.toDomain(mapResultSetToEntity(rs)), id);
+        return locked.stream().findFirst();
+    }
+
+    @Override
+    public Optional<StorageUnit> updateCurrentLoad(Long id, BigDecimal mass, BigDecimal volume) {
+        List<StorageUnit> updated = jdbcTemplate.query(
+                "UPDATE storage_unit SET current_mass = ?, current_volume = ? WHERE id = ? RETURNING *",
+                (rs, rowNum) -> mapper.toDomain(mapResultSetToEntity(rs)), mass, volume, id);
+        return updated.stream().findFirst();
+    }
+
     private StorageUnitEntity mapResultSetToEntity(ResultSet rs) throws SQLException {
         return StorageUnitEntity.builder()
                 .id(rs.getLong("id"))
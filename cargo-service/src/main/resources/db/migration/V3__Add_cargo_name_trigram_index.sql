@@ -0,0 +1,4 @@
+-- Lets substring (ILIKE '%x%') and fuzzy (<%) searches on cargo name use an index
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_cargo_name_trgm ON cargo USING gin (name gin_trgm_ops);
@@ -0,0 +1,9 @@
+-- Report events are written here in the same transaction as the change they describe
+-- and published to Kafka by OutboxRelay, which deletes them once the broker acknowledged
+CREATE TABLE report_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    message_key VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -21,6 +21,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -86,8 +87,9 @@ class CreateCargoStorageServiceTest {
     void createStorage_Success() {
         // Given
         when(cargoRepository.findById(1L)).thenReturn(Optional.of(cargo));
-        when(storageUnitRepository.findById(1L)).thenReturn(Optional.of(storageUnit));
         when(userServicePort.userExists(1L)).thenReturn(true);
+        when(storageUnitRepository.reserveCapacity(1L, new BigDecimal("25.0"), new BigDecimal("0.50")))
+                .thenReturn(Optional.of(storageUnit));
         
         CargoStorage savedStorage = CargoStorage.builder()
                 .id(1L)
@@ -111,9 +113,10 @@ class CreateCargoStorageServiceTest {
         assertEquals(10, result.getQuantity());
         
         verify(cargoRepository).findById(1L);
-        verify(storageUnitRepository).findById(1L);
         verify(userServicePort).userExists(1L);
-        verify(storageUnitRepository).save(any(StorageUnit.class));
+        verify(storageUnitRepository).reserveCapacity(1L, new BigDecimal("25.0"), new BigDecimal("0.50"));
+        verify(storageUnitRepository, never()).findById(anyLong());
+        verify(storageUnitRepository, never()).save(any(StorageUnit.class));
         verify(cargoStorageRepository).save(any(CargoStorage.class));
     }
 
@@ -128,7 +131,7 @@ class CreateCargoStorageServiceTest {
         });
 
         verify(cargoRepository).findById(1L);
-        verify(storageUnitRepository, never()).findById(anyLong());
+        verify(storageUnitRepository, never()).reserveCapacity(anyLong(), any(), any());
         verify(cargoStorageRepository, never()).save(any(CargoStorage.class));
     }
 
@@ -136,6 +139,8 @@ class CreateCargoStorageServiceTest {
     void createStorage_ThrowsException_WhenStorageUnitNotFound() {
         // Given
         when(cargoRepository.findById(1L)).thenReturn(Optional.of(cargo));
+        when(userServicePort.userExists(1L)).thenReturn(true);
+        when(storageUnitRepository.reserveCapacity(eq(1L), any(), any())).thenReturn(Optional.empty());
         when(storageUnitRepository.findById(1L)).thenReturn(Optional.empty());
 
         // When & Then
@@ -152,7 +157,6 @@ class CreateCargoStorageServiceTest {
     void createStorage_ThrowsException_WhenUserNotFound() {
         // Given
         when(cargoRepository.findById(1L)).thenReturn(Optional.of(cargo));
-        when(storageUnitRepository.findById(1L)).thenReturn(Optional.of(storageUnit));
         when(userServicePort.userExists(1L)).thenReturn(false);
 
         // When & Then
@@ -161,8 +165,8 @@ class CreateCargoStorageServiceTest {
         });
 
         verify(cargoRepository).findById(1L);
-        verify(storageUnitRepository).findById(1L);
         verify(userServicePort).userExists(1L);
+        verify(storageUnitRepository, never()).reserveCapacity(anyLong(), any(), any());
         verify(cargoStorageRepository, never()).save(any(CargoStorage.class));
     }
 
@@ -171,8 +175,9 @@ class CreateCargoStorageServiceTest {
         // Given
         storageUnit.setCurrentMass(BigDecimal.valueOf(995)); // Only 5kg available
         when(cargoRepository.findById(1L)).thenReturn(Optional.of(cargo));
-        when(storageUnitRepository.findById(1L)).thenReturn(Optional.of(storageUnit));
         when(userServicePort.userExists(1L)).thenReturn(true);
+        when(storageUnitRepository.reserveCapacity(eq(1L), any(), any())).thenReturn(Optional.empty());
+        when(storageUnitRepository.findById(1L)).thenReturn(Optional.of(storageUnit));
 
         // When & Then
         assertThrows(InsufficientCapacityException.class, () -> {
@@ -189,8 +194,9 @@ class CreateCargoStorageServiceTest {
         // Given
         storageUnit.setCurrentVolume(BigDecimal.valueOf(49.8)); // Only 0.2m³ available
         when(cargoRepository.findById(1L)).thenReturn(Optional.of(cargo));
-        when(storageUnitRepository.findById(1L)).thenReturn(Optional.of(storageUnit));
         when(userServicePort.userExists(1L)).thenReturn(true);
+        when(storageUnitRepository.reserveCapacity(eq(1L), any(), any())).thenReturn(Optional.empty());
+        when(storageUnitRepository.findById(1L)).thenReturn(Optional.of(storageUnit));
 
         // When & Then
         assertThrows(InsufficientCapacityException.class, () -> {
@@ -207,7 +213,7 @@ class CreateCargoStorageServiceTest {
         // Given
         cargoStorage.setLastCheckedByUserId(null);
         when(cargoRepository.findById(1L)).thenReturn(Optional.of(cargo));
-        when(storageUnitRepository.findById(1L)).thenReturn(Optional.of(storageUnit));
+        when(storageUnitRepository.reserveCapacity(eq(1L), any(), any())).thenReturn(Optional.of(storageUnit));
         
         CargoStorage savedStorage = CargoStorage.builder()
                 .id(1L)
@@ -235,8 +241,8 @@ class CreateCargoStorageServiceTest {
         storageUnit.setCurrentVolume(BigDecimal.valueOf(49.5)); // Exactly 0.5m³ available (10 * 0.05)
         
         when(cargoRepository.findById(1L)).thenReturn(Optional.of(cargo));
-        when(storageUnitRepository.findById(1L)).thenReturn(Optional.of(storageUnit));
         when(userServicePort.userExists(1L)).thenReturn(true);
+        when(storageUnitRepository.reserveCapacity(eq(1L), any(), any())).thenReturn(Optional.of(storageUnit));
         
         CargoStorage savedStorage = CargoStorage.builder()
                 .id(1L)
@@ -18,6 +18,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 
 @ExtendWith(MockitoExtension.class)
 class GetCargoServiceTest {
@@ -113,4 +115,41 @@ class GetCargoServiceTest {
         
         verify(cargoRepository).findWithFilters("Laptop", "EQUIPMENT", null, 10, 0);
     }
+
+    @Test
+    void searchCargosAfter_SeeksPastCursor() {
+        // Given
+        when(cargoRepository.findWithFiltersAfter("Laptop", "EQUIPMENT", null, 50L, 10))
+                .thenReturn(Arrays.asList(cargo));
+
+        // When
+        List<Cargo> result = getCargoService.searchCargosAfter("Laptop", CargoType.EQUIPMENT, null, 50L, 10);
+
+        // Then
+        assertEquals(1, result.size());
+        verify(cargoRepository).findWithFiltersAfter("Laptop", "EQUIPMENT", null, 50L, 10);
+        verify(cargoRepository, never()).findWithFilters(any(), any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void searchCargosRanked_OrdersBySimilarity() {
+        // Given
+        when(cargoRepository.findBySimilarName("Lapotp", null, null, 10, 10))
+                .thenReturn(Arrays.asList(cargo));
+
+        // When
+        List<Cargo> result = getCargoService.searchCargosRanked("Lapotp", null, null, 1, 10);
+
+        // Then
+        assertEquals(1, result.size());
+        verify(cargoRepository, never()).findWithFilters(any(), any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void searchCargosRanked_WithoutName_Throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> getCargoService.searchCargosRanked(" ", null, null, 0, 10));
+
+        verifyNoInteractions(cargoRepository);
+    }
 }
@@ -5,10 +5,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.orbitalLogistic.cargo.application.ports.out.CargoStorageRepository;
 import org.orbitalLogistic.cargo.domain.model.CargoStorage;
+import org.orbitalLogistic.pagination.ExactCountCache;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -23,6 +26,9 @@ class GetCargoStorageServiceTest {
     @Mock
     private CargoStorageRepository cargoStorageRepository;
 
+    @Spy
+    private ExactCountCache exactCountCache = new ExactCountCache(Duration.ofMinutes(1), 100);
+
     @InjectMocks
     private GetCargoStorageService getCargoStorageService;
 
@@ -106,4 +112,19 @@ class GetCargoStorageServiceTest {
         assertEquals(1L, result.get(0).getCargoId());
         verify(cargoStorageRepository).findWithFilters(1L, 1L, null, 10, 0);
     }
+
+    @Test
+    void countStorages_RepeatedWithinTtl_CountsOnce() {
+        // Given
+        when(cargoStorageRepository.countWithFilters(null, null, null)).thenReturn(42L);
+
+        // When
+        long first = getCargoStorageService.countStorages();
+        long second = getCargoStorageService.countStorages();
+
+        // Then
+        assertEquals(42L, first);
+        assertEquals(42L, second);
+        verify(cargoStorageRepository, times(1)).countWithFilters(null, null, null);
+    }
 }
@@ -11,6 +11,7 @@ import org.orbitalLogistic.cargo.application.ports.out.CargoStorageRepository;
 import org.orbitalLogistic.cargo.application.ports.out.StorageUnitRepository;
 import org.orbitalLogistic.cargo.application.ports.out.UserServicePort;
 import org.orbitalLogistic.cargo.domain.exception.CargoStorageNotFoundException;
+import org.orbitalLogistic.cargo.domain.exception.InsufficientCapacityException;
 import org.orbitalLogistic.cargo.domain.model.Cargo;
 import org.orbitalLogistic.cargo.domain.model.CargoStorage;
 import org.orbitalLogistic.cargo.domain.model.StorageUnit;
@@ -21,6 +22,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -74,8 +76,8 @@ class UpdateCargoStorageServiceTest {
         
         when(cargoStorageRepository.findById(1L)).thenReturn(Optional.of(storage));
         when(cargoRepository.findById(1L)).thenReturn(Optional.of(cargo));
-        when(storageUnitRepository.findById(1L)).thenReturn(Optional.of(storageUnit));
-        when(storageUnitRepository.save(any(StorageUnit.class))).thenReturn(storageUnit);
+        when(storageUnitRepository.reserveCapacity(1L, BigDecimal.valueOf(500), BigDecimal.valueOf(50)))
+                .thenReturn(Optional.of(storageUnit));
         
         CargoStorage updated = CargoStorage.builder()
                 .id(1L)
@@ -95,9 +97,84 @@ class UpdateCargoStorageServiceTest {
         assertNotNull(result);
         assertEquals(150, result.getQuantity());
         verify(cargoStorageRepository).findById(1L);
+        verify(storageUnitRepository).reserveCapacity(1L, BigDecimal.valueOf(500), BigDecimal.valueOf(50));
+        verify(storageUnitRepository, never()).save(any(StorageUnit.class));
         verify(cargoStorageRepository).save(any(CargoStorage.class));
     }
 
+    @Test
+    void updateInventory_ReleasesCapacity_WhenQuantityDecreases() {
+        // Given
+        Cargo cargo = Cargo.builder()
+                .id(1L)
+                .massPerUnit(BigDecimal.valueOf(10))
+                .volumePerUnit(BigDecimal.valueOf(1))
+                .build();
+
+        when(cargoStorageRepository.findById(1L)).thenReturn(Optional.of(storage));
+        when(cargoRepository.findById(1L)).thenReturn(Optional.of(cargo));
+        when(storageUnitRepository.reserveCapacity(1L, BigDecimal.valueOf(-400), BigDecimal.valueOf(-40)))
+                .thenReturn(Optional.of(StorageUnit.builder().id(1L).build()));
+        when(cargoStorageRepository.save(any(CargoStorage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CargoStorage result = updateCargoStorageService.updateInventory(1L, 60);
+
+        // Then
+        assertEquals(60, result.getQuantity());
+        verify(storageUnitRepository).reserveCapacity(1L, BigDecimal.valueOf(-400), BigDecimal.valueOf(-40));
+    }
+
+    @Test
+    void updateInventory_ThrowsException_WhenReservationRejected() {
+        // Given
+        Cargo cargo = Cargo.builder()
+                .id(1L)
+                .massPerUnit(BigDecimal.valueOf(10))
+                .volumePerUnit(BigDecimal.valueOf(1))
+                .build();
+
+        StorageUnit fullUnit = StorageUnit.builder()
+                .id(1L)
+                .maxMass(BigDecimal.valueOf(1000))
+                .maxVolume(BigDecimal.valueOf(100))
+                .currentMass(BigDecimal.valueOf(900))
+                .currentVolume(BigDecimal.valueOf(90))
+                .build();
+
+        when(cargoStorageRepository.findById(1L)).thenReturn(Optional.of(storage));
+        when(cargoRepository.findById(1L)).thenReturn(Optional.of(cargo));
+        when(storageUnitRepository.reserveCapacity(eq(1L), any(), any())).thenReturn(Optional.empty());
+        when(storageUnitRepository.findById(1L)).thenReturn(Optional.of(fullUnit));
+
+        // When & Then
+        InsufficientCapacityException exception = assertThrows(InsufficientCapacityException.class,
+                () -> updateCargoStorageService.updateInventory(1L, 150));
+
+        assertTrue(exception.getMessage().contains("mass"));
+        verify(cargoStorageRepository, never()).save(any(CargoStorage.class));
+    }
+
+    @Test
+    void updateInventory_SkipsReservation_WhenQuantityUnchanged() {
+        // Given
+        Cargo cargo = Cargo.builder()
+                .id(1L)
+                .massPerUnit(BigDecimal.valueOf(10))
+                .volumePerUnit(BigDecimal.valueOf(1))
+                .build();
+
+        when(cargoStorageRepository.findById(1L)).thenReturn(Optional.of(storage));
+        when(cargoRepository.findById(1L)).thenReturn(Optional.of(cargo));
+        when(cargoStorageRepository.save(any(CargoStorage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        updateCargoStorageService.updateInventory(1L, 100);
+
+        // Then
+        verify(storageUnitRepository, never()).reserveCapacity(anyLong(), any(), any());
+    }
+
     @Test
     void updateInventory_ThrowsException_WhenNotFound() {
         // Given
@@ -6,12 +6,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.cargo.application.ports.out.CargoRepository;
+import org.orbitalLogistic.cargo.application.ports.out.CargoStorageRepository;
 import org.orbitalLogistic.cargo.application.ports.out.StorageUnitRepository;
 import org.orbitalLogistic.cargo.domain.exception.StorageUnitNotFoundException;
+import org.orbitalLogistic.cargo.domain.model.Cargo;
+import org.orbitalLogistic.cargo.domain.model.CargoStorage;
 import org.orbitalLogistic.cargo.domain.model.StorageUnit;
 import org.orbitalLogistic.cargo.domain.model.enums.StorageTypeEnum;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,6 +28,12 @@ class UpdateStorageUnitServiceTest {
     @Mock
     private StorageUnitRepository storageUnitRepository;
 
+    @Mock
+    private CargoStorageRepository cargoStorageRepository;
+
+    @Mock
+    private CargoRepository cargoRepository;
+
     @InjectMocks
     private UpdateStorageUnitService updateStorageUnitService;
 
@@ -70,7 +81,7 @@ class UpdateStorageUnitServiceTest {
                 .isActive(true)
                 .build();
         
-        when(storageUnitRepository.save(any(StorageUnit.class))).thenReturn(updated);
+        when(storageUnitRepository.updateDetails(any(StorageUnit.class))).thenReturn(java.util.Optional.of(updated));
 
         // When
         StorageUnit result = updateStorageUnitService.updateUnit(1L, updateData);
@@ -82,7 +93,8 @@ class UpdateStorageUnitServiceTest {
         assertEquals(StorageTypeEnum.PRESSURIZED, result.getStorageType());
         
         verify(storageUnitRepository).findById(1L);
-        verify(storageUnitRepository).save(any(StorageUnit.class));
+        verify(storageUnitRepository).updateDetails(any(StorageUnit.class));
+        verify(storageUnitRepository, never()).save(any(StorageUnit.class));
     }
 
     @Test
@@ -98,4 +110,23 @@ class UpdateStorageUnitServiceTest {
         verify(storageUnitRepository).findById(999L);
         verify(storageUnitRepository, never()).save(any(StorageUnit.class));
     }
+
+    @Test
+    void recalculateCapacity_LocksUnitAndWritesOnlyLoad() {
+        // Given
+        when(storageUnitRepository.findByIdForUpdate(1L)).thenReturn(java.util.Optional.of(existingUnit));
+        when(cargoStorageRepository.findByStorageUnitId(1L)).thenReturn(List.of(
+                CargoStorage.builder().id(5L).storageUnitId(1L).cargoId(7L).quantity(3).build()));
+        when(cargoRepository.findById(7L)).thenReturn(java.util.Optional.of(Cargo.builder()
+                .id(7L).massPerUnit(BigDecimal.valueOf(20)).volumePerUnit(BigDecimal.valueOf(2)).build()));
+        when(storageUnitRepository.updateCurrentLoad(1L, BigDecimal.valueOf(60), BigDecimal.valueOf(6)))
+                .thenReturn(java.util.Optional.of(existingUnit));
+
+        // When
+        updateStorageUnitService.recalculateCapacity(1L);
+
+        // Then
+        verify(storageUnitRepository).updateCurrentLoad(1L, BigDecimal.valueOf(60), BigDecimal.valueOf(6));
+        verify(storageUnitRepository, never()).save(any(StorageUnit.class));
+    }
 }
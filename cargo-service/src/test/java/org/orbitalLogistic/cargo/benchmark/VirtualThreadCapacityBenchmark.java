@@ -0,0 +1,125 @@
+package org.orbitalLogistic.cargo.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.RequestLine;
+import feign.http2client.Http2Client;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * How many slow downstream Feign calls a servlet service can keep open at once. Requests run on
+ * the executor Tomcat would use in each mode (200 platform threads, the server.tomcat.threads.max
+ * default, versus one virtual thread per request) against a stub that answers after a fixed delay.
+ * The same limits apply to cargo-, mission- and inventory-service; run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+class VirtualThreadCapacityBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int REQUESTS = 2_000;
+    private static final Duration DOWNSTREAM_DELAY = Duration.ofSeconds(1);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private HttpServer downstream;
+
+    interface SlowApi {
+        @RequestLine("GET /api/slow")
+        String call();
+    }
+
+    @BeforeEach
+    void startDownstream() throws Exception {
+        downstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), REQUESTS);
+        downstream.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        downstream.createContext("/api/slow", exchange -> {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(DOWNSTREAM_DELAY);
+                byte[] body = "true".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        downstream.start();
+    }
+
+    @AfterEach
+    void stopDownstream() {
+        downstream.stop(0);
+    }
+
+    @Test
+    void platformThreads_CapConcurrentDownstreamCallsAtPoolSize() throws Exception {
+        Result result = run(Executors.newFixedThreadPool(TOMCAT_MAX_THREADS), new Client.Default(null, null));
+
+        report("platform", result);
+        assertEquals(REQUESTS, result.completed());
+        assertTrue(result.peakInFlight() <= TOMCAT_MAX_THREADS);
+    }
+
+    @Test
+    void virtualThreads_HoldEveryDownstreamCallOpen() throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        Result result = run(Executors.newVirtualThreadPerTaskExecutor(), new Http2Client(httpClient));
+
+        report("virtual", result);
+        assertEquals(REQUESTS, result.completed());
+        assertTrue(result.peakInFlight() > TOMCAT_MAX_THREADS);
+    }
+
+    private Result run(ExecutorService requestExecutor, Client transport) throws Exception {
+        SlowApi api = Feign.builder()
+                .client(transport)
+                .target(SlowApi.class, "http://127.0.0.1:" + downstream.getAddress().getPort());
+
+        long started = System.nanoTime();
+        int completed = 0;
+        try (requestExecutor) {
+            List<Future<String>> calls = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                calls.add(requestExecutor.submit(api::call));
+            }
+            for (Future<String> call : calls) {
+                if ("true".equals(call.get())) {
+                    completed++;
+                }
+            }
+        }
+        return new Result(completed, peakInFlight.get(), Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private static void report(String mode, Result result) {
+        System.out.printf("%-8s peak open downstream calls: %4d, %d calls in %d ms%n",
+                mode, result.peakInFlight(), result.completed(), result.elapsed().toMillis());
+    }
+
+    private record Result(int completed, int peakInFlight, Duration elapsed) {
+    }
+}
@@ -10,6 +10,7 @@ import org.orbitalLogistic.cargo.domain.model.Cargo;
 import org.orbitalLogistic.cargo.domain.model.enums.CargoType;
 import org.orbitalLogistic.cargo.domain.model.enums.HazardLevel;
 import org.orbitalLogistic.cargo.filter.JwtService;
+import org.orbitalLogistic.cargo.infrastructure.adapters.in.rest.dto.common.IdCursor;
 import org.orbitalLogistic.cargo.infrastructure.adapters.in.rest.dto.request.CreateCargoRequest;
 import org.orbitalLogistic.cargo.infrastructure.adapters.in.rest.dto.request.UpdateCargoRequest;
 import org.orbitalLogistic.cargo.infrastructure.adapters.in.rest.dto.response.CargoResponse;
@@ -27,6 +28,7 @@ import java.util.Arrays;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -229,6 +231,38 @@ class CargoRestControllerTest {
         verify(getCargoUseCase).searchCargos("Laptop", CargoType.EQUIPMENT, null, 0, 20);
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void searchCargos_Fuzzy_ReturnsRankedMatchesWithoutCursor() throws Exception {
+        // Given
+        when(getCargoUseCase.searchCargosRanked("Lapotp", null, null, 0, 1))
+                .thenReturn(Arrays.asList(cargo));
+        when(cargoMapper.toResponse(cargo)).thenReturn(cargoResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/cargos/search")
+                        .param("name", "Lapotp")
+                        .param("fuzzy", "true")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Laptop"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        verify(getCargoUseCase, never()).searchCargos(any(), any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void searchCargos_FuzzyWithCursor_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/cargos/search")
+                        .param("name", "Laptop")
+                        .param("fuzzy", "true")
+                        .param("cursor", "abc"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(getCargoUseCase);
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void searchCargos_WithHazardLevel_Success() throws Exception {
@@ -245,4 +279,43 @@ class CargoRestControllerTest {
 
         verify(getCargoUseCase).searchCargos(null, null, HazardLevel.LOW, 0, 20);
     }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllCargos_FullPage_ReturnsNextCursorHeader() throws Exception {
+        // Given
+        when(getCargoUseCase.getAllCargos(0, 1)).thenReturn(Arrays.asList(cargo));
+        when(cargoMapper.toResponse(cargo)).thenReturn(cargoResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/cargos").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", new IdCursor(1L).encode()));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllCargos_WithCursor_SeeksPastCursor() throws Exception {
+        // Given
+        when(getCargoUseCase.getCargosAfter(5L, 20)).thenReturn(Arrays.asList(cargo));
+        when(cargoMapper.toResponse(cargo)).thenReturn(cargoResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/cargos").param("cursor", new IdCursor(5L).encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Laptop"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        verify(getCargoUseCase, never()).getAllCargos(anyInt(), anyInt());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllCargos_MalformedCursor_ReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/cargos").param("cursor", "???"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(getCargoUseCase);
+    }
 }
@@ -150,6 +150,54 @@ class CargoStorageRestControllerTest {
         verify(getCargoStorageUseCase).getAllStorages(0, 20);
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllStorages_IncludeTotalExact_SetsTotalHeader() throws Exception {
+        // Given
+        when(getCargoStorageUseCase.getAllStorages(0, 20)).thenReturn(Arrays.asList(cargoStorage));
+        when(getCargoStorageUseCase.countStorages()).thenReturn(7L);
+        when(cargoStorageMapper.toResponse(cargoStorage)).thenReturn(storageResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/cargo-storages").param("includeTotal", "exact"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "7"));
+
+        verify(getCargoStorageUseCase, never()).estimateStorages();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllStorages_IncludeTotalEstimate_UsesPlannerEstimate() throws Exception {
+        // Given
+        when(getCargoStorageUseCase.getAllStorages(0, 20)).thenReturn(Arrays.asList(cargoStorage));
+        when(getCargoStorageUseCase.estimateStorages()).thenReturn(1200L);
+        when(cargoStorageMapper.toResponse(cargoStorage)).thenReturn(storageResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/cargo-storages").param("includeTotal", "estimate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1200"));
+
+        verify(getCargoStorageUseCase, never()).countStorages();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllStorages_WithoutIncludeTotal_SkipsCount() throws Exception {
+        // Given
+        when(getCargoStorageUseCase.getAllStorages(0, 20)).thenReturn(Arrays.asList(cargoStorage));
+        when(cargoStorageMapper.toResponse(cargoStorage)).thenReturn(storageResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/cargo-storages"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Total-Count"));
+
+        verify(getCargoStorageUseCase, never()).countStorages();
+        verify(getCargoStorageUseCase, never()).estimateStorages();
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void createStorage_Success() throws Exception {
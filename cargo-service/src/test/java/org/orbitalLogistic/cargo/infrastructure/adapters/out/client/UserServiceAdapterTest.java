@@ -1,15 +1,18 @@
 package org.orbitalLogistic.cargo.infrastructure.adapters.out.client;
 
+import feign.FeignException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.cache.LookupCaches;
 import org.orbitalLogistic.cargo.clients.ResilientUserService;
 import org.orbitalLogistic.cargo.domain.exception.UserNotFoundException;
 import org.orbitalLogistic.cargo.domain.exception.UserServiceException;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -19,9 +22,14 @@ class UserServiceAdapterTest {
     @Mock
     private ResilientUserService resilientUserService;
 
-    @InjectMocks
     private UserServiceAdapter userServiceAdapter;
 
+    @BeforeEach
+    void setUp() {
+        userServiceAdapter = new UserServiceAdapter(resilientUserService,
+                new LookupCaches(100, Duration.ofMinutes(5), Duration.ofSeconds(30), null));
+    }
+
     @Test
     void userExists_Success_ReturnsTrue() {
         // Given
@@ -141,4 +149,66 @@ class UserServiceAdapterTest {
         assertTrue(exception.getMessage().contains("unavailable"));
         verify(resilientUserService).getUserById(userId);
     }
+
+    @Test
+    void userExists_CalledTwice_AsksUserServiceOnce() {
+        // Given
+        Long userId = 1L;
+        when(resilientUserService.userExists(userId)).thenReturn(true);
+
+        // When
+        userServiceAdapter.userExists(userId);
+        boolean result = userServiceAdapter.userExists(userId);
+
+        // Then
+        assertTrue(result);
+        verify(resilientUserService, times(1)).userExists(userId);
+    }
+
+    @Test
+    void getUserById_NotFoundCached_DoesNotAskAgain() {
+        // Given
+        Long userId = 999L;
+        when(resilientUserService.getUserById(userId)).thenThrow(new UserServiceException(
+                "User with ID 999 not found", mock(FeignException.NotFound.class)));
+
+        // When
+        assertThrows(UserServiceException.class, () -> userServiceAdapter.getUserById(userId));
+        assertThrows(UserServiceException.class, () -> userServiceAdapter.getUserById(userId));
+
+        // Then
+        verify(resilientUserService, times(1)).getUserById(userId);
+    }
+
+    @Test
+    void getUserById_ServiceFailureNotCached_AsksAgain() {
+        // Given
+        Long userId = 1L;
+        when(resilientUserService.getUserById(userId))
+                .thenThrow(new UserServiceException("User Service unavailable!"))
+                .thenReturn("john_doe");
+
+        // When
+        assertThrows(UserServiceException.class, () -> userServiceAdapter.getUserById(userId));
+        String result = userServiceAdapter.getUserById(userId);
+
+        // Then
+        assertEquals("john_doe", result);
+    }
+
+    @Test
+    void evictUser_CachedUser_AsksUserServiceAgain() {
+        // Given
+        Long userId = 1L;
+        when(resilientUserService.userExists(userId)).thenReturn(true, false);
+        userServiceAdapter.userExists(userId);
+
+        // When
+        userServiceAdapter.evictUser(userId);
+        boolean result = userServiceAdapter.userExists(userId);
+
+        // Then
+        assertFalse(result);
+        verify(resilientUserService, times(2)).userExists(userId);
+    }
 }
@@ -0,0 +1,47 @@
+package org.orbitalLogistic.cargo.infrastructure.adapters.out.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.cargo.domain.model.CargoStorage;
+import org.orbitalLogistic.outbox.ReportOutboxRepository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReportPublisherTest {
+
+    @Mock
+    private ReportOutboxRepository reportOutboxRepository;
+
+    private ReportPublisher reportPublisher;
+
+    @BeforeEach
+    void setUp() {
+        reportPublisher = new ReportPublisher(reportOutboxRepository);
+    }
+
+    @Test
+    void send_AppendsJsonKeyedByCargoId() throws Exception {
+        // Given
+        CargoStorage storage = CargoStorage.builder()
+                .storageUnitId(3L)
+                .cargoId(7L)
+                .quantity(5)
+                .build();
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+
+        // When
+        reportPublisher.send(storage);
+
+        // Then
+        verify(reportOutboxRepository).append(eq("cargo-reports-data"), eq("7"), payload.capture());
+        assertEquals(7, new ObjectMapper().readTree(payload.getValue()).get("cargoId").asInt());
+    }
+}
@@ -217,4 +217,37 @@ class CargoStorageRepositoryAdapterTest {
         assertEquals(1, result.size());
         verify(jdbcTemplate).query(anyString(), any(RowMapper.class), any(), any());
     }
+
+    @Test
+    void findWithFiltersAfter_SeeksByIdWithoutOffset() {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any()))
+                .thenReturn(Arrays.asList(cargoStorage));
+
+        // When
+        List<CargoStorage> result = adapter.findWithFiltersAfter(1L, null, null, 100L, 10);
+
+        // Then
+        assertEquals(1, result.size());
+        verify(jdbcTemplate).query(
+                eq("SELECT * FROM cargo_storage WHERE id < ? AND storage_unit_id = ? ORDER BY id DESC LIMIT ?"),
+                any(RowMapper.class), eq(100L), eq(1L), eq(10));
+    }
+
+    @Test
+    void estimateWithFilters_ReadsPlannerRowEstimate() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                .thenReturn(List.of("Seq Scan on cargo_storage  (cost=0.00..35.50 rows=1234 width=4)",
+                        "  Filter: (storage_unit_id = 1)"));
+
+        // When
+        long result = adapter.estimateWithFilters(1L, null, null);
+
+        // Then
+        assertEquals(1234L, result);
+        verify(jdbcTemplate).queryForList(
+                eq("EXPLAIN SELECT 1 FROM cargo_storage WHERE 1=1 AND storage_unit_id = ?"),
+                eq(String.class), eq(1L));
+    }
 }
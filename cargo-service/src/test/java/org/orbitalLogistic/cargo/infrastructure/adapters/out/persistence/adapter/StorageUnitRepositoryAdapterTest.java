@@ -23,6 +23,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -248,4 +249,52 @@ class StorageUnitRepositoryAdapterTest {
         // Then
         verify(jdbcRepository).deleteById(1L);
     }
+
+    @Test
+    void reserveCapacity_ReturnsUpdatedUnit() {
+        // Given
+        BigDecimal mass = BigDecimal.valueOf(25);
+        BigDecimal volume = BigDecimal.valueOf(2);
+        when(jdbcTemplate.query(contains("(? <= 0 OR current_mass + ? <= total_mass_capacity)"), any(RowMapper.class),
+                eq(mass), eq(volume), eq(1L), eq(mass), eq(mass), eq(volume), eq(volume)))
+                .thenReturn(List.of(storageUnit));
+
+        // When
+        Optional<StorageUnit> result = adapter.reserveCapacity(1L, mass, volume);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(1L, result.get().getId());
+        verify(jdbcRepository, never()).save(any());
+    }
+
+    @Test
+    void reserveCapacity_ReturnsEmpty_WhenNoRowUpdated() {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(List.of());
+
+        // When
+        Optional<StorageUnit> result = adapter.reserveCapacity(1L, BigDecimal.valueOf(5000), BigDecimal.ONE);
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void updateDetails_DoesNotWriteCurrentLoad() {
+        // Given
+        when(mapper.toEntity(storageUnit)).thenReturn(storageUnitEntity);
+        when(jdbcTemplate.query(argThat((String sql) -> sql.startsWith("UPDATE storage_unit")
+                        && !sql.contains("current_mass") && !sql.contains("current_volume")),
+                any(RowMapper.class), any(), any(), any(), any(), any(), eq(storageUnitEntity.getId())))
+                .thenReturn(List.of(storageUnit));
+
+        // When
+        Optional<StorageUnit> result = adapter.updateDetails(storageUnit);
+
+        // Then
+        assertTrue(result.isPresent());
+        verify(jdbcRepository, never()).save(any());
+    }
 }
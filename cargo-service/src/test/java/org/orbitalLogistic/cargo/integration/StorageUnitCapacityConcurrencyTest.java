@@ -0,0 +1,131 @@
+package org.orbitalLogistic.cargo.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.orbitalLogistic.cargo.TestcontainersConfiguration;
+import org.orbitalLogistic.cargo.application.ports.out.StorageUnitRepository;
+import org.orbitalLogistic.cargo.domain.model.StorageUnit;
+import org.orbitalLogistic.cargo.domain.model.enums.StorageTypeEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+@Tag("integration-tests")
+@TestPropertySource(properties = {
+        "spring.cloud.config.enabled=false"
+})
+class StorageUnitCapacityConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_THREAD = 50;
+
+    @Autowired
+    private StorageUnitRepository storageUnitRepository;
+
+    private Long unitId;
+
+    @BeforeEach
+    void setUp() {
+        unitId = storageUnitRepository.save(StorageUnit.builder()
+                .unitCode("STRESS-SU-001")
+                .location("Stress Test Bay")
+                .storageType(StorageTypeEnum.AMBIENT)
+                .maxMass(BigDecimal.valueOf(1000))
+                .maxVolume(BigDecimal.valueOf(10000))
+                .currentMass(BigDecimal.ZERO)
+                .currentVolume(BigDecimal.ZERO)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        storageUnitRepository.deleteById(unitId);
+    }
+
+    @Test
+    void reserveCapacity_NeverOverbooksUnderContention() throws Exception {
+        AtomicInteger accepted = new AtomicInteger();
+
+        runConcurrently(() -> {
+            if (storageUnitRepository.reserveCapacity(unitId, BigDecimal.ONE, BigDecimal.ONE).isPresent()) {
+                accepted.incrementAndGet();
+            }
+        });
+
+        StorageUnit unit = storageUnitRepository.findById(unitId).orElseThrow();
+        assertEquals(1000, accepted.get());
+        assertEquals(0, unit.getCurrentMass().compareTo(BigDecimal.valueOf(1000)));
+        assertEquals(0, unit.getCurrentVolume().compareTo(BigDecimal.valueOf(1000)));
+    }
+
+    @Test
+    void reserveCapacity_LosesNoUpdatesWithConcurrentReleases() throws Exception {
+        storageUnitRepository.reserveCapacity(unitId, BigDecimal.valueOf(500), BigDecimal.valueOf(500)).orElseThrow();
+        BigDecimal reserved = BigDecimal.valueOf(3);
+
+        // Each attempt books and then releases the same amount, so the load must end where it started
+        runConcurrently(() -> {
+            assertTrue(storageUnitRepository.reserveCapacity(unitId, reserved, reserved).isPresent());
+            assertTrue(storageUnitRepository.reserveCapacity(unitId, reserved.negate(), reserved.negate()).isPresent());
+        });
+
+        StorageUnit unit = storageUnitRepository.findById(unitId).orElseThrow();
+        assertEquals(0, unit.getCurrentMass().compareTo(BigDecimal.valueOf(500)));
+        assertEquals(0, unit.getCurrentVolume().compareTo(BigDecimal.valueOf(500)));
+    }
+
+    @Test
+    void reserveCapacity_ReleaseSucceedsAfterCapacityWasLoweredBelowLoad() {
+        storageUnitRepository.reserveCapacity(unitId, BigDecimal.valueOf(800), BigDecimal.valueOf(800)).orElseThrow();
+        StorageUnit unit = storageUnitRepository.findById(unitId).orElseThrow();
+        unit.setMaxMass(BigDecimal.valueOf(500));
+        storageUnitRepository.updateDetails(unit).orElseThrow();
+
+        assertTrue(storageUnitRepository.reserveCapacity(unitId, BigDecimal.valueOf(-100), BigDecimal.valueOf(-100)).isPresent());
+        assertTrue(storageUnitRepository.reserveCapacity(unitId, BigDecimal.ONE, BigDecimal.ONE).isEmpty());
+
+        StorageUnit released = storageUnitRepository.findById(unitId).orElseThrow();
+        assertEquals(0, released.getCurrentMass().compareTo(BigDecimal.valueOf(700)));
+    }
+
+    private void runConcurrently(Runnable attempt) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < ATTEMPTS_PER_THREAD; j++) {
+                        attempt.run();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package org.orbitalLogistic.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bounded cache in front of a remote lookup such as "does user 42 exist". Answers are kept for
+ * {@code ttl}, negative answers (a value matching {@code negativeWhen} or a failure matching
+ * {@code notFoundWhen}, typically a 404) for the shorter {@code negativeTtl}. A cached not-found
+ * failure is rethrown on every hit. Any other failure is passed through and never cached.
+ * Concurrent lookups of one key share a single remote call. The call runs on the caller's
+ * thread outside the cache's locks, so a slow lookup never holds up other keys or pins a
+ * virtual thread.
+ * <p>
+ * Hits and misses are published as {@code cache.gets{cache=<name>}} when a registry is given.
+ */
+public class LookupCache<K, V> {
+
+    private final AsyncCache<K, Entry<V>> entries;
+    private final Predicate<? super V> negativeWhen;
+    private final Predicate<? super RuntimeException> notFoundWhen;
+
+    private LookupCache(Builder<K, V> builder) {
+        this.negativeWhen = builder.negativeWhen;
+        this.notFoundWhen = builder.notFoundWhen;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(builder.maximumSize)
+                .expireAfter(new EntryExpiry<K, V>(builder.ttl.toNanos(), builder.negativeTtl.toNanos()))
+                .ticker(builder.ticker)
+                .recordStats()
+                .buildAsync();
+        if (builder.meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(builder.meterRegistry, entries, builder.name);
+        }
+    }
+
+    public static <K, V> Builder<K, V> builder(String name) {
+        return new Builder<>(name);
+    }
+
+    /**
+     * Failure predicate matching exceptions with the given type anywhere in their cause chain.
+     */
+    public static Predicate<RuntimeException> causedBy(Class<? extends Throwable> type) {
+        return exception -> {
+            for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+                if (type.isInstance(cause)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<Entry<V>> cached = entries.getIfPresent(key);
+        if (cached == null) {
+            CompletableFuture<Entry<V>> loading = new CompletableFuture<>();
+            cached = entries.asMap().putIfAbsent(key, loading);
+            if (cached == null) {
+                cached = loading;
+                try {
+                    loading.complete(load(key, loader));
+                } catch (RuntimeException e) {
+                    entries.asMap().remove(key, loading);
+                    loading.completeExceptionally(e);
+                }
+            }
+        }
+        Entry<V> entry = join(cached);
+        if (entry.notFound() != null) {
+            throw entry.notFound();
+        }
+        return entry.value();
+    }
+
+    /**
+     * Looks up several keys, the missing ones with a single call of {@code bulkLoader}. Keys the
+     * loader leaves out of its result are cached as absent. Keys with a cached not-found failure
+     * map to {@code null}. A failing bulk call caches nothing.
+     */
+    public Map<K, V> getAll(Collection<? extends K> keys, Function<Set<K>, Map<K, ? extends V>> bulkLoader) {
+        Map<K, CompletableFuture<Entry<V>>> cached = new HashMap<>();
+        Map<K, CompletableFuture<Entry<V>>> loading = new HashMap<>();
+        for (K key : keys) {
+            if (cached.containsKey(key)) {
+                continue;
+            }
+            CompletableFuture<Entry<V>> entry = entries.getIfPresent(key);
+            if (entry == null) {
+                CompletableFuture<Entry<V>> own = new CompletableFuture<>();
+                entry = entries.asMap().putIfAbsent(key, own);
+                if (entry == null) {
+                    entry = own;
+                    loading.put(key, own);
+                }
+            }
+            cached.put(key, entry);
+        }
+        if (!loading.isEmpty()) {
+            try {
+                Map<K, ? extends V> loaded = bulkLoader.apply(Set.copyOf(loading.keySet()));
+                loading.forEach((key, future) -> {
+                    V value = loaded.get(key);
+                    future.complete(new Entry<>(value, null, value == null || negativeWhen.test(value)));
+                });
+            } catch (RuntimeException e) {
+                loading.forEach((key, future) -> {
+                    entries.asMap().remove(key, future);
+                    future.completeExceptionally(e);
+                });
+                throw e;
+            }
+        }
+        Map<K, V> values = new HashMap<>();
+        cached.forEach((key, entry) -> values.put(key, join(entry).value()));
+        return values;
+    }
+
+    public void invalidate(K key) {
+        entries.synchronous().invalidate(key);
+    }
+
+    public void invalidateAll() {
+        entries.synchronous().invalidateAll();
+    }
+
+    private static <V> Entry<V> join(CompletableFuture<Entry<V>> entry) {
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Entry<V> load(K key, Function<? super K, ? extends V> loader) {
+        try {
+            V value = loader.apply(key);
+            return new Entry<>(value, null, value == null || negativeWhen.test(value));
+        } catch (RuntimeException e) {
+            if (notFoundWhen.test(e)) {
+                return new Entry<>(null, e, true);
+            }
+            throw e;
+        }
+    }
+
+    private record Entry<V>(V value, RuntimeException notFound, boolean negative) {
+    }
+
+    private record EntryExpiry<K, V>(long ttlNanos, long negativeTtlNanos) implements Expiry<K, Entry<V>> {
+
+        @Override
+        public long expireAfterCreate(K key, Entry<V> entry, long currentTime) {
+            return entry.negative() ? negativeTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, Entry<V> entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(K key, Entry<V> entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    public static final class Builder<K, V> {
+
+        private final String name;
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(5);
+        private Duration negativeTtl = Duration.ofSeconds(30);
+        private Predicate<? super V> negativeWhen = value -> false;
+        private Predicate<? super RuntimeException> notFoundWhen = exception -> false;
+        private MeterRegistry meterRegistry;
+        private Ticker ticker = Ticker.systemTicker();
+
+        private Builder(String name) {
+            this.name = Objects.requireNonNull(name, "name");
+        }
+
+        public Builder<K, V> maximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        public Builder<K, V> ttl(Duration ttl) {
+            this.ttl = Objects.requireNonNull(ttl, "ttl");
+            return this;
+        }
+
+        public Builder<K, V> negativeTtl(Duration negativeTtl) {
+            this.negativeTtl = Objects.requireNonNull(negativeTtl, "negativeTtl");
+            return this;
+        }
+
+        /**
+         * Values that mean "absent", e.g. {@code Boolean.FALSE::equals} for existence checks.
+         */
+        public Builder<K, V> negativeWhen(Predicate<? super V> negativeWhen) {
+            this.negativeWhen = Objects.requireNonNull(negativeWhen, "negativeWhen");
+            return this;
+        }
+
+        /**
+         * Failures that mean "absent" and are cached like negative values, see {@link #causedBy}.
+         */
+        public Builder<K, V> notFoundWhen(Predicate<? super RuntimeException> notFoundWhen) {
+            this.notFoundWhen = Objects.requireNonNull(notFoundWhen, "notFoundWhen");
+            return this;
+        }
+
+        public Builder<K, V> meterRegistry(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        Builder<K, V> ticker(Ticker ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public LookupCache<K, V> build() {
+            return new LookupCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.orbitalLogistic.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+
+/**
+ * Settings shared by all lookup caches of one service, so adapters only add what is specific
+ * to their lookup (name, negative answers).
+ */
+public class LookupCaches {
+
+    private final long maximumSize;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param meterRegistry - registry for hit/miss metrics, {@code null} disables them
+     */
+    public LookupCaches(long maximumSize, Duration ttl, Duration negativeTtl, MeterRegistry meterRegistry) {
+        this.maximumSize = maximumSize;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <K, V> LookupCache.Builder<K, V> builder(String name) {
+        return LookupCache.<K, V>builder(name)
+                .maximumSize(maximumSize)
+                .ttl(ttl)
+                .negativeTtl(negativeTtl)
+                .meterRegistry(meterRegistry);
+    }
+}
@@ -0,0 +1,243 @@
+package org.orbitalLogistic.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LookupCacheTest {
+
+    private AtomicLong nanos;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong();
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    void get_SameKeyTwice_CallsLoaderOnce() {
+        // Given
+        LookupCache<Long, String> cache = this.<String>cache().build();
+
+        // When
+        String first = cache.get(1L, counting(id -> "user-" + id));
+        String second = cache.get(1L, counting(id -> "user-" + id));
+
+        // Then
+        assertEquals("user-1", first);
+        assertEquals("user-1", second);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void get_PositiveAnswerAfterTtl_LoadsAgain() {
+        // Given
+        LookupCache<Long, Boolean> cache = this.<Boolean>cache().negativeWhen(Boolean.FALSE::equals).build();
+        cache.get(1L, counting(id -> true));
+
+        // When
+        advance(Duration.ofSeconds(31));
+        cache.get(1L, counting(id -> true));
+        advance(Duration.ofMinutes(5));
+        cache.get(1L, counting(id -> true));
+
+        // Then
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void get_NegativeAnswer_KeptForNegativeTtlOnly() {
+        // Given
+        LookupCache<Long, Boolean> cache = this.<Boolean>cache().negativeWhen(Boolean.FALSE::equals).build();
+        cache.get(1L, counting(id -> false));
+
+        // When
+        advance(Duration.ofSeconds(20));
+        Boolean cached = cache.get(1L, counting(id -> true));
+        advance(Duration.ofSeconds(11));
+        Boolean reloaded = cache.get(1L, counting(id -> true));
+
+        // Then
+        assertFalse(cached);
+        assertTrue(reloaded);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void get_NotFoundFailure_CachedAndRethrown() {
+        // Given
+        LookupCache<Long, String> cache = this.<String>cache()
+                .notFoundWhen(LookupCache.causedBy(IllegalStateException.class))
+                .build();
+        RuntimeException notFound = new RuntimeException("404", new IllegalStateException());
+
+        // When
+        RuntimeException first = assertThrows(RuntimeException.class,
+                () -> cache.get(1L, counting(id -> { throw notFound; })));
+        RuntimeException second = assertThrows(RuntimeException.class,
+                () -> cache.get(1L, counting(id -> "user-1")));
+
+        // Then
+        assertSame(notFound, first);
+        assertSame(notFound, second);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void get_OtherFailure_NotCached() {
+        // Given
+        LookupCache<Long, String> cache = this.<String>cache()
+                .notFoundWhen(LookupCache.causedBy(IllegalStateException.class))
+                .build();
+
+        // When
+        assertThrows(IllegalArgumentException.class,
+                () -> cache.get(1L, counting(id -> { throw new IllegalArgumentException("503"); })));
+        String result = cache.get(1L, counting(id -> "user-1"));
+
+        // Then
+        assertEquals("user-1", result);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void getAll_SomeKeysCached_LoadsOnlyMissingKeysInOneCall() {
+        // Given
+        LookupCache<Long, Boolean> cache = this.<Boolean>cache().negativeWhen(Boolean.FALSE::equals).build();
+        cache.get(1L, counting(id -> true));
+        List<Set<Long>> bulkCalls = new ArrayList<>();
+
+        // When
+        Map<Long, Boolean> result = cache.getAll(List.of(1L, 2L, 3L), missing -> {
+            bulkCalls.add(missing);
+            return Map.of(2L, true);
+        });
+
+        // Then
+        assertEquals(List.of(Set.of(2L, 3L)), bulkCalls);
+        assertEquals(true, result.get(1L));
+        assertEquals(true, result.get(2L));
+        assertNull(result.get(3L));
+        assertNull(cache.get(3L, counting(id -> true)));
+    }
+
+    @Test
+    void invalidate_CachedKey_LoadsAgain() {
+        // Given
+        LookupCache<Long, String> cache = this.<String>cache().build();
+        cache.get(1L, counting(id -> "old"));
+
+        // When
+        cache.invalidate(1L);
+        String result = cache.get(1L, counting(id -> "new"));
+
+        // Then
+        assertEquals("new", result);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void get_WithMeterRegistry_RecordsHitsAndMisses() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LookupCache<Long, String> cache = this.<String>cache().meterRegistry(registry).build();
+
+        // When
+        cache.get(1L, counting(id -> "user-1"));
+        cache.get(1L, counting(id -> "user-1"));
+        cache.get(1L, counting(id -> "user-1"));
+
+        // Then
+        assertEquals(2, registry.get("cache.gets").tags("cache", "users", "result", "hit")
+                .functionCounter().count());
+        assertEquals(1, registry.get("cache.gets").tags("cache", "users", "result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void get_SlowLoad_OtherKeysAndWaitersNotBlocked() throws Exception {
+        // Given
+        LookupCache<Long, String> cache = this.<String>cache().build();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> slow = executor.submit(() -> cache.get(1L, counting(id -> {
+                loading.countDown();
+                await(release);
+                return "user-1";
+            })));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<String> waiter = executor.submit(() -> cache.get(1L, counting(id -> "duplicate")));
+
+            // When
+            Map<Long, String> others = cache.getAll(List.of(2L, 3L),
+                    missing -> Map.of(2L, "user-2", 3L, "user-3"));
+            release.countDown();
+
+            // Then
+            assertEquals(Map.of(2L, "user-2", 3L, "user-3"), others);
+            assertEquals("user-1", slow.get(5, TimeUnit.SECONDS));
+            assertEquals("user-1", waiter.get(5, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getAll_FailingBulkCall_NothingCached() {
+        // Given
+        LookupCache<Long, String> cache = this.<String>cache().build();
+
+        // When
+        assertThrows(IllegalStateException.class, () -> cache.getAll(List.of(1L, 2L), missing -> {
+            throw new IllegalStateException("503");
+        }));
+        String result = cache.get(1L, counting(id -> "user-1"));
+
+        // Then
+        assertEquals("user-1", result);
+        assertEquals(1, calls.get());
+    }
+
+    private <V> LookupCache.Builder<Long, V> cache() {
+        return LookupCache.<Long, V>builder("users").ticker(nanos::get);
+    }
+
+    private <V> Function<Long, V> counting(Function<Long, V> loader) {
+        return id -> {
+            calls.incrementAndGet();
+            return loader.apply(id);
+        };
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
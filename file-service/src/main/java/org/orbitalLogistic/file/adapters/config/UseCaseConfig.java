@@ -1,5 +1,6 @@
 package org.orbitalLogistic.file.adapters.config;
 
+import org.orbitalLogistic.file.adapters.kafka.KafkaReportDeadLetters;
 import org.orbitalLogistic.file.adapters.minio.MinioOperations;
 import org.orbitalLogistic.file.adapters.reports.PdfReportGeneratorImpl;
 import org.orbitalLogistic.file.application.usecase.*;
@@ -29,4 +30,9 @@ public class UseCaseConfig {
     public StorageOperationsUseCase storageOperationsUseCase(MinioOperations storageOperations) {
         return new StorageOperationsUseCase(storageOperations);
     }
+
+    @Bean
+    public ReplayReportDeadLettersUseCase replayReportDeadLettersUseCase(KafkaReportDeadLetters reportDeadLetters) {
+        return new ReplayReportDeadLettersUseCase(reportDeadLetters);
+    }
 }
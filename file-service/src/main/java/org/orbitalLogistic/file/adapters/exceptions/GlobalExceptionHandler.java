@@ -2,6 +2,7 @@ package org.orbitalLogistic.file.adapters.exceptions;
 
 import lombok.extern.slf4j.Slf4j;
 import org.orbitalLogistic.file.adapters.exceptions.dto.ErrorResponseDTO;
+import org.orbitalLogistic.file.domain.exceptions.FileChangedException;
 import org.orbitalLogistic.file.domain.exceptions.FileNotFoundException;
 import org.orbitalLogistic.file.domain.exceptions.FileTypeException;
 import org.springframework.http.HttpStatus;
@@ -62,6 +63,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(FileChangedException.class)
+    public ResponseEntity<ErrorResponseDTO> fileChangedException(
+            FileChangedException ex
+    ) {
+        log.warn(ex.getMessage());
+        ErrorResponseDTO error = new ErrorResponseDTO(
+                ex.getMessage(),
+                LocalDateTime.now(),
+                null
+        );
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+
     @ExceptionHandler(FileTypeException.class)
     public ResponseEntity<ErrorResponseDTO> fileTypeException(
             FileTypeException ex
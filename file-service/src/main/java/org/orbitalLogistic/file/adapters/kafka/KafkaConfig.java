@@ -2,25 +2,44 @@ package org.orbitalLogistic.file.adapters.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
 
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Configuration
 @EnableKafka
 public class KafkaConfig {
 
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "reportBatchListenerContainerFactory";
+    public static final String RETRY_LISTENER_CONTAINER_FACTORY = "reportRetryListenerContainerFactory";
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String server;
 
@@ -30,25 +49,116 @@ public class KafkaConfig {
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
         System.out.println("ahaha" + server);
+        return new DefaultKafkaConsumerFactory<>(consumerProperties());
+    }
+
+    private Map<String, Object> consumerProperties() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, server);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        // a payload that is not JSON is handed to the error handler instead of failing every poll
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
         props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
         props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, "java.util.HashMap");
-
-        return new DefaultKafkaConsumerFactory<>(props);
+        return props;
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(
+            DeadLetterPublishingRecoverer reportRecoverer) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setCommonErrorHandler(reportErrorHandler(reportRecoverer));
         return factory;
     }
 
+    /**
+     * Batch listeners for report topics. One consumer per partition (the report topics are
+     * created with 3 partitions), offsets committed once the whole batch has been stored.
+     * A failing record is handed to the retry topics after the offsets before it are committed,
+     * the records behind it are redelivered at once.
+     */
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, Object> reportBatchListenerContainerFactory(
+            @Value("${reports.kafka.concurrency:3}") int concurrency,
+            @Value("${reports.kafka.max-poll-records:50}") int maxPollRecords,
+            DeadLetterPublishingRecoverer reportRecoverer) {
+        Map<String, Object> props = consumerProperties();
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(reportErrorHandler(reportRecoverer));
+        return factory;
+    }
+
+    /**
+     * Record listeners of the retry topics, one container per retry topic. Acknowledged manually,
+     * so a record that is not due yet can be nacked with the remaining delay: the consumer of
+     * that topic is paused while polling goes on.
+     */
+    @Bean(RETRY_LISTENER_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, Object> reportRetryListenerContainerFactory(
+            @Value("${reports.kafka.retry.concurrency:1}") int concurrency,
+            DeadLetterPublishingRecoverer reportRecoverer) {
+        Map<String, Object> props = consumerProperties();
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 10);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(reportErrorHandler(reportRecoverer));
+        return factory;
+    }
+
+    /**
+     * Failed reports are republished with their original key, a deserialization failure keeps
+     * the original bytes.
+     */
+    @Bean
+    public KafkaTemplate<String, Object> reportKafkaTemplate() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, server);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
+        Map<Class<?>, Serializer<?>> valueSerializers = new LinkedHashMap<>();
+        valueSerializers.put(byte[].class, new ByteArraySerializer());
+        valueSerializers.put(Object.class, new JsonSerializer<>().noTypeInfo());
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props, new StringSerializer(),
+                new DelegatingByTypeSerializer(valueSerializers, true)));
+    }
+
+    @Bean
+    public DeadLetterPublishingRecoverer reportRecoverer(KafkaTemplate<String, Object> reportKafkaTemplate,
+                                                         ReportRetryTopics reportRetryTopics) {
+        DeadLetterPublishingRecoverer recoverer =
+                new DeadLetterPublishingRecoverer(reportKafkaTemplate, reportRetryTopics::destination);
+        recoverer.addHeadersFunction(reportRetryTopics::dueAtHeaders);
+        return recoverer;
+    }
+
+    @Bean
+    public KafkaAdmin.NewTopics reportRetryNewTopics(ReportRetryTopics reportRetryTopics) {
+        return new KafkaAdmin.NewTopics(reportRetryTopics.newTopics().toArray(NewTopic[]::new));
+    }
+
+    // no in-place retries: the partition moves on and the failed record waits on a retry topic
+    private static DefaultErrorHandler reportErrorHandler(DeadLetterPublishingRecoverer reportRecoverer) {
+        return new DefaultErrorHandler(reportRecoverer, new FixedBackOff(0L, 0L));
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
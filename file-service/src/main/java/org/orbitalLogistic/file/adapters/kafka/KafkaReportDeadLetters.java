@@ -0,0 +1,102 @@
+package org.orbitalLogistic.file.adapters.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.orbitalLogistic.file.application.model.ReportType;
+import org.orbitalLogistic.file.application.ports.ReportDeadLetters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Replays dead-lettered reports onto their main topic, where they get a fresh set of retries.
+ * Values are copied as raw bytes and the keys are kept. The replay consumer has its own group
+ * and commits only what was published, so the next call continues where this one stopped.
+ */
+@Slf4j
+@Component
+public class KafkaReportDeadLetters implements ReportDeadLetters {
+
+    static final String REPLAY_GROUP = "file-service-dlt-replay";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private final ConsumerFactory<String, byte[]> consumerFactory;
+    private final KafkaOperations<String, Object> kafkaOperations;
+    private final ReportRetryTopics reportRetryTopics;
+
+    @Autowired
+    public KafkaReportDeadLetters(@Value("${spring.kafka.bootstrap-servers}") String server,
+                                  KafkaOperations<String, Object> kafkaOperations,
+                                  ReportRetryTopics reportRetryTopics) {
+        this(new DefaultKafkaConsumerFactory<>(Map.of(
+                        ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, server,
+                        ConsumerConfig.GROUP_ID_CONFIG, REPLAY_GROUP,
+                        ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false,
+                        ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest"),
+                        new StringDeserializer(), new ByteArrayDeserializer()),
+                kafkaOperations, reportRetryTopics);
+    }
+
+    KafkaReportDeadLetters(ConsumerFactory<String, byte[]> consumerFactory,
+                           KafkaOperations<String, Object> kafkaOperations,
+                           ReportRetryTopics reportRetryTopics) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaOperations = kafkaOperations;
+        this.reportRetryTopics = reportRetryTopics;
+    }
+
+    // one replay at a time, two parallel calls would publish the same events twice
+    @Override
+    public synchronized int replay(ReportType type, int maxEvents) {
+        String dltTopic = reportRetryTopics.dltTopic(type);
+        String mainTopic = reportRetryTopics.mainTopic(type);
+
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer()) {
+            consumer.assign(consumer.partitionsFor(dltTopic).stream()
+                    .map(partition -> new TopicPartition(dltTopic, partition.partition()))
+                    .toList());
+
+            Map<TopicPartition, OffsetAndMetadata> replayed = new HashMap<>();
+            List<CompletableFuture<?>> sent = new ArrayList<>();
+            while (sent.size() < maxEvents) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    if (sent.size() == maxEvents) {
+                        break;
+                    }
+                    sent.add(kafkaOperations.send(mainTopic, record.key(), record.value()));
+                    replayed.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+                }
+            }
+
+            // a failed send throws before the commit, the events stay in the dead-letter topic
+            CompletableFuture.allOf(sent.toArray(CompletableFuture[]::new)).join();
+            if (!replayed.isEmpty()) {
+                consumer.commitSync(replayed);
+            }
+            log.info("Replayed {} {} reports from {}", sent.size(), type, dltTopic);
+            return sent.size();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.orbitalLogistic.file.adapters.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.orbitalLogistic.file.adapters.kafka.dto.CargoReportDataDTO;
+import org.orbitalLogistic.file.adapters.kafka.dto.MissionReportDataDTO;
+import org.orbitalLogistic.file.adapters.kafka.dto.UserReportDataDTO;
+import org.orbitalLogistic.file.application.usecase.ReportGenerationUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Batch counterpart of {@link ReportGenerationEventListener}, active unless
+ * {@code reports.kafka.batch.enabled=false}. Offsets of a batch are committed after the
+ * listener returns, i.e. after every report of the batch has been uploaded.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reports.kafka.batch.enabled", havingValue = "true", matchIfMissing = true)
+public class ReportBatchEventListener {
+
+    private final ObjectMapper mapper;
+    private final ReportGenerationUseCase reportGenerationUseCase;
+    private final ReportRenderingPipeline pipeline;
+
+    @Value("${minio.formats.mission-reports}")
+    private String missionReportsFormat;
+
+    @Value("${minio.formats.cargo-reports}")
+    private String cargoReportsFormat;
+
+    @Value("${minio.formats.user-reports}")
+    private String userReportsFormat;
+
+    @KafkaListener(topics = "mission-reports-data", groupId = "file-service",
+            containerFactory = KafkaConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void generateMissionReports(List<HashMap<String, Object>> messages) {
+        log.info("Generate {} mission reports", messages.size());
+        pipeline.process("mission", messages, message -> reportGenerationUseCase.generateMissionReport(
+                mapper.convertValue(message, MissionReportDataDTO.class), missionReportsFormat));
+    }
+
+    @KafkaListener(topics = "user-reports-data", groupId = "file-service",
+            containerFactory = KafkaConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void generateUserReports(List<HashMap<String, Object>> messages) {
+        log.info("Generate {} user reports", messages.size());
+        pipeline.process("user", messages, message -> reportGenerationUseCase.generateUserReport(
+                mapper.convertValue(message, UserReportDataDTO.class), userReportsFormat));
+    }
+
+    @KafkaListener(topics = "cargo-reports-data", groupId = "file-service",
+            containerFactory = KafkaConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void generateCargoReports(List<HashMap<String, Object>> messages) {
+        log.info("Generate {} cargo reports", messages.size());
+        pipeline.process("cargo", messages, message -> reportGenerationUseCase.generateCargoReport(
+                mapper.convertValue(message, CargoReportDataDTO.class), cargoReportsFormat));
+    }
+}
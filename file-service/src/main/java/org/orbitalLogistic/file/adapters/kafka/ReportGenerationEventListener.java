@@ -8,6 +8,7 @@ import org.orbitalLogistic.file.adapters.kafka.dto.UserReportDataDTO;
 import org.orbitalLogistic.file.application.usecase.ReportGenerationUseCase;
 import org.orbitalLogistic.file.adapters.kafka.dto.MissionReportDataDTO;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -16,6 +17,7 @@ import java.util.HashMap;
 @Component
 @Slf4j
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "reports.kafka.batch.enabled", havingValue = "false")
 public class ReportGenerationEventListener {
 
     private final ObjectMapper mapper;
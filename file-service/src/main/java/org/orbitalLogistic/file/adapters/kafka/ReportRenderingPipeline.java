@@ -0,0 +1,90 @@
+package org.orbitalLogistic.file.adapters.kafka;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Renders the reports of one Kafka batch on a bounded worker pool. Each worker streams its PDF
+ * into the storage while filling it, so uploads overlap with rendering of the rest of the batch.
+ * {@link #process} returns only after every report of the batch is stored, which lets the
+ * listener container commit the batch offsets afterwards. A full queue makes the submitting
+ * thread do the work itself, which slows down polling instead of buffering without bound.
+ */
+@Slf4j
+@Component
+public class ReportRenderingPipeline {
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor renderPool;
+
+    public ReportRenderingPipeline(MeterRegistry meterRegistry,
+                                   @Value("${reports.render.threads:4}") int renderThreads,
+                                   @Value("${reports.render.queue-capacity:100}") int queueCapacity) {
+        this.meterRegistry = meterRegistry;
+        this.renderPool = new ThreadPoolExecutor(renderThreads, renderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("report-render-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        Gauge.builder("reports.render.queue.depth", renderPool, pool -> pool.getQueue().size())
+                .description("Reports waiting for a render worker")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Render and store every message of the batch.
+     * @param type - report type, used as metric tag
+     * @param messages - batch payloads in partition order
+     * @param generator - renders one payload and stores the report
+     * @throws BatchListenerFailedException - with the index of the first failed message, so
+     *                                      the container commits the offsets before it and
+     *                                      redelivers the rest
+     */
+    public <T> void process(String type, List<T> messages, Consumer<T> generator) {
+        Timer renderTimer = Timer.builder("reports.render.time").tag("type", type)
+                .description("Time to fill a report and stream it into the storage")
+                .register(meterRegistry);
+
+        List<CompletableFuture<Void>> stored = new ArrayList<>(messages.size());
+        for (T message : messages) {
+            stored.add(CompletableFuture.runAsync(() -> renderTimer.record(() -> generator.accept(message)),
+                    renderPool));
+        }
+
+        for (int i = 0; i < stored.size(); i++) {
+            try {
+                stored.get(i).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() == null ? e : e.getCause();
+                log.error("Failed to generate {} report at batch index {}: {}", type, i, cause.getMessage());
+                // later reports of the batch may still be in flight, let them finish before redelivery
+                CompletableFuture.allOf(stored.toArray(CompletableFuture[]::new))
+                        .exceptionally(ignored -> null)
+                        .join();
+                throw new BatchListenerFailedException("Failed to generate " + type + " report", cause, i);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        renderPool.shutdown();
+        renderPool.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,115 @@
+package org.orbitalLogistic.file.adapters.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.orbitalLogistic.file.adapters.kafka.dto.CargoReportDataDTO;
+import org.orbitalLogistic.file.adapters.kafka.dto.MissionReportDataDTO;
+import org.orbitalLogistic.file.adapters.kafka.dto.UserReportDataDTO;
+import org.orbitalLogistic.file.application.model.ReportType;
+import org.orbitalLogistic.file.application.usecase.ReportGenerationUseCase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListenerConfigurer;
+import org.springframework.kafka.config.KafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistrar;
+import org.springframework.kafka.config.MethodKafkaListenerEndpoint;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.support.DefaultMessageHandlerMethodFactory;
+import org.springframework.messaging.handler.annotation.support.MessageHandlerMethodFactory;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.function.Consumer;
+
+/**
+ * Second and later attempts of reports that failed on their main topic. Each retry topic has
+ * one delay, so its records become due in offset order; a record that is not due yet is nacked
+ * with the remaining delay. Every retry topic gets its own container, so that nack pauses only
+ * its own level and due records of the other levels keep flowing. A failure here moves the
+ * record one retry level further, see {@link ReportRetryTopics}.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ReportRetryEventListener implements KafkaListenerConfigurer {
+
+    static final String GROUP_ID = "file-service";
+
+    private final ObjectMapper mapper;
+    private final ReportGenerationUseCase reportGenerationUseCase;
+    private final ReportRetryTopics reportRetryTopics;
+
+    @Autowired
+    @Qualifier(KafkaConfig.RETRY_LISTENER_CONTAINER_FACTORY)
+    private KafkaListenerContainerFactory<?> retryContainerFactory;
+
+    @Value("${minio.formats.mission-reports}")
+    private String missionReportsFormat;
+
+    @Value("${minio.formats.cargo-reports}")
+    private String cargoReportsFormat;
+
+    @Value("${minio.formats.user-reports}")
+    private String userReportsFormat;
+
+    @Override
+    public void configureKafkaListeners(KafkaListenerEndpointRegistrar registrar) {
+        DefaultMessageHandlerMethodFactory handlerMethodFactory = new DefaultMessageHandlerMethodFactory();
+        handlerMethodFactory.afterPropertiesSet();
+        register(registrar, handlerMethodFactory, ReportType.MISSION, "retryMissionReport");
+        register(registrar, handlerMethodFactory, ReportType.USER, "retryUserReport");
+        register(registrar, handlerMethodFactory, ReportType.CARGO, "retryCargoReport");
+    }
+
+    public void retryMissionReport(ConsumerRecord<String, HashMap<String, Object>> record, Acknowledgment ack) {
+        retry(record, ack, message -> reportGenerationUseCase.generateMissionReport(
+                mapper.convertValue(message, MissionReportDataDTO.class), missionReportsFormat));
+    }
+
+    public void retryUserReport(ConsumerRecord<String, HashMap<String, Object>> record, Acknowledgment ack) {
+        retry(record, ack, message -> reportGenerationUseCase.generateUserReport(
+                mapper.convertValue(message, UserReportDataDTO.class), userReportsFormat));
+    }
+
+    public void retryCargoReport(ConsumerRecord<String, HashMap<String, Object>> record, Acknowledgment ack) {
+        retry(record, ack, message -> reportGenerationUseCase.generateCargoReport(
+                mapper.convertValue(message, CargoReportDataDTO.class), cargoReportsFormat));
+    }
+
+    private void register(KafkaListenerEndpointRegistrar registrar, MessageHandlerMethodFactory handlerMethodFactory,
+                          ReportType type, String handler) {
+        Method method;
+        try {
+            method = ReportRetryEventListener.class.getMethod(handler, ConsumerRecord.class, Acknowledgment.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+        for (String retryTopic : reportRetryTopics.retryTopics(reportRetryTopics.mainTopic(type))) {
+            MethodKafkaListenerEndpoint<String, HashMap<String, Object>> endpoint = new MethodKafkaListenerEndpoint<>();
+            endpoint.setId(retryTopic + "-listener");
+            endpoint.setGroupId(GROUP_ID);
+            endpoint.setTopics(retryTopic);
+            endpoint.setBean(this);
+            endpoint.setMethod(method);
+            endpoint.setMessageHandlerMethodFactory(handlerMethodFactory);
+            registrar.registerEndpoint(endpoint, retryContainerFactory);
+        }
+    }
+
+    private void retry(ConsumerRecord<String, HashMap<String, Object>> record, Acknowledgment ack,
+                       Consumer<HashMap<String, Object>> generator) {
+        Duration remaining = reportRetryTopics.remainingDelay(record);
+        if (!remaining.isZero()) {
+            ack.nack(remaining);
+            return;
+        }
+        log.info("Retry report from {} (key {})", record.topic(), record.key());
+        generator.accept(record.value());
+        ack.acknowledge();
+    }
+}
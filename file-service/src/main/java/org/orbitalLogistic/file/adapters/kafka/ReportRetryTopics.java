@@ -0,0 +1,151 @@
+package org.orbitalLogistic.file.adapters.kafka;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.orbitalLogistic.file.application.model.ReportType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Naming and routing of the report retry topics. A report that fails on its main topic moves to
+ * {@code <topic>-retry-0}, then through the next retry levels, each waiting
+ * {@code initial-delay * multiplier^level}, and finally to {@code <topic>-dlt}. Records that
+ * cannot be deserialized go to the dead-letter topic at once, retrying them cannot help.
+ * The record keeps its key, so retries of one entity stay on one partition.
+ */
+@Component
+public class ReportRetryTopics {
+
+    static final String DUE_AT_HEADER = "report-retry-due-at";
+
+    private static final String RETRY_SUFFIX = "-retry-";
+    private static final String DLT_SUFFIX = "-dlt";
+    private static final int PARTITIONS = 3;
+    private static final short REPLICAS = 3;
+
+    private static final Map<ReportType, String> MAIN_TOPICS = Map.of(
+            ReportType.MISSION, "mission-reports-data",
+            ReportType.CARGO, "cargo-reports-data",
+            ReportType.USER, "user-reports-data");
+
+    private final int attempts;
+    private final Duration initialDelay;
+    private final double multiplier;
+    private final Clock clock;
+
+    @Autowired
+    public ReportRetryTopics(@Value("${reports.kafka.retry.attempts:3}") int attempts,
+                             @Value("${reports.kafka.retry.initial-delay:10s}") Duration initialDelay,
+                             @Value("${reports.kafka.retry.multiplier:3}") double multiplier) {
+        this(attempts, initialDelay, multiplier, Clock.systemUTC());
+    }
+
+    ReportRetryTopics(int attempts, Duration initialDelay, double multiplier, Clock clock) {
+        this.attempts = attempts;
+        this.initialDelay = initialDelay;
+        this.multiplier = multiplier;
+        this.clock = clock;
+    }
+
+    public String mainTopic(ReportType type) {
+        return MAIN_TOPICS.get(type);
+    }
+
+    public String dltTopic(ReportType type) {
+        return mainTopic(type) + DLT_SUFFIX;
+    }
+
+    /**
+     * Retry topics of one report stream, in retry level order.
+     * @param mainTopic - topic the reports are published to
+     */
+    public String[] retryTopics(String mainTopic) {
+        String[] topics = new String[attempts];
+        for (int level = 0; level < attempts; level++) {
+            topics[level] = mainTopic + RETRY_SUFFIX + level;
+        }
+        return topics;
+    }
+
+    public List<NewTopic> newTopics() {
+        List<NewTopic> topics = new ArrayList<>();
+        for (String mainTopic : MAIN_TOPICS.values()) {
+            for (String retryTopic : retryTopics(mainTopic)) {
+                topics.add(new NewTopic(retryTopic, PARTITIONS, REPLICAS));
+            }
+            topics.add(new NewTopic(mainTopic + DLT_SUFFIX, PARTITIONS, REPLICAS));
+        }
+        return topics;
+    }
+
+    /**
+     * Destination resolver of the dead-letter publishing recoverer. Partition -1 leaves the
+     * choice to the producer, which partitions by the record key.
+     */
+    public TopicPartition destination(ConsumerRecord<?, ?> record, Exception exception) {
+        return new TopicPartition(nextTopic(record), -1);
+    }
+
+    /**
+     * Headers function of the recoverer, stamps the time the next attempt is due.
+     */
+    public Headers dueAtHeaders(ConsumerRecord<?, ?> record, Exception exception) {
+        Headers headers = new RecordHeaders();
+        int level = retryLevel(nextTopic(record));
+        if (level >= 0) {
+            long dueAt = clock.instant().plus(delay(level)).toEpochMilli();
+            headers.add(DUE_AT_HEADER, ByteBuffer.allocate(Long.BYTES).putLong(dueAt).array());
+        }
+        return headers;
+    }
+
+    /**
+     * Time left until a record of a retry topic may be processed, zero when it is due.
+     */
+    public Duration remainingDelay(ConsumerRecord<?, ?> record) {
+        Header header = record.headers().lastHeader(DUE_AT_HEADER);
+        if (header == null) {
+            return Duration.ZERO;
+        }
+        Duration remaining = Duration.between(clock.instant(),
+                Instant.ofEpochMilli(ByteBuffer.wrap(header.value()).getLong()));
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    Duration delay(int level) {
+        return Duration.ofMillis((long) (initialDelay.toMillis() * Math.pow(multiplier, level)));
+    }
+
+    private String nextTopic(ConsumerRecord<?, ?> record) {
+        String topic = record.topic();
+        int level = retryLevel(topic);
+        String mainTopic = level < 0 ? topic : topic.substring(0, topic.lastIndexOf(RETRY_SUFFIX));
+        if (notDeserializable(record) || level + 1 >= attempts) {
+            return mainTopic + DLT_SUFFIX;
+        }
+        return mainTopic + RETRY_SUFFIX + (level + 1);
+    }
+
+    private static int retryLevel(String topic) {
+        int index = topic.lastIndexOf(RETRY_SUFFIX);
+        return index < 0 ? -1 : Integer.parseInt(topic.substring(index + RETRY_SUFFIX.length()));
+    }
+
+    private static boolean notDeserializable(ConsumerRecord<?, ?> record) {
+        return record.headers().lastHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER) != null;
+    }
+}
@@ -4,10 +4,13 @@ import io.minio.MinioClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 @Configuration
 public class MinioConfig {
 
+    public static final String PRESIGN_CLIENT = "presignMinioClient";
+
     @Value("${minio.access-key}")
     private String accessKey;
 
@@ -17,11 +20,32 @@ public class MinioConfig {
     @Value("${minio.url}")
     private String minioUrl;
 
+    @Value("${minio.public-url:${minio.url}}")
+    private String minioPublicUrl;
+
+    @Value("${minio.region:us-east-1}")
+    private String region;
+
     @Bean
+    @Primary
     public MinioClient getMinioClient() {
         return MinioClient.builder()
                 .endpoint(minioUrl)
                 .credentials(accessKey, secretKey)
                 .build();
     }
+
+    /**
+     * Presigned URLs embed the host they were signed for, so they are signed against the
+     * endpoint clients reach (minio.public-url). The fixed region avoids a lookup request
+     * to that endpoint, which may not be reachable from inside the cluster.
+     */
+    @Bean(PRESIGN_CLIENT)
+    public MinioClient presignMinioClient() {
+        return MinioClient.builder()
+                .endpoint(minioPublicUrl)
+                .credentials(accessKey, secretKey)
+                .region(region)
+                .build();
+    }
 }
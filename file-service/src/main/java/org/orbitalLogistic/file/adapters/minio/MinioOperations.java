@@ -2,31 +2,76 @@ package org.orbitalLogistic.file.adapters.minio;
 
 import io.minio.*;
 import io.minio.errors.ErrorResponseException;
+import io.minio.http.Method;
 import io.minio.messages.Item;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.orbitalLogistic.file.adapters.exceptions.MinioException;
+import org.orbitalLogistic.file.application.ports.ContentWriter;
 import org.orbitalLogistic.file.application.ports.StorageOperations;
+import org.orbitalLogistic.file.domain.exceptions.FileChangedException;
 import org.orbitalLogistic.file.domain.exceptions.FileNotFoundException;
 import org.orbitalLogistic.file.domain.exceptions.StorageTechnicalException;
 import org.orbitalLogistic.file.application.model.FileCategory;
 import org.orbitalLogistic.file.application.ports.dto.FileDto;
+import org.orbitalLogistic.file.application.ports.dto.FileEntry;
+import org.orbitalLogistic.file.application.ports.dto.FileListPage;
+import org.orbitalLogistic.file.application.ports.dto.FileMetadata;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import java.io.FilterOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
 public class MinioOperations implements StorageOperations {
 
+    private static final int LIST_PAGE_SIZE = 1000;
+
     private final MinioClient minioClient;
 
+    // reads the pipe for streamed uploads; one thread per upload in flight, never the writer itself
+    private final ExecutorService uploadExecutor =
+            Executors.newCachedThreadPool(new CustomizableThreadFactory("minio-upload-"));
+
+    // signs download URLs with the endpoint clients can reach, see MinioConfig
+    @Autowired(required = false)
+    @Qualifier(MinioConfig.PRESIGN_CLIENT)
+    private MinioClient presignMinioClient;
+
+    @Value("${minio.upload.pipe-buffer-size:65536}")
+    private int pipeBufferSize = 64 * 1024;
+
+    @Value("${minio.upload.part-size:5242880}")
+    private long partSize = ObjectWriteArgs.MIN_MULTIPART_SIZE;
+
     @Value("${minio.buckets.user-files}")
     private String userFilesBucket;
 
@@ -49,17 +94,114 @@ public class MinioOperations implements StorageOperations {
         }
     }
 
+    @Override
+    public void upload(FileCategory fileCategory, String path, String contentType, ContentWriter writer) {
+        upload(fileCategory, path, contentType, Map.of(), writer);
+    }
+
+    @Override
+    public void upload(FileCategory fileCategory, String path, String contentType, Map<String, String> userMetadata,
+                       ContentWriter writer) {
+        PipedInputStream inputStream = new PipedInputStream(pipeBufferSize);
+        PipedOutputStream outputStream;
+        try {
+            outputStream = new PipedOutputStream(inputStream);
+        } catch (IOException e) {
+            throw new MinioException(e.getMessage());
+        }
+
+        Future<?> upload = uploadExecutor.submit(() -> {
+            try (inputStream) {
+                minioClient.putObject(
+                        PutObjectArgs.builder()
+                                .bucket(getBucketName(fileCategory))
+                                .object(path)
+                                .stream(inputStream, -1, partSize)
+                                .contentType(contentType)
+                                .userMetadata(userMetadata)
+                                .build()
+                );
+            }
+            return null;
+        });
+
+        try {
+            writer.writeTo(new UnclosableOutputStream(outputStream));
+        } catch (Exception e) {
+            // the write side stays open, so the reader never sees EOF and cannot store a truncated object
+            upload.cancel(true);
+            closeQuietly(inputStream);
+            throw new MinioException(uploadFailure(upload).orElse(e).getMessage());
+        }
+
+        try {
+            outputStream.close();
+            upload.get();
+        } catch (ExecutionException e) {
+            throw new MinioException(e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            upload.cancel(true);
+            throw new MinioException(e.getMessage());
+        } catch (IOException e) {
+            throw new MinioException(e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
     @Override
     public FileDto download(FileCategory fileCategory, String path) {
+        return getObject(path, GetObjectArgs.builder()
+                .bucket(getBucketName(fileCategory))
+                .object(path)
+                .build());
+    }
+
+    @Override
+    public FileDto download(FileCategory fileCategory, String path, long offset, long length, String etag) {
+        return getObject(path, GetObjectArgs.builder()
+                .bucket(getBucketName(fileCategory))
+                .object(path)
+                .offset(offset)
+                .length(length)
+                .matchETag(etag)
+                .build());
+    }
+
+    @Override
+    public String presignedDownloadUrl(FileCategory fileCategory, String path, Duration expiry) {
         try {
-            String filename = Paths.get(path).getFileName().toString();
-            filename = URLEncoder.encode(filename, StandardCharsets.UTF_8)
-                    .replace("+", "%20");
-            return new FileDto(filename, minioClient.getObject(GetObjectArgs.builder()
+            MinioClient client = presignMinioClient == null ? minioClient : presignMinioClient;
+            return client.getPresignedObjectUrl(GetPresignedObjectUrlArgs.builder()
+                    .method(Method.GET)
                     .bucket(getBucketName(fileCategory))
                     .object(path)
-                    .build()
-            ));
+                    .expiry((int) expiry.toSeconds(), TimeUnit.SECONDS)
+                    .extraQueryParams(Map.of("response-content-disposition",
+                            "attachment; filename=\"" + filename(path) + "\""))
+                    .build());
+        } catch (Exception e) {
+            throw new StorageTechnicalException(e);
+        }
+    }
+
+    @Override
+    public FileMetadata stat(FileCategory fileCategory, String path) {
+        try {
+            StatObjectResponse stat = minioClient.statObject(StatObjectArgs.builder()
+                    .bucket(getBucketName(fileCategory))
+                    .object(path)
+                    .build());
+            // header names keep whatever case the server sent
+            Map<String, String> userMetadata = new HashMap<>();
+            stat.userMetadata().forEach((key, value) -> userMetadata.put(key.toLowerCase(Locale.ROOT), value));
+            return new FileMetadata(stat.etag(), stat.size(),
+                    stat.lastModified() == null ? null : stat.lastModified().toInstant(),
+                    stat.contentType(), userMetadata);
 
         } catch (ErrorResponseException e) {
             if (e.errorResponse().code().equals("NoSuchKey"))
@@ -73,29 +215,29 @@ public class MinioOperations implements StorageOperations {
 
     @Override
     public List<String> getListDir(FileCategory fileCategory, String path) {
-        Iterable<Result<Item>> resp = minioClient.listObjects(ListObjectsArgs.builder()
-                .bucket(getBucketName(fileCategory))
-                .prefix(path)
-                .recursive(false)
-                .build());
+        List<String> filesList = new ArrayList<>();
+        walkDir(fileCategory, path, entry -> filesList.add(entry.name()));
+        return filesList;
+    }
 
-        Iterator<Result<Item>> it = resp.iterator();
-        List<String> filesList = new LinkedList<>();
-        while (it.hasNext()) {
-            try {
-                Item i = it.next().get();
-                String filename = Paths.get(i.objectName()).getFileName().toString();
-                filesList.add(filename);
-            } catch (ErrorResponseException e) {
-                if (e.errorResponse().code().equals("NoSuchKey"))
-                    throw new FileNotFoundException(path);
-                throw new StorageTechnicalException(e);
-
-            } catch (Exception e) {
-                throw new StorageTechnicalException(e);
-            }
+    @Override
+    public FileListPage listDir(FileCategory fileCategory, String path, String startAfter, int maxKeys) {
+        // one extra key tells whether another page exists without a second request
+        Iterator<Item> items = listItems(fileCategory, path, startAfter, maxKeys + 1);
+        List<FileEntry> entries = new ArrayList<>(maxKeys);
+        String lastKey = null;
+        while (entries.size() < maxKeys && items.hasNext()) {
+            Item item = items.next();
+            entries.add(toEntry(item));
+            lastKey = item.objectName();
         }
-        return filesList;
+        return new FileListPage(entries, items.hasNext() ? lastKey : null);
+    }
+
+    @Override
+    public void walkDir(FileCategory fileCategory, String path, Consumer<FileEntry> consumer) {
+        listItems(fileCategory, path, null, LIST_PAGE_SIZE)
+                .forEachRemaining(item -> consumer.accept(toEntry(item)));
     }
 
     @Override
@@ -115,10 +257,140 @@ public class MinioOperations implements StorageOperations {
         }
     }
 
+    /**
+     * Lazily listed items; the client fetches the next page of {@code pageSize} keys from
+     * MinIO only when the previous one is consumed.
+     */
+    private Iterator<Item> listItems(FileCategory fileCategory, String path, String startAfter, int pageSize) {
+        ListObjectsArgs.Builder args = ListObjectsArgs.builder()
+                .bucket(getBucketName(fileCategory))
+                .prefix(path)
+                .recursive(false)
+                .maxKeys(pageSize);
+        if (startAfter != null && !startAfter.isBlank()) {
+            args.startAfter(startAfter);
+        }
+        Iterator<Result<Item>> results = minioClient.listObjects(args.build()).iterator();
+
+        return new Iterator<>() {
+            private Item next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && results.hasNext()) {
+                    Item item = unwrap(results.next(), path);
+                    // a directory returned as last key of a page is listed again after startAfter
+                    if (!item.objectName().equals(startAfter)) {
+                        next = item;
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public Item next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Item item = next;
+                next = null;
+                return item;
+            }
+        };
+    }
+
+    private static Item unwrap(Result<Item> result, String path) {
+        try {
+            return result.get();
+
+        } catch (ErrorResponseException e) {
+            if (e.errorResponse().code().equals("NoSuchKey"))
+                throw new FileNotFoundException(path);
+            throw new StorageTechnicalException(e);
+
+        } catch (Exception e) {
+            throw new StorageTechnicalException(e);
+        }
+    }
+
+    private static FileEntry toEntry(Item item) {
+        String name = Paths.get(item.objectName()).getFileName().toString();
+        if (item.isDir()) {
+            return new FileEntry(name, 0, null, true);
+        }
+        Instant lastModified = item.lastModified() == null ? null : item.lastModified().toInstant();
+        return new FileEntry(name, item.size(), lastModified, false);
+    }
+
+    private FileDto getObject(String path, GetObjectArgs args) {
+        try {
+            return new FileDto(filename(path), minioClient.getObject(args));
+
+        } catch (ErrorResponseException e) {
+            if (e.errorResponse().code().equals("NoSuchKey"))
+                throw new FileNotFoundException(path);
+            if (e.errorResponse().code().equals("PreconditionFailed"))
+                throw new FileChangedException(path);
+            throw new StorageTechnicalException(e);
+
+        } catch (Exception e) {
+            throw new StorageTechnicalException(e);
+        }
+    }
+
+    private static String filename(String path) {
+        String filename = Paths.get(path).getFileName().toString();
+        return URLEncoder.encode(filename, StandardCharsets.UTF_8)
+                .replace("+", "%20");
+    }
+
+    private static Optional<Throwable> uploadFailure(Future<?> upload) {
+        if (!upload.isDone() || upload.isCancelled()) {
+            return Optional.empty();
+        }
+        try {
+            upload.get();
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            return Optional.of(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException ignored) {
+            // already failing, the original error is reported
+        }
+    }
+
     private String getBucketName(FileCategory fileCategory) {
         return switch (fileCategory) {
             case USER -> userFilesBucket;
             case DEFAULT -> defaultBucket;
         };
     }
+
+    /**
+     * Keeps the writer (e.g. PdfStamper, which closes its output) from signalling end of content.
+     */
+    private static final class UnclosableOutputStream extends FilterOutputStream {
+
+        UnclosableOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
 }
@@ -8,18 +8,13 @@ import org.openpdf.text.pdf.PdfReader;
 import org.openpdf.text.pdf.PdfStamper;
 import org.orbitalLogistic.file.adapters.kafka.dto.CargoReportDataDTO;
 import org.orbitalLogistic.file.adapters.kafka.dto.UserReportDataDTO;
-import org.orbitalLogistic.file.application.model.FileCategory;
 import org.orbitalLogistic.file.application.ports.PdfReportGenerator;
-import org.orbitalLogistic.file.application.ports.StorageOperations;
 import org.orbitalLogistic.file.adapters.kafka.dto.MissionReportDataDTO;
+import org.orbitalLogistic.file.application.model.ReportType;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.URISyntaxException;
-import java.net.URL;
-import java.nio.file.Paths;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -29,19 +24,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PdfReportGeneratorImpl implements PdfReportGenerator {
 
-    private final StorageOperations storageOperations;
+    static final String MISSION_TEMPLATE = "reports/Mission report.pdf";
+    static final String USER_TEMPLATE = "reports/User report.pdf";
+    static final String CARGO_TEMPLATE = "reports/Cargo report.pdf";
+
+    private final ReportTemplateCache templateCache;
 
     @Override
-    public byte[] generate(MissionReportDataDTO report) {
-        try (InputStream inputStream = storageOperations.download(FileCategory.USER, "reports/Mission report.pdf")
-                .inputStream();
-             PdfReader pdfReader = new PdfReader(inputStream);
-             ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             PdfStamper pdfStamper = new PdfStamper(pdfReader, baos)) {
+    public void generate(MissionReportDataDTO report, OutputStream outputStream) {
+        try (PdfReader pdfReader = new PdfReader(templateCache.template(MISSION_TEMPLATE));
+             PdfStamper pdfStamper = new PdfStamper(pdfReader, outputStream)) {
 
             PdfContentByte canvas = pdfStamper.getOverContent(1);
-            BaseFont font = BaseFont.createFont(getFontPath("DejaVuSans"), BaseFont.IDENTITY_H,
-                    BaseFont.EMBEDDED);
+            BaseFont font = templateCache.font("DejaVuSans");
 
             canvas.beginText();
             canvas.setFontAndSize(font, 14);
@@ -57,26 +52,18 @@ public class PdfReportGeneratorImpl implements PdfReportGenerator {
 
             canvas.endText();
 
-            pdfStamper.close();
-            pdfReader.close();
-            return baos.toByteArray();
-
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
     @Override
-    public byte[] generate(UserReportDataDTO report) {
-        try (InputStream inputStream = storageOperations.download(FileCategory.USER, "reports/User report.pdf")
-                .inputStream();
-             PdfReader pdfReader = new PdfReader(inputStream);
-             ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             PdfStamper pdfStamper = new PdfStamper(pdfReader, baos)) {
+    public void generate(UserReportDataDTO report, OutputStream outputStream) {
+        try (PdfReader pdfReader = new PdfReader(templateCache.template(USER_TEMPLATE));
+             PdfStamper pdfStamper = new PdfStamper(pdfReader, outputStream)) {
 
             PdfContentByte canvas = pdfStamper.getOverContent(1);
-            BaseFont font = BaseFont.createFont(getFontPath("DejaVuSans"), BaseFont.IDENTITY_H,
-                    BaseFont.EMBEDDED);
+            BaseFont font = templateCache.font("DejaVuSans");
 
             String roles = report.roleIds() == null
                     ? ""
@@ -93,26 +80,18 @@ public class PdfReportGeneratorImpl implements PdfReportGenerator {
 
             canvas.endText();
 
-            pdfStamper.close();
-            pdfReader.close();
-            return baos.toByteArray();
-
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
     @Override
-    public byte[] generate(CargoReportDataDTO report) {
-        try (InputStream inputStream = storageOperations.download(FileCategory.USER, "reports/Cargo report.pdf")
-                .inputStream();
-             PdfReader pdfReader = new PdfReader(inputStream);
-             ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             PdfStamper pdfStamper = new PdfStamper(pdfReader, baos)) {
+    public void generate(CargoReportDataDTO report, OutputStream outputStream) {
+        try (PdfReader pdfReader = new PdfReader(templateCache.template(CARGO_TEMPLATE));
+             PdfStamper pdfStamper = new PdfStamper(pdfReader, outputStream)) {
 
             PdfContentByte canvas = pdfStamper.getOverContent(1);
-            BaseFont font = BaseFont.createFont(getFontPath("DejaVuSans"), BaseFont.IDENTITY_H,
-                    BaseFont.EMBEDDED);
+            BaseFont font = templateCache.font("DejaVuSans");
 
             canvas.beginText();
             canvas.setFontAndSize(font, 14);
@@ -128,27 +107,18 @@ public class PdfReportGeneratorImpl implements PdfReportGenerator {
 
             canvas.endText();
 
-            pdfStamper.close();
-            pdfReader.close();
-            return baos.toByteArray();
-
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
-    /**
-     * Get absolute path of fonts which locate in resources directory.
-     * @param font - font name
-     * @return -
-     */
-    private String getFontPath(String font) {
-        URL url = getClass().getClassLoader().getResource("fonts/" + font + ".ttf");
-        try {
-            return Paths.get(url.toURI()).toString();
-        } catch (URISyntaxException e) {
-            throw new RuntimeException(e);
-        }
+    @Override
+    public String templateVersion(ReportType type) {
+        return templateCache.version(switch (type) {
+            case MISSION -> MISSION_TEMPLATE;
+            case USER -> USER_TEMPLATE;
+            case CARGO -> CARGO_TEMPLATE;
+        });
     }
 
     private String getTimeString(Long epochSeconds) {
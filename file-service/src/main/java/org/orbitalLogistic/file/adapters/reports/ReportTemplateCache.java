@@ -0,0 +1,147 @@
+package org.orbitalLogistic.file.adapters.reports;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openpdf.text.pdf.BaseFont;
+import org.orbitalLogistic.file.application.model.FileCategory;
+import org.orbitalLogistic.file.application.ports.StorageOperations;
+import org.orbitalLogistic.file.application.ports.dto.FileMetadata;
+import org.orbitalLogistic.file.domain.exceptions.FileNotFoundException;
+import org.orbitalLogistic.file.domain.exceptions.StorageTechnicalException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of the report templates stored in MinIO and of the fonts used to fill them.
+ * A template is downloaded once and afterwards only revalidated by etag (a HEAD request) when
+ * {@code reports.templates.revalidate-after} has passed, so report generation does not GET
+ * the template per event. Uploads and removals through the admin API evict the entry.
+ * Fonts are read from the classpath as streams, which also works inside the boot jar.
+ */
+@Slf4j
+@Component
+public class ReportTemplateCache {
+
+    static final FileCategory TEMPLATE_CATEGORY = FileCategory.USER;
+
+    private final StorageOperations storageOperations;
+    private final Duration revalidateAfter;
+    private final Clock clock;
+
+    private final Map<String, CachedTemplate> templates = new ConcurrentHashMap<>();
+    private final Map<String, BaseFont> fonts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReportTemplateCache(StorageOperations storageOperations,
+                               @Value("${reports.templates.revalidate-after:60s}") Duration revalidateAfter) {
+        this(storageOperations, revalidateAfter, Clock.systemUTC());
+    }
+
+    ReportTemplateCache(StorageOperations storageOperations, Duration revalidateAfter, Clock clock) {
+        this.storageOperations = storageOperations;
+        this.revalidateAfter = revalidateAfter;
+        this.clock = clock;
+    }
+
+    /**
+     * Template content for the given path, downloaded on first use or when its etag changed.
+     * @param path - path to the template in the user files bucket
+     * @return - PDF bytes of the template
+     */
+    public byte[] template(String path) {
+        return load(path).content();
+    }
+
+    /**
+     * Etag of the template that {@link #template} returns now, revalidated the same way.
+     * @param path - path to the template in the user files bucket
+     */
+    public String version(String path) {
+        return load(path).etag();
+    }
+
+    /**
+     * Parsed font from {@code resources/fonts}. Parsed once per name and shared between reports.
+     * @param name - font file name without extension
+     */
+    public BaseFont font(String name) {
+        return fonts.computeIfAbsent(name, ReportTemplateCache::loadFont);
+    }
+
+    /**
+     * Drop the cached template, so the next report downloads the new version.
+     */
+    public void evict(FileCategory fileCategory, String path) {
+        if (fileCategory == TEMPLATE_CATEGORY && templates.remove(path) != null) {
+            log.info("Evicted cached report template {}", path);
+        }
+    }
+
+    private CachedTemplate load(String path) {
+        Instant now = clock.instant();
+        CachedTemplate cached = templates.get(path);
+        if (cached != null && now.isBefore(cached.checkedAt().plus(revalidateAfter))) {
+            return cached;
+        }
+
+        FileMetadata metadata;
+        try {
+            metadata = storageOperations.stat(TEMPLATE_CATEGORY, path);
+        } catch (FileNotFoundException e) {
+            templates.remove(path);
+            throw e;
+        } catch (StorageTechnicalException e) {
+            if (cached == null) {
+                throw e;
+            }
+            log.warn("Could not revalidate report template {}, serving cached copy: {}", path, e.getMessage());
+            return cached;
+        }
+
+        if (cached != null && Objects.equals(cached.etag(), metadata.etag())) {
+            CachedTemplate revalidated = new CachedTemplate(cached.etag(), cached.content(), now);
+            templates.put(path, revalidated);
+            return revalidated;
+        }
+
+        byte[] content = download(path);
+        CachedTemplate loaded = new CachedTemplate(metadata.etag(), content, now);
+        templates.put(path, loaded);
+        log.info("Loaded report template {} (etag {}, {} bytes)", path, metadata.etag(), content.length);
+        return loaded;
+    }
+
+    private byte[] download(String path) {
+        try (InputStream inputStream = storageOperations.download(TEMPLATE_CATEGORY, path).inputStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new StorageTechnicalException(e);
+        }
+    }
+
+    private static BaseFont loadFont(String name) {
+        String file = name + ".ttf";
+        try (InputStream inputStream = ReportTemplateCache.class.getClassLoader()
+                .getResourceAsStream("fonts/" + file)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Font not found on classpath: fonts/" + file);
+            }
+            return BaseFont.createFont(file, BaseFont.IDENTITY_H, BaseFont.EMBEDDED, false,
+                    inputStream.readAllBytes(), null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record CachedTemplate(String etag, byte[] content, Instant checkedAt) {}
+}
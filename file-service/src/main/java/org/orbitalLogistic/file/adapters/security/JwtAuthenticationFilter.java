@@ -1,22 +1,20 @@
 package org.orbitalLogistic.file.adapters.security;
 
-import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.orbitalLogistic.jwt.VerifiedToken;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 @Slf4j
 @Component
@@ -49,29 +47,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 token.substring(0, Math.min(20, token.length())));
 
         try {
-            log.info("UserService JwtAuthenticationFilter: Token is VALID");
+            VerifiedToken verified = jwtService.verify(token).orElse(null);
+            if (verified == null) {
+                log.warn("UserService JwtAuthenticationFilter: Token is INVALID or EXPIRED");
+            } else {
+                log.info("UserService JwtAuthenticationFilter: Token is VALID");
 
-            String username = jwtService.getSubjectFromToken(token);
-            List<?> roles = jwtService.getRolesFromToken(token);
-            Long userId = jwtService.getUserIdFromToken(token);
+                Long userId = verified.claims().get("userId", Long.class);
 
-            log.info("UserService JwtAuthenticationFilter: Extracted from token - username: {}, userId: {}, role: {}",
-                    username, userId, roles);
+                log.info("UserService JwtAuthenticationFilter: Extracted from token - username: {}, userId: {}, role: {}",
+                        verified.subject(), userId, verified.roles());
 
-            UserPrincipal principal = new UserPrincipal(userId, username, roles);
+                UserPrincipal principal = new UserPrincipal(userId, verified.subject(), verified.roles());
 
-            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    principal,
-                    null,
-                    roles.stream().map(r -> new SimpleGrantedAuthority("ROLE_" + r)).toList()
-            );
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        principal,
+                        null,
+                        verified.authorities()
+                );
 
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            log.info("UserService JwtAuthenticationFilter: Authentication set in SecurityContext successfully");
-        } catch (ExpiredJwtException e) {
-            log.error("UserService JwtAuthenticationFilter: Token is EXPIRED: {}", e.getMessage());
+                log.info("UserService JwtAuthenticationFilter: Authentication set in SecurityContext successfully");
+            }
         } catch (Exception e) {
             log.error("UserService JwtAuthenticationFilter: Exception during token processing: {}", e.getMessage(), e);
         }
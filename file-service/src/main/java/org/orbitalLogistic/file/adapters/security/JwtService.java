@@ -6,6 +6,8 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import org.orbitalLogistic.jwt.JwtVerifier;
+import org.orbitalLogistic.jwt.VerifiedToken;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -16,13 +18,25 @@ import java.time.ZoneId;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Component
 public class JwtService {
 
-    @Value("${jwt.secret-key}")
-    private String jwtSecret;
+    private final JwtVerifier verifier;
+
+    // only used to sign service tokens, verification goes through the shared verifier
+    private final String jwtSecret;
+
+    public JwtService(JwtVerifier verifier, @Value("${jwt.secret-key}") String jwtSecret) {
+        this.verifier = verifier;
+        this.jwtSecret = jwtSecret;
+    }
+
+    public Optional<VerifiedToken> verify(String token) {
+        return verifier.verify(token);
+    }
 
     public String getUsernameFromToken(String token) {
         return getClaims(token).get("username", String.class);
@@ -42,11 +56,7 @@ public class JwtService {
 
     private Claims getClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSignInKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return verifier.parse(token);
         } catch (ExpiredJwtException e) {
             log.warn("Token expired, returning claims anyway");
             return e.getClaims();
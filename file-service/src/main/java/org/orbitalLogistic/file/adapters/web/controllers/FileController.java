@@ -1,15 +1,20 @@
 package org.orbitalLogistic.file.adapters.web.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.orbitalLogistic.file.application.usecase.DownloadUserFilesUseCase;
+import org.orbitalLogistic.file.application.usecase.ReplayReportDeadLettersUseCase;
 import org.orbitalLogistic.file.application.usecase.StorageOperationsUseCase;
+import org.orbitalLogistic.file.adapters.reports.ReportTemplateCache;
 import org.orbitalLogistic.file.adapters.security.UserPrincipal;
 import org.orbitalLogistic.file.application.model.FileCategory;
+import org.orbitalLogistic.file.application.model.ReportType;
 import org.orbitalLogistic.file.application.usecase.GetReportsUserUseCase;
-import org.orbitalLogistic.file.application.ports.dto.FileDto;
+import org.orbitalLogistic.file.application.ports.dto.FileEntry;
+import org.orbitalLogistic.file.application.ports.dto.FileListPage;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
@@ -19,18 +24,27 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/api/files")
 @RequiredArgsConstructor
 public class FileController {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final DownloadUserFilesUseCase downloadUserFilesUseCase;
     private final GetReportsUserUseCase getReportsUserUseCase;
     private final StorageOperationsUseCase storageOperationsUseCase;
+    private final ReplayReportDeadLettersUseCase replayReportDeadLettersUseCase;
+    private final ReportTemplateCache reportTemplateCache;
+    private final FileDownloadResponder fileDownloadResponder;
+    private final ObjectMapper objectMapper;
 
     @Value("${minio.formats.mission-reports}")
     private String reportsFormat;
@@ -48,6 +62,28 @@ public class FileController {
         return ResponseEntity.ok(files);
     }
 
+    @Operation(
+            summary = "[USER] Get one page of user's reports with size and last-modified date. " +
+                    "Pass nextToken as startAfter for the next page",
+            tags = {"User File Operations"}
+    )
+    @GetMapping("/get-reports-page")
+    public ResponseEntity<FileListPage> getReportsPage(@RequestParam(required = false) String startAfter,
+                                                       @RequestParam(defaultValue = "100") int maxKeys,
+                                                       @AuthenticationPrincipal UserPrincipal principal) {
+        FileListPage page = getReportsUserUseCase.page(reportsFormat, 1L, startAfter, validMaxKeys(maxKeys));
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(
+            summary = "[USER] Stream user's reports as NDJSON, one entry per line",
+            tags = {"User File Operations"}
+    )
+    @GetMapping(value = "/stream-reports-list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamReportsList(@AuthenticationPrincipal UserPrincipal principal) {
+        return ndjson(consumer -> getReportsUserUseCase.stream(reportsFormat, 1L, consumer));
+    }
+
     @Operation(
             summary = "[USER] Download report for the specified date. Write missionCode into swagger without \"\"",
             tags = {"User File Operations"}
@@ -55,13 +91,12 @@ public class FileController {
     @PostMapping("/download-report")
     public ResponseEntity<InputStreamResource> downloadReport(
             @RequestBody @NotBlank String missionCode,
+            @RequestHeader HttpHeaders requestHeaders,
             @AuthenticationPrincipal UserPrincipal principal
     ) {
-        FileDto fileDto = downloadUserFilesUseCase.execute(1L, reportsFormat, missionCode);
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .header("Content-disposition", "attachment; filename=\"" + fileDto.filename() + "\"")
-                .body(new InputStreamResource(fileDto.inputStream()));
+        String path = downloadUserFilesUseCase.reportPath(1L, reportsFormat, missionCode);
+        return fileDownloadResponder.respond(FileCategory.USER, path, requestHeaders,
+                () -> downloadUserFilesUseCase.execute(1L, reportsFormat, missionCode));
     }
 
     // ==================== SUPPORT OPERATIONS ====================
@@ -79,6 +114,34 @@ public class FileController {
         return ResponseEntity.ok(files);
     }
 
+    @Operation(
+            summary = "[SUPPORT] Get one page of file list of any specified path. " +
+                    "Pass nextToken as startAfter for the next page",
+            tags = {"Support File Operations"}
+    )
+    @GetMapping("/get-files-page")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPPORT')")
+    public ResponseEntity<FileListPage> getFilesPage(@RequestParam(defaultValue = "") String path,
+                                                     @RequestParam(required = false) FileCategory category,
+                                                     @RequestParam(required = false) String startAfter,
+                                                     @RequestParam(defaultValue = "100") int maxKeys) {
+        category = category == null ? FileCategory.DEFAULT : category;
+        FileListPage page = storageOperationsUseCase.listDir(category, path, startAfter, validMaxKeys(maxKeys));
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(
+            summary = "[SUPPORT] Stream file list of any specified path as NDJSON, one entry per line",
+            tags = {"Support File Operations"}
+    )
+    @GetMapping(value = "/stream-files-list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPPORT')")
+    public ResponseEntity<StreamingResponseBody> streamFilesList(@RequestParam(defaultValue = "") String path,
+                                                                 @RequestParam(required = false) FileCategory category) {
+        FileCategory fileCategory = category == null ? FileCategory.DEFAULT : category;
+        return ndjson(consumer -> storageOperationsUseCase.walkDir(fileCategory, path, consumer));
+    }
+
     @Operation(
             summary = "[SUPPORT] Download file of any specified path",
             tags = {"Support File Operations"}
@@ -86,14 +149,11 @@ public class FileController {
     @GetMapping("/download-file")
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPPORT')")
     public ResponseEntity<InputStreamResource> downloadFile(@RequestParam @NotBlank String path,
-                                                        @RequestParam(required = false) FileCategory category) {
-        category = category == null ? FileCategory.DEFAULT : category;
-        FileDto fileDto = storageOperationsUseCase.download(category, path);
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileDto.filename() + "\"")
-                .body(new InputStreamResource(fileDto.inputStream()));
+                                                        @RequestParam(required = false) FileCategory category,
+                                                        @RequestHeader HttpHeaders requestHeaders) {
+        FileCategory fileCategory = category == null ? FileCategory.DEFAULT : category;
+        return fileDownloadResponder.respond(fileCategory, path, requestHeaders,
+                () -> storageOperationsUseCase.download(fileCategory, path));
     }
 
     // ==================== ADMIN ONLY OPERATIONS ====================
@@ -124,8 +184,11 @@ public class FileController {
         }
 
         category = category == null ? FileCategory.DEFAULT : category;
-        storageOperationsUseCase.upload(category,path + "/" + file.getOriginalFilename(), file.getInputStream(),
+        String objectPath = path + "/" + file.getOriginalFilename();
+        storageOperationsUseCase.upload(category, objectPath, file.getInputStream(),
                 file.getSize(), file.getContentType());
+        // a replaced report template must not be served from the cache
+        reportTemplateCache.evict(category, objectPath);
         return ResponseEntity.ok().build();
     }
 
@@ -139,6 +202,42 @@ public class FileController {
                                            @RequestParam(required = false) FileCategory category) {
         category = category == null ? FileCategory.DEFAULT : category;
         storageOperationsUseCase.remove(category, path);
+        reportTemplateCache.evict(category, path);
         return ResponseEntity.ok().build();
     }
+
+    @Operation(
+            summary = "[ADMIN] Send reports that failed all retries back to their report stream. " +
+                    "Returns the number of replayed events",
+            tags = {"Admin File Operations"}
+    )
+    @PostMapping("/replay-failed-reports")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Integer> replayFailedReports(@RequestParam ReportType type,
+                                                       @RequestParam(defaultValue = "100") int maxEvents) {
+        return ResponseEntity.ok(replayReportDeadLettersUseCase.execute(type, maxEvents));
+    }
+
+    private static int validMaxKeys(int maxKeys) {
+        // MinIO returns at most 1000 keys per request
+        if (maxKeys < 1 || maxKeys > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("maxKeys must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return maxKeys;
+    }
+
+    // entries are written while MinIO pages are fetched, memory stays flat for any directory size
+    private ResponseEntity<StreamingResponseBody> ndjson(Consumer<Consumer<FileEntry>> listing) {
+        StreamingResponseBody body = outputStream -> listing.accept(entry -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(entry));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 }
@@ -0,0 +1,201 @@
+package org.orbitalLogistic.file.adapters.web.controllers;
+
+import lombok.RequiredArgsConstructor;
+import org.orbitalLogistic.file.application.model.FileCategory;
+import org.orbitalLogistic.file.application.ports.dto.FileDto;
+import org.orbitalLogistic.file.application.ports.dto.FileMetadata;
+import org.orbitalLogistic.file.application.usecase.StorageOperationsUseCase;
+import org.orbitalLogistic.file.domain.exceptions.FileChangedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Builds file download responses from the object metadata, so only bytes the client needs
+ * leave the storage. Every response carries ETag, Last-Modified and Accept-Ranges.
+ * <ul>
+ *     <li>If-None-Match / If-Modified-Since matching the object give 304 without a GET</li>
+ *     <li>Range gives 206 with a ranged GET; several ranges are served as one covering range</li>
+ *     <li>If-Range that no longer matches falls back to the full object</li>
+ *     <li>the ranged GET only reads the stat'ed etag; an object replaced in between is
+ *     stat'ed once more, a second change gives 412</li>
+ *     <li>with {@code minio.downloads.redirect-enabled} objects above
+ *     {@code minio.downloads.redirect-min-size} are answered with 307 to a presigned URL</li>
+ * </ul>
+ * Spring never applies its own range handling to {@link InputStreamResource} bodies, so the
+ * headers set here are sent as they are.
+ */
+@Component
+@RequiredArgsConstructor
+public class FileDownloadResponder {
+
+    private static final String BYTES = "bytes";
+
+    private final StorageOperationsUseCase storageOperationsUseCase;
+
+    @Value("${minio.downloads.redirect-enabled:false}")
+    private boolean redirectEnabled;
+
+    @Value("${minio.downloads.redirect-min-size:10MB}")
+    private DataSize redirectMinSize = DataSize.ofMegabytes(10);
+
+    @Value("${minio.downloads.presign-expiry:5m}")
+    private Duration presignExpiry = Duration.ofMinutes(5);
+
+    /**
+     * @param fileCategory - category of file
+     * @param path - path to specified directory with filename
+     * @param requestHeaders - headers of the download request
+     * @param fullDownload - loads the whole object when no range applies
+     */
+    public ResponseEntity<InputStreamResource> respond(FileCategory fileCategory, String path,
+                                                       HttpHeaders requestHeaders,
+                                                       Supplier<FileDto> fullDownload) {
+        try {
+            return respondToCurrent(fileCategory, path, requestHeaders, fullDownload);
+        } catch (FileChangedException e) {
+            return respondToCurrent(fileCategory, path, requestHeaders, fullDownload);
+        }
+    }
+
+    private ResponseEntity<InputStreamResource> respondToCurrent(FileCategory fileCategory, String path,
+                                                                 HttpHeaders requestHeaders,
+                                                                 Supplier<FileDto> fullDownload) {
+        FileMetadata metadata = storageOperationsUseCase.stat(fileCategory, path);
+        String etag = quote(metadata.etag());
+        Instant lastModified = metadata.lastModified() == null
+                ? null : metadata.lastModified().truncatedTo(ChronoUnit.SECONDS);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        if (lastModified != null) {
+            headers.setLastModified(lastModified);
+        }
+        headers.set(HttpHeaders.ACCEPT_RANGES, BYTES);
+
+        if (notModified(requestHeaders, etag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        if (redirectEnabled && metadata.size() >= redirectMinSize.toBytes()) {
+            String url = storageOperationsUseCase.presignedDownloadUrl(fileCategory, path, presignExpiry);
+            headers.setLocation(URI.create(url));
+            return ResponseEntity.status(HttpStatus.TEMPORARY_REDIRECT).headers(headers).build();
+        }
+
+        String range = requestHeaders.getFirst(HttpHeaders.RANGE);
+        if (range != null && rangeApplies(requestHeaders, etag, lastModified)) {
+            return partial(fileCategory, path, range, metadata, headers);
+        }
+
+        FileDto fileDto = fullDownload.get();
+        headers.setContentLength(metadata.size());
+        return body(HttpStatus.OK, headers, fileDto);
+    }
+
+    private ResponseEntity<InputStreamResource> partial(FileCategory fileCategory, String path, String range,
+                                                        FileMetadata metadata, HttpHeaders headers) {
+        long size = metadata.size();
+        long start = Long.MAX_VALUE;
+        long end = -1;
+        try {
+            for (HttpRange httpRange : HttpRange.parseRanges(range)) {
+                if (!satisfiable(httpRange, size)) {
+                    continue;
+                }
+                start = Math.min(start, httpRange.getRangeStart(size));
+                end = Math.max(end, httpRange.getRangeEnd(size));
+            }
+        } catch (IllegalArgumentException e) {
+            end = -1;
+        }
+
+        if (end < 0) {
+            headers.set(HttpHeaders.CONTENT_RANGE, BYTES + " */" + size);
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+        }
+
+        long length = end - start + 1;
+        FileDto fileDto = storageOperationsUseCase.download(fileCategory, path, start, length, metadata.etag());
+        headers.set(HttpHeaders.CONTENT_RANGE, BYTES + " " + start + "-" + end + "/" + size);
+        headers.setContentLength(length);
+        return body(HttpStatus.PARTIAL_CONTENT, headers, fileDto);
+    }
+
+    private static ResponseEntity<InputStreamResource> body(HttpStatus status, HttpHeaders headers, FileDto fileDto) {
+        return ResponseEntity.status(status)
+                .headers(headers)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileDto.filename() + "\"")
+                .body(new InputStreamResource(fileDto.inputStream()));
+    }
+
+    private static boolean satisfiable(HttpRange range, long size) {
+        try {
+            return range.getRangeStart(size) < size;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // If-None-Match takes precedence, If-Modified-Since is only evaluated without it (RFC 9110 13.2.2)
+    private static boolean notModified(HttpHeaders requestHeaders, String etag, Instant lastModified) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            return ifNoneMatch.stream().anyMatch(tag -> tag.equals("*") || weakTag(tag).equals(weakTag(etag)));
+        }
+        if (lastModified == null) {
+            return false;
+        }
+        long ifModifiedSince = dateHeader(requestHeaders, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && !lastModified.isAfter(Instant.ofEpochMilli(ifModifiedSince));
+    }
+
+    // If-Range needs a strong etag or the exact modification date, anything else gets the whole object
+    private static boolean rangeApplies(HttpHeaders requestHeaders, String etag, Instant lastModified) {
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(etag);
+        }
+        if (ifRange.startsWith("W/")) {
+            return false;
+        }
+        long date = dateHeader(requestHeaders, HttpHeaders.IF_RANGE);
+        return lastModified != null && date == lastModified.toEpochMilli();
+    }
+
+    private static long dateHeader(HttpHeaders requestHeaders, String name) {
+        try {
+            return requestHeaders.getFirstDate(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static String weakTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static String quote(String etag) {
+        if (etag.startsWith("\"") || etag.startsWith("W/")) {
+            return etag;
+        }
+        return "\"" + etag + "\"";
+    }
+}
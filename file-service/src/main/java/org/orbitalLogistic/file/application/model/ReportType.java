@@ -0,0 +1,8 @@
+package org.orbitalLogistic.file.application.model;
+
+/**
+ * Report streams the service renders, one per producing service.
+ */
+public enum ReportType {
+    MISSION, CARGO, USER
+}
@@ -0,0 +1,17 @@
+package org.orbitalLogistic.file.application.ports;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Produces file content directly into the storage upload stream.
+ */
+@FunctionalInterface
+public interface ContentWriter {
+
+    /**
+     * Write the whole content. The stream must not be closed by the writer, the storage
+     * treats a normal return as the end of the content and an exception as an aborted upload.
+     */
+    void writeTo(OutputStream outputStream) throws IOException;
+}
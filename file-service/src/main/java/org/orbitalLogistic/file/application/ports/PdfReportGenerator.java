@@ -3,9 +3,36 @@ package org.orbitalLogistic.file.application.ports;
 import org.orbitalLogistic.file.adapters.kafka.dto.CargoReportDataDTO;
 import org.orbitalLogistic.file.adapters.kafka.dto.MissionReportDataDTO;
 import org.orbitalLogistic.file.adapters.kafka.dto.UserReportDataDTO;
+import org.orbitalLogistic.file.application.model.ReportType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 
 public interface PdfReportGenerator {
-    byte[] generate(MissionReportDataDTO report);
-    byte[] generate(UserReportDataDTO report);
-    byte[] generate(CargoReportDataDTO report);
+    void generate(MissionReportDataDTO report, OutputStream outputStream);
+    void generate(UserReportDataDTO report, OutputStream outputStream);
+    void generate(CargoReportDataDTO report, OutputStream outputStream);
+
+    /**
+     * Version of the template reports of this type are filled into, changes when it is replaced.
+     */
+    String templateVersion(ReportType type);
+
+    default byte[] generate(MissionReportDataDTO report) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generate(report, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    default byte[] generate(UserReportDataDTO report) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generate(report, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    default byte[] generate(CargoReportDataDTO report) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generate(report, outputStream);
+        return outputStream.toByteArray();
+    }
 }
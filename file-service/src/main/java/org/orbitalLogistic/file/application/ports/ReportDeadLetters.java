@@ -0,0 +1,17 @@
+package org.orbitalLogistic.file.application.ports;
+
+import org.orbitalLogistic.file.application.model.ReportType;
+
+/**
+ * Report events that failed every retry attempt.
+ */
+public interface ReportDeadLetters {
+
+    /**
+     * Publish dead-lettered events back to their report stream, oldest first.
+     * @param type - report stream
+     * @param maxEvents - upper bound of events replayed by this call
+     * @return - number of replayed events
+     */
+    int replay(ReportType type, int maxEvents);
+}
@@ -2,9 +2,16 @@ package org.orbitalLogistic.file.application.ports;
 
 import org.orbitalLogistic.file.application.model.FileCategory;
 import org.orbitalLogistic.file.application.ports.dto.FileDto;
+import org.orbitalLogistic.file.application.ports.dto.FileEntry;
+import org.orbitalLogistic.file.application.ports.dto.FileListPage;
+import org.orbitalLogistic.file.application.ports.dto.FileMetadata;
+import org.orbitalLogistic.file.domain.exceptions.FileChangedException;
 
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * basic methods to interact with storage
@@ -22,6 +29,23 @@ public interface StorageOperations {
 
     void upload(FileCategory fileCategory, String path, InputStream inputStream, long size, String contentType);
 
+    /**
+     * Upload file of unknown size, streaming whatever the writer produces. Memory use does not
+     * depend on the file size beyond a fixed part buffer. Nothing is stored if the writer fails.
+     * @param fileCategory - category of file
+     * @param path - path to specified directory with filename
+     * @param contentType - content type
+     * @param writer - writes the content into the upload stream
+     */
+    void upload(FileCategory fileCategory, String path, String contentType, ContentWriter writer);
+
+    /**
+     * Upload file of unknown size together with metadata, see {@link #upload(FileCategory, String, String, ContentWriter)}
+     * @param userMetadata - metadata stored with the object, returned by {@link #stat}
+     */
+    void upload(FileCategory fileCategory, String path, String contentType, Map<String, String> userMetadata,
+                ContentWriter writer);
+
     /**
      * Dowload file from storage
      * @param fileCategory - category of file
@@ -32,6 +56,34 @@ public interface StorageOperations {
      */
     FileDto download(FileCategory fileCategory, String path);
 
+    /**
+     * Download part of file
+     * @param fileCategory - category of file
+     * @param path - path to specified directory with filename
+     * @param offset - first byte to read
+     * @param length - number of bytes to read
+     * @param etag - etag the object must still have, otherwise {@link FileChangedException} is thrown
+     * @return - FileDto with the requested bytes only
+     */
+    FileDto download(FileCategory fileCategory, String path, long offset, long length, String etag);
+
+    /**
+     * Create a time-limited URL that lets a client download the file directly from storage
+     * @param fileCategory - category of file
+     * @param path - path to specified directory with filename
+     * @param expiry - how long the URL stays valid
+     * @return - presigned URL
+     */
+    String presignedDownloadUrl(FileCategory fileCategory, String path, Duration expiry);
+
+    /**
+     * Get object metadata without downloading its content
+     * @param fileCategory - category of file
+     * @param path - path to specified directory with filename
+     * @return - FileMetadata with etag, size, last modification time, content type and user metadata
+     */
+    FileMetadata stat(FileCategory fileCategory, String path);
+
     /**
      * Get file list of any specified path
      * @param fileCategory - category of file
@@ -40,6 +92,25 @@ public interface StorageOperations {
      */
     List<String> getListDir(FileCategory fileCategory, String path);
 
+    /**
+     * Get one page of the file list of any specified path
+     * @param fileCategory - category of file
+     * @param path - path to specified directory
+     * @param startAfter - nextToken of the previous page, null for the first page
+     * @param maxKeys - maximum number of entries in the page
+     * @return - entries with size and last-modified date, and the token of the next page
+     */
+    FileListPage listDir(FileCategory fileCategory, String path, String startAfter, int maxKeys);
+
+    /**
+     * Pass every entry of the specified path to the consumer as soon as it is listed,
+     * without holding the whole listing in memory
+     * @param fileCategory - category of file
+     * @param path - path to specified directory
+     * @param consumer - receives the entries in key order
+     */
+    void walkDir(FileCategory fileCategory, String path, Consumer<FileEntry> consumer);
+
     /**
      * Remove file
      * @param fileCategory - category of file
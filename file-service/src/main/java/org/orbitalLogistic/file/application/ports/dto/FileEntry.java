@@ -0,0 +1,8 @@
+package org.orbitalLogistic.file.application.ports.dto;
+
+import java.time.Instant;
+
+/**
+ * One listed object. Directories have no size and no last-modified date.
+ */
+public record FileEntry(String name, long size, Instant lastModified, boolean directory) {}
@@ -0,0 +1,9 @@
+package org.orbitalLogistic.file.application.ports.dto;
+
+import java.util.List;
+
+/**
+ * One page of a directory listing. {@code nextToken} is passed as {@code startAfter} to get
+ * the next page and is null on the last one.
+ */
+public record FileListPage(List<FileEntry> entries, String nextToken) {}
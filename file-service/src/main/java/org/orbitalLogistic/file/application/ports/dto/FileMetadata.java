@@ -0,0 +1,15 @@
+package org.orbitalLogistic.file.application.ports.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * @param userMetadata - metadata stored with the object, keys in lower case
+ */
+public record FileMetadata(String etag, long size, Instant lastModified, String contentType,
+                           Map<String, String> userMetadata) {
+
+    public FileMetadata(String etag, long size, Instant lastModified, String contentType) {
+        this(etag, size, lastModified, contentType, Map.of());
+    }
+}
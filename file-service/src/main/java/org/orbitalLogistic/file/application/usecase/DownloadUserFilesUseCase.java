@@ -11,8 +11,11 @@ public class DownloadUserFilesUseCase {
     private final StorageOperations storageOperations;
 
     public FileDto execute(Long id, String fileFormat, String missionCode) {
-        String path = String.format(fileFormat, id, missionCode);
-        return storageOperations.download(FileCategory.USER, path);
+        return storageOperations.download(FileCategory.USER, reportPath(id, fileFormat, missionCode));
+    }
+
+    public String reportPath(Long id, String fileFormat, String missionCode) {
+        return String.format(fileFormat, id, missionCode);
     }
 
 }
@@ -3,9 +3,12 @@ package org.orbitalLogistic.file.application.usecase;
 import lombok.RequiredArgsConstructor;
 import org.orbitalLogistic.file.application.model.FileCategory;
 import org.orbitalLogistic.file.application.ports.StorageOperations;
+import org.orbitalLogistic.file.application.ports.dto.FileEntry;
+import org.orbitalLogistic.file.application.ports.dto.FileListPage;
 import org.orbitalLogistic.file.application.services.FileFormat;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 public class GetReportsUserUseCase {
@@ -13,8 +16,19 @@ public class GetReportsUserUseCase {
     private final StorageOperations storageOperations;
 
     public List<String> execute(String reportsFormat, Long id) {
-        String path = String.format(FileFormat.getParent(reportsFormat), id);
-        return storageOperations.getListDir(FileCategory.USER, path);
+        return storageOperations.getListDir(FileCategory.USER, reportsDir(reportsFormat, id));
+    }
+
+    public FileListPage page(String reportsFormat, Long id, String startAfter, int maxKeys) {
+        return storageOperations.listDir(FileCategory.USER, reportsDir(reportsFormat, id), startAfter, maxKeys);
+    }
+
+    public void stream(String reportsFormat, Long id, Consumer<FileEntry> consumer) {
+        storageOperations.walkDir(FileCategory.USER, reportsDir(reportsFormat, id), consumer);
+    }
+
+    private static String reportsDir(String reportsFormat, Long id) {
+        return String.format(FileFormat.getParent(reportsFormat), id);
     }
 
 }
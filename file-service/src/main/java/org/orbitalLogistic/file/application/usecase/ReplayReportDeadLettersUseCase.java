@@ -0,0 +1,20 @@
+package org.orbitalLogistic.file.application.usecase;
+
+import lombok.RequiredArgsConstructor;
+import org.orbitalLogistic.file.application.model.ReportType;
+import org.orbitalLogistic.file.application.ports.ReportDeadLetters;
+
+@RequiredArgsConstructor
+public class ReplayReportDeadLettersUseCase {
+
+    private static final int MAX_EVENTS = 1000;
+
+    private final ReportDeadLetters reportDeadLetters;
+
+    public int execute(ReportType type, int maxEvents) {
+        if (maxEvents < 1 || maxEvents > MAX_EVENTS) {
+            throw new IllegalArgumentException("maxEvents must be between 1 and " + MAX_EVENTS);
+        }
+        return reportDeadLetters.replay(type, maxEvents);
+    }
+}
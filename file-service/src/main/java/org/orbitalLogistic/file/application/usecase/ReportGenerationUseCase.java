@@ -1,68 +1,145 @@
 package org.orbitalLogistic.file.application.usecase;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.orbitalLogistic.file.adapters.kafka.dto.CargoReportDataDTO;
 import org.orbitalLogistic.file.adapters.kafka.dto.UserReportDataDTO;
 import org.orbitalLogistic.file.adapters.security.UserPrincipal;
 import org.orbitalLogistic.file.application.model.FileCategory;
+import org.orbitalLogistic.file.application.model.ReportType;
+import org.orbitalLogistic.file.application.ports.ContentWriter;
 import org.orbitalLogistic.file.application.ports.PdfReportGenerator;
 import org.orbitalLogistic.file.application.ports.StorageOperations;
 import org.orbitalLogistic.file.adapters.kafka.dto.MissionReportDataDTO;
 import org.orbitalLogistic.file.adapters.exceptions.MinioException;
+import org.orbitalLogistic.file.domain.exceptions.FileNotFoundException;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
+/**
+ * Reports are stored with a fingerprint of the fields they show and the template version. A
+ * redelivered event whose report is already stored with the same fingerprint costs one metadata
+ * request, it is neither rendered nor uploaded again. Fields the pdf does not show, like the
+ * password of a user report, never reach the fingerprint.
+ */
+@Slf4j
 @RequiredArgsConstructor
 public class ReportGenerationUseCase {
 
+    static final String FINGERPRINT_METADATA = "report-fingerprint";
+
+    private static final ObjectMapper CANONICAL_JSON = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
     private final StorageOperations storageOperations;
     private final PdfReportGenerator pdfReportGenerator;
 
     /**
      * Generate the report from template pdf file with user's credentials and its rental data.
+     * The pdf is streamed into the storage while it is being filled, it is never held as a whole.
      * @param report - all required data for pdf.
      */
     public void generateMissionReport(MissionReportDataDTO report, String reportFormat) {
-        byte[] bytes = pdfReportGenerator.generate(report);
-        String reportName = String.format(reportFormat, 1, "mission-" + report.missionCode());
-
-        InputStream resultInputStream = new ByteArrayInputStream(bytes);
-        try {
-            storageOperations.upload(FileCategory.USER, reportName, resultInputStream, bytes.length,
-                    "application/pdf");
-        } catch (Exception e) {
-            throw new MinioException(e.getMessage());
-        }
+        store(String.format(reportFormat, 1, "mission-" + report.missionCode()), ReportType.MISSION,
+                renderedFields(report),
+                outputStream -> pdfReportGenerator.generate(report, outputStream));
     }
 
     public void generateUserReport(UserReportDataDTO report, String reportFormat) {
-        byte[] bytes = pdfReportGenerator.generate(report);
-        String reportName = String.format(reportFormat, 1, "user-" + report.username());
+        store(String.format(reportFormat, 1, "user-" + report.username()), ReportType.USER,
+                renderedFields(report),
+                outputStream -> pdfReportGenerator.generate(report, outputStream));
+    }
+
+    public void generateCargoReport(CargoReportDataDTO report, String reportFormat) {
+        store(String.format(reportFormat, 1, "cargo-" + report.cargoId()), ReportType.CARGO,
+                renderedFields(report),
+                outputStream -> pdfReportGenerator.generate(report, outputStream));
+    }
+
+    private void store(String reportName, ReportType type, Map<String, String> renderedFields, ContentWriter writer) {
+        String fingerprint = fingerprint(pdfReportGenerator.templateVersion(type), renderedFields);
+        if (fingerprint.equals(storedFingerprint(reportName))) {
+            log.info("Report {} is up to date, skipping", reportName);
+            return;
+        }
 
-        InputStream resultInputStream = new ByteArrayInputStream(bytes);
         try {
-            storageOperations.upload(FileCategory.USER, reportName, resultInputStream, bytes.length,
-                    "application/pdf");
+            storageOperations.upload(FileCategory.USER, reportName, "application/pdf",
+                    Map.of(FINGERPRINT_METADATA, fingerprint), writer);
         } catch (Exception e) {
             throw new MinioException(e.getMessage());
         }
     }
 
-    public void generateCargoReport(CargoReportDataDTO report, String reportFormat) {
-        byte[] bytes = pdfReportGenerator.generate(report);
-        String reportName = String.format(reportFormat, 1, "cargo-" + report.cargoId());
+    private String storedFingerprint(String reportName) {
+        try {
+            return storageOperations.stat(FileCategory.USER, reportName).userMetadata().get(FINGERPRINT_METADATA);
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+    }
 
-        InputStream resultInputStream = new ByteArrayInputStream(bytes);
+    // keys are sorted, so equal fields give equal json whatever order they were put in
+    static String fingerprint(String templateVersion, Map<String, String> renderedFields) {
         try {
-            storageOperations.upload(FileCategory.USER, reportName, resultInputStream, bytes.length,
-                    "application/pdf");
-        } catch (Exception e) {
-            throw new MinioException(e.getMessage());
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(templateVersion.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(CANONICAL_JSON.writeValueAsBytes(renderedFields));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException(e);
         }
     }
 
+    static Map<String, String> renderedFields(MissionReportDataDTO report) {
+        Map<String, String> fields = new TreeMap<>();
+        fields.put("missionCode", String.valueOf(report.missionCode()));
+        fields.put("missionName", String.valueOf(report.missionName()));
+        fields.put("missionType", String.valueOf(report.missionType()));
+        fields.put("priority", String.valueOf(report.priority()));
+        fields.put("commandingOfficerId", String.valueOf(report.commandingOfficerId()));
+        fields.put("spacecraftId", String.valueOf(report.spacecraftId()));
+        fields.put("scheduledDeparture", String.valueOf(report.scheduledDeparture()));
+        fields.put("scheduledArrival", String.valueOf(report.scheduledArrival()));
+        return fields;
+    }
+
+    static Map<String, String> renderedFields(UserReportDataDTO report) {
+        Map<String, String> fields = new TreeMap<>();
+        fields.put("username", String.valueOf(report.username()));
+        fields.put("email", String.valueOf(report.email()));
+        fields.put("roleIds", report.roleIds() == null
+                ? ""
+                : report.roleIds().stream().sorted().map(String::valueOf).collect(Collectors.joining(",")));
+        return fields;
+    }
+
+    static Map<String, String> renderedFields(CargoReportDataDTO report) {
+        Map<String, String> fields = new TreeMap<>();
+        fields.put("id", String.valueOf(report.id()));
+        fields.put("storageUnitId", String.valueOf(report.storageUnitId()));
+        fields.put("cargoId", String.valueOf(report.cargoId()));
+        fields.put("quantity", String.valueOf(report.quantity()));
+        fields.put("storedAt", String.valueOf(report.storedAt()));
+        fields.put("lastInventoryCheck", String.valueOf(report.lastInventoryCheck()));
+        fields.put("lastCheckedByUserId", String.valueOf(report.lastCheckedByUserId()));
+        fields.put("responsibleUserId", String.valueOf(report.responsibleUserId()));
+        return fields;
+    }
+
     public Long getCurrentUserId() {
         Object principal = Objects.requireNonNull(SecurityContextHolder.getContext().getAuthentication()).getPrincipal();
 
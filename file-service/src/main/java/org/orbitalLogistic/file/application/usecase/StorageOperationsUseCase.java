@@ -4,9 +4,14 @@ import lombok.RequiredArgsConstructor;
 import org.orbitalLogistic.file.application.model.FileCategory;
 import org.orbitalLogistic.file.application.ports.StorageOperations;
 import org.orbitalLogistic.file.application.ports.dto.FileDto;
+import org.orbitalLogistic.file.application.ports.dto.FileEntry;
+import org.orbitalLogistic.file.application.ports.dto.FileListPage;
+import org.orbitalLogistic.file.application.ports.dto.FileMetadata;
 
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 public class StorageOperationsUseCase {
@@ -21,10 +26,30 @@ public class StorageOperationsUseCase {
         return storageOperations.download(fileCategory, path);
     }
 
+    public FileDto download(FileCategory fileCategory, String path, long offset, long length, String etag) {
+        return storageOperations.download(fileCategory, path, offset, length, etag);
+    }
+
+    public FileMetadata stat(FileCategory fileCategory, String path) {
+        return storageOperations.stat(fileCategory, path);
+    }
+
+    public String presignedDownloadUrl(FileCategory fileCategory, String path, Duration expiry) {
+        return storageOperations.presignedDownloadUrl(fileCategory, path, expiry);
+    }
+
     public List<String> getListDir(FileCategory fileCategory, String path) {
         return storageOperations.getListDir(fileCategory, path);
     }
 
+    public FileListPage listDir(FileCategory fileCategory, String path, String startAfter, int maxKeys) {
+        return storageOperations.listDir(fileCategory, path, startAfter, maxKeys);
+    }
+
+    public void walkDir(FileCategory fileCategory, String path, Consumer<FileEntry> consumer) {
+        storageOperations.walkDir(fileCategory, path, consumer);
+    }
+
     public void remove(FileCategory fileCategory, String path) {
         storageOperations.remove(fileCategory, path);
     }
@@ -0,0 +1,7 @@
+package org.orbitalLogistic.file.domain.exceptions;
+
+public class FileChangedException extends RuntimeException {
+    public FileChangedException(String path) {
+        super("File changed while reading: " + path);
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.orbitalLogistic.file.adapters.exceptions.dto.ErrorResponseDTO;
+import org.orbitalLogistic.file.domain.exceptions.FileChangedException;
 import org.orbitalLogistic.file.domain.exceptions.FileNotFoundException;
 import org.orbitalLogistic.file.domain.exceptions.FileTypeException;
 import org.springframework.http.HttpStatus;
@@ -177,6 +178,16 @@ class GlobalExceptionHandlerTest {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
+    @Test
+    void shouldReturnPreconditionFailedStatusForFileChangedException() {
+        FileChangedException exception = new FileChangedException("test.pdf");
+
+        ResponseEntity<ErrorResponseDTO> response = exceptionHandler.fileChangedException(exception);
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertTrue(response.getBody().message().contains("test.pdf"));
+    }
+
     @Test
     void shouldReturnBadRequestStatusForFileTypeException() {
         FileTypeException exception = new FileTypeException("PDF", "TXT");
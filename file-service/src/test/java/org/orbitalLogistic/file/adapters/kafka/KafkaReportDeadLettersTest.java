@@ -0,0 +1,86 @@
+package org.orbitalLogistic.file.adapters.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.file.application.model.ReportType;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaReportDeadLettersTest {
+
+    private static final String DLT = "mission-reports-data-dlt";
+    private static final TopicPartition PARTITION = new TopicPartition(DLT, 0);
+
+    @Mock
+    private ConsumerFactory<String, byte[]> consumerFactory;
+
+    @Mock
+    private KafkaOperations<String, Object> kafkaOperations;
+
+    private MockConsumer<String, byte[]> consumer;
+    private KafkaReportDeadLetters deadLetters;
+
+    @BeforeEach
+    void setUp() {
+        consumer = spy(new MockConsumer<>(OffsetResetStrategy.EARLIEST));
+        consumer.updatePartitions(DLT, List.of(new PartitionInfo(DLT, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        consumer.schedulePollTask(() -> {
+            for (long offset = 0; offset < 3; offset++) {
+                consumer.addRecord(new ConsumerRecord<>(DLT, 0, offset, "MISS-" + offset, new byte[]{(byte) offset}));
+            }
+        });
+        when(consumerFactory.createConsumer()).thenReturn(consumer);
+        ReportRetryTopics retryTopics = new ReportRetryTopics(3, Duration.ofSeconds(10), 3);
+        deadLetters = new KafkaReportDeadLetters(consumerFactory, kafkaOperations, retryTopics);
+    }
+
+    @Test
+    void replay_PublishesToMainTopicWithKeyAndCommitsReplayed() {
+        // Given
+        when(kafkaOperations.send(eq("mission-reports-data"), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        int replayed = deadLetters.replay(ReportType.MISSION, 2);
+
+        // Then
+        assertEquals(2, replayed);
+        verify(kafkaOperations).send(eq("mission-reports-data"), eq("MISS-0"), aryEq(new byte[]{0}));
+        verify(kafkaOperations).send(eq("mission-reports-data"), eq("MISS-1"), aryEq(new byte[]{1}));
+        verify(kafkaOperations, never()).send(anyString(), eq("MISS-2"), any());
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(2)));
+        assertTrue(consumer.closed());
+    }
+
+    @Test
+    void replay_SendFails_NothingCommitted() {
+        // Given
+        when(kafkaOperations.send(eq("mission-reports-data"), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Broker unavailable")));
+
+        // When / Then
+        assertThrows(RuntimeException.class, () -> deadLetters.replay(ReportType.MISSION, 10));
+        verify(consumer, never()).commitSync(anyMap());
+    }
+}
@@ -0,0 +1,66 @@
+package org.orbitalLogistic.file.adapters.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.file.adapters.kafka.dto.MissionReportDataDTO;
+import org.orbitalLogistic.file.application.usecase.ReportGenerationUseCase;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportBatchEventListenerTest {
+
+    @Mock
+    private ObjectMapper mapper;
+
+    @Mock
+    private ReportGenerationUseCase reportGenerationUseCase;
+
+    @Mock
+    private ReportRenderingPipeline pipeline;
+
+    @InjectMocks
+    private ReportBatchEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(listener, "missionReportsFormat", "mission-%d-%s.pdf");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void generateMissionReports_RendersEachMessageThroughPipeline() {
+        // Given
+        HashMap<String, Object> message = new HashMap<>();
+        message.put("missionCode", "MISS-001");
+        MissionReportDataDTO reportData = new MissionReportDataDTO("MISS-001", "Mars Exploration", "EXPLORATION",
+                "HIGH", 1L, 2L, LocalDateTime.of(2024, 6, 1, 10, 0), LocalDateTime.of(2024, 12, 1, 10, 0));
+        when(mapper.convertValue(message, MissionReportDataDTO.class)).thenReturn(reportData);
+        doAnswer(invocation -> {
+            List<HashMap<String, Object>> messages = invocation.getArgument(1);
+            Consumer<HashMap<String, Object>> generator = invocation.getArgument(2);
+            messages.forEach(generator);
+            return null;
+        }).when(pipeline).process(eq("mission"), anyList(), any(Consumer.class));
+
+        // When
+        listener.generateMissionReports(List.of(message));
+
+        // Then
+        verify(pipeline).process(eq("mission"), eq(List.of(message)), any(Consumer.class));
+        verify(reportGenerationUseCase).generateMissionReport(reportData, "mission-%d-%s.pdf");
+    }
+}
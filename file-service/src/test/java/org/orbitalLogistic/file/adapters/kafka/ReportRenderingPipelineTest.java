@@ -0,0 +1,100 @@
+package org.orbitalLogistic.file.adapters.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orbitalLogistic.file.adapters.exceptions.MinioException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportRenderingPipelineTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReportRenderingPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new ReportRenderingPipeline(meterRegistry, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.shutdown();
+    }
+
+    @Test
+    void process_StoresEveryReportOfBatch() {
+        // Given
+        List<String> messages = List.of("a", "b", "c");
+        Set<String> stored = ConcurrentHashMap.newKeySet();
+
+        // When
+        pipeline.process("mission", messages, stored::add);
+
+        // Then
+        assertEquals(Set.of("a", "b", "c"), stored);
+        assertEquals(3, meterRegistry.get("reports.render.time").tag("type", "mission").timer().count());
+        assertNotNull(meterRegistry.get("reports.render.queue.depth").gauge());
+    }
+
+    @Test
+    void process_RendersOnWorkerPoolInParallel() throws Exception {
+        // Given
+        CountDownLatch bothRendering = new CountDownLatch(2);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        // When
+        pipeline.process("mission", List.of("a", "b"), message -> {
+            threads.add(Thread.currentThread().getName());
+            bothRendering.countDown();
+            try {
+                // each render waits for the other, so a single thread would time out here
+                assertTrue(bothRendering.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Then
+        assertEquals(2, threads.size());
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("report-render-")));
+    }
+
+    @Test
+    void process_RenderFailure_ReportsIndexOfFailedMessage() {
+        // When
+        BatchListenerFailedException thrown = assertThrows(BatchListenerFailedException.class,
+                () -> pipeline.process("mission", List.of("a", "broken", "c"), message -> {
+                    if (message.equals("broken")) {
+                        throw new IllegalArgumentException("Cannot convert message");
+                    }
+                }));
+
+        // Then
+        assertEquals(1, thrown.getIndex());
+        assertInstanceOf(IllegalArgumentException.class, thrown.getCause());
+    }
+
+    @Test
+    void process_UploadFailure_ReportsIndexOfFailedMessage() {
+        // When
+        BatchListenerFailedException thrown = assertThrows(BatchListenerFailedException.class,
+                () -> pipeline.process("mission", List.of("a", "b", "c"), message -> {
+                    if (message.equals("c")) {
+                        throw new MinioException("Storage unavailable");
+                    }
+                }));
+
+        // Then
+        assertEquals(2, thrown.getIndex());
+    }
+}
@@ -0,0 +1,119 @@
+package org.orbitalLogistic.file.adapters.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.file.adapters.kafka.dto.CargoReportDataDTO;
+import org.orbitalLogistic.file.application.model.ReportType;
+import org.orbitalLogistic.file.application.usecase.ReportGenerationUseCase;
+import org.springframework.kafka.config.KafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistrar;
+import org.springframework.kafka.config.MethodKafkaListenerEndpoint;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportRetryEventListenerTest {
+
+    @Mock
+    private ObjectMapper mapper;
+
+    @Mock
+    private ReportGenerationUseCase reportGenerationUseCase;
+
+    @Mock
+    private ReportRetryTopics reportRetryTopics;
+
+    @Mock
+    private Acknowledgment ack;
+
+    @InjectMocks
+    private ReportRetryEventListener listener;
+
+    private ConsumerRecord<String, HashMap<String, Object>> record;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(listener, "cargoReportsFormat", "cargo-%d-%s.pdf");
+        HashMap<String, Object> message = new HashMap<>();
+        message.put("cargoId", 5);
+        record = new ConsumerRecord<>("cargo-reports-data-retry-0", 0, 0L, "5", message);
+    }
+
+    @Test
+    void retryCargoReport_NotDueYet_NacksWithRemainingDelay() {
+        // Given
+        when(reportRetryTopics.remainingDelay(record)).thenReturn(Duration.ofSeconds(4));
+
+        // When
+        listener.retryCargoReport(record, ack);
+
+        // Then
+        verify(ack).nack(Duration.ofSeconds(4));
+        verify(ack, never()).acknowledge();
+        verify(reportGenerationUseCase, never()).generateCargoReport(any(), any());
+    }
+
+    @Test
+    void retryCargoReport_Due_GeneratesAndAcknowledges() {
+        // Given
+        CargoReportDataDTO reportData = new CargoReportDataDTO(1L, 2L, 5L, 10, null, null, null, 3L);
+        when(reportRetryTopics.remainingDelay(record)).thenReturn(Duration.ZERO);
+        when(mapper.convertValue(record.value(), CargoReportDataDTO.class)).thenReturn(reportData);
+
+        // When
+        listener.retryCargoReport(record, ack);
+
+        // Then
+        verify(reportGenerationUseCase).generateCargoReport(reportData, "cargo-%d-%s.pdf");
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void configureKafkaListeners_RegistersOneContainerPerRetryTopic() {
+        // Given
+        KafkaListenerContainerFactory<?> factory = mock(KafkaListenerContainerFactory.class);
+        ReflectionTestUtils.setField(listener, "retryContainerFactory", factory);
+        KafkaListenerEndpointRegistrar registrar = mock(KafkaListenerEndpointRegistrar.class);
+        ReportRetryTopics topics = new ReportRetryTopics(2, Duration.ofSeconds(10), 3);
+        for (ReportType type : ReportType.values()) {
+            when(reportRetryTopics.mainTopic(type)).thenReturn(topics.mainTopic(type));
+        }
+        when(reportRetryTopics.retryTopics(anyString()))
+                .thenAnswer(invocation -> topics.retryTopics(invocation.getArgument(0)));
+        ArgumentCaptor<MethodKafkaListenerEndpoint<String, HashMap<String, Object>>> endpoints =
+                ArgumentCaptor.forClass(MethodKafkaListenerEndpoint.class);
+
+        // When
+        listener.configureKafkaListeners(registrar);
+
+        // Then
+        verify(registrar, times(6)).registerEndpoint(endpoints.capture(), same(factory));
+        List<String> registeredTopics = endpoints.getAllValues().stream()
+                .map(endpoint -> String.join(",", endpoint.getTopics()))
+                .toList();
+        assertEquals(List.of(
+                "mission-reports-data-retry-0", "mission-reports-data-retry-1",
+                "user-reports-data-retry-0", "user-reports-data-retry-1",
+                "cargo-reports-data-retry-0", "cargo-reports-data-retry-1"), registeredTopics);
+        assertEquals(6, endpoints.getAllValues().stream().map(MethodKafkaListenerEndpoint::getId).distinct().count());
+        assertEquals("retryUserReport", endpoints.getAllValues().get(2).getMethod().getName());
+    }
+}
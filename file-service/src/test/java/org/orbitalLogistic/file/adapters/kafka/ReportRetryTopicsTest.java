@@ -0,0 +1,131 @@
+package org.orbitalLogistic.file.adapters.kafka;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orbitalLogistic.file.application.model.ReportType;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportRetryTopicsTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T10:00:00Z");
+    private static final RuntimeException FAILURE = new RuntimeException("Template not found");
+
+    private ReportRetryTopics retryTopics;
+
+    @BeforeEach
+    void setUp() {
+        retryTopics = new ReportRetryTopics(3, Duration.ofSeconds(10), 3, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void retryTopics_OnePerAttempt() {
+        assertArrayEquals(new String[]{"cargo-reports-data-retry-0", "cargo-reports-data-retry-1",
+                        "cargo-reports-data-retry-2"},
+                retryTopics.retryTopics("cargo-reports-data"));
+    }
+
+    @Test
+    void newTopics_RetryAndDeadLetterTopicsOfEveryStream() {
+        assertEquals(12, retryTopics.newTopics().size());
+        assertTrue(retryTopics.newTopics().stream().map(NewTopic::name)
+                .anyMatch("user-reports-data-dlt"::equals));
+    }
+
+    @Test
+    void destination_FailedOnMainTopic_FirstRetryTopicKeyedPartitioning() {
+        // When
+        TopicPartition destination = retryTopics.destination(record("mission-reports-data"), FAILURE);
+
+        // Then
+        assertEquals("mission-reports-data-retry-0", destination.topic());
+        assertEquals(-1, destination.partition());
+    }
+
+    @Test
+    void destination_FailedOnRetryTopic_NextRetryTopic() {
+        TopicPartition destination = retryTopics.destination(record("mission-reports-data-retry-1"), FAILURE);
+
+        assertEquals("mission-reports-data-retry-2", destination.topic());
+    }
+
+    @Test
+    void destination_FailedOnLastRetryTopic_DeadLetterTopic() {
+        TopicPartition destination = retryTopics.destination(record("mission-reports-data-retry-2"), FAILURE);
+
+        assertEquals("mission-reports-data-dlt", destination.topic());
+    }
+
+    @Test
+    void destination_NotDeserializable_DeadLetterTopicAtOnce() {
+        // Given
+        ConsumerRecord<String, Object> record = record("mission-reports-data");
+        record.headers().add(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, new byte[0]);
+
+        // When
+        TopicPartition destination = retryTopics.destination(record, FAILURE);
+
+        // Then
+        assertEquals("mission-reports-data-dlt", destination.topic());
+    }
+
+    @Test
+    void delay_GrowsExponentially() {
+        assertEquals(Duration.ofSeconds(10), retryTopics.delay(0));
+        assertEquals(Duration.ofSeconds(30), retryTopics.delay(1));
+        assertEquals(Duration.ofSeconds(90), retryTopics.delay(2));
+    }
+
+    @Test
+    void remainingDelay_StampedByRecoverer_DelayOfNextLevel() {
+        // Given
+        Headers headers = retryTopics.dueAtHeaders(record("cargo-reports-data-retry-0"), FAILURE);
+        ConsumerRecord<String, Object> retried = record("cargo-reports-data-retry-1");
+        headers.forEach(header -> retried.headers().add(header));
+
+        // When
+        Duration remaining = retryTopics.remainingDelay(retried);
+
+        // Then
+        assertEquals(Duration.ofSeconds(30), remaining);
+    }
+
+    @Test
+    void remainingDelay_PastDueOrWithoutHeader_Zero() {
+        ReportRetryTopics later = new ReportRetryTopics(3, Duration.ofSeconds(10), 3,
+                Clock.fixed(NOW.plusSeconds(60), ZoneOffset.UTC));
+        ConsumerRecord<String, Object> retried = record("cargo-reports-data-retry-0");
+        retryTopics.dueAtHeaders(record("cargo-reports-data"), FAILURE)
+                .forEach(header -> retried.headers().add(header));
+
+        assertEquals(Duration.ZERO, later.remainingDelay(retried));
+        assertEquals(Duration.ZERO, retryTopics.remainingDelay(record("cargo-reports-data-retry-0")));
+    }
+
+    @Test
+    void dueAtHeaders_NextIsDeadLetterTopic_NoHeader() {
+        Headers headers = retryTopics.dueAtHeaders(record("cargo-reports-data-retry-2"), FAILURE);
+
+        assertNull(headers.lastHeader(ReportRetryTopics.DUE_AT_HEADER));
+    }
+
+    @Test
+    void topics_ByReportType() {
+        assertEquals("user-reports-data", retryTopics.mainTopic(ReportType.USER));
+        assertEquals("user-reports-data-dlt", retryTopics.dltTopic(ReportType.USER));
+    }
+
+    private static ConsumerRecord<String, Object> record(String topic) {
+        return new ConsumerRecord<>(topic, 0, 0L, "CARGO-1", null);
+    }
+}
@@ -3,16 +3,19 @@ package org.orbitalLogistic.file.adapters.reports;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.orbitalLogistic.file.adapters.kafka.dto.MissionReportDataDTO;
 import org.orbitalLogistic.file.application.model.FileCategory;
+import org.orbitalLogistic.file.application.model.ReportType;
 import org.orbitalLogistic.file.application.ports.StorageOperations;
 import org.orbitalLogistic.file.application.ports.dto.FileDto;
+import org.orbitalLogistic.file.application.ports.dto.FileMetadata;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,13 +28,16 @@ class PdfReportGeneratorImplTest {
     @Mock
     private StorageOperations storageOperations;
 
-    @InjectMocks
     private PdfReportGeneratorImpl pdfReportGenerator;
 
     private MissionReportDataDTO testReportData;
 
     @BeforeEach
     void setUp() {
+        pdfReportGenerator = new PdfReportGeneratorImpl(
+                new ReportTemplateCache(storageOperations, Duration.ofMinutes(1)));
+        lenient().when(storageOperations.stat(any(FileCategory.class), anyString()))
+                .thenReturn(new FileMetadata("etag-1", 0, Instant.EPOCH, "application/pdf"));
         testReportData = new MissionReportDataDTO(
                 "MISS-001",
                 "Mars Exploration",
@@ -84,6 +90,20 @@ class PdfReportGeneratorImplTest {
         );
     }
 
+    @Test
+    void shouldReturnEtagOfCargoTemplateAsTemplateVersion() {
+        
+        when(storageOperations.download(FileCategory.USER, "reports/Cargo report.pdf"))
+                .thenReturn(new FileDto("Cargo report.pdf", new ByteArrayInputStream(createMockPdfTemplate())));
+
+        
+        String version = pdfReportGenerator.templateVersion(ReportType.CARGO);
+
+        
+        assertEquals("etag-1", version);
+        verify(storageOperations).stat(FileCategory.USER, "reports/Cargo report.pdf");
+    }
+
     @Test
     void shouldThrowRuntimeExceptionWhenTemplateDownloadFails() {
         
@@ -291,6 +311,23 @@ class PdfReportGeneratorImplTest {
                 .download(any(FileCategory.class), anyString());
     }
 
+    @Test
+    void shouldReuseCachedTemplateForSubsequentReports() {
+        // Given
+        when(storageOperations.download(any(FileCategory.class), anyString()))
+                .thenReturn(new FileDto("Mission report.pdf", new ByteArrayInputStream(createMockPdfTemplate())));
+
+        // When
+        byte[] first = pdfReportGenerator.generate(testReportData);
+        byte[] second = pdfReportGenerator.generate(testReportData);
+
+        // Then
+        assertTrue(first.length > 0);
+        assertTrue(second.length > 0);
+        verify(storageOperations, times(1))
+                .download(eq(FileCategory.USER), eq("reports/Mission report.pdf"));
+    }
+
     
     private byte[] createMockPdfTemplate() {
         
@@ -0,0 +1,237 @@
+package org.orbitalLogistic.file.adapters.reports;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openpdf.text.pdf.BaseFont;
+import org.orbitalLogistic.file.application.model.FileCategory;
+import org.orbitalLogistic.file.application.ports.StorageOperations;
+import org.orbitalLogistic.file.application.ports.dto.FileDto;
+import org.orbitalLogistic.file.application.ports.dto.FileMetadata;
+import org.orbitalLogistic.file.domain.exceptions.FileNotFoundException;
+import org.orbitalLogistic.file.domain.exceptions.StorageTechnicalException;
+
+import java.io.ByteArrayInputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportTemplateCacheTest {
+
+    private static final String PATH = "reports/Mission report.pdf";
+
+    @Mock
+    private StorageOperations storageOperations;
+
+    private MutableClock clock;
+    private ReportTemplateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-06-01T10:00:00Z"));
+        cache = new ReportTemplateCache(storageOperations, Duration.ofMinutes(1), clock);
+    }
+
+    @Test
+    void template_RepeatedWithinRevalidationWindow_TouchesStorageOnce() {
+        // Given
+        stubStat("etag-1");
+        stubDownload("v1");
+
+        // When
+        byte[] first = cache.template(PATH);
+        clock.advance(Duration.ofSeconds(30));
+        byte[] second = cache.template(PATH);
+
+        // Then
+        assertArrayEquals("v1".getBytes(), first);
+        assertSame(first, second);
+        verify(storageOperations, times(1)).stat(FileCategory.USER, PATH);
+        verify(storageOperations, times(1)).download(FileCategory.USER, PATH);
+    }
+
+    @Test
+    void template_UnchangedEtagAfterWindow_DoesNotDownloadAgain() {
+        // Given
+        stubStat("etag-1");
+        stubDownload("v1");
+        cache.template(PATH);
+
+        // When
+        clock.advance(Duration.ofMinutes(2));
+        byte[] result = cache.template(PATH);
+
+        // Then
+        assertArrayEquals("v1".getBytes(), result);
+        verify(storageOperations, times(2)).stat(FileCategory.USER, PATH);
+        verify(storageOperations, times(1)).download(FileCategory.USER, PATH);
+    }
+
+    @Test
+    void template_ChangedEtagAfterWindow_DownloadsNewVersion() {
+        // Given
+        when(storageOperations.stat(FileCategory.USER, PATH))
+                .thenReturn(metadata("etag-1"), metadata("etag-2"));
+        when(storageOperations.download(FileCategory.USER, PATH))
+                .thenReturn(file("v1"), file("v2"));
+        cache.template(PATH);
+
+        // When
+        clock.advance(Duration.ofMinutes(2));
+        byte[] result = cache.template(PATH);
+
+        // Then
+        assertArrayEquals("v2".getBytes(), result);
+        verify(storageOperations, times(2)).download(FileCategory.USER, PATH);
+    }
+
+    @Test
+    void template_AfterEvict_DownloadsAgain() {
+        // Given
+        when(storageOperations.stat(FileCategory.USER, PATH))
+                .thenReturn(metadata("etag-1"), metadata("etag-2"));
+        when(storageOperations.download(FileCategory.USER, PATH))
+                .thenReturn(file("v1"), file("v2"));
+        cache.template(PATH);
+
+        // When
+        cache.evict(FileCategory.USER, PATH);
+        byte[] result = cache.template(PATH);
+
+        // Then
+        assertArrayEquals("v2".getBytes(), result);
+    }
+
+    @Test
+    void evict_OtherCategory_KeepsTemplate() {
+        // Given
+        stubStat("etag-1");
+        stubDownload("v1");
+        cache.template(PATH);
+
+        // When
+        cache.evict(FileCategory.DEFAULT, PATH);
+        cache.template(PATH);
+
+        // Then
+        verify(storageOperations, times(1)).download(FileCategory.USER, PATH);
+    }
+
+    @Test
+    void template_StorageUnavailableOnRevalidation_ServesCachedCopy() {
+        // Given
+        when(storageOperations.stat(FileCategory.USER, PATH))
+                .thenReturn(metadata("etag-1"))
+                .thenThrow(new StorageTechnicalException(new RuntimeException("Connection error")));
+        stubDownload("v1");
+        cache.template(PATH);
+
+        // When
+        clock.advance(Duration.ofMinutes(2));
+        byte[] result = cache.template(PATH);
+
+        // Then
+        assertArrayEquals("v1".getBytes(), result);
+    }
+
+    @Test
+    void template_RemovedFromStorage_ThrowsFileNotFound() {
+        // Given
+        when(storageOperations.stat(FileCategory.USER, PATH))
+                .thenReturn(metadata("etag-1"))
+                .thenThrow(new FileNotFoundException(PATH));
+        stubDownload("v1");
+        cache.template(PATH);
+
+        // When
+        clock.advance(Duration.ofMinutes(2));
+
+        // Then
+        assertThrows(FileNotFoundException.class, () -> cache.template(PATH));
+    }
+
+    @Test
+    void version_FollowsTemplateEtag() {
+        // Given
+        when(storageOperations.stat(FileCategory.USER, PATH))
+                .thenReturn(metadata("etag-1"), metadata("etag-2"));
+        when(storageOperations.download(FileCategory.USER, PATH))
+                .thenReturn(file("v1"), file("v2"));
+
+        // When
+        String first = cache.version(PATH);
+        clock.advance(Duration.ofMinutes(2));
+        String second = cache.version(PATH);
+
+        // Then
+        assertEquals("etag-1", first);
+        assertEquals("etag-2", second);
+        assertArrayEquals("v2".getBytes(), cache.template(PATH));
+    }
+
+    @Test
+    void font_LoadedFromClasspathOnce() {
+        BaseFont first = cache.font("DejaVuSans");
+        BaseFont second = cache.font("DejaVuSans");
+
+        assertNotNull(first);
+        assertSame(first, second);
+    }
+
+    @Test
+    void font_Missing_ThrowsIllegalState() {
+        assertThrows(IllegalStateException.class, () -> cache.font("NoSuchFont"));
+    }
+
+    private void stubStat(String etag) {
+        when(storageOperations.stat(FileCategory.USER, PATH)).thenReturn(metadata(etag));
+    }
+
+    private void stubDownload(String content) {
+        when(storageOperations.download(FileCategory.USER, PATH)).thenReturn(file(content));
+    }
+
+    private static FileMetadata metadata(String etag) {
+        return new FileMetadata(etag, 2, Instant.EPOCH, "application/pdf");
+    }
+
+    private static FileDto file(String content) {
+        return new FileDto("Mission report.pdf", new ByteArrayInputStream(content.getBytes()));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package org.orbitalLogistic.file.adapters.security;
 
-import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.jwt.VerifiedToken;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -19,6 +20,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -53,9 +55,7 @@ class JwtAuthenticationFilterTest {
         
         when(request.getRequestURI()).thenReturn("/api/files/upload");
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(authHeader);
-        when(jwtService.getSubjectFromToken(token)).thenReturn("testuser");
-        doReturn(Arrays.asList("USER", "ADMIN")).when(jwtService).getRolesFromToken(token);
-        when(jwtService.getUserIdFromToken(token)).thenReturn(123L);
+        when(jwtService.verify(token)).thenReturn(Optional.of(verifiedToken("testuser", 123L, Arrays.asList("USER", "ADMIN"))));
 
         
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -87,7 +87,7 @@ class JwtAuthenticationFilterTest {
         
         assertNull(SecurityContextHolder.getContext().getAuthentication());
         verify(filterChain).doFilter(request, response);
-        verify(jwtService, never()).getSubjectFromToken(anyString());
+        verify(jwtService, never()).verify(anyString());
     }
 
     @Test
@@ -101,7 +101,7 @@ class JwtAuthenticationFilterTest {
         
         assertNull(SecurityContextHolder.getContext().getAuthentication());
         verify(filterChain).doFilter(request, response);
-        verify(jwtService, never()).getSubjectFromToken(anyString());
+        verify(jwtService, never()).verify(anyString());
     }
 
     @Test
@@ -111,7 +111,7 @@ class JwtAuthenticationFilterTest {
         
         when(request.getRequestURI()).thenReturn("/api/files/upload");
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(authHeader);
-        when(jwtService.getSubjectFromToken(token)).thenThrow(new ExpiredJwtException(null, null, "Token expired"));
+        when(jwtService.verify(token)).thenReturn(Optional.empty());
 
         
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -128,7 +128,7 @@ class JwtAuthenticationFilterTest {
         
         when(request.getRequestURI()).thenReturn("/api/files/upload");
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(authHeader);
-        when(jwtService.getSubjectFromToken(token)).thenThrow(new RuntimeException("Invalid token"));
+        when(jwtService.verify(token)).thenThrow(new RuntimeException("Invalid token"));
 
         
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -148,9 +148,7 @@ class JwtAuthenticationFilterTest {
         
         when(request.getRequestURI()).thenReturn("/api/files/get-files-list");
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(authHeader);
-        when(jwtService.getSubjectFromToken(token)).thenReturn(username);
-        doReturn(roles).when(jwtService).getRolesFromToken(token);
-        when(jwtService.getUserIdFromToken(token)).thenReturn(userId);
+        when(jwtService.verify(token)).thenReturn(Optional.of(verifiedToken(username, userId, roles)));
 
         
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -174,9 +172,7 @@ class JwtAuthenticationFilterTest {
         
         when(request.getRequestURI()).thenReturn("/api/files/upload");
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(authHeader);
-        when(jwtService.getSubjectFromToken(token)).thenReturn("rental-service");
-        doReturn(Arrays.asList("OPERATOR")).when(jwtService).getRolesFromToken(token);
-        when(jwtService.getUserIdFromToken(token)).thenReturn(-1L);
+        when(jwtService.verify(token)).thenReturn(Optional.of(verifiedToken("rental-service", -1L, Arrays.asList("OPERATOR"))));
 
         
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -201,9 +197,7 @@ class JwtAuthenticationFilterTest {
         
         when(request.getRequestURI()).thenReturn("/api/files/remove-file");
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(authHeader);
-        when(jwtService.getSubjectFromToken(token)).thenReturn("superuser");
-        doReturn(roles).when(jwtService).getRolesFromToken(token);
-        when(jwtService.getUserIdFromToken(token)).thenReturn(1L);
+        when(jwtService.verify(token)).thenReturn(Optional.of(verifiedToken("superuser", 1L, roles)));
 
         
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -226,15 +220,13 @@ class JwtAuthenticationFilterTest {
         
         when(request.getRequestURI()).thenReturn("/api/files/upload");
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(authHeader);
-        when(jwtService.getSubjectFromToken(expectedToken)).thenReturn("testuser");
-        doReturn(Arrays.asList("USER")).when(jwtService).getRolesFromToken(expectedToken);
-        when(jwtService.getUserIdFromToken(expectedToken)).thenReturn(1L);
+        when(jwtService.verify(expectedToken)).thenReturn(Optional.of(verifiedToken("testuser", 1L, Arrays.asList("USER"))));
 
         
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         
-        verify(jwtService).getSubjectFromToken(expectedToken);
+        verify(jwtService).verify(expectedToken);
         verify(filterChain).doFilter(request, response);
     }
 
@@ -245,8 +237,7 @@ class JwtAuthenticationFilterTest {
         
         when(request.getRequestURI()).thenReturn("/api/files/upload");
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(authHeader);
-        when(jwtService.getSubjectFromToken(token))
-                .thenThrow(new IllegalArgumentException("Malformed token"));
+        when(jwtService.verify(token)).thenReturn(Optional.empty());
 
         
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -269,6 +260,12 @@ class JwtAuthenticationFilterTest {
         
         verify(filterChain).doFilter(request, response);
     }
-}
-
 
+    private static VerifiedToken verifiedToken(String username, Long userId, List<?> roles) {
+        return VerifiedToken.from(Jwts.claims()
+                .subject(username)
+                .add("userId", userId)
+                .add("roles", roles)
+                .build());
+    }
+}
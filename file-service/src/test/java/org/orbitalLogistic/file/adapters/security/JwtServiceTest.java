@@ -5,7 +5,7 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.orbitalLogistic.jwt.JwtVerifier;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
@@ -20,9 +20,8 @@ class JwtServiceTest {
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService();
         secretKey = "dGhpc2lzYXZlcnlzZWNyZXRrZXl0aGF0aXNsb25nZW5vdWdoZm9ySFMyNTY=";
-        ReflectionTestUtils.setField(jwtService, "jwtSecret", secretKey);
+        jwtService = new JwtService(new JwtVerifier(secretKey), secretKey);
 
         byte[] keyBytes = java.util.Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(keyBytes);
@@ -2,14 +2,20 @@ package org.orbitalLogistic.file.adapters.web.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
+import org.orbitalLogistic.file.adapters.reports.ReportTemplateCache;
 import org.orbitalLogistic.file.adapters.security.JwtAuthenticationFilter;
 import org.orbitalLogistic.file.adapters.security.JwtService;
 import org.orbitalLogistic.file.adapters.security.SecurityConfig;
 import org.orbitalLogistic.file.adapters.security.UserPrincipal;
 import org.orbitalLogistic.file.application.model.FileCategory;
+import org.orbitalLogistic.file.application.model.ReportType;
 import org.orbitalLogistic.file.application.ports.dto.FileDto;
+import org.orbitalLogistic.file.application.ports.dto.FileEntry;
+import org.orbitalLogistic.file.application.ports.dto.FileListPage;
+import org.orbitalLogistic.file.application.ports.dto.FileMetadata;
 import org.orbitalLogistic.file.application.usecase.DownloadUserFilesUseCase;
 import org.orbitalLogistic.file.application.usecase.GetReportsUserUseCase;
+import org.orbitalLogistic.file.application.usecase.ReplayReportDeadLettersUseCase;
 import org.orbitalLogistic.file.application.usecase.StorageOperationsUseCase;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -23,11 +29,14 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -37,7 +46,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = FileController.class)
-@Import({SecurityConfig.class, FileControllerTest.TestSecurityConfig.class})
+@Import({SecurityConfig.class, FileDownloadResponder.class, FileControllerTest.TestSecurityConfig.class})
 @TestPropertySource(properties = {
         "minio.formats.mission-reports=mission-%d-%s.pdf",
         "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
@@ -45,6 +54,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 })
 class FileControllerTest {
 
+    private static final String ETAG = "\"abc\"";
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -60,6 +71,12 @@ class FileControllerTest {
     @MockitoBean
     private StorageOperationsUseCase storageOperationsUseCase;
 
+    @MockitoBean
+    private ReplayReportDeadLettersUseCase replayReportDeadLettersUseCase;
+
+    @MockitoBean
+    private ReportTemplateCache reportTemplateCache;
+
     @MockitoBean
     private JwtService jwtService;
 
@@ -110,6 +127,10 @@ class FileControllerTest {
         UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
                 userPrincipal, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
 
+        when(downloadUserFilesUseCase.reportPath(any(), any(), any()))
+                .thenReturn("mission-1-ABC123.pdf");
+        when(storageOperationsUseCase.stat(FileCategory.USER, "mission-1-ABC123.pdf"))
+                .thenReturn(metadata(pdfContent.length));
         when(downloadUserFilesUseCase.execute(any(), any(), any()))
                 .thenReturn(fileDto);
 
@@ -122,6 +143,9 @@ class FileControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(header().string("Content-disposition",
                         "attachment; filename=\"mission-1-ABC123.pdf\""))
+                .andExpect(header().string("Content-Length", String.valueOf(pdfContent.length)))
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(header().string("Accept-Ranges", "bytes"))
                 .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM));
 
         verify(downloadUserFilesUseCase, times(1))
@@ -176,6 +200,75 @@ class FileControllerTest {
                 .getListDir(eq(FileCategory.DEFAULT), eq(""));
     }
 
+    @Test
+    void shouldGetFilesPageForSupportRole() throws Exception {
+        // Given
+        UserPrincipal userPrincipal = new UserPrincipal(2L, "support1", List.of("SUPPORT"));
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                userPrincipal, null, List.of(new SimpleGrantedAuthority("ROLE_SUPPORT")));
+        FileListPage page = new FileListPage(List.of(
+                new FileEntry("a.pdf", 10L, Instant.parse("2024-06-01T10:00:00Z"), false)), "reports/a.pdf");
+        when(storageOperationsUseCase.listDir(FileCategory.USER, "reports/", "reports/0.pdf", 1))
+                .thenReturn(page);
+
+        // When / Then
+        mockMvc.perform(get("/api/files/get-files-page")
+                        .with(authentication(auth))
+                        .param("path", "reports/")
+                        .param("category", "USER")
+                        .param("startAfter", "reports/0.pdf")
+                        .param("maxKeys", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries[0].name").value("a.pdf"))
+                .andExpect(jsonPath("$.entries[0].size").value(10))
+                .andExpect(jsonPath("$.entries[0].lastModified").value("2024-06-01T10:00:00Z"))
+                .andExpect(jsonPath("$.nextToken").value("reports/a.pdf"));
+    }
+
+    @Test
+    void shouldRejectFilesPageLargerThanStorageLimit() throws Exception {
+        // Given
+        UserPrincipal userPrincipal = new UserPrincipal(2L, "support1", List.of("SUPPORT"));
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                userPrincipal, null, List.of(new SimpleGrantedAuthority("ROLE_SUPPORT")));
+
+        // When / Then
+        mockMvc.perform(get("/api/files/get-files-page")
+                        .with(authentication(auth))
+                        .param("maxKeys", "5000"))
+                .andExpect(status().isBadRequest());
+
+        verify(storageOperationsUseCase, never()).listDir(any(), anyString(), any(), anyInt());
+    }
+
+    @Test
+    void shouldStreamReportsListAsNdjson() throws Exception {
+        // Given
+        UserPrincipal userPrincipal = new UserPrincipal(1L, "user1", List.of("USER"));
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                userPrincipal, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        doAnswer(invocation -> {
+            Consumer<FileEntry> consumer = invocation.getArgument(2);
+            consumer.accept(new FileEntry("a.pdf", 10L, Instant.parse("2024-06-01T10:00:00Z"), false));
+            consumer.accept(new FileEntry("b.pdf", 20L, Instant.parse("2024-06-02T10:00:00Z"), false));
+            return null;
+        }).when(getReportsUserUseCase).stream(anyString(), eq(1L), any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/files/stream-reports-list")
+                        .with(authentication(auth)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"name\":\"a.pdf\",\"size\":10,\"lastModified\":\"2024-06-01T10:00:00Z\",\"directory\":false}\n" +
+                        "{\"name\":\"b.pdf\",\"size\":20,\"lastModified\":\"2024-06-02T10:00:00Z\",\"directory\":false}\n"));
+    }
+
     @Test
     void shouldReturn403WhenUserTriesToAccessSupportEndpoints() throws Exception {
         
@@ -204,6 +297,8 @@ class FileControllerTest {
         InputStream inputStream = new ByteArrayInputStream(content);
         FileDto fileDto = new FileDto("test.pdf", inputStream);
 
+        when(storageOperationsUseCase.stat(FileCategory.USER, "reports/test.pdf"))
+                .thenReturn(metadata(content.length));
         when(storageOperationsUseCase.download(any(FileCategory.class), anyString()))
                 .thenReturn(fileDto);
 
@@ -223,6 +318,72 @@ class FileControllerTest {
 
     
 
+    @Test
+    void shouldReturn304WhenReportEtagMatches() throws Exception {
+        // Given
+        UserPrincipal userPrincipal = new UserPrincipal(1L, "user1", List.of("USER"));
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                userPrincipal, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        when(downloadUserFilesUseCase.reportPath(any(), any(), any()))
+                .thenReturn("mission-1-ABC123.pdf");
+        when(storageOperationsUseCase.stat(FileCategory.USER, "mission-1-ABC123.pdf"))
+                .thenReturn(metadata(11));
+
+        // When / Then
+        mockMvc.perform(post("/api/files/download-report")
+                        .with(authentication(auth))
+                        .with(csrf())
+                        .header("If-None-Match", ETAG)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("\"ABC123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", ETAG));
+
+        verify(downloadUserFilesUseCase, never()).execute(any(), any(), any());
+    }
+
+    @Test
+    void shouldDownloadFileRangeForSupportRole() throws Exception {
+        // Given
+        UserPrincipal userPrincipal = new UserPrincipal(2L, "support1", List.of("SUPPORT"));
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                userPrincipal, null, List.of(new SimpleGrantedAuthority("ROLE_SUPPORT")));
+        when(storageOperationsUseCase.stat(FileCategory.DEFAULT, "reports/test.pdf"))
+                .thenReturn(metadata(100));
+        when(storageOperationsUseCase.download(eq(FileCategory.DEFAULT), eq("reports/test.pdf"), eq(10L), eq(10L), anyString()))
+                .thenReturn(new FileDto("test.pdf", new ByteArrayInputStream("0123456789".getBytes())));
+
+        // When / Then
+        mockMvc.perform(get("/api/files/download-file")
+                        .with(authentication(auth))
+                        .header("Range", "bytes=10-19")
+                        .param("path", "reports/test.pdf"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 10-19/100"))
+                .andExpect(header().string("Content-Length", "10"))
+                .andExpect(content().bytes("0123456789".getBytes()));
+
+        verify(storageOperationsUseCase, never()).download(any(FileCategory.class), anyString());
+    }
+
+    @Test
+    void shouldReturn416ForRangeBeyondFile() throws Exception {
+        // Given
+        UserPrincipal userPrincipal = new UserPrincipal(2L, "support1", List.of("SUPPORT"));
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                userPrincipal, null, List.of(new SimpleGrantedAuthority("ROLE_SUPPORT")));
+        when(storageOperationsUseCase.stat(FileCategory.DEFAULT, "reports/test.pdf"))
+                .thenReturn(metadata(100));
+
+        // When / Then
+        mockMvc.perform(get("/api/files/download-file")
+                        .with(authentication(auth))
+                        .header("Range", "bytes=200-")
+                        .param("path", "reports/test.pdf"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */100"));
+    }
+
     @Test
     void shouldUploadFileForAdminRole() throws Exception {
         
@@ -253,6 +414,7 @@ class FileControllerTest {
         verify(storageOperationsUseCase, times(1))
                 .upload(eq(FileCategory.USER), eq("reports/test.pdf"),
                         any(InputStream.class), eq(11L), eq("application/pdf"));
+        verify(reportTemplateCache).evict(FileCategory.USER, "reports/test.pdf");
     }
 
     @Test
@@ -354,6 +516,7 @@ class FileControllerTest {
 
         verify(storageOperationsUseCase, times(1))
                 .remove(eq(FileCategory.USER), eq("reports/test.pdf"));
+        verify(reportTemplateCache).evict(FileCategory.USER, "reports/test.pdf");
     }
 
     @Test
@@ -395,6 +558,46 @@ class FileControllerTest {
                 .getListDir(eq(FileCategory.DEFAULT), eq("test/"));
     }
 
+    @Test
+    void shouldReplayFailedReportsForAdminRole() throws Exception {
+
+        UserPrincipal userPrincipal = new UserPrincipal(3L, "admin1", List.of("ADMIN"));
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                userPrincipal, null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+        when(replayReportDeadLettersUseCase.execute(ReportType.MISSION, 20)).thenReturn(3);
+
+
+        mockMvc.perform(post("/api/files/replay-failed-reports")
+                        .param("type", "MISSION")
+                        .param("maxEvents", "20")
+                        .with(authentication(auth))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(content().string("3"));
+    }
+
+    @Test
+    void shouldReturn403WhenSupportTriesToReplayFailedReports() throws Exception {
+
+        UserPrincipal userPrincipal = new UserPrincipal(2L, "support1", List.of("SUPPORT"));
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                userPrincipal, null, List.of(new SimpleGrantedAuthority("ROLE_SUPPORT")));
+
+
+        mockMvc.perform(post("/api/files/replay-failed-reports")
+                        .param("type", "MISSION")
+                        .with(authentication(auth))
+                        .with(csrf()))
+                .andExpect(status().isForbidden());
+
+        verify(replayReportDeadLettersUseCase, never()).execute(any(), anyInt());
+    }
+
+    private static FileMetadata metadata(long size) {
+        return new FileMetadata("abc", size, Instant.parse("2024-06-01T10:00:00Z"), "application/pdf");
+    }
+
     @TestConfiguration
     static class TestSecurityConfig {
         @Bean
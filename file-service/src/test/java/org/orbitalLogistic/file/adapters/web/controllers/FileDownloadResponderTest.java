@@ -0,0 +1,248 @@
+package org.orbitalLogistic.file.adapters.web.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.file.application.model.FileCategory;
+import org.orbitalLogistic.file.application.ports.dto.FileDto;
+import org.orbitalLogistic.file.application.ports.dto.FileMetadata;
+import org.orbitalLogistic.file.application.usecase.StorageOperationsUseCase;
+import org.orbitalLogistic.file.domain.exceptions.FileChangedException;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileDownloadResponderTest {
+
+    private static final String PATH = "reports/test.pdf";
+    private static final Instant LAST_MODIFIED = Instant.parse("2024-06-01T10:00:00.250Z");
+
+    @Mock
+    private StorageOperationsUseCase storageOperationsUseCase;
+
+    private FileDownloadResponder responder;
+    private AtomicInteger fullDownloads;
+    private Supplier<FileDto> fullDownload;
+
+    @BeforeEach
+    void setUp() {
+        responder = new FileDownloadResponder(storageOperationsUseCase);
+        fullDownloads = new AtomicInteger();
+        fullDownload = () -> {
+            fullDownloads.incrementAndGet();
+            return file();
+        };
+        when(storageOperationsUseCase.stat(FileCategory.DEFAULT, PATH))
+                .thenReturn(new FileMetadata("abc", 100, LAST_MODIFIED, "application/pdf"));
+    }
+
+    @Test
+    void respond_NoConditions_ServesWholeFileWithValidators() {
+        // When
+        ResponseEntity<InputStreamResource> response = respond(new HttpHeaders());
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"abc\"", response.getHeaders().getETag());
+        assertEquals(LAST_MODIFIED.toEpochMilli() / 1000 * 1000, response.getHeaders().getLastModified());
+        assertEquals("bytes", response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+        assertEquals(100, response.getHeaders().getContentLength());
+        assertEquals(1, fullDownloads.get());
+    }
+
+    @Test
+    void respond_WeakEtagMatches_NotModified() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch("W/\"abc\"");
+
+        // When
+        ResponseEntity<InputStreamResource> response = respond(headers);
+
+        // Then
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(0, fullDownloads.get());
+    }
+
+    @Test
+    void respond_ModifiedSinceLastModified_NotModified() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfModifiedSince(Instant.parse("2024-06-01T10:00:00Z"));
+
+        // When
+        ResponseEntity<InputStreamResource> response = respond(headers);
+
+        // Then
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(0, fullDownloads.get());
+    }
+
+    @Test
+    void respond_EtagDiffersButNotModifiedSince_ServesWholeFile() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch("\"old\"");
+        headers.setIfModifiedSince(Instant.parse("2024-06-02T00:00:00Z"));
+
+        // When
+        ResponseEntity<InputStreamResource> response = respond(headers);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, fullDownloads.get());
+    }
+
+    @Test
+    void respond_SeveralRanges_ServesOneCoveringRange() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=0-9, 50-59, -5");
+        when(storageOperationsUseCase.download(FileCategory.DEFAULT, PATH, 0, 100, "abc")).thenReturn(file());
+
+        // When
+        ResponseEntity<InputStreamResource> response = respond(headers);
+
+        // Then
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        assertEquals("bytes 0-99/100", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void respond_MalformedRange_NotSatisfiable() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "items=0-9");
+
+        // When
+        ResponseEntity<InputStreamResource> response = respond(headers);
+
+        // Then
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+        assertEquals("bytes */100", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        verify(storageOperationsUseCase, never()).download(any(), anyString(), anyLong(), anyLong(), anyString());
+    }
+
+    @Test
+    void respond_IfRangeMatchesEtag_ServesRange() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=90-");
+        headers.set(HttpHeaders.IF_RANGE, "\"abc\"");
+        when(storageOperationsUseCase.download(FileCategory.DEFAULT, PATH, 90, 10, "abc")).thenReturn(file());
+
+        // When
+        ResponseEntity<InputStreamResource> response = respond(headers);
+
+        // Then
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        assertEquals(10, response.getHeaders().getContentLength());
+    }
+
+    @Test
+    void respond_ObjectReplacedBeforeRangedRead_StatsAgainAndServesNewObject() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=0-9");
+        when(storageOperationsUseCase.stat(FileCategory.DEFAULT, PATH))
+                .thenReturn(new FileMetadata("abc", 100, LAST_MODIFIED, "application/pdf"))
+                .thenReturn(new FileMetadata("def", 50, LAST_MODIFIED, "application/pdf"));
+        when(storageOperationsUseCase.download(FileCategory.DEFAULT, PATH, 0, 10, "abc"))
+                .thenThrow(new FileChangedException(PATH));
+        when(storageOperationsUseCase.download(FileCategory.DEFAULT, PATH, 0, 10, "def")).thenReturn(file());
+
+        // When
+        ResponseEntity<InputStreamResource> response = respond(headers);
+
+        // Then
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        assertEquals("\"def\"", response.getHeaders().getETag());
+        assertEquals("bytes 0-9/50", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void respond_ObjectReplacedTwice_ThrowsFileChanged() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=0-9");
+        when(storageOperationsUseCase.download(FileCategory.DEFAULT, PATH, 0, 10, "abc"))
+                .thenThrow(new FileChangedException(PATH));
+
+        // When / Then
+        assertThrows(FileChangedException.class, () -> respond(headers));
+        verify(storageOperationsUseCase, times(2)).stat(FileCategory.DEFAULT, PATH);
+    }
+
+    @Test
+    void respond_IfRangeOutdated_ServesWholeFile() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=90-");
+        headers.set(HttpHeaders.IF_RANGE, "\"old\"");
+
+        // When
+        ResponseEntity<InputStreamResource> response = respond(headers);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, fullDownloads.get());
+        verify(storageOperationsUseCase, never()).download(any(), anyString(), anyLong(), anyLong(), anyString());
+    }
+
+    @Test
+    void respond_RedirectEnabledForLargeFile_RedirectsToPresignedUrl() {
+        // Given
+        ReflectionTestUtils.setField(responder, "redirectEnabled", true);
+        ReflectionTestUtils.setField(responder, "redirectMinSize", DataSize.ofBytes(50));
+        when(storageOperationsUseCase.presignedDownloadUrl(FileCategory.DEFAULT, PATH, Duration.ofMinutes(5)))
+                .thenReturn("https://files.example.com/default/reports/test.pdf?X-Amz-Signature=abc");
+
+        // When
+        ResponseEntity<InputStreamResource> response = respond(new HttpHeaders());
+
+        // Then
+        assertEquals(HttpStatus.TEMPORARY_REDIRECT, response.getStatusCode());
+        assertEquals(URI.create("https://files.example.com/default/reports/test.pdf?X-Amz-Signature=abc"),
+                response.getHeaders().getLocation());
+        assertEquals(0, fullDownloads.get());
+    }
+
+    @Test
+    void respond_RedirectEnabledForSmallFile_ServesWholeFile() {
+        // Given
+        ReflectionTestUtils.setField(responder, "redirectEnabled", true);
+
+        // When
+        ResponseEntity<InputStreamResource> response = respond(new HttpHeaders());
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(storageOperationsUseCase, never()).presignedDownloadUrl(any(), anyString(), any());
+    }
+
+    private ResponseEntity<InputStreamResource> respond(HttpHeaders headers) {
+        return responder.respond(FileCategory.DEFAULT, PATH, headers, fullDownload);
+    }
+
+    private static FileDto file() {
+        return new FileDto("test.pdf", new ByteArrayInputStream(new byte[0]));
+    }
+}
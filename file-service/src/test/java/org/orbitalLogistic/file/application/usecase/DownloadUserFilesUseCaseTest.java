@@ -46,4 +46,10 @@ class DownloadUserFilesUseCaseTest {
         verify(storageOperations).download(FileCategory.USER, expectedFilename);
     }
 
+    @Test
+    void reportPath_FormatsUserAndMission() {
+        String result = downloadUserFilesUseCase.reportPath(123L, "reports/%d/%s.pdf", "test");
+
+        assertEquals("reports/123/test.pdf", result);
+    }
 }
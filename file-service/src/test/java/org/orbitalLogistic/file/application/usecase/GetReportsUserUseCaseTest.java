@@ -7,7 +7,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.orbitalLogistic.file.application.model.FileCategory;
 import org.orbitalLogistic.file.application.ports.StorageOperations;
+import org.orbitalLogistic.file.application.ports.dto.FileEntry;
+import org.orbitalLogistic.file.application.ports.dto.FileListPage;
 
+import java.time.Instant;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -57,4 +60,19 @@ class GetReportsUserUseCaseTest {
         assertTrue(result.isEmpty());
         verify(storageOperations).getListDir(FileCategory.USER, parent);
     }
+
+    @Test
+    void page_ListsReportsDirectoryOfUser() {
+        String parent = "reports/123/";
+        FileListPage expected = new FileListPage(
+                List.of(new FileEntry("test1.pdf", 10L, Instant.EPOCH, false)), "reports/123/test1.pdf");
+
+        when(storageOperations.listDir(FileCategory.USER, parent, null, 1)).thenReturn(expected);
+
+        
+        FileListPage result = getReportsUserUseCase.page("reports/%d/%s.pdf", 123L, null, 1);
+
+        
+        assertSame(expected, result);
+    }
 }
@@ -0,0 +1,40 @@
+package org.orbitalLogistic.file.application.usecase;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.file.application.model.ReportType;
+import org.orbitalLogistic.file.application.ports.ReportDeadLetters;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplayReportDeadLettersUseCaseTest {
+
+    @Mock
+    private ReportDeadLetters reportDeadLetters;
+
+    @InjectMocks
+    private ReplayReportDeadLettersUseCase replayReportDeadLettersUseCase;
+
+    @Test
+    void execute_Success() {
+        when(reportDeadLetters.replay(ReportType.CARGO, 50)).thenReturn(7);
+
+        int result = replayReportDeadLettersUseCase.execute(ReportType.CARGO, 50);
+
+        assertEquals(7, result);
+    }
+
+    @Test
+    void execute_MaxEventsOutOfBounds_ThrowsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> replayReportDeadLettersUseCase.execute(ReportType.CARGO, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> replayReportDeadLettersUseCase.execute(ReportType.CARGO, 1001));
+        verify(reportDeadLetters, never()).replay(any(), anyInt());
+    }
+}
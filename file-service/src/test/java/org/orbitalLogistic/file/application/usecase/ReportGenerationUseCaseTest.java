@@ -8,12 +8,23 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.orbitalLogistic.file.adapters.exceptions.MinioException;
 import org.orbitalLogistic.file.adapters.kafka.dto.MissionReportDataDTO;
+import org.orbitalLogistic.file.adapters.kafka.dto.UserReportDataDTO;
 import org.orbitalLogistic.file.application.model.FileCategory;
+import org.orbitalLogistic.file.application.model.ReportType;
+import org.orbitalLogistic.file.application.ports.ContentWriter;
 import org.orbitalLogistic.file.application.ports.PdfReportGenerator;
 import org.orbitalLogistic.file.application.ports.StorageOperations;
+import org.orbitalLogistic.file.application.ports.dto.FileMetadata;
+import org.orbitalLogistic.file.domain.exceptions.FileNotFoundException;
 
-import java.io.InputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -47,47 +58,39 @@ class ReportGenerationUseCaseTest {
                 LocalDateTime.of(2024, 6, 1, 10, 0),
                 LocalDateTime.of(2024, 12, 1, 10, 0)
         );
+        lenient().when(pdfReportGenerator.templateVersion(ReportType.MISSION)).thenReturn("template-v1");
+        lenient().when(storageOperations.stat(eq(FileCategory.USER), anyString()))
+                .thenThrow(new FileNotFoundException("mission-1-mission-MISS-001.pdf"));
     }
 
     @Test
     void shouldGenerateMissionReportSuccessfully() throws Exception {
         
         byte[] pdfBytes = "PDF content".getBytes();
-        when(pdfReportGenerator.generate(testReportData)).thenReturn(pdfBytes);
-        doNothing().when(storageOperations).upload(
-                any(FileCategory.class),
-                anyString(),
-                any(InputStream.class),
-                anyLong(),
-                anyString()
-        );
+        stubPdf(testReportData, pdfBytes);
+        ByteArrayOutputStream uploaded = captureUpload();
 
         
         reportGenerationUseCase.generateMissionReport(testReportData, reportFormat);
 
         
-        verify(pdfReportGenerator, times(1)).generate(testReportData);
+        verify(pdfReportGenerator, times(1)).generate(eq(testReportData), any(OutputStream.class));
         verify(storageOperations, times(1)).upload(
                 eq(FileCategory.USER),
                 eq("mission-1-mission-MISS-001.pdf"),
-                any(InputStream.class),
-                eq((long) pdfBytes.length),
-                eq("application/pdf")
+                eq("application/pdf"),
+                anyMap(),
+                any(ContentWriter.class)
         );
+        assertArrayEquals(pdfBytes, uploaded.toByteArray());
     }
 
     @Test
     void shouldCreateCorrectReportFilename() throws Exception {
         
         byte[] pdfBytes = "Test PDF".getBytes();
-        when(pdfReportGenerator.generate(testReportData)).thenReturn(pdfBytes);
-        doNothing().when(storageOperations).upload(
-                any(FileCategory.class),
-                anyString(),
-                any(InputStream.class),
-                anyLong(),
-                anyString()
-        );
+        stubPdf(testReportData, pdfBytes);
+        ByteArrayOutputStream uploaded = captureUpload();
 
         
         reportGenerationUseCase.generateMissionReport(testReportData, reportFormat);
@@ -96,9 +99,9 @@ class ReportGenerationUseCaseTest {
         verify(storageOperations).upload(
                 eq(FileCategory.USER),
                 eq("mission-1-mission-MISS-001.pdf"),
-                any(InputStream.class),
-                anyLong(),
-                anyString()
+                anyString(),
+                anyMap(),
+                any(ContentWriter.class)
         );
     }
 
@@ -106,14 +109,8 @@ class ReportGenerationUseCaseTest {
     void shouldUploadReportWithCorrectContentType() throws Exception {
         
         byte[] pdfBytes = "PDF content".getBytes();
-        when(pdfReportGenerator.generate(testReportData)).thenReturn(pdfBytes);
-        doNothing().when(storageOperations).upload(
-                any(FileCategory.class),
-                anyString(),
-                any(InputStream.class),
-                anyLong(),
-                anyString()
-        );
+        stubPdf(testReportData, pdfBytes);
+        ByteArrayOutputStream uploaded = captureUpload();
 
         
         reportGenerationUseCase.generateMissionReport(testReportData, reportFormat);
@@ -122,9 +119,9 @@ class ReportGenerationUseCaseTest {
         verify(storageOperations).upload(
                 any(FileCategory.class),
                 anyString(),
-                any(InputStream.class),
-                anyLong(),
-                eq("application/pdf")
+                eq("application/pdf"),
+                anyMap(),
+                any(ContentWriter.class)
         );
     }
 
@@ -132,14 +129,8 @@ class ReportGenerationUseCaseTest {
     void shouldUploadReportToUserCategory() throws Exception {
         
         byte[] pdfBytes = "PDF content".getBytes();
-        when(pdfReportGenerator.generate(testReportData)).thenReturn(pdfBytes);
-        doNothing().when(storageOperations).upload(
-                any(FileCategory.class),
-                anyString(),
-                any(InputStream.class),
-                anyLong(),
-                anyString()
-        );
+        stubPdf(testReportData, pdfBytes);
+        ByteArrayOutputStream uploaded = captureUpload();
 
         
         reportGenerationUseCase.generateMissionReport(testReportData, reportFormat);
@@ -148,9 +139,9 @@ class ReportGenerationUseCaseTest {
         verify(storageOperations).upload(
                 eq(FileCategory.USER),
                 anyString(),
-                any(InputStream.class),
-                anyLong(),
-                anyString()
+                anyString(),
+                anyMap(),
+                any(ContentWriter.class)
         );
     }
 
@@ -158,26 +149,30 @@ class ReportGenerationUseCaseTest {
     void shouldThrowMinioExceptionWhenUploadFails() throws Exception {
         
         byte[] pdfBytes = "PDF content".getBytes();
-        when(pdfReportGenerator.generate(testReportData)).thenReturn(pdfBytes);
-        doThrow(new RuntimeException("Storage error")).when(storageOperations).upload(
+        stubPdf(testReportData, pdfBytes);
+        doAnswer(invocation -> {
+            ContentWriter writer = invocation.getArgument(4);
+            writer.writeTo(OutputStream.nullOutputStream());
+            throw new RuntimeException("Storage error");
+        }).when(storageOperations).upload(
                 any(FileCategory.class),
                 anyString(),
-                any(InputStream.class),
-                anyLong(),
-                anyString()
+                anyString(),
+                anyMap(),
+                any(ContentWriter.class)
         );
 
         
         assertThrows(MinioException.class, () -> 
                 reportGenerationUseCase.generateMissionReport(testReportData, reportFormat));
         
-        verify(pdfReportGenerator, times(1)).generate(testReportData);
+        verify(pdfReportGenerator, times(1)).generate(eq(testReportData), any(OutputStream.class));
         verify(storageOperations, times(1)).upload(
                 any(FileCategory.class),
                 anyString(),
-                any(InputStream.class),
-                anyLong(),
-                anyString()
+                anyString(),
+                anyMap(),
+                any(ContentWriter.class)
         );
     }
 
@@ -196,41 +191,30 @@ class ReportGenerationUseCaseTest {
         );
         
         byte[] pdfBytes = "Different PDF".getBytes();
-        when(pdfReportGenerator.generate(differentReport)).thenReturn(pdfBytes);
-        doNothing().when(storageOperations).upload(
-                any(FileCategory.class),
-                anyString(),
-                any(InputStream.class),
-                anyLong(),
-                anyString()
-        );
+        stubPdf(differentReport, pdfBytes);
+        ByteArrayOutputStream uploaded = captureUpload();
 
         
         reportGenerationUseCase.generateMissionReport(differentReport, reportFormat);
 
         
-        verify(pdfReportGenerator).generate(differentReport);
+        verify(pdfReportGenerator).generate(eq(differentReport), any(OutputStream.class));
         verify(storageOperations).upload(
                 eq(FileCategory.USER),
                 eq("mission-1-mission-TEST-999.pdf"),
-                any(InputStream.class),
-                eq((long) pdfBytes.length),
-                eq("application/pdf")
+                eq("application/pdf"),
+                anyMap(),
+                any(ContentWriter.class)
         );
+        assertArrayEquals(pdfBytes, uploaded.toByteArray());
     }
 
     @Test
     void shouldHandleLargePdfFiles() throws Exception {
         
         byte[] largePdfBytes = new byte[10 * 1024 * 1024]; 
-        when(pdfReportGenerator.generate(testReportData)).thenReturn(largePdfBytes);
-        doNothing().when(storageOperations).upload(
-                any(FileCategory.class),
-                anyString(),
-                any(InputStream.class),
-                anyLong(),
-                anyString()
-        );
+        stubPdf(testReportData, largePdfBytes);
+        ByteArrayOutputStream uploaded = captureUpload();
 
         
         reportGenerationUseCase.generateMissionReport(testReportData, reportFormat);
@@ -239,10 +223,11 @@ class ReportGenerationUseCaseTest {
         verify(storageOperations).upload(
                 any(FileCategory.class),
                 anyString(),
-                any(InputStream.class),
-                eq((long) largePdfBytes.length),
-                anyString()
+                anyString(),
+                anyMap(),
+                any(ContentWriter.class)
         );
+        assertArrayEquals(largePdfBytes, uploaded.toByteArray());
     }
 
     @Test
@@ -260,14 +245,8 @@ class ReportGenerationUseCaseTest {
         );
         
         byte[] pdfBytes = "PDF content".getBytes();
-        when(pdfReportGenerator.generate(specialReport)).thenReturn(pdfBytes);
-        doNothing().when(storageOperations).upload(
-                any(FileCategory.class),
-                anyString(),
-                any(InputStream.class),
-                anyLong(),
-                anyString()
-        );
+        stubPdf(specialReport, pdfBytes);
+        ByteArrayOutputStream uploaded = captureUpload();
 
         
         reportGenerationUseCase.generateMissionReport(specialReport, reportFormat);
@@ -276,9 +255,9 @@ class ReportGenerationUseCaseTest {
         verify(storageOperations).upload(
                 any(FileCategory.class),
                 eq("mission-1-mission-MISS-001-SPECIAL_TEST.pdf"),
-                any(InputStream.class),
-                anyLong(),
-                anyString()
+                anyString(),
+                anyMap(),
+                any(ContentWriter.class)
         );
     }
 
@@ -287,14 +266,8 @@ class ReportGenerationUseCaseTest {
         
         String customFormat = "report_%d_%s.pdf";
         byte[] pdfBytes = "PDF content".getBytes();
-        when(pdfReportGenerator.generate(testReportData)).thenReturn(pdfBytes);
-        doNothing().when(storageOperations).upload(
-                any(FileCategory.class),
-                anyString(),
-                any(InputStream.class),
-                anyLong(),
-                anyString()
-        );
+        stubPdf(testReportData, pdfBytes);
+        ByteArrayOutputStream uploaded = captureUpload();
 
         
         reportGenerationUseCase.generateMissionReport(testReportData, customFormat);
@@ -303,36 +276,151 @@ class ReportGenerationUseCaseTest {
         verify(storageOperations).upload(
                 any(FileCategory.class),
                 eq("report_1_mission-MISS-001.pdf"),
-                any(InputStream.class),
-                anyLong(),
-                anyString()
+                anyString(),
+                anyMap(),
+                any(ContentWriter.class)
         );
     }
 
     @Test
-    void shouldConvertBytesToInputStreamCorrectly() throws Exception {
+    void shouldStreamAllBytesToStorage() throws Exception {
         
         byte[] pdfBytes = "Test PDF content for validation".getBytes();
-        when(pdfReportGenerator.generate(testReportData)).thenReturn(pdfBytes);
-        doNothing().when(storageOperations).upload(
+        stubPdf(testReportData, pdfBytes);
+        ByteArrayOutputStream uploaded = captureUpload();
+
+        
+        reportGenerationUseCase.generateMissionReport(testReportData, reportFormat);
+
+        
+        verify(storageOperations).upload(
                 any(FileCategory.class),
                 anyString(),
-                any(InputStream.class),
-                anyLong(),
-                anyString()
+                anyString(),
+                anyMap(),
+                any(ContentWriter.class)
         );
+        assertArrayEquals(pdfBytes, uploaded.toByteArray());
+    }
+
+    @Test
+    void shouldStreamPdfIntoStorageWithoutIntermediateCopy() throws Exception {
+        
+        byte[] pdfBytes = "Streamed PDF".getBytes();
+        stubPdf(testReportData, pdfBytes);
+        ByteArrayOutputStream uploaded = captureUpload();
 
         
         reportGenerationUseCase.generateMissionReport(testReportData, reportFormat);
 
         
+        verify(pdfReportGenerator, never()).generate(any(MissionReportDataDTO.class));
+        assertArrayEquals(pdfBytes, uploaded.toByteArray());
+    }
+
+    @Test
+    void shouldStoreFingerprintWithReport() throws Exception {
+
+        stubPdf(testReportData, "PDF content".getBytes());
+        captureUpload();
+
+
+        reportGenerationUseCase.generateMissionReport(testReportData, reportFormat);
+
+
         verify(storageOperations).upload(
-                any(FileCategory.class),
-                anyString(),
-                any(InputStream.class),
-                eq((long) pdfBytes.length),
-                anyString()
+                eq(FileCategory.USER),
+                eq("mission-1-mission-MISS-001.pdf"),
+                eq("application/pdf"),
+                eq(Map.of(ReportGenerationUseCase.FINGERPRINT_METADATA,
+                        ReportGenerationUseCase.fingerprint("template-v1", ReportGenerationUseCase.renderedFields(testReportData)))),
+                any(ContentWriter.class)
         );
     }
-}
 
+    @Test
+    void shouldSkipRenderingWhenSameReportIsStored() {
+
+        doReturn(storedReport(ReportGenerationUseCase.fingerprint("template-v1", ReportGenerationUseCase.renderedFields(testReportData))))
+                .when(storageOperations).stat(FileCategory.USER, "mission-1-mission-MISS-001.pdf");
+
+
+        reportGenerationUseCase.generateMissionReport(testReportData, reportFormat);
+
+
+        verify(pdfReportGenerator, never()).generate(any(MissionReportDataDTO.class), any(OutputStream.class));
+        verify(storageOperations, never()).upload(any(FileCategory.class), anyString(), anyString(), anyMap(),
+                any(ContentWriter.class));
+    }
+
+    @Test
+    void shouldRenderAgainWhenTemplateChanged() throws Exception {
+
+        doReturn(storedReport(ReportGenerationUseCase.fingerprint("template-v0", ReportGenerationUseCase.renderedFields(testReportData))))
+                .when(storageOperations).stat(FileCategory.USER, "mission-1-mission-MISS-001.pdf");
+        byte[] pdfBytes = "New template".getBytes();
+        stubPdf(testReportData, pdfBytes);
+        ByteArrayOutputStream uploaded = captureUpload();
+
+
+        reportGenerationUseCase.generateMissionReport(testReportData, reportFormat);
+
+
+        assertArrayEquals(pdfBytes, uploaded.toByteArray());
+    }
+
+    @Test
+    void shouldGiveDifferentFingerprintForDifferentReportData() {
+
+        MissionReportDataDTO delayed = new MissionReportDataDTO("MISS-001", "Mars Exploration", "EXPLORATION",
+                "HIGH", 123L, 456L, LocalDateTime.of(2024, 6, 2, 10, 0), LocalDateTime.of(2024, 12, 1, 10, 0));
+
+
+        assertEquals(ReportGenerationUseCase.fingerprint("template-v1", ReportGenerationUseCase.renderedFields(testReportData)),
+                ReportGenerationUseCase.fingerprint("template-v1", ReportGenerationUseCase.renderedFields(testReportData)));
+        assertNotEquals(ReportGenerationUseCase.fingerprint("template-v1", ReportGenerationUseCase.renderedFields(testReportData)),
+                ReportGenerationUseCase.fingerprint("template-v1", ReportGenerationUseCase.renderedFields(delayed)));
+    }
+
+    @Test
+    void shouldLeavePasswordOutOfUserReportFingerprint() {
+
+        UserReportDataDTO report = new UserReportDataDTO("john", "secret-1", "john@example.com", Set.of(3L, 1L));
+        UserReportDataDTO passwordChanged = new UserReportDataDTO("john", "secret-2", "john@example.com",
+                new LinkedHashSet<>(List.of(1L, 3L)));
+
+
+        Map<String, String> fields = ReportGenerationUseCase.renderedFields(report);
+
+
+        assertFalse(fields.containsKey("password"));
+        assertFalse(fields.containsValue("secret-1"));
+        assertEquals(ReportGenerationUseCase.fingerprint("template-v1", fields),
+                ReportGenerationUseCase.fingerprint("template-v1",
+                        ReportGenerationUseCase.renderedFields(passwordChanged)));
+    }
+
+    private static FileMetadata storedReport(String fingerprint) {
+        return new FileMetadata("etag", 100, Instant.EPOCH, "application/pdf",
+                Map.of(ReportGenerationUseCase.FINGERPRINT_METADATA, fingerprint));
+    }
+
+    private void stubPdf(MissionReportDataDTO report, byte[] pdfBytes) {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write(pdfBytes);
+            return null;
+        }).when(pdfReportGenerator).generate(eq(report), any(OutputStream.class));
+    }
+
+    private ByteArrayOutputStream captureUpload() {
+        ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+        doAnswer(invocation -> {
+            ContentWriter writer = invocation.getArgument(4);
+            writer.writeTo(uploaded);
+            return null;
+        }).when(storageOperations).upload(any(FileCategory.class), anyString(), anyString(), anyMap(),
+                any(ContentWriter.class));
+        return uploaded;
+    }
+}
@@ -0,0 +1,185 @@
+package org.orbitalLogistic.file.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import io.minio.MinioClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openpdf.text.Document;
+import org.openpdf.text.Paragraph;
+import org.openpdf.text.pdf.PdfStream;
+import org.openpdf.text.pdf.PdfWriter;
+import org.orbitalLogistic.file.adapters.kafka.dto.MissionReportDataDTO;
+import org.orbitalLogistic.file.adapters.minio.MinioOperations;
+import org.orbitalLogistic.file.adapters.reports.PdfReportGeneratorImpl;
+import org.orbitalLogistic.file.adapters.reports.ReportTemplateCache;
+import org.orbitalLogistic.file.application.model.FileCategory;
+import org.orbitalLogistic.file.application.ports.StorageOperations;
+import org.orbitalLogistic.file.application.ports.dto.FileDto;
+import org.orbitalLogistic.file.application.ports.dto.FileMetadata;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Heap cost of filling a multi-megabyte template and uploading the result through the real
+ * MinIO client against a local S3 stub: the former byte[] path versus the streaming upload.
+ * Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+class ReportUploadMemoryBenchmark {
+
+    private static final int THREADS = 8;
+    private static final int REPORTS = 64;
+    private static final String TEMPLATE = "reports/Mission report.pdf";
+
+    private HttpServer s3Stub;
+    private MinioOperations minioOperations;
+    private PdfReportGeneratorImpl generator;
+    private MissionReportDataDTO report;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3Stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        s3Stub.createContext("/", exchange -> {
+            exchange.getRequestBody().transferTo(java.io.OutputStream.nullOutputStream());
+            exchange.getResponseHeaders().add("ETag", "\"stub\"");
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        s3Stub.setExecutor(Executors.newFixedThreadPool(THREADS));
+        s3Stub.start();
+
+        MinioClient minioClient = MinioClient.builder()
+                .endpoint("http://127.0.0.1:" + s3Stub.getAddress().getPort())
+                .credentials("benchmark", "benchmark")
+                .region("us-east-1")
+                .build();
+        minioOperations = new MinioOperations(minioClient);
+        ReflectionTestUtils.setField(minioOperations, "userFilesBucket", "user-files");
+        ReflectionTestUtils.setField(minioOperations, "defaultBucket", "default");
+
+        byte[] template = largeTemplate();
+        StorageOperations templateStorage = mock(StorageOperations.class);
+        when(templateStorage.stat(eq(FileCategory.USER), anyString()))
+                .thenReturn(new FileMetadata("template", template.length, Instant.EPOCH, "application/pdf"));
+        when(templateStorage.download(eq(FileCategory.USER), anyString()))
+                .thenAnswer(invocation -> new FileDto("Mission report.pdf", new ByteArrayInputStream(template)));
+        generator = new PdfReportGeneratorImpl(new ReportTemplateCache(templateStorage, Duration.ofHours(1)));
+
+        report = new MissionReportDataDTO("MISS-001", "Mars Exploration", "EXPLORATION", "HIGH", 1L, 2L,
+                LocalDateTime.of(2024, 6, 1, 10, 0), LocalDateTime.of(2024, 12, 1, 10, 0));
+        System.out.printf("template size: %d KiB%n", template.length / 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Stub.stop(0);
+    }
+
+    @Test
+    void streamingUploadAllocatesLessThanBufferedUpload() throws Exception {
+        Runnable buffered = () -> {
+            byte[] pdf = generator.generate(report);
+            minioOperations.upload(FileCategory.USER, "reports/buffered.pdf", new ByteArrayInputStream(pdf),
+                    pdf.length, "application/pdf");
+        };
+        Runnable streaming = () -> minioOperations.upload(FileCategory.USER, "reports/streamed.pdf",
+                "application/pdf", outputStream -> generator.generate(report, outputStream));
+
+        // warm up both paths and the template cache
+        run(buffered);
+        run(streaming);
+
+        Result bufferedResult = run(buffered);
+        Result streamingResult = run(streaming);
+        System.out.printf("buffered : %6d KiB allocated per report, peak heap %4d MiB%n",
+                bufferedResult.allocatedPerReport() / 1024, bufferedResult.peakHeap() >> 20);
+        System.out.printf("streaming: %6d KiB allocated per report, peak heap %4d MiB%n",
+                streamingResult.allocatedPerReport() / 1024, streamingResult.peakHeap() >> 20);
+
+        assertTrue(streamingResult.allocatedPerReport() < bufferedResult.allocatedPerReport());
+    }
+
+    private Result run(Runnable upload) throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+
+        AtomicLong peakHeap = new AtomicLong();
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        long allocatedBefore = threads.getTotalThreadAllocatedBytes();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REPORTS; i++) {
+                futures.add(executor.submit(upload));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            sampler.interrupt();
+        }
+        long allocated = threads.getTotalThreadAllocatedBytes() - allocatedBefore;
+        return new Result(allocated / REPORTS, peakHeap.get());
+    }
+
+    private static byte[] largeTemplate() {
+        ByteArrayOutputStream template = new ByteArrayOutputStream();
+        Document document = new Document();
+        PdfWriter writer = PdfWriter.getInstance(document, template);
+        // uncompressed content keeps the template (and each report) at a few megabytes
+        writer.setCompressionLevel(PdfStream.NO_COMPRESSION);
+        document.open();
+        Random random = new Random(42);
+        for (int page = 0; page < 1_000; page++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < 2_000; i++) {
+                text.append((char) ('a' + random.nextInt(26)));
+                if (random.nextInt(8) == 0) {
+                    text.append(' ');
+                }
+            }
+            document.add(new Paragraph(text.toString()));
+            document.newPage();
+        }
+        document.close();
+        return template.toByteArray();
+    }
+
+    private record Result(long allocatedPerReport, long peakHeap) {}
+}
@@ -2,22 +2,43 @@ package org.orbitalLogistic.file.minio;
 
 import io.minio.*;
 import io.minio.errors.ErrorResponseException;
+import io.minio.http.Method;
+import io.minio.messages.Contents;
 import io.minio.messages.ErrorResponse;
+import io.minio.messages.Item;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.file.adapters.exceptions.MinioException;
 import org.orbitalLogistic.file.adapters.minio.MinioOperations;
 import org.orbitalLogistic.file.application.model.FileCategory;
 import org.orbitalLogistic.file.application.ports.dto.FileDto;
+import org.orbitalLogistic.file.application.ports.dto.FileEntry;
+import org.orbitalLogistic.file.application.ports.dto.FileListPage;
+import org.orbitalLogistic.file.application.ports.dto.FileMetadata;
+import org.orbitalLogistic.file.domain.exceptions.FileChangedException;
 import org.orbitalLogistic.file.domain.exceptions.FileNotFoundException;
 import org.orbitalLogistic.file.domain.exceptions.StorageTechnicalException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -98,6 +119,100 @@ class MinioOperationsTest {
                 () -> minioOperations.upload(category, path, inputStream, 50L, "text/plain"));
     }
 
+    @Test
+    void uploadStreaming_Success_StoresEverythingWrittenOfUnknownSize() throws Exception {
+        
+        AtomicReference<PutObjectArgs> putArgs = new AtomicReference<>();
+        ByteArrayOutputStream stored = new ByteArrayOutputStream();
+        when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(invocation -> {
+            PutObjectArgs args = invocation.getArgument(0);
+            putArgs.set(args);
+            args.stream().transferTo(stored);
+            return objectWriteResponse;
+        });
+
+        
+        minioOperations.upload(FileCategory.USER, "reports/report.pdf", "application/pdf", outputStream -> {
+            outputStream.write("first-".getBytes());
+            // PdfStamper closes its output before returning, which must not end the object early
+            outputStream.close();
+            outputStream.write("second".getBytes());
+        });
+
+        
+        assertEquals("first-second", stored.toString());
+        assertEquals(-1, putArgs.get().objectSize());
+        assertEquals("user-files", putArgs.get().bucket());
+        assertEquals("reports/report.pdf", putArgs.get().object());
+    }
+
+    @Test
+    void uploadStreaming_WithUserMetadata_StoresMetadata() throws Exception {
+        
+        AtomicReference<PutObjectArgs> putArgs = new AtomicReference<>();
+        when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(invocation -> {
+            PutObjectArgs args = invocation.getArgument(0);
+            putArgs.set(args);
+            args.stream().transferTo(OutputStream.nullOutputStream());
+            return objectWriteResponse;
+        });
+
+        
+        minioOperations.upload(FileCategory.USER, "reports/report.pdf", "application/pdf",
+                Map.of("report-fingerprint", "abc"), outputStream -> outputStream.write("pdf".getBytes()));
+
+        
+        assertTrue(putArgs.get().userMetadata().containsValue("abc"));
+    }
+
+    @Test
+    void uploadStreaming_WriterFails_DoesNotCompleteObject() throws Exception {
+        
+        AtomicBoolean completed = new AtomicBoolean();
+        CountDownLatch readerStarted = new CountDownLatch(1);
+        CountDownLatch readerDone = new CountDownLatch(1);
+        when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(invocation -> {
+            try {
+                readerStarted.countDown();
+                PutObjectArgs args = invocation.getArgument(0);
+                args.stream().transferTo(OutputStream.nullOutputStream());
+                completed.set(true);
+                return objectWriteResponse;
+            } finally {
+                readerDone.countDown();
+            }
+        });
+
+        
+        assertThrows(MinioException.class, () ->
+                minioOperations.upload(FileCategory.USER, "reports/report.pdf", "application/pdf", outputStream -> {
+                    outputStream.write("partial".getBytes());
+                    // fail while the reader is already waiting for more content
+                    try {
+                        assertTrue(readerStarted.await(5, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IOException("Rendering failed");
+                }));
+
+        
+        assertTrue(readerDone.await(5, TimeUnit.SECONDS));
+        assertFalse(completed.get());
+    }
+
+    @Test
+    void uploadStreaming_StorageFails_ThrowsMinioException() throws Exception {
+        
+        when(minioClient.putObject(any(PutObjectArgs.class)))
+                .thenThrow(new RuntimeException("Bucket does not exist"));
+
+        
+        assertThrows(MinioException.class, () ->
+                minioOperations.upload(FileCategory.USER, "reports/report.pdf", "application/pdf",
+                        outputStream -> outputStream.write(new byte[256 * 1024])));
+    }
+
     @Test
     void download_Success() throws Exception {
         
@@ -162,6 +277,113 @@ class MinioOperationsTest {
                 () -> minioOperations.download(category, path));
     }
 
+    @Test
+    void downloadRange_RequestsOnlyGivenBytes() throws Exception {
+        
+        when(minioClient.getObject(any(GetObjectArgs.class))).thenReturn(getObjectResponse);
+        ArgumentCaptor<GetObjectArgs> args = ArgumentCaptor.forClass(GetObjectArgs.class);
+
+        
+        FileDto result = minioOperations.download(FileCategory.DEFAULT, "downloads/file.pdf", 100L, 50L, "abc");
+
+        
+        assertEquals("file.pdf", result.filename());
+        verify(minioClient).getObject(args.capture());
+        assertEquals("default", args.getValue().bucket());
+        assertEquals(100L, args.getValue().offset());
+        assertEquals(50L, args.getValue().length());
+        assertEquals("abc", args.getValue().matchETag());
+    }
+
+    @Test
+    void downloadRange_EtagNoLongerMatches_ThrowsFileChangedException() throws Exception {
+        
+        String path = "downloads/file.pdf";
+        ErrorResponse errorResponse = new ErrorResponse(
+                "PreconditionFailed",
+                "At least one of the pre-conditions you specified did not hold",
+                "default",
+                path,
+                "",
+                "",
+                ""
+        );
+        when(minioClient.getObject(any(GetObjectArgs.class)))
+                .thenThrow(new ErrorResponseException(errorResponse, null, "test"));
+
+        
+        FileChangedException thrown = assertThrows(FileChangedException.class,
+                () -> minioOperations.download(FileCategory.DEFAULT, path, 100L, 50L, "abc"));
+        assertTrue(thrown.getMessage().contains(path));
+    }
+
+    @Test
+    void presignedDownloadUrl_SignsWithPublicClient() throws Exception {
+        
+        MinioClient presignClient = mock(MinioClient.class);
+        ReflectionTestUtils.setField(minioOperations, "presignMinioClient", presignClient);
+        when(presignClient.getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class)))
+                .thenReturn("https://files.example.com/user-files/report.pdf?X-Amz-Signature=abc");
+        ArgumentCaptor<GetPresignedObjectUrlArgs> args = ArgumentCaptor.forClass(GetPresignedObjectUrlArgs.class);
+
+        
+        String url = minioOperations.presignedDownloadUrl(FileCategory.USER, "reports/report.pdf",
+                Duration.ofMinutes(5));
+
+        
+        assertEquals("https://files.example.com/user-files/report.pdf?X-Amz-Signature=abc", url);
+        verify(presignClient).getPresignedObjectUrl(args.capture());
+        assertEquals(Method.GET, args.getValue().method());
+        assertEquals(300, args.getValue().expiry());
+        assertEquals("user-files", args.getValue().bucket());
+        verifyNoInteractions(minioClient);
+    }
+
+    @Test
+    void stat_Success_ReturnsMetadata() throws Exception {
+        
+        StatObjectResponse statResponse = mock(StatObjectResponse.class);
+        when(statResponse.etag()).thenReturn("etag-1");
+        when(statResponse.size()).thenReturn(42L);
+        when(statResponse.lastModified()).thenReturn(ZonedDateTime.parse("2024-06-01T10:00:00Z"));
+        when(statResponse.contentType()).thenReturn("application/pdf");
+        when(minioClient.statObject(any(StatObjectArgs.class))).thenReturn(statResponse);
+
+        
+        FileMetadata result = minioOperations.stat(FileCategory.USER, "reports/Mission report.pdf");
+
+        
+        assertEquals("etag-1", result.etag());
+        assertEquals(42L, result.size());
+        assertEquals(Instant.parse("2024-06-01T10:00:00Z"), result.lastModified());
+        assertEquals("application/pdf", result.contentType());
+    }
+
+    @Test
+    void stat_UserMetadata_KeysInLowerCase() throws Exception {
+        
+        StatObjectResponse statResponse = mock(StatObjectResponse.class);
+        when(statResponse.userMetadata()).thenReturn(Map.of("Report-Fingerprint", "abc"));
+        when(minioClient.statObject(any(StatObjectArgs.class))).thenReturn(statResponse);
+
+        
+        FileMetadata result = minioOperations.stat(FileCategory.USER, "reports/report.pdf");
+
+        
+        assertEquals(Map.of("report-fingerprint", "abc"), result.userMetadata());
+    }
+
+    @Test
+    void stat_TechnicalError_ThrowsStorageTechnicalException() throws Exception {
+        
+        when(minioClient.statObject(any(StatObjectArgs.class)))
+                .thenThrow(new RuntimeException("Connection error"));
+
+        
+        assertThrows(StorageTechnicalException.class,
+                () -> minioOperations.stat(FileCategory.DEFAULT, "error/file.txt"));
+    }
+
     @Test
     void getListDir_EmptyDirectory_ReturnsEmptyList() {
         
@@ -179,6 +401,89 @@ class MinioOperationsTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void listDir_MoreKeysThanPage_ReturnsNextToken() {
+        
+        Item first = file("reports/1/a.pdf", 10L);
+        Item second = file("reports/1/b.pdf", 20L);
+        Item third = file("reports/1/c.pdf", 30L);
+        when(minioClient.listObjects(any(ListObjectsArgs.class)))
+                .thenReturn(List.of(new Result<>(first), new Result<>(second), new Result<>(third)));
+        ArgumentCaptor<ListObjectsArgs> args = ArgumentCaptor.forClass(ListObjectsArgs.class);
+
+        
+        FileListPage page = minioOperations.listDir(FileCategory.USER, "reports/1/", null, 2);
+
+        
+        assertEquals(List.of(
+                new FileEntry("a.pdf", 10L, Instant.parse("2024-06-01T10:00:00Z"), false),
+                new FileEntry("b.pdf", 20L, Instant.parse("2024-06-01T10:00:00Z"), false)), page.entries());
+        assertEquals("reports/1/b.pdf", page.nextToken());
+        verify(minioClient).listObjects(args.capture());
+        assertEquals(3, args.getValue().maxKeys());
+        assertNull(args.getValue().startAfter());
+    }
+
+    @Test
+    void listDir_LastPage_HasNoNextToken() {
+        
+        Item item = file("reports/1/c.pdf", 30L);
+        when(minioClient.listObjects(any(ListObjectsArgs.class)))
+                .thenReturn(List.of(new Result<>(item)));
+        ArgumentCaptor<ListObjectsArgs> args = ArgumentCaptor.forClass(ListObjectsArgs.class);
+
+        
+        FileListPage page = minioOperations.listDir(FileCategory.USER, "reports/1/", "reports/1/b.pdf", 2);
+
+        
+        assertEquals(1, page.entries().size());
+        assertNull(page.nextToken());
+        verify(minioClient).listObjects(args.capture());
+        assertEquals("reports/1/b.pdf", args.getValue().startAfter());
+    }
+
+    @Test
+    void listDir_DirectoryRepeatedAfterToken_IsSkipped() {
+        
+        Item item = file("reports/1/c.pdf", 30L);
+        when(minioClient.listObjects(any(ListObjectsArgs.class)))
+                .thenReturn(List.of(new Result<>(new Contents("reports/1/archive/")), new Result<>(item)));
+
+        
+        FileListPage page = minioOperations.listDir(FileCategory.USER, "reports/1/", "reports/1/archive/", 10);
+
+        
+        assertEquals(List.of("c.pdf"), page.entries().stream().map(FileEntry::name).toList());
+    }
+
+    @Test
+    void walkDir_PassesEveryEntryWithMetadata() {
+        
+        Item item = file("reports/1/a.pdf", 10L);
+        when(minioClient.listObjects(any(ListObjectsArgs.class)))
+                .thenReturn(List.of(new Result<>(new Contents("reports/1/archive/")), new Result<>(item)));
+        List<FileEntry> entries = new ArrayList<>();
+
+        
+        minioOperations.walkDir(FileCategory.USER, "reports/1/", entries::add);
+
+        
+        assertEquals(List.of(
+                new FileEntry("archive", 0L, null, true),
+                new FileEntry("a.pdf", 10L, Instant.parse("2024-06-01T10:00:00Z"), false)), entries);
+    }
+
+    @Test
+    void walkDir_ListingFails_ThrowsStorageTechnicalException() {
+        
+        when(minioClient.listObjects(any(ListObjectsArgs.class)))
+                .thenReturn(List.of(new Result<>(new RuntimeException("Connection error"))));
+
+        
+        assertThrows(StorageTechnicalException.class,
+                () -> minioOperations.walkDir(FileCategory.USER, "reports/1/", entry -> {}));
+    }
+
     @Test
     void remove_Success() throws Exception {
         
@@ -233,4 +538,12 @@ class MinioOperationsTest {
         assertThrows(StorageTechnicalException.class,
                 () -> minioOperations.remove(category, path));
     }
+
+    private static Item file(String objectName, long size) {
+        Item item = mock(Item.class);
+        when(item.objectName()).thenReturn(objectName);
+        lenient().when(item.size()).thenReturn(size);
+        lenient().when(item.lastModified()).thenReturn(ZonedDateTime.parse("2024-06-01T10:00:00Z"));
+        return item;
+    }
 }
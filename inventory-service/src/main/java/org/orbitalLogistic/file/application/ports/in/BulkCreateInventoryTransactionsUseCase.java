@@ -0,0 +1,12 @@
+package org.orbitalLogistic.file.application.ports.in;
+
+import java.util.List;
+
+public interface BulkCreateInventoryTransactionsUseCase {
+
+    /**
+     * Stores every valid line and rejects the others with a reason, one result per line in the
+     * order of {@code lines}.
+     */
+    List<BulkTransactionLineResult> createTransactions(List<BulkTransactionLine> lines);
+}
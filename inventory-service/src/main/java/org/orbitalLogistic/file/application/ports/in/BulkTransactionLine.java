@@ -0,0 +1,10 @@
+package org.orbitalLogistic.file.application.ports.in;
+
+/**
+ * One transaction of a bulk request, {@code line} is its 1-based position in the request.
+ */
+public record BulkTransactionLine(
+        int line,
+        CreateInventoryTransactionCommand command
+) {
+}
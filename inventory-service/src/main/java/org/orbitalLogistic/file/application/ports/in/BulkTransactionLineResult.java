@@ -0,0 +1,22 @@
+package org.orbitalLogistic.file.application.ports.in;
+
+import org.orbitalLogistic.file.domain.model.InventoryTransaction;
+
+public record BulkTransactionLineResult(
+        int line,
+        InventoryTransaction transaction,
+        String error
+) {
+
+    public static BulkTransactionLineResult created(int line, InventoryTransaction transaction) {
+        return new BulkTransactionLineResult(line, transaction, null);
+    }
+
+    public static BulkTransactionLineResult rejected(int line, String error) {
+        return new BulkTransactionLineResult(line, null, error);
+    }
+
+    public boolean isCreated() {
+        return transaction != null;
+    }
+}
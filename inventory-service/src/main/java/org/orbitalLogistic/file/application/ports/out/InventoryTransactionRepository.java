@@ -6,6 +6,7 @@ import java.util.List;
 
 public interface InventoryTransactionRepository {
     InventoryTransaction save(InventoryTransaction transaction);
+    List<InventoryTransaction> saveAll(List<InventoryTransaction> transactions);
     List<InventoryTransaction> findAll(int limit, int offset);
     List<InventoryTransaction> findByCargoId(Long cargoId, int limit, int offset);
     long countAll();
@@ -1,5 +1,9 @@
 package org.orbitalLogistic.file.application.ports.out;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface SpacecraftValidationPort {
     boolean spacecraftExists(Long spacecraftId);
+    Map<Long, Boolean> spacecraftsExist(Collection<Long> spacecraftIds);
 }
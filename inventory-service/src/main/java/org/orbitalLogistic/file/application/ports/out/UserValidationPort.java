@@ -1,5 +1,9 @@
 package org.orbitalLogistic.file.application.ports.out;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface UserValidationPort {
     boolean userExists(Long userId);
+    Map<Long, Boolean> usersExist(Collection<Long> userIds);
 }
@@ -0,0 +1,169 @@
+package org.orbitalLogistic.file.application.usecases;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.orbitalLogistic.file.application.ports.in.BulkCreateInventoryTransactionsUseCase;
+import org.orbitalLogistic.file.application.ports.in.BulkTransactionLine;
+import org.orbitalLogistic.file.application.ports.in.BulkTransactionLineResult;
+import org.orbitalLogistic.file.application.ports.out.CargoValidationPort;
+import org.orbitalLogistic.file.application.ports.out.InventoryTransactionRepository;
+import org.orbitalLogistic.file.application.ports.out.SpacecraftValidationPort;
+import org.orbitalLogistic.file.application.ports.out.UserValidationPort;
+import org.orbitalLogistic.file.domain.model.InventoryTransaction;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.orbitalLogistic.file.application.usecases.CreateInventoryTransactionService.newTransaction;
+
+/**
+ * Checks every distinct cargo, storage unit, spacecraft and user of the batch once instead of
+ * once per line, then stores all valid lines with a single repository call.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkCreateInventoryTransactionsService implements BulkCreateInventoryTransactionsUseCase {
+
+    private final InventoryTransactionRepository inventoryTransactionRepository;
+    private final CargoValidationPort cargoValidationPort;
+    private final SpacecraftValidationPort spacecraftValidationPort;
+    private final UserValidationPort userValidationPort;
+    private final ExistenceChecks existenceChecks;
+
+    @Override
+    public List<BulkTransactionLineResult> createTransactions(List<BulkTransactionLine> lines) {
+        log.debug("Creating {} inventory transactions in bulk", lines.size());
+
+        BulkTransactionLineResult[] results = new BulkTransactionLineResult[lines.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<InventoryTransaction> valid = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            InventoryTransaction transaction = newTransaction(lines.get(i).command());
+            try {
+                transaction.validate();
+                validIndexes.add(i);
+                valid.add(transaction);
+            } catch (IllegalArgumentException e) {
+                results[i] = BulkTransactionLineResult.rejected(lines.get(i).line(), e.getMessage());
+            }
+        }
+
+        MissingReferences missing = findMissingReferences(valid);
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<InventoryTransaction> accepted = new ArrayList<>();
+        for (int i = 0; i < valid.size(); i++) {
+            int index = validIndexes.get(i);
+            String failure = missing.failure(valid.get(i));
+            if (failure != null) {
+                results[index] = BulkTransactionLineResult.rejected(lines.get(index).line(), failure);
+            } else {
+                acceptedIndexes.add(index);
+                accepted.add(valid.get(i));
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            List<InventoryTransaction> saved = inventoryTransactionRepository.saveAll(accepted);
+            for (int i = 0; i < saved.size(); i++) {
+                int index = acceptedIndexes.get(i);
+                results[index] = BulkTransactionLineResult.created(lines.get(index).line(), saved.get(i));
+            }
+        }
+        log.info("Bulk inventory transactions: {} created, {} rejected",
+                accepted.size(), lines.size() - accepted.size());
+
+        return List.of(results);
+    }
+
+    private MissingReferences findMissingReferences(List<InventoryTransaction> transactions) {
+        Set<Long> cargoIds = distinct(transactions.stream().map(InventoryTransaction::getCargoId));
+        Set<Long> userIds = distinct(transactions.stream().map(InventoryTransaction::getPerformedByUserId));
+        Set<Long> storageUnitIds = distinct(transactions.stream()
+                .flatMap(t -> Stream.of(t.getFromStorageUnitId(), t.getToStorageUnitId())));
+        Set<Long> spacecraftIds = distinct(transactions.stream()
+                .flatMap(t -> Stream.of(t.getFromSpacecraftId(), t.getToSpacecraftId())));
+
+        MissingReferences missing = new MissingReferences();
+        List<Runnable> lookups = new ArrayList<>();
+        addBulkLookup(lookups, userIds, userValidationPort::usersExist, missing.users);
+        addBulkLookup(lookups, spacecraftIds, spacecraftValidationPort::spacecraftsExist, missing.spacecraft);
+        addLookups(lookups, cargoIds, cargoValidationPort::cargoExists, missing.cargo);
+        addLookups(lookups, storageUnitIds, cargoValidationPort::storageUnitExists, missing.storageUnits);
+        existenceChecks.runAll(lookups);
+
+        return missing;
+    }
+
+    private static void addBulkLookup(List<Runnable> lookups, Set<Long> ids,
+                                      Function<Set<Long>, Map<Long, Boolean>> exist, Set<Long> missing) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        lookups.add(() -> {
+            Map<Long, Boolean> existing = exist.apply(ids);
+            ids.stream()
+                    .filter(id -> !Boolean.TRUE.equals(existing.get(id)))
+                    .forEach(missing::add);
+        });
+    }
+
+    private static void addLookups(List<Runnable> lookups, Set<Long> ids, Predicate<Long> exists, Set<Long> missing) {
+        for (Long id : ids) {
+            lookups.add(() -> {
+                if (!exists.test(id)) {
+                    missing.add(id);
+                }
+            });
+        }
+    }
+
+    private static Set<Long> distinct(Stream<Long> ids) {
+        Set<Long> distinct = new HashSet<>();
+        ids.forEach(id -> {
+            if (id != null) {
+                distinct.add(id);
+            }
+        });
+        return distinct;
+    }
+
+    private static final class MissingReferences {
+
+        private final Set<Long> cargo = ConcurrentHashMap.newKeySet();
+        private final Set<Long> users = ConcurrentHashMap.newKeySet();
+        private final Set<Long> storageUnits = ConcurrentHashMap.newKeySet();
+        private final Set<Long> spacecraft = ConcurrentHashMap.newKeySet();
+
+        // same messages as a single create
+        String failure(InventoryTransaction transaction) {
+            if (cargo.contains(transaction.getCargoId())) {
+                return "Cargo not found with id: " + transaction.getCargoId();
+            }
+            if (users.contains(transaction.getPerformedByUserId())) {
+                return "User not found with id: " + transaction.getPerformedByUserId();
+            }
+            if (transaction.getFromStorageUnitId() != null && storageUnits.contains(transaction.getFromStorageUnitId())) {
+                return "Source storage unit not found with id: " + transaction.getFromStorageUnitId();
+            }
+            if (transaction.getToStorageUnitId() != null && storageUnits.contains(transaction.getToStorageUnitId())) {
+                return "Target storage unit not found with id: " + transaction.getToStorageUnitId();
+            }
+            if (transaction.getFromSpacecraftId() != null && spacecraft.contains(transaction.getFromSpacecraftId())) {
+                return "Source spacecraft not found with id: " + transaction.getFromSpacecraftId();
+            }
+            if (transaction.getToSpacecraftId() != null && spacecraft.contains(transaction.getToSpacecraftId())) {
+                return "Target spacecraft not found with id: " + transaction.getToSpacecraftId();
+            }
+            return null;
+        }
+    }
+}
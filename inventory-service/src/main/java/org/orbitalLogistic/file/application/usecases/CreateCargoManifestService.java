@@ -8,11 +8,17 @@ import org.orbitalLogistic.file.application.ports.out.CargoManifestRepository;
 import org.orbitalLogistic.file.application.ports.out.CargoValidationPort;
 import org.orbitalLogistic.file.application.ports.out.SpacecraftValidationPort;
 import org.orbitalLogistic.file.application.ports.out.UserValidationPort;
+import org.orbitalLogistic.file.application.usecases.ExistenceChecks.Check;
 import org.orbitalLogistic.file.domain.model.CargoManifest;
 import org.orbitalLogistic.file.domain.model.enums.ManifestPriority;
 import org.orbitalLogistic.file.domain.model.enums.ManifestStatus;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+
+import static org.orbitalLogistic.file.application.usecases.ExistenceChecks.exists;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -22,30 +28,20 @@ public class CreateCargoManifestService implements CreateCargoManifestUseCase {
     private final CargoValidationPort cargoValidationPort;
     private final SpacecraftValidationPort spacecraftValidationPort;
     private final UserValidationPort userValidationPort;
+    private final ExistenceChecks existenceChecks;
 
     @Override
     public CargoManifest createManifest(CreateCargoManifestCommand command) {
         log.debug("Creating cargo manifest for spacecraft: {}, cargo: {}", command.spacecraftId(), command.cargoId());
 
-        if (!spacecraftValidationPort.spacecraftExists(command.spacecraftId())) {
-            throw new IllegalArgumentException("Spacecraft not found with id: " + command.spacecraftId());
-        }
-
-        if (!cargoValidationPort.cargoExists(command.cargoId())) {
-            throw new IllegalArgumentException("Cargo not found with id: " + command.cargoId());
-        }
-
-        if (!cargoValidationPort.storageUnitExists(command.storageUnitId())) {
-            throw new IllegalArgumentException("Storage unit not found with id: " + command.storageUnitId());
-        }
-
-        if (!userValidationPort.userExists(command.loadedByUserId())) {
-            throw new IllegalArgumentException("Loaded by user not found with id: " + command.loadedByUserId());
-        }
-
-        if (command.unloadedByUserId() != null && !userValidationPort.userExists(command.unloadedByUserId())) {
-            throw new IllegalArgumentException("Unloaded by user not found with id: " + command.unloadedByUserId());
-        }
+        existenceChecks.requireAll(List.of(
+                exists(() -> spacecraftValidationPort.spacecraftExists(command.spacecraftId()),
+                        "Spacecraft not found with id: " + command.spacecraftId()),
+                exists(() -> cargoValidationPort.cargoExists(command.cargoId()),
+                        "Cargo not found with id: " + command.cargoId()),
+                exists(() -> cargoValidationPort.storageUnitExists(command.storageUnitId()),
+                        "Storage unit not found with id: " + command.storageUnitId()),
+                manifestUsers(userValidationPort, command.loadedByUserId(), command.unloadedByUserId())));
 
         CargoManifest manifest = CargoManifest.builder()
                 .spacecraftId(command.spacecraftId())
@@ -67,4 +63,23 @@ public class CreateCargoManifestService implements CreateCargoManifestUseCase {
 
         return savedManifest;
     }
+
+    // both users of a manifest with one bulk call to user-service
+    static Check manifestUsers(UserValidationPort userValidationPort, Long loadedByUserId, Long unloadedByUserId) {
+        // a missing loading user fails either way, so one id is left to check
+        if (loadedByUserId == null || unloadedByUserId == null) {
+            return exists(() -> userValidationPort.userExists(loadedByUserId),
+                    "Loaded by user not found with id: " + loadedByUserId);
+        }
+        return () -> {
+            Map<Long, Boolean> users = userValidationPort.usersExist(List.of(loadedByUserId, unloadedByUserId));
+            if (!Boolean.TRUE.equals(users.get(loadedByUserId))) {
+                return "Loaded by user not found with id: " + loadedByUserId;
+            }
+            if (!Boolean.TRUE.equals(users.get(unloadedByUserId))) {
+                return "Unloaded by user not found with id: " + unloadedByUserId;
+            }
+            return null;
+        };
+    }
 }
@@ -8,10 +8,15 @@ import org.orbitalLogistic.file.application.ports.out.CargoValidationPort;
 import org.orbitalLogistic.file.application.ports.out.InventoryTransactionRepository;
 import org.orbitalLogistic.file.application.ports.out.SpacecraftValidationPort;
 import org.orbitalLogistic.file.application.ports.out.UserValidationPort;
+import org.orbitalLogistic.file.application.usecases.ExistenceChecks.Check;
 import org.orbitalLogistic.file.domain.model.InventoryTransaction;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.orbitalLogistic.file.application.usecases.ExistenceChecks.exists;
 
 @Slf4j
 @Service
@@ -22,34 +27,47 @@ public class CreateInventoryTransactionService implements CreateInventoryTransac
     private final CargoValidationPort cargoValidationPort;
     private final SpacecraftValidationPort spacecraftValidationPort;
     private final UserValidationPort userValidationPort;
+    private final ExistenceChecks existenceChecks;
 
     @Override
     public InventoryTransaction createTransaction(CreateInventoryTransactionCommand command) {
         log.debug("Creating inventory transaction for cargo: {}", command.cargoId());
 
-        if (!cargoValidationPort.cargoExists(command.cargoId())) {
-            throw new IllegalArgumentException("Cargo not found with id: " + command.cargoId());
+        List<Check> checks = new ArrayList<>();
+        checks.add(exists(() -> cargoValidationPort.cargoExists(command.cargoId()),
+                "Cargo not found with id: " + command.cargoId()));
+        checks.add(exists(() -> userValidationPort.userExists(command.performedByUserId()),
+                "User not found with id: " + command.performedByUserId()));
+        if (command.fromStorageUnitId() != null) {
+            checks.add(exists(() -> cargoValidationPort.storageUnitExists(command.fromStorageUnitId()),
+                    "Source storage unit not found with id: " + command.fromStorageUnitId()));
         }
-
-        if (!userValidationPort.userExists(command.performedByUserId())) {
-            throw new IllegalArgumentException("User not found with id: " + command.performedByUserId());
+        if (command.toStorageUnitId() != null) {
+            checks.add(exists(() -> cargoValidationPort.storageUnitExists(command.toStorageUnitId()),
+                    "Target storage unit not found with id: " + command.toStorageUnitId()));
         }
-
-        if (command.fromStorageUnitId() != null && !cargoValidationPort.storageUnitExists(command.fromStorageUnitId())) {
-            throw new IllegalArgumentException("Source storage unit not found with id: " + command.fromStorageUnitId());
+        if (command.fromSpacecraftId() != null) {
+            checks.add(exists(() -> spacecraftValidationPort.spacecraftExists(command.fromSpacecraftId()),
+                    "Source spacecraft not found with id: " + command.fromSpacecraftId()));
         }
-        if (command.toStorageUnitId() != null && !cargoValidationPort.storageUnitExists(command.toStorageUnitId())) {
-            throw new IllegalArgumentException("Target storage unit not found with id: " + command.toStorageUnitId());
+        if (command.toSpacecraftId() != null) {
+            checks.add(exists(() -> spacecraftValidationPort.spacecraftExists(command.toSpacecraftId()),
+                    "Target spacecraft not found with id: " + command.toSpacecraftId()));
         }
+        existenceChecks.requireAll(checks);
 
-        if (command.fromSpacecraftId() != null && !spacecraftValidationPort.spacecraftExists(command.fromSpacecraftId())) {
-            throw new IllegalArgumentException("Source spacecraft not found with id: " + command.fromSpacecraftId());
-        }
-        if (command.toSpacecraftId() != null && !spacecraftValidationPort.spacecraftExists(command.toSpacecraftId())) {
-            throw new IllegalArgumentException("Target spacecraft not found with id: " + command.toSpacecraftId());
-        }
+        InventoryTransaction transaction = newTransaction(command);
+
+        transaction.validate();
+
+        InventoryTransaction savedTransaction = inventoryTransactionRepository.save(transaction);
+        log.info("Created inventory transaction with id: {}", savedTransaction.getId());
 
-        InventoryTransaction transaction = InventoryTransaction.builder()
+        return savedTransaction;
+    }
+
+    static InventoryTransaction newTransaction(CreateInventoryTransactionCommand command) {
+        return InventoryTransaction.builder()
                 .transactionType(command.transactionType())
                 .cargoId(command.cargoId())
                 .quantity(command.quantity())
@@ -62,12 +80,5 @@ public class CreateInventoryTransactionService implements CreateInventoryTransac
                 .reasonCode(command.reasonCode())
                 .notes(command.notes())
                 .build();
-
-        transaction.validate();
-
-        InventoryTransaction savedTransaction = inventoryTransactionRepository.save(transaction);
-        log.info("Created inventory transaction with id: {}", savedTransaction.getId());
-
-        return savedTransaction;
     }
 }
@@ -0,0 +1,117 @@
+package org.orbitalLogistic.file.application.usecases;
+
+import jakarta.annotation.PreDestroy;
+import org.orbitalLogistic.file.config.ForwardedAuthorization;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs the remote existence checks of one command at the same time, so the command waits for
+ * the slowest check instead of the sum of all of them. The first negative answer fails the
+ * command right away, checks still running are left to finish in the background and checks
+ * not started yet are skipped. The caller's Authorization header is read up front and passed
+ * to the workers as a plain value, so a check outliving the request never touches it.
+ * A full queue makes the calling thread run the check itself instead of buffering without bound.
+ */
+@Component
+public class ExistenceChecks {
+
+    private final Executor executor;
+
+    @Autowired
+    public ExistenceChecks(@Value("${validation.remote.threads:16}") int threads,
+                           @Value("${validation.remote.queue-capacity:100}") int queueCapacity) {
+        this(new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("remote-validation-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()));
+    }
+
+    ExistenceChecks(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * One remote check, returns the failure message or {@code null} when everything exists.
+     * A check may cover several ids of one service with a single bulk call.
+     */
+    @FunctionalInterface
+    public interface Check {
+        String failure();
+    }
+
+    public static Check exists(BooleanSupplier exists, String failureMessage) {
+        return () -> exists.getAsBoolean() ? null : failureMessage;
+    }
+
+    /**
+     * @throws IllegalArgumentException - with the message of the first check that failed
+     */
+    public void requireAll(List<Check> checks) {
+        String authorization = ForwardedAuthorization.fromCurrentRequest();
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        CompletableFuture<?>[] running = new CompletableFuture<?>[checks.size()];
+        for (int i = 0; i < checks.size(); i++) {
+            Check check = checks.get(i);
+            running[i] = CompletableFuture.runAsync(() -> {
+                if (!result.isDone()) {
+                    ForwardedAuthorization.runWith(authorization, () -> {
+                        String failure = check.failure();
+                        if (failure != null) {
+                            throw new IllegalArgumentException(failure);
+                        }
+                    });
+                }
+            }, executor).whenComplete((ignored, e) -> {
+                if (e != null) {
+                    result.completeExceptionally(e instanceof CompletionException ? e.getCause() : e);
+                }
+            });
+        }
+        CompletableFuture.allOf(running).thenRun(() -> result.complete(null));
+        join(result);
+    }
+
+    /**
+     * Runs every lookup and waits for all of them, for callers that collect each missing id
+     * instead of failing on the first one. A failing lookup is rethrown after all have finished.
+     */
+    public void runAll(List<Runnable> lookups) {
+        String authorization = ForwardedAuthorization.fromCurrentRequest();
+        CompletableFuture<?>[] running = lookups.stream()
+                .map(lookup -> CompletableFuture.runAsync(
+                        () -> ForwardedAuthorization.runWith(authorization, lookup), executor))
+                .toArray(CompletableFuture<?>[]::new);
+        join(CompletableFuture.allOf(running));
+    }
+
+    private static void join(CompletableFuture<?> result) {
+        try {
+            result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+}
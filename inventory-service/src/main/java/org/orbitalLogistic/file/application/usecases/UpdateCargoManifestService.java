@@ -11,6 +11,11 @@ import org.orbitalLogistic.file.application.ports.out.UserValidationPort;
 import org.orbitalLogistic.file.domain.model.CargoManifest;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
+import static org.orbitalLogistic.file.application.usecases.CreateCargoManifestService.manifestUsers;
+import static org.orbitalLogistic.file.application.usecases.ExistenceChecks.exists;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -20,6 +25,7 @@ public class UpdateCargoManifestService implements UpdateCargoManifestUseCase {
     private final CargoValidationPort cargoValidationPort;
     private final SpacecraftValidationPort spacecraftValidationPort;
     private final UserValidationPort userValidationPort;
+    private final ExistenceChecks existenceChecks;
 
     @Override
     public CargoManifest updateManifest(UpdateCargoManifestCommand command) {
@@ -29,29 +35,19 @@ public class UpdateCargoManifestService implements UpdateCargoManifestUseCase {
                 .orElseThrow(() -> new IllegalArgumentException("Cargo manifest not found with id: " + command.id()));
 
         Long spacecraftId = command.spacecraftId() != null ? command.spacecraftId() : existing.getSpacecraftId();
-        if (!spacecraftValidationPort.spacecraftExists(spacecraftId)) {
-            throw new IllegalArgumentException("Spacecraft not found with id: " + spacecraftId);
-        }
-
         Long cargoId = command.cargoId() != null ? command.cargoId() : existing.getCargoId();
-        if (!cargoValidationPort.cargoExists(cargoId)) {
-            throw new IllegalArgumentException("Cargo not found with id: " + cargoId);
-        }
-
         Long storageUnitId = command.storageUnitId() != null ? command.storageUnitId() : existing.getStorageUnitId();
-        if (!cargoValidationPort.storageUnitExists(storageUnitId)) {
-            throw new IllegalArgumentException("Storage unit not found with id: " + storageUnitId);
-        }
-
         Long loadedByUserId = command.loadedByUserId() != null ? command.loadedByUserId() : existing.getLoadedByUserId();
-        if (!userValidationPort.userExists(loadedByUserId)) {
-            throw new IllegalArgumentException("Loaded by user not found with id: " + loadedByUserId);
-        }
-
         Long unloadedByUserId = command.unloadedByUserId() != null ? command.unloadedByUserId() : existing.getUnloadedByUserId();
-        if (unloadedByUserId != null && !userValidationPort.userExists(unloadedByUserId)) {
-            throw new IllegalArgumentException("Unloaded by user not found with id: " + unloadedByUserId);
-        }
+
+        existenceChecks.requireAll(List.of(
+                exists(() -> spacecraftValidationPort.spacecraftExists(spacecraftId),
+                        "Spacecraft not found with id: " + spacecraftId),
+                exists(() -> cargoValidationPort.cargoExists(cargoId),
+                        "Cargo not found with id: " + cargoId),
+                exists(() -> cargoValidationPort.storageUnitExists(storageUnitId),
+                        "Storage unit not found with id: " + storageUnitId),
+                manifestUsers(userValidationPort, loadedByUserId, unloadedByUserId)));
 
         CargoManifest updatedManifest = existing.toBuilder()
                 .spacecraftId(spacecraftId)
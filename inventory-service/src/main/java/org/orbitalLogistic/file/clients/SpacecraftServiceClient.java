@@ -3,6 +3,11 @@ package org.orbitalLogistic.file.clients;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.Collection;
+import java.util.List;
 
 @FeignClient(name = "spacecraft-service", path = "/api/spacecrafts")
 public interface SpacecraftServiceClient {
@@ -12,5 +17,8 @@ public interface SpacecraftServiceClient {
 
     @GetMapping("/{id}/exists")
     Boolean spacecraftExists(@PathVariable Long id);
+
+    @PostMapping("/batch")
+    List<SpacecraftDTO> getSpacecraftsByIds(@RequestBody Collection<Long> ids);
 }
 
@@ -3,6 +3,9 @@ package org.orbitalLogistic.file.clients;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+
 @Slf4j
 @Component
 public class SpacecraftServiceClientFallback implements SpacecraftServiceClient {
@@ -18,5 +21,11 @@ public class SpacecraftServiceClientFallback implements SpacecraftServiceClient
         log.warn("Fallback: Unable to check if spacecraft exists with id: {}", id);
         return false;
     }
+
+    @Override
+    public List<SpacecraftDTO> getSpacecraftsByIds(Collection<Long> ids) {
+        log.warn("Fallback: Unable to fetch spacecrafts with ids: {}", ids);
+        return List.of();
+    }
 }
 
@@ -3,6 +3,12 @@ package org.orbitalLogistic.file.clients;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 @FeignClient(name = "user-service", path = "/api/users")
 public interface UserServiceClient {
@@ -12,5 +18,11 @@ public interface UserServiceClient {
 
     @GetMapping("/{id}/exists")
     Boolean userExists(@PathVariable Long id);
+
+    @PostMapping("/batch")
+    List<UserDTO> getUsersByIds(@RequestBody Collection<Long> ids);
+
+    @PostMapping("/exists-batch")
+    Map<Long, Boolean> usersExist(@RequestBody Collection<Long> ids);
 }
 
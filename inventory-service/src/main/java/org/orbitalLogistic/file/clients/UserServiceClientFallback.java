@@ -3,6 +3,10 @@ package org.orbitalLogistic.file.clients;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @Component
 public class UserServiceClientFallback implements UserServiceClient {
@@ -18,5 +22,17 @@ public class UserServiceClientFallback implements UserServiceClient {
         log.warn("Fallback: Unable to check if user exists with id: {}", id);
         return false;
     }
+
+    @Override
+    public List<UserDTO> getUsersByIds(Collection<Long> ids) {
+        log.warn("Fallback: Unable to fetch users with ids: {}", ids);
+        return List.of();
+    }
+
+    @Override
+    public Map<Long, Boolean> usersExist(Collection<Long> ids) {
+        log.warn("Fallback: Unable to check if users exist with ids: {}", ids);
+        return Map.of();
+    }
 }
 
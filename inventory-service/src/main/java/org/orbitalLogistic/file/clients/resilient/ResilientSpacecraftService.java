@@ -1,5 +1,7 @@
 package org.orbitalLogistic.file.clients.resilient;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Supplier;
 
 import org.orbitalLogistic.file.clients.SpacecraftDTO;
@@ -80,4 +82,26 @@ public class ResilientSpacecraftService {
         log.error("FALLBACK spacecraftExists! status: {}, error: {}", id, t.getClass().getSimpleName());
         throw new SpacecraftServiceException("Spacecraft Service unavailable!");
     }
+
+    public List<SpacecraftDTO> getSpacecraftsByIds(Collection<Long> ids) {
+        CircuitBreaker cb = registry.circuitBreaker("spacecraftService");
+
+        Supplier<List<SpacecraftDTO>> supplier = CircuitBreaker.decorateSupplier(
+            cb,
+            () -> spacecraftServiceApi.getSpacecraftsByIds(ids)
+        );
+
+        try {
+            return supplier.get();
+        } catch (CallNotPermittedException e) {
+            return getSpacecraftsByIdsFallback(ids, e);
+        } catch (FeignException e) {
+            throw new SpacecraftServiceException("Spacecraft Service unavailable!");
+        }
+    }
+
+    public List<SpacecraftDTO> getSpacecraftsByIdsFallback(Collection<Long> ids, Throwable t) {
+        log.error("FALLBACK getSpacecraftsByIds! ids: {}, error: {}", ids.size(), t.getClass().getSimpleName());
+        throw new SpacecraftServiceException("Spacecraft Service unavailable!");
+    }
 }
@@ -1,6 +1,8 @@
 package org.orbitalLogistic.file.clients.resilient;
 
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import org.orbitalLogistic.file.clients.UserDTO;
@@ -78,6 +80,28 @@ public class ResilientUserService {
         // }
     }
 
+    public Map<Long, Boolean> usersExist(Collection<Long> ids) {
+        CircuitBreaker cb = registry.circuitBreaker("userService");
+
+        Supplier<Map<Long, Boolean>> supplier = CircuitBreaker.decorateSupplier(
+            cb,
+            () -> userServiceApi.usersExist(ids)
+        );
+
+        try {
+            return supplier.get();
+        } catch (CallNotPermittedException e) {
+            return usersExistFallback(ids, e);
+        } catch (FeignException e) {
+            throw new UserServiceException("User Service unavailable!");
+        }
+    }
+
+    public Map<Long, Boolean> usersExistFallback(Collection<Long> ids, Throwable t) {
+        log.error("FALLBACK usersExist! ids: {}, error: {}", ids.size(), t.getClass().getSimpleName());
+        throw new UserServiceException("User service unavailable!");
+    }
+
     public Boolean userExistsFallback(Long id, Throwable t) {
         log.error("FALLBACK getUsernameById! status: {}, error: {}", id, t.getClass().getSimpleName());
         throw new UserServiceException("User service unavailable!");
@@ -0,0 +1,22 @@
+package org.orbitalLogistic.file.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.orbitalLogistic.cache.LookupCaches;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ClientCacheConfig {
+
+    @Bean
+    public LookupCaches lookupCaches(@Value("${clients.cache.max-size:10000}") long maximumSize,
+                                     @Value("${clients.cache.ttl:5m}") Duration ttl,
+                                     @Value("${clients.cache.negative-ttl:30s}") Duration negativeTtl,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        return new LookupCaches(maximumSize, ttl, negativeTtl, meterRegistry.getIfAvailable());
+    }
+}
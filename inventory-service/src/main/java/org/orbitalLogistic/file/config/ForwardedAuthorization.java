@@ -0,0 +1,52 @@
+package org.orbitalLogistic.file.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Authorization header for Feign calls made off the request thread. Workers get only the header
+ * value, never the request itself, which Tomcat recycles as soon as the response is sent.
+ */
+public final class ForwardedAuthorization {
+
+    private static final ThreadLocal<String> HEADER = new ThreadLocal<>();
+
+    private ForwardedAuthorization() {
+    }
+
+    /**
+     * The header handed to this thread by {@link #runWith}, otherwise the one of the request
+     * bound to this thread, or {@code null}.
+     */
+    public static String current() {
+        String header = HEADER.get();
+        return header != null ? header : fromCurrentRequest();
+    }
+
+    public static String fromCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            return request.getHeader(HttpHeaders.AUTHORIZATION);
+        }
+        return null;
+    }
+
+    public static void runWith(String header, Runnable action) {
+        // restored afterwards, the action may run on the calling thread
+        String previous = HEADER.get();
+        HEADER.set(header);
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                HEADER.set(previous);
+            } else {
+                HEADER.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.orbitalLogistic.file.infrastructure.adapters.in.rest;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.orbitalLogistic.file.application.ports.in.BulkTransactionLine;
+import org.orbitalLogistic.file.application.ports.in.BulkTransactionLineResult;
+import org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto.InventoryTransactionRequestDTO;
+import org.orbitalLogistic.file.infrastructure.adapters.in.rest.mapper.InventoryTransactionRestMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Turns the body of a bulk request into commands. Lines that cannot be read or fail bean
+ * validation are rejected here with their line number, so one bad line never fails the batch.
+ */
+@Component
+public class InventoryTransactionBulkReader {
+
+    private final ObjectReader lineReader;
+    private final Validator validator;
+    private final InventoryTransactionRestMapper inventoryTransactionRestMapper;
+    private final int maxLines;
+
+    public InventoryTransactionBulkReader(ObjectMapper objectMapper,
+                                          Validator validator,
+                                          InventoryTransactionRestMapper inventoryTransactionRestMapper,
+                                          @Value("${inventory-transactions.bulk.max-lines:10000}") int maxLines) {
+        this.lineReader = objectMapper.readerFor(InventoryTransactionRequestDTO.class);
+        this.validator = validator;
+        this.inventoryTransactionRestMapper = inventoryTransactionRestMapper;
+        this.maxLines = maxLines;
+    }
+
+    public record Lines(List<BulkTransactionLine> accepted, List<BulkTransactionLineResult> rejected) {
+    }
+
+    /**
+     * Reads a JSON array one element at a time, so the limit is enforced before the rest of the
+     * body is parsed. Elements are numbered from one. An element that does not bind to a request
+     * is rejected on its own; a syntax error rejects the element it occurs in and ends the reading,
+     * because the following elements can no longer be told apart.
+     */
+    public Lines fromJsonArray(InputStream body) throws IOException {
+        Lines lines = new Lines(new ArrayList<>(), new ArrayList<>());
+        try (JsonParser parser = lineReader.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Bulk request body must be a JSON array");
+            }
+            int lineNumber = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                requireWithinLimit(++lineNumber);
+                JsonNode element = parser.readValueAsTree();
+                try {
+                    add(lines, lineNumber, lineReader.readValue(element));
+                } catch (JsonProcessingException e) {
+                    lines.rejected().add(BulkTransactionLineResult.rejected(lineNumber,
+                            "Malformed JSON: " + e.getOriginalMessage()));
+                }
+            }
+        } catch (JsonParseException e) {
+            int brokenLine = lines.accepted().size() + lines.rejected().size() + 1;
+            lines.rejected().add(BulkTransactionLineResult.rejected(brokenLine,
+                    "Malformed JSON: " + e.getOriginalMessage()));
+        }
+        return lines;
+    }
+
+    /**
+     * Reads one request per line while the body is still arriving. Blank lines are skipped but
+     * keep the numbering of the following lines.
+     */
+    public Lines fromNdjson(InputStream body) throws IOException {
+        Lines lines = new Lines(new ArrayList<>(), new ArrayList<>());
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        int lineNumber = 0;
+        int requests = 0;
+        for (String text = reader.readLine(); text != null; text = reader.readLine()) {
+            lineNumber++;
+            if (text.isBlank()) {
+                continue;
+            }
+            requireWithinLimit(++requests);
+            try {
+                add(lines, lineNumber, lineReader.readValue(text));
+            } catch (JsonProcessingException e) {
+                lines.rejected().add(BulkTransactionLineResult.rejected(lineNumber,
+                        "Malformed JSON: " + e.getOriginalMessage()));
+            }
+        }
+        return lines;
+    }
+
+    private void add(Lines lines, int lineNumber, InventoryTransactionRequestDTO request) {
+        if (request == null) {
+            lines.rejected().add(BulkTransactionLineResult.rejected(lineNumber, "Transaction is required"));
+            return;
+        }
+        Set<ConstraintViolation<InventoryTransactionRequestDTO>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            lines.rejected().add(BulkTransactionLineResult.rejected(lineNumber, message));
+            return;
+        }
+        lines.accepted().add(new BulkTransactionLine(lineNumber, inventoryTransactionRestMapper.toCommand(request)));
+    }
+
+    private void requireWithinLimit(int requests) {
+        if (requests > maxLines) {
+            throw new IllegalArgumentException("Bulk request must not contain more than " + maxLines + " transactions");
+        }
+    }
+}
@@ -2,19 +2,27 @@ package org.orbitalLogistic.file.infrastructure.adapters.in.rest;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.orbitalLogistic.file.application.ports.in.BulkCreateInventoryTransactionsUseCase;
+import org.orbitalLogistic.file.application.ports.in.BulkTransactionLineResult;
 import org.orbitalLogistic.file.application.ports.in.CreateInventoryTransactionCommand;
 import org.orbitalLogistic.file.application.ports.in.CreateInventoryTransactionUseCase;
 import org.orbitalLogistic.file.application.ports.in.GetInventoryTransactionsUseCase;
 import org.orbitalLogistic.file.domain.model.InventoryTransaction;
+import org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto.BulkInventoryTransactionResponseDTO;
 import org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto.InventoryTransactionRequestDTO;
 import org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto.PageResponseDTO;
 import org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto.InventoryTransactionResponseDTO;
 import org.orbitalLogistic.file.infrastructure.adapters.in.rest.mapper.InventoryTransactionRestMapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @RestController
@@ -25,6 +33,8 @@ public class InventoryTransactionRestController {
     private final CreateInventoryTransactionUseCase createInventoryTransactionUseCase;
     private final GetInventoryTransactionsUseCase getInventoryTransactionsUseCase;
     private final InventoryTransactionRestMapper inventoryTransactionRestMapper;
+    private final BulkCreateInventoryTransactionsUseCase bulkCreateInventoryTransactionsUseCase;
+    private final InventoryTransactionBulkReader inventoryTransactionBulkReader;
 
     @GetMapping
     public ResponseEntity<PageResponseDTO<InventoryTransactionResponseDTO>> getAllTransactions(
@@ -86,4 +96,29 @@ public class InventoryTransactionRestController {
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'LOGISTICS_OFFICER')")
+    public ResponseEntity<BulkInventoryTransactionResponseDTO> createTransactions(
+            InputStream body) throws IOException {
+
+        return createTransactions(inventoryTransactionBulkReader.fromJsonArray(body));
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'LOGISTICS_OFFICER')")
+    public ResponseEntity<BulkInventoryTransactionResponseDTO> createTransactionsFromNdjson(
+            InputStream body) throws IOException {
+
+        return createTransactions(inventoryTransactionBulkReader.fromNdjson(body));
+    }
+
+    private ResponseEntity<BulkInventoryTransactionResponseDTO> createTransactions(InventoryTransactionBulkReader.Lines lines) {
+        List<BulkTransactionLineResult> results = new ArrayList<>(lines.rejected());
+        if (!lines.accepted().isEmpty()) {
+            results.addAll(bulkCreateInventoryTransactionsUseCase.createTransactions(lines.accepted()));
+        }
+        results.sort(Comparator.comparingInt(BulkTransactionLineResult::line));
+        return ResponseEntity.ok(inventoryTransactionRestMapper.toBulkResponseDTO(results));
+    }
 }
@@ -0,0 +1,11 @@
+package org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto;
+
+import java.util.List;
+
+public record BulkInventoryTransactionResponseDTO(
+        int received,
+        int created,
+        int rejected,
+        List<BulkLineResultDTO> lines
+) {
+}
@@ -0,0 +1,8 @@
+package org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto;
+
+public record BulkLineResultDTO(
+        int line,
+        Long id,
+        String error
+) {
+}
@@ -1,11 +1,16 @@
 package org.orbitalLogistic.file.infrastructure.adapters.in.rest.mapper;
 
+import org.orbitalLogistic.file.application.ports.in.BulkTransactionLineResult;
 import org.orbitalLogistic.file.application.ports.in.CreateInventoryTransactionCommand;
 import org.orbitalLogistic.file.domain.model.InventoryTransaction;
+import org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto.BulkInventoryTransactionResponseDTO;
+import org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto.BulkLineResultDTO;
 import org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto.InventoryTransactionRequestDTO;
 import org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto.InventoryTransactionResponseDTO;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class InventoryTransactionRestMapper {
 
@@ -48,6 +53,17 @@ public class InventoryTransactionRestMapper {
         );
     }
 
+    public BulkInventoryTransactionResponseDTO toBulkResponseDTO(List<BulkTransactionLineResult> results) {
+        List<BulkLineResultDTO> lines = results.stream()
+                .map(result -> new BulkLineResultDTO(
+                        result.line(),
+                        result.isCreated() ? result.transaction().getId() : null,
+                        result.error()))
+                .toList();
+        int created = (int) results.stream().filter(BulkTransactionLineResult::isCreated).count();
+        return new BulkInventoryTransactionResponseDTO(results.size(), created, results.size() - created, lines);
+    }
+
     private org.orbitalLogistic.file.domain.model.enums.TransactionType mapTransactionType(
             org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto.TransactionType dto) {
         if (dto == null) return null;
@@ -1,22 +1,37 @@
 package org.orbitalLogistic.file.infrastructure.adapters.out.external;
 
-import lombok.RequiredArgsConstructor;
+import feign.FeignException;
 import lombok.extern.slf4j.Slf4j;
+import org.orbitalLogistic.cache.LookupCache;
+import org.orbitalLogistic.cache.LookupCaches;
 import org.orbitalLogistic.file.application.ports.out.CargoValidationPort;
 import org.orbitalLogistic.file.clients.resilient.ResilientCargoServiceClient;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class CargoValidationAdapter implements CargoValidationPort {
 
     private final ResilientCargoServiceClient cargoServiceClient;
+    private final LookupCache<Long, Boolean> cargoExists;
+    private final LookupCache<Long, Boolean> storageUnitExists;
+
+    public CargoValidationAdapter(ResilientCargoServiceClient cargoServiceClient, LookupCaches lookupCaches) {
+        this.cargoServiceClient = cargoServiceClient;
+        this.cargoExists = lookupCaches.<Long, Boolean>builder("client.cargo-exists")
+                .negativeWhen(exists -> !exists)
+                .notFoundWhen(LookupCache.causedBy(FeignException.NotFound.class))
+                .build();
+        this.storageUnitExists = lookupCaches.<Long, Boolean>builder("client.storage-unit-exists")
+                .negativeWhen(exists -> !exists)
+                .notFoundWhen(LookupCache.causedBy(FeignException.NotFound.class))
+                .build();
+    }
 
     @Override
     public boolean cargoExists(Long cargoId) {
         try {
-            return cargoServiceClient.cargoExists(cargoId);
+            return cargoExists.get(cargoId, cargoServiceClient::cargoExists);
         } catch (Exception e) {
             log.error("Error validating cargo existence for id: {}", cargoId, e);
             return false;
@@ -26,7 +41,7 @@ public class CargoValidationAdapter implements CargoValidationPort {
     @Override
     public boolean storageUnitExists(Long storageUnitId) {
         try {
-            return cargoServiceClient.storageUnitExists(storageUnitId);
+            return storageUnitExists.get(storageUnitId, cargoServiceClient::storageUnitExists);
         } catch (Exception e) {
             log.error("Error validating storage unit existence for id: {}", storageUnitId, e);
             return false;
@@ -1,25 +1,70 @@
 package org.orbitalLogistic.file.infrastructure.adapters.out.external;
 
-import lombok.RequiredArgsConstructor;
+import feign.FeignException;
 import lombok.extern.slf4j.Slf4j;
+import org.orbitalLogistic.cache.LookupCache;
+import org.orbitalLogistic.cache.LookupCaches;
 import org.orbitalLogistic.file.application.ports.out.SpacecraftValidationPort;
+import org.orbitalLogistic.file.clients.SpacecraftDTO;
 import org.orbitalLogistic.file.clients.resilient.ResilientSpacecraftService;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class SpacecraftValidationAdapter implements SpacecraftValidationPort {
 
     private final ResilientSpacecraftService spacecraftService;
+    private final LookupCache<Long, Boolean> spacecraftExists;
+
+    public SpacecraftValidationAdapter(ResilientSpacecraftService spacecraftService, LookupCaches lookupCaches) {
+        this.spacecraftService = spacecraftService;
+        this.spacecraftExists = lookupCaches.<Long, Boolean>builder("client.spacecraft-exists")
+                .negativeWhen(exists -> !exists)
+                .notFoundWhen(LookupCache.causedBy(FeignException.NotFound.class))
+                .build();
+    }
 
     @Override
     public boolean spacecraftExists(Long spacecraftId) {
         try {
-            return spacecraftService.spacecraftExists(spacecraftId);
+            return spacecraftExists.get(spacecraftId, spacecraftService::spacecraftExists);
         } catch (Exception e) {
             log.error("Error validating spacecraft existence for id: {}", spacecraftId, e);
             return false;
         }
     }
+
+    @Override
+    public Map<Long, Boolean> spacecraftsExist(Collection<Long> spacecraftIds) {
+        Map<Long, Boolean> result = new HashMap<>();
+        if (spacecraftIds.isEmpty()) {
+            return result;
+        }
+        try {
+            Map<Long, Boolean> existence = spacecraftExists.getAll(spacecraftIds, this::loadExistence);
+            for (Long spacecraftId : spacecraftIds) {
+                result.put(spacecraftId, Boolean.TRUE.equals(existence.get(spacecraftId)));
+            }
+        } catch (Exception e) {
+            log.error("Error validating existence of {} spacecrafts", spacecraftIds.size(), e);
+            for (Long spacecraftId : spacecraftIds) {
+                result.put(spacecraftId, false);
+            }
+        }
+        return result;
+    }
+
+    // the batch endpoint lists only the spacecrafts that exist, ids left out are cached as absent
+    private Map<Long, Boolean> loadExistence(Set<Long> spacecraftIds) {
+        Map<Long, Boolean> existence = new HashMap<>();
+        for (SpacecraftDTO spacecraft : spacecraftService.getSpacecraftsByIds(spacecraftIds)) {
+            existence.put(spacecraft.id(), true);
+        }
+        return existence;
+    }
 }
@@ -1,25 +1,74 @@
 package org.orbitalLogistic.file.infrastructure.adapters.out.external;
 
-import lombok.RequiredArgsConstructor;
+import feign.FeignException;
 import lombok.extern.slf4j.Slf4j;
+import org.orbitalLogistic.cache.LookupCache;
+import org.orbitalLogistic.cache.LookupCaches;
 import org.orbitalLogistic.file.application.ports.out.UserValidationPort;
 import org.orbitalLogistic.file.clients.resilient.ResilientUserService;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class UserValidationAdapter implements UserValidationPort {
 
+    /** Largest id batch user-service accepts in one call. */
+    private static final int USER_BATCH_SIZE = 1000;
+
     private final ResilientUserService userService;
+    private final LookupCache<Long, Boolean> userExists;
+
+    public UserValidationAdapter(ResilientUserService userService, LookupCaches lookupCaches) {
+        this.userService = userService;
+        this.userExists = lookupCaches.<Long, Boolean>builder("client.user-exists")
+                .negativeWhen(exists -> !exists)
+                .notFoundWhen(LookupCache.causedBy(FeignException.NotFound.class))
+                .build();
+    }
 
     @Override
     public boolean userExists(Long userId) {
         try {
-            return userService.userExists(userId);
+            return userExists.get(userId, userService::userExists);
         } catch (Exception e) {
             log.error("Error validating user existence for id: {}", userId, e);
             return false;
         }
     }
+
+    @Override
+    public Map<Long, Boolean> usersExist(Collection<Long> userIds) {
+        Map<Long, Boolean> result = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return result;
+        }
+        try {
+            Map<Long, Boolean> existence = userExists.getAll(userIds, this::loadExistence);
+            for (Long userId : userIds) {
+                result.put(userId, Boolean.TRUE.equals(existence.get(userId)));
+            }
+        } catch (Exception e) {
+            log.error("Error validating existence of {} users", userIds.size(), e);
+            for (Long userId : userIds) {
+                result.put(userId, false);
+            }
+        }
+        return result;
+    }
+
+    private Map<Long, Boolean> loadExistence(Set<Long> userIds) {
+        List<Long> ids = List.copyOf(userIds);
+        Map<Long, Boolean> existence = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += USER_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + USER_BATCH_SIZE, ids.size()));
+            existence.putAll(userService.usersExist(Set.copyOf(batch)));
+        }
+        return existence;
+    }
 }
@@ -3,8 +3,12 @@ package org.orbitalLogistic.file.infrastructure.adapters.out.persistence;
 import lombok.RequiredArgsConstructor;
 import org.orbitalLogistic.file.application.ports.out.InventoryTransactionRepository;
 import org.orbitalLogistic.file.domain.model.InventoryTransaction;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -12,8 +16,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class InventoryTransactionPersistenceAdapter implements InventoryTransactionRepository {
 
+    // 11 parameters per row, stays well below the 32767 bind parameters of one PostgreSQL statement
+    static final int INSERT_CHUNK_ROWS = 1000;
+
+    private static final String INSERT_COLUMNS = """
+            INSERT INTO inventory_transaction (transaction_type, cargo_id, quantity,
+                from_storage_unit_id, to_storage_unit_id, from_spacecraft_id, to_spacecraft_id,
+                performed_by_user_id, transaction_date, reason_code, notes)
+            VALUES\s""";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final InventoryTransactionJdbcRepository jdbcRepository;
     private final InventoryTransactionPersistenceMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public InventoryTransaction save(InventoryTransaction transaction) {
@@ -22,6 +37,27 @@ public class InventoryTransactionPersistenceAdapter implements InventoryTransact
         return mapper.toDomain(saved);
     }
 
+    /**
+     * Inserts with one multi-row statement per {@link #INSERT_CHUNK_ROWS} rows, all chunks in one
+     * transaction. The ids come back from {@code RETURNING} in the order of the {@code VALUES} rows.
+     */
+    @Override
+    @Transactional
+    public List<InventoryTransaction> saveAll(List<InventoryTransaction> transactions) {
+        List<InventoryTransaction> saved = new ArrayList<>(transactions.size());
+        for (int from = 0; from < transactions.size(); from += INSERT_CHUNK_ROWS) {
+            List<InventoryTransaction> chunk = transactions.subList(from,
+                    Math.min(from + INSERT_CHUNK_ROWS, transactions.size()));
+            String sql = INSERT_COLUMNS + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDERS))
+                    + " RETURNING id";
+            List<Long> ids = jdbcTemplate.queryForList(sql, Long.class, parameters(chunk));
+            for (int i = 0; i < chunk.size(); i++) {
+                saved.add(chunk.get(i).toBuilder().id(ids.get(i)).build());
+            }
+        }
+        return saved;
+    }
+
     @Override
     public List<InventoryTransaction> findAll(int limit, int offset) {
         return jdbcRepository.findAllPaginated(limit, offset).stream()
@@ -45,4 +81,23 @@ public class InventoryTransactionPersistenceAdapter implements InventoryTransact
     public long countByCargoId(Long cargoId) {
         return jdbcRepository.countByCargoId(cargoId);
     }
+
+    private Object[] parameters(List<InventoryTransaction> chunk) {
+        List<Object> parameters = new ArrayList<>(chunk.size() * 11);
+        for (InventoryTransaction transaction : chunk) {
+            InventoryTransactionEntity entity = mapper.toEntity(transaction);
+            parameters.add(entity.getTransactionType());
+            parameters.add(entity.getCargoId());
+            parameters.add(entity.getQuantity());
+            parameters.add(entity.getFromStorageUnitId());
+            parameters.add(entity.getToStorageUnitId());
+            parameters.add(entity.getFromSpacecraftId());
+            parameters.add(entity.getToSpacecraftId());
+            parameters.add(entity.getPerformedByUserId());
+            parameters.add(entity.getTransactionDate());
+            parameters.add(entity.getReasonCode());
+            parameters.add(entity.getNotes());
+        }
+        return parameters.toArray();
+    }
 }
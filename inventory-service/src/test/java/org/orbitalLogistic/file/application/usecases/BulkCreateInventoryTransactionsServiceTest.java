@@ -0,0 +1,138 @@
+package org.orbitalLogistic.file.application.usecases;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.file.application.ports.in.BulkTransactionLine;
+import org.orbitalLogistic.file.application.ports.in.BulkTransactionLineResult;
+import org.orbitalLogistic.file.application.ports.in.CreateInventoryTransactionCommand;
+import org.orbitalLogistic.file.application.ports.out.CargoValidationPort;
+import org.orbitalLogistic.file.application.ports.out.InventoryTransactionRepository;
+import org.orbitalLogistic.file.application.ports.out.SpacecraftValidationPort;
+import org.orbitalLogistic.file.application.ports.out.UserValidationPort;
+import org.orbitalLogistic.file.domain.model.InventoryTransaction;
+import org.orbitalLogistic.file.domain.model.enums.TransactionType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkCreateInventoryTransactionsServiceTest {
+
+    @Mock
+    private InventoryTransactionRepository inventoryTransactionRepository;
+
+    @Mock
+    private CargoValidationPort cargoValidationPort;
+
+    @Mock
+    private SpacecraftValidationPort spacecraftValidationPort;
+
+    @Mock
+    private UserValidationPort userValidationPort;
+
+    private BulkCreateInventoryTransactionsService bulkCreateInventoryTransactionsService;
+
+    @BeforeEach
+    void setUp() {
+        bulkCreateInventoryTransactionsService = new BulkCreateInventoryTransactionsService(inventoryTransactionRepository,
+                cargoValidationPort, spacecraftValidationPort, userValidationPort, new ExistenceChecks(Runnable::run));
+    }
+
+    @Test
+    @DisplayName("Should check every distinct reference once and save all lines with one call")
+    void createTransactions_ChecksDistinctIdsOnce() {
+        when(cargoValidationPort.cargoExists(1L)).thenReturn(true);
+        when(cargoValidationPort.storageUnitExists(5L)).thenReturn(true);
+        when(spacecraftValidationPort.spacecraftsExist(Set.of(7L, 8L))).thenReturn(Map.of(7L, true, 8L, true));
+        when(userValidationPort.usersExist(Set.of(3L))).thenReturn(Map.of(3L, true));
+        mockSaveAll();
+
+        List<BulkTransactionLineResult> results = bulkCreateInventoryTransactionsService.createTransactions(List.of(
+                line(1, load(1L, 5L, 3L)),
+                line(2, unloadFromSpacecraft(1L, 8L, 3L)),
+                line(3, unloadFromSpacecraft(1L, 7L, 3L))));
+
+        assertEquals(3, results.size());
+        assertTrue(results.stream().allMatch(BulkTransactionLineResult::isCreated));
+        assertEquals(List.of(1, 2, 3), results.stream().map(BulkTransactionLineResult::line).toList());
+        assertEquals(List.of(100L, 101L, 102L), results.stream().map(r -> r.transaction().getId()).toList());
+        verify(cargoValidationPort, times(1)).cargoExists(1L);
+        verify(cargoValidationPort, times(1)).storageUnitExists(5L);
+        verify(userValidationPort, times(1)).usersExist(Set.of(3L));
+        verify(spacecraftValidationPort, times(1)).spacecraftsExist(Set.of(7L, 8L));
+        verify(spacecraftValidationPort, never()).spacecraftExists(anyLong());
+        verify(inventoryTransactionRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject only the lines with invalid data or missing references")
+    void createTransactions_RejectsInvalidLines() {
+        when(cargoValidationPort.cargoExists(1L)).thenReturn(true);
+        when(cargoValidationPort.cargoExists(2L)).thenReturn(false);
+        when(cargoValidationPort.storageUnitExists(5L)).thenReturn(true);
+        when(userValidationPort.usersExist(Set.of(3L, 4L))).thenReturn(Map.of(3L, true));
+        mockSaveAll();
+
+        List<BulkTransactionLineResult> results = bulkCreateInventoryTransactionsService.createTransactions(List.of(
+                line(1, load(1L, 5L, 3L)),
+                line(2, load(2L, 5L, 3L)),
+                line(3, load(1L, 5L, 4L)),
+                line(4, load(1L, null, 3L))));
+
+        assertTrue(results.get(0).isCreated());
+        assertEquals("Cargo not found with id: 2", results.get(1).error());
+        assertEquals("User not found with id: 4", results.get(2).error());
+        assertEquals("LOAD transaction requires a target (storage unit or spacecraft)", results.get(3).error());
+        verify(inventoryTransactionRepository).saveAll(argThat(saved -> saved.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should not touch the repository when every line is rejected")
+    void createTransactions_AllRejected() {
+        when(cargoValidationPort.cargoExists(2L)).thenReturn(false);
+        when(cargoValidationPort.storageUnitExists(5L)).thenReturn(true);
+        when(userValidationPort.usersExist(Set.of(3L))).thenReturn(Map.of(3L, true));
+
+        List<BulkTransactionLineResult> results = bulkCreateInventoryTransactionsService.createTransactions(List.of(
+                line(1, load(2L, 5L, 3L))));
+
+        assertFalse(results.get(0).isCreated());
+        verify(inventoryTransactionRepository, never()).saveAll(anyList());
+    }
+
+    private void mockSaveAll() {
+        AtomicLong ids = new AtomicLong(100);
+        when(inventoryTransactionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<InventoryTransaction> transactions = invocation.getArgument(0);
+            return transactions.stream()
+                    .map(t -> t.toBuilder().id(ids.getAndIncrement()).build())
+                    .toList();
+        });
+    }
+
+    private static BulkTransactionLine line(int line, CreateInventoryTransactionCommand command) {
+        return new BulkTransactionLine(line, command);
+    }
+
+    private static CreateInventoryTransactionCommand load(Long cargoId, Long toStorageUnitId, Long userId) {
+        return new CreateInventoryTransactionCommand(TransactionType.LOAD, cargoId, 10, null, toStorageUnitId,
+                null, null, userId, LocalDateTime.now(), "DOCK", null);
+    }
+
+    private static CreateInventoryTransactionCommand unloadFromSpacecraft(Long cargoId, Long fromSpacecraftId, Long userId) {
+        return new CreateInventoryTransactionCommand(TransactionType.UNLOAD, cargoId, 10, null, null,
+                fromSpacecraftId, null, userId, LocalDateTime.now(), "DOCK", null);
+    }
+}
@@ -4,7 +4,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.orbitalLogistic.file.application.ports.in.CreateCargoManifestCommand;
@@ -17,6 +16,8 @@ import org.orbitalLogistic.file.domain.model.enums.ManifestPriority;
 import org.orbitalLogistic.file.domain.model.enums.ManifestStatus;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,13 +38,14 @@ class CreateCargoManifestServiceTest {
     @Mock
     private UserValidationPort userValidationPort;
 
-    @InjectMocks
     private CreateCargoManifestService createCargoManifestService;
 
     private CreateCargoManifestCommand command;
 
     @BeforeEach
     void setUp() {
+        createCargoManifestService = new CreateCargoManifestService(cargoManifestRepository, cargoValidationPort,
+                spacecraftValidationPort, userValidationPort, new ExistenceChecks(Runnable::run));
         command = new CreateCargoManifestCommand(
                 1L,
                 1L,
@@ -142,4 +144,23 @@ class CreateCargoManifestServiceTest {
         assertEquals("Loaded by user not found with id: 1", exception.getMessage());
         verify(cargoManifestRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("Should check loading and unloading user with one bulk call")
+    void createManifest_UnloadedByUserNotFound() {
+        command = new CreateCargoManifestCommand(1L, 1L, 1L, 10, LocalDateTime.now(), LocalDateTime.now(),
+                1L, 2L, ManifestStatus.UNLOADED, ManifestPriority.NORMAL);
+        when(spacecraftValidationPort.spacecraftExists(1L)).thenReturn(true);
+        when(cargoValidationPort.cargoExists(1L)).thenReturn(true);
+        when(cargoValidationPort.storageUnitExists(1L)).thenReturn(true);
+        when(userValidationPort.usersExist(List.of(1L, 2L))).thenReturn(Map.of(1L, true, 2L, false));
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> createCargoManifestService.createManifest(command)
+        );
+
+        assertEquals("Unloaded by user not found with id: 2", exception.getMessage());
+        verify(userValidationPort, never()).userExists(any());
+        verify(cargoManifestRepository, never()).save(any());
+    }
 }
@@ -4,20 +4,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.orbitalLogistic.file.application.ports.in.CreateInventoryTransactionCommand;
 import org.orbitalLogistic.file.application.ports.out.CargoValidationPort;
 import org.orbitalLogistic.file.application.ports.out.InventoryTransactionRepository;
+import org.orbitalLogistic.file.application.ports.out.SpacecraftValidationPort;
 import org.orbitalLogistic.file.application.ports.out.UserValidationPort;
 import org.orbitalLogistic.file.domain.model.InventoryTransaction;
 import org.orbitalLogistic.file.domain.model.enums.TransactionType;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.answersWithDelay;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,16 +32,20 @@ class CreateInventoryTransactionServiceTest {
     @Mock
     private CargoValidationPort cargoValidationPort;
 
+    @Mock
+    private SpacecraftValidationPort spacecraftValidationPort;
+
     @Mock
     private UserValidationPort userValidationPort;
 
-    @InjectMocks
     private CreateInventoryTransactionService createInventoryTransactionService;
 
     private CreateInventoryTransactionCommand command;
 
     @BeforeEach
     void setUp() {
+        createInventoryTransactionService = new CreateInventoryTransactionService(inventoryTransactionRepository, cargoValidationPort,
+                spacecraftValidationPort, userValidationPort, new ExistenceChecks(Runnable::run));
         command = new CreateInventoryTransactionCommand(
                 TransactionType.LOAD,
                 1L, // cargoId
@@ -121,4 +128,29 @@ class CreateInventoryTransactionServiceTest {
         assertEquals("Target storage unit not found with id: 1", exception.getMessage());
         verify(inventoryTransactionRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("Should wait for the slowest remote check instead of the sum of all")
+    void createTransaction_ChecksRunConcurrently() {
+        ExistenceChecks existenceChecks = new ExistenceChecks(4, 10);
+        createInventoryTransactionService = new CreateInventoryTransactionService(inventoryTransactionRepository,
+                cargoValidationPort, spacecraftValidationPort, userValidationPort, existenceChecks);
+        command = new CreateInventoryTransactionCommand(TransactionType.TRANSFER, 1L, 10, 1L, 2L, null, null, 1L,
+                LocalDateTime.now(), "TEST", "Test transaction");
+        when(cargoValidationPort.cargoExists(1L)).then(answersWithDelay(300, invocation -> true));
+        when(userValidationPort.userExists(1L)).then(answersWithDelay(300, invocation -> true));
+        when(cargoValidationPort.storageUnitExists(anyLong())).then(answersWithDelay(300, invocation -> true));
+        when(inventoryTransactionRepository.save(any(InventoryTransaction.class))).then(invocation -> invocation.getArgument(0));
+
+        long start = System.nanoTime();
+        createInventoryTransactionService.createTransaction(command);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        existenceChecks.shutdown();
+
+        // four checks of 300 ms each took 1200 ms when run one after another
+        assertTrue(elapsedMillis >= 300, "took " + elapsedMillis + " ms");
+        assertTrue(elapsedMillis < 900, "took " + elapsedMillis + " ms");
+        verify(cargoValidationPort).storageUnitExists(1L);
+        verify(cargoValidationPort).storageUnitExists(2L);
+    }
 }
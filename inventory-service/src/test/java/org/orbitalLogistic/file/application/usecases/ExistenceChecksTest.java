@@ -0,0 +1,145 @@
+package org.orbitalLogistic.file.application.usecases;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.orbitalLogistic.file.config.ForwardedAuthorization;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.orbitalLogistic.file.application.usecases.ExistenceChecks.exists;
+
+class ExistenceChecksTest {
+
+    private ExistenceChecks existenceChecks;
+
+    @BeforeEach
+    void setUp() {
+        existenceChecks = new ExistenceChecks(4, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        existenceChecks.shutdown();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should fail on the first negative answer without waiting for slower checks")
+    void requireAll_FailsFast() {
+        CountDownLatch slowCheck = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> existenceChecks.requireAll(List.of(
+                        exists(() -> await(slowCheck), "Cargo not found with id: 1"),
+                        exists(() -> false, "User not found with id: 2"))));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        slowCheck.countDown();
+
+        assertEquals("User not found with id: 2", exception.getMessage());
+        assertTrue(elapsedMillis < 5_000, "took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    @DisplayName("Should pass when every check succeeds")
+    void requireAll_AllExist() {
+        assertDoesNotThrow(() -> existenceChecks.requireAll(List.of(
+                exists(() -> true, "Cargo not found with id: 1"),
+                exists(() -> true, "User not found with id: 2"))));
+    }
+
+    @Test
+    @DisplayName("Should hand the caller's Authorization header to the checks, not its request")
+    void requireAll_PropagatesAuthorizationOnly() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token-123");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        AtomicReference<String> seenHeader = new AtomicReference<>();
+        AtomicReference<RequestAttributes> seenAttributes = new AtomicReference<>();
+
+        existenceChecks.requireAll(List.of(exists(() -> {
+            seenHeader.set(ForwardedAuthorization.current());
+            seenAttributes.set(RequestContextHolder.getRequestAttributes());
+            return true;
+        }, "Cargo not found with id: 1")));
+
+        assertEquals("Bearer token-123", seenHeader.get());
+        assertNull(seenAttributes.get());
+    }
+
+    @Test
+    @DisplayName("Should keep the header for checks still running after a fail-fast return")
+    void requireAll_CheckOutlivingRequestKeepsHeader() throws InterruptedException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token-123");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        CountDownLatch slowCheckStarted = new CountDownLatch(1);
+        CountDownLatch requestDone = new CountDownLatch(1);
+        CountDownLatch slowCheckDone = new CountDownLatch(1);
+        AtomicReference<String> seenHeader = new AtomicReference<>();
+
+        assertThrows(IllegalArgumentException.class, () -> existenceChecks.requireAll(List.of(
+                exists(() -> {
+                    slowCheckStarted.countDown();
+                    await(requestDone);
+                    seenHeader.set(ForwardedAuthorization.current());
+                    slowCheckDone.countDown();
+                    return true;
+                }, "Cargo not found with id: 1"),
+                exists(() -> !await(slowCheckStarted), "User not found with id: 2"))));
+        RequestContextHolder.resetRequestAttributes();
+        request.removeHeader("Authorization");
+        requestDone.countDown();
+
+        assertTrue(slowCheckDone.await(30, TimeUnit.SECONDS));
+        assertEquals("Bearer token-123", seenHeader.get());
+    }
+
+    @Test
+    @DisplayName("Should run every lookup and rethrow a failure after all have finished")
+    void runAll_WaitsForEveryLookup() {
+        AtomicInteger finished = new AtomicInteger();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> existenceChecks.runAll(List.of(
+                        () -> {
+                            throw new IllegalStateException("Cargo service unavailable");
+                        },
+                        () -> {
+                            sleep(200);
+                            finished.incrementAndGet();
+                        },
+                        finished::incrementAndGet)));
+
+        assertEquals("Cargo service unavailable", exception.getMessage());
+        assertEquals(2, finished.get());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
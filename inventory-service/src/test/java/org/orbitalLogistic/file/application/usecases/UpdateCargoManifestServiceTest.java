@@ -4,7 +4,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.orbitalLogistic.file.application.ports.in.UpdateCargoManifestCommand;
@@ -38,7 +37,6 @@ class UpdateCargoManifestServiceTest {
     @Mock
     private UserValidationPort userValidationPort;
 
-    @InjectMocks
     private UpdateCargoManifestService updateCargoManifestService;
 
     private CargoManifest existingManifest;
@@ -46,6 +44,8 @@ class UpdateCargoManifestServiceTest {
 
     @BeforeEach
     void setUp() {
+        updateCargoManifestService = new UpdateCargoManifestService(cargoManifestRepository, cargoValidationPort,
+                spacecraftValidationPort, userValidationPort, new ExistenceChecks(Runnable::run));
         existingManifest = CargoManifest.builder()
                 .id(1L)
                 .spacecraftId(1L)
@@ -0,0 +1,104 @@
+package org.orbitalLogistic.file.infrastructure.adapters.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.orbitalLogistic.file.application.ports.in.BulkTransactionLine;
+import org.orbitalLogistic.file.application.ports.in.BulkTransactionLineResult;
+import org.orbitalLogistic.file.domain.model.enums.TransactionType;
+import org.orbitalLogistic.file.infrastructure.adapters.in.rest.mapper.InventoryTransactionRestMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventoryTransactionBulkReaderTest {
+
+    private static final String VALID_LINE =
+            "{\"transactionType\":\"LOAD\",\"cargoId\":1,\"quantity\":10,\"toStorageUnitId\":5,\"performedByUserId\":3}";
+
+    private InventoryTransactionBulkReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new InventoryTransactionBulkReader(new ObjectMapper().findAndRegisterModules(),
+                Validation.buildDefaultValidatorFactory().getValidator(), new InventoryTransactionRestMapper(), 3);
+    }
+
+    @Test
+    @DisplayName("Should read NDJSON line by line and reject only the bad lines")
+    void fromNdjson_RejectsBadLinesOnly() throws IOException {
+        InventoryTransactionBulkReader.Lines lines = reader.fromNdjson(ndjson(
+                VALID_LINE,
+                "",
+                "{\"transactionType\":\"LOAD\",",
+                "{\"transactionType\":\"LOAD\",\"cargoId\":1,\"quantity\":0,\"performedByUserId\":3}"));
+
+        assertEquals(List.of(1), lines.accepted().stream().map(BulkTransactionLine::line).toList());
+        assertEquals(TransactionType.LOAD, lines.accepted().getFirst().command().transactionType());
+        assertEquals(List.of(3, 4), lines.rejected().stream().map(BulkTransactionLineResult::line).toList());
+        assertTrue(lines.rejected().get(0).error().startsWith("Malformed JSON"));
+        assertEquals("quantity: Quantity must be positive", lines.rejected().get(1).error());
+    }
+
+    @Test
+    @DisplayName("Should refuse NDJSON bodies with more transactions than allowed")
+    void fromNdjson_TooManyLines() {
+        assertThrows(IllegalArgumentException.class,
+                () -> reader.fromNdjson(ndjson(VALID_LINE, VALID_LINE, VALID_LINE, VALID_LINE)));
+    }
+
+    @Test
+    @DisplayName("Should number JSON array items from one and reject only the bad items")
+    void fromJsonArray_RejectsBadItemsOnly() throws IOException {
+        InventoryTransactionBulkReader.Lines lines = reader.fromJsonArray(json("[" + String.join(",",
+                VALID_LINE,
+                "null",
+                "{\"transactionType\":\"LOAD\",\"cargoId\":\"abc\",\"quantity\":10,\"performedByUserId\":3}")
+                + "]"));
+
+        assertEquals(List.of(1), lines.accepted().stream().map(BulkTransactionLine::line).toList());
+        assertEquals(List.of(2, 3), lines.rejected().stream().map(BulkTransactionLineResult::line).toList());
+        assertEquals("Transaction is required", lines.rejected().get(0).error());
+        assertTrue(lines.rejected().get(1).error().startsWith("Malformed JSON"));
+    }
+
+    @Test
+    @DisplayName("Should keep the items read before a syntax error and reject the broken one")
+    void fromJsonArray_SyntaxErrorEndsReading() throws IOException {
+        InventoryTransactionBulkReader.Lines lines = reader.fromJsonArray(json("[" + VALID_LINE + ",{\"cargoId\":}"));
+
+        assertEquals(List.of(1), lines.accepted().stream().map(BulkTransactionLine::line).toList());
+        assertEquals(List.of(2), lines.rejected().stream().map(BulkTransactionLineResult::line).toList());
+        assertTrue(lines.rejected().getFirst().error().startsWith("Malformed JSON"));
+    }
+
+    @Test
+    @DisplayName("Should refuse JSON arrays with more transactions than allowed before reading them all")
+    void fromJsonArray_TooManyItems() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> reader.fromJsonArray(json("[" + String.join(",", VALID_LINE, VALID_LINE, VALID_LINE, VALID_LINE)
+                        + ",{\"cargoId\":}")));
+        assertEquals("Bulk request must not contain more than 3 transactions", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should refuse a JSON body that is not an array")
+    void fromJsonArray_NotAnArray() {
+        assertThrows(IllegalArgumentException.class, () -> reader.fromJsonArray(json(VALID_LINE)));
+    }
+
+    private static InputStream ndjson(String... lines) {
+        return json(String.join("\n", lines));
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -6,11 +6,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.file.application.ports.in.BulkCreateInventoryTransactionsUseCase;
+import org.orbitalLogistic.file.application.ports.in.BulkTransactionLine;
+import org.orbitalLogistic.file.application.ports.in.BulkTransactionLineResult;
 import org.orbitalLogistic.file.application.ports.in.CreateInventoryTransactionCommand;
 import org.orbitalLogistic.file.application.ports.in.CreateInventoryTransactionUseCase;
 import org.orbitalLogistic.file.application.ports.in.GetInventoryTransactionsUseCase;
 import org.orbitalLogistic.file.domain.model.InventoryTransaction;
 import org.orbitalLogistic.file.domain.model.enums.TransactionType;
+import org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto.BulkInventoryTransactionResponseDTO;
 import org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto.InventoryTransactionRequestDTO;
 import org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto.InventoryTransactionResponseDTO;
 import org.orbitalLogistic.file.infrastructure.adapters.in.rest.dto.PageResponseDTO;
@@ -18,6 +22,8 @@ import org.orbitalLogistic.file.infrastructure.adapters.in.rest.mapper.Inventory
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -36,6 +42,12 @@ class InventoryTransactionRestControllerTest {
     @Mock
     private InventoryTransactionRestMapper inventoryTransactionRestMapper;
 
+    @Mock
+    private BulkCreateInventoryTransactionsUseCase bulkCreateInventoryTransactionsUseCase;
+
+    @Mock
+    private InventoryTransactionBulkReader inventoryTransactionBulkReader;
+
     @InjectMocks
     private InventoryTransactionRestController inventoryTransactionRestController;
 
@@ -154,4 +166,35 @@ class InventoryTransactionRestControllerTest {
                 inventoryTransactionRestController.getAllTransactions(0, 100);
         verify(getInventoryTransactionsUseCase).getAllTransactions(0, 50);
     }
+
+    @Test
+    @DisplayName("Should report lines rejected while reading together with the use case results in line order")
+    void createTransactions_MergesRejectedLines() throws IOException {
+        InputStream body = InputStream.nullInputStream();
+        BulkTransactionLine accepted = new BulkTransactionLine(2, new CreateInventoryTransactionCommand(
+                TransactionType.LOAD, 1L, 10, null, 1L, null, null, 1L, null, null, null));
+        BulkTransactionLineResult rejected = BulkTransactionLineResult.rejected(1, "Malformed JSON");
+        BulkTransactionLineResult created = BulkTransactionLineResult.created(2,
+                InventoryTransaction.builder().id(7L).build());
+        BulkInventoryTransactionResponseDTO responseDTO = new BulkInventoryTransactionResponseDTO(2, 1, 1, List.of());
+
+        when(inventoryTransactionBulkReader.fromJsonArray(body)).thenReturn(
+                new InventoryTransactionBulkReader.Lines(List.of(accepted), List.of(rejected)));
+        when(bulkCreateInventoryTransactionsUseCase.createTransactions(List.of(accepted))).thenReturn(List.of(created));
+        when(inventoryTransactionRestMapper.toBulkResponseDTO(List.of(rejected, created))).thenReturn(responseDTO);
+        ResponseEntity<BulkInventoryTransactionResponseDTO> response =
+                inventoryTransactionRestController.createTransactions(body);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(responseDTO, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should not call the use case when every line was rejected while reading")
+    void createTransactions_NothingAccepted() throws IOException {
+        InputStream body = InputStream.nullInputStream();
+        when(inventoryTransactionBulkReader.fromJsonArray(body)).thenReturn(new InventoryTransactionBulkReader.Lines(
+                List.of(), List.of(BulkTransactionLineResult.rejected(1, "Transaction is required"))));
+        inventoryTransactionRestController.createTransactions(body);
+        verify(bulkCreateInventoryTransactionsUseCase, never()).createTransactions(any());
+    }
 }
@@ -1,12 +1,17 @@
 package org.orbitalLogistic.file.infrastructure.adapters.out.external;
 
+import feign.FeignException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.cache.LookupCaches;
 import org.orbitalLogistic.file.clients.resilient.ResilientCargoServiceClient;
+import org.orbitalLogistic.file.exceptions.CargoServiceException;
+
+import java.time.Duration;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -17,9 +22,14 @@ class CargoValidationAdapterTest {
     @Mock
     private ResilientCargoServiceClient cargoServiceClient;
 
-    @InjectMocks
     private CargoValidationAdapter cargoValidationAdapter;
 
+    @BeforeEach
+    void setUp() {
+        cargoValidationAdapter = new CargoValidationAdapter(cargoServiceClient,
+                new LookupCaches(100, Duration.ofMinutes(5), Duration.ofSeconds(30), null));
+    }
+
     @Test
     @DisplayName("Should return true when cargo exists")
     void cargoExists_True() {
@@ -69,4 +79,36 @@ class CargoValidationAdapterTest {
         boolean result = cargoValidationAdapter.storageUnitExists(1L);
         assertFalse(result);
     }
+
+    @Test
+    @DisplayName("Should ask cargo-service once for repeated checks of one cargo")
+    void cargoExists_Cached() {
+        when(cargoServiceClient.cargoExists(1L)).thenReturn(true);
+        cargoValidationAdapter.cargoExists(1L);
+        boolean result = cargoValidationAdapter.cargoExists(1L);
+        assertTrue(result);
+        verify(cargoServiceClient, times(1)).cargoExists(1L);
+    }
+
+    @Test
+    @DisplayName("Should cache storage unit not found answers")
+    void storageUnitExists_NotFoundCached() {
+        when(cargoServiceClient.storageUnitExists(999L)).thenThrow(new CargoServiceException(
+                "Storage unit not found", mock(FeignException.NotFound.class)));
+        cargoValidationAdapter.storageUnitExists(999L);
+        boolean result = cargoValidationAdapter.storageUnitExists(999L);
+        assertFalse(result);
+        verify(cargoServiceClient, times(1)).storageUnitExists(999L);
+    }
+
+    @Test
+    @DisplayName("Should not cache failures of an unavailable cargo-service")
+    void cargoExists_FailureNotCached() {
+        when(cargoServiceClient.cargoExists(1L))
+                .thenThrow(new RuntimeException("Service unavailable"))
+                .thenReturn(true);
+        cargoValidationAdapter.cargoExists(1L);
+        boolean result = cargoValidationAdapter.cargoExists(1L);
+        assertTrue(result);
+    }
 }
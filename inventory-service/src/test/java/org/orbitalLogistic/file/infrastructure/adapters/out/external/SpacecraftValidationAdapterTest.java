@@ -1,13 +1,20 @@
 package org.orbitalLogistic.file.infrastructure.adapters.out.external;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.cache.LookupCaches;
+import org.orbitalLogistic.file.clients.SpacecraftDTO;
 import org.orbitalLogistic.file.clients.resilient.ResilientSpacecraftService;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -17,9 +24,14 @@ class SpacecraftValidationAdapterTest {
     @Mock
     private ResilientSpacecraftService spacecraftService;
 
-    @InjectMocks
     private SpacecraftValidationAdapter spacecraftValidationAdapter;
 
+    @BeforeEach
+    void setUp() {
+        spacecraftValidationAdapter = new SpacecraftValidationAdapter(spacecraftService,
+                new LookupCaches(100, Duration.ofMinutes(5), Duration.ofSeconds(30), null));
+    }
+
     @Test
     @DisplayName("Should return true when spacecraft exists")
     void spacecraftExists_True() {
@@ -44,4 +56,17 @@ class SpacecraftValidationAdapterTest {
         boolean result = spacecraftValidationAdapter.spacecraftExists(1L);
         assertFalse(result);
     }
+
+    @Test
+    @DisplayName("Should check uncached spacecraft with one batch call and treat unlisted ids as missing")
+    void spacecraftsExist_OneBatchCall() {
+        when(spacecraftService.spacecraftExists(1L)).thenReturn(true);
+        when(spacecraftService.getSpacecraftsByIds(Set.of(2L, 3L)))
+                .thenReturn(List.of(new SpacecraftDTO(2L, "SC-002", "Moon Hopper")));
+        spacecraftValidationAdapter.spacecraftExists(1L);
+        Map<Long, Boolean> result = spacecraftValidationAdapter.spacecraftsExist(List.of(1L, 2L, 3L));
+        assertEquals(Map.of(1L, true, 2L, true, 3L, false), result);
+        verify(spacecraftService).getSpacecraftsByIds(Set.of(2L, 3L));
+        verify(spacecraftService, never()).spacecraftExists(3L);
+    }
 }
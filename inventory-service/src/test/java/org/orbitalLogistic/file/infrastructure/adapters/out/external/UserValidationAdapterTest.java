@@ -1,14 +1,23 @@
 package org.orbitalLogistic.file.infrastructure.adapters.out.external;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.cache.LookupCaches;
 import org.orbitalLogistic.file.clients.resilient.ResilientUserService;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -17,9 +26,14 @@ class UserValidationAdapterTest {
     @Mock
     private ResilientUserService userService;
 
-    @InjectMocks
     private UserValidationAdapter userValidationAdapter;
 
+    @BeforeEach
+    void setUp() {
+        userValidationAdapter = new UserValidationAdapter(userService,
+                new LookupCaches(100, Duration.ofMinutes(5), Duration.ofSeconds(30), null));
+    }
+
     @Test
     @DisplayName("Should return true when user exists")
     void userExists_True() {
@@ -44,4 +58,30 @@ class UserValidationAdapterTest {
         boolean result = userValidationAdapter.userExists(1L);
         assertFalse(result);
     }
+
+    @Test
+    @DisplayName("Should ask user-service only for users not checked before")
+    void usersExist_PartlyCached() {
+        when(userService.userExists(1L)).thenReturn(true);
+        when(userService.usersExist(Set.of(2L, 3L))).thenReturn(Map.of(2L, true));
+        userValidationAdapter.userExists(1L);
+        Map<Long, Boolean> result = userValidationAdapter.usersExist(List.of(1L, 2L, 3L));
+        assertEquals(Map.of(1L, true, 2L, true, 3L, false), result);
+        verify(userService).usersExist(Set.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("Should split large lookups into batches user-service accepts")
+    void usersExist_SplitsIntoBatches() {
+        List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().toList();
+        when(userService.usersExist(anySet())).thenAnswer(invocation -> {
+            Set<Long> batch = invocation.getArgument(0);
+            return batch.stream().collect(Collectors.toMap(id -> id, id -> true));
+        });
+        Map<Long, Boolean> result = userValidationAdapter.usersExist(ids);
+        assertEquals(1001, result.size());
+        assertTrue(result.values().stream().allMatch(Boolean::booleanValue));
+        verify(userService).usersExist(argThat(batch -> batch.size() == 1000));
+        verify(userService).usersExist(argThat(batch -> batch.size() == 1));
+    }
 }
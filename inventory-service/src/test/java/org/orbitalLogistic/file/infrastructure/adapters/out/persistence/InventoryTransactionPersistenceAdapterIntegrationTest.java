@@ -0,0 +1,64 @@
+package org.orbitalLogistic.file.infrastructure.adapters.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.orbitalLogistic.file.TestcontainersConfiguration;
+import org.orbitalLogistic.file.domain.model.InventoryTransaction;
+import org.orbitalLogistic.file.domain.model.enums.TransactionType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Tag("integration-tests")
+@TestPropertySource(properties = {
+        "spring.cloud.config.enabled=false"
+})
+class InventoryTransactionPersistenceAdapterIntegrationTest {
+
+    @Autowired
+    private InventoryTransactionPersistenceAdapter inventoryTransactionPersistenceAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should return the id of each stored row in input order across chunks")
+    void saveAll_IdsMatchStoredRowsAcrossChunks() {
+        int count = InventoryTransactionPersistenceAdapter.INSERT_CHUNK_ROWS + 5;
+        List<InventoryTransaction> transactions = IntStream.rangeClosed(1, count)
+                .mapToObj(quantity -> InventoryTransaction.builder()
+                        .transactionType(TransactionType.LOAD)
+                        .cargoId(1L)
+                        .quantity(quantity)
+                        .toStorageUnitId(1L)
+                        .performedByUserId(1L)
+                        .transactionDate(LocalDateTime.now())
+                        .build())
+                .toList();
+
+        List<InventoryTransaction> saved = inventoryTransactionPersistenceAdapter.saveAll(transactions);
+
+        assertEquals(count, saved.size());
+        for (int i = 0; i < count; i++) {
+            Integer storedQuantity = jdbcTemplate.queryForObject(
+                    "SELECT quantity FROM inventory_transaction WHERE id = ?", Integer.class, saved.get(i).getId());
+            assertEquals(i + 1, storedQuantity);
+            assertEquals(i + 1, saved.get(i).getQuantity());
+        }
+    }
+}
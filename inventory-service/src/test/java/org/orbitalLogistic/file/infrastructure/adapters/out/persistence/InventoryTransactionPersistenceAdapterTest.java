@@ -9,11 +9,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.orbitalLogistic.file.domain.model.InventoryTransaction;
 import org.orbitalLogistic.file.domain.model.enums.TransactionType;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +29,9 @@ class InventoryTransactionPersistenceAdapterTest {
     @Mock
     private InventoryTransactionPersistenceMapper inventoryTransactionPersistenceMapper;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     @InjectMocks
     private InventoryTransactionPersistenceAdapter inventoryTransactionPersistenceAdapter;
 
@@ -67,6 +74,29 @@ class InventoryTransactionPersistenceAdapterTest {
         verify(inventoryTransactionJdbcRepository).save(entity);
     }
 
+    @Test
+    @DisplayName("Should insert all transactions with one multi-row statement per chunk")
+    void saveAll_MultiRowInsertPerChunk() {
+        int count = InventoryTransactionPersistenceAdapter.INSERT_CHUNK_ROWS + 1;
+        List<InventoryTransaction> transactions = Collections.nCopies(count, domainTransaction.toBuilder().id(null).build());
+        when(inventoryTransactionPersistenceMapper.toEntity(any())).thenReturn(entity);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    int rows = (invocation.getArguments().length - 2) / 11;
+                    return LongStream.rangeClosed(1, rows).boxed().toList();
+                });
+        List<InventoryTransaction> result = inventoryTransactionPersistenceAdapter.saveAll(transactions);
+        assertEquals(count, result.size());
+        assertEquals(1L, result.getFirst().getId());
+        assertEquals(1L, result.getLast().getId());
+        verify(jdbcTemplate).queryForList(
+                argThat((String sql) -> sql.contains("INSERT INTO inventory_transaction")
+                        && sql.endsWith("RETURNING id")
+                        && sql.split("\\(\\?").length - 1 == InventoryTransactionPersistenceAdapter.INSERT_CHUNK_ROWS),
+                eq(Long.class), any(Object[].class));
+        verify(inventoryTransactionJdbcRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("Should find all transactions")
     void findAll_Success() {
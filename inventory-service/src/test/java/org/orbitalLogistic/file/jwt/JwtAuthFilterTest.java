@@ -13,12 +13,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.jwt.VerifiedToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -59,7 +61,7 @@ class JwtAuthFilterTest {
         jwtAuthFilter.doFilterInternal(request, response, filterChain);
         verify(filterChain).doFilter(request, response);
         assertNull(SecurityContextHolder.getContext().getAuthentication());
-        verify(jwtService, never()).validateToken(any());
+        verify(jwtService, never()).verify(any());
     }
 
     @Test
@@ -69,7 +71,7 @@ class JwtAuthFilterTest {
         jwtAuthFilter.doFilterInternal(request, response, filterChain);
         verify(filterChain).doFilter(request, response);
         assertNull(SecurityContextHolder.getContext().getAuthentication());
-        verify(jwtService, never()).validateToken(any());
+        verify(jwtService, never()).verify(any());
     }
 
     @Test
@@ -80,12 +82,11 @@ class JwtAuthFilterTest {
         String username = "testuser";
 
         when(request.getHeader("Authorization")).thenReturn(authHeader);
-        when(jwtService.validateToken(token)).thenReturn(true);
-
         Claims claims = mock(Claims.class);
         when(claims.getSubject()).thenReturn(username);
         when(claims.get("roles", List.class)).thenReturn(List.of("USER", "ADMIN"));
-        when(jwtService.extractAllClaims(token)).thenReturn(claims);
+        VerifiedToken verified = VerifiedToken.from(claims);
+        when(jwtService.verify(token)).thenReturn(Optional.of(verified));
         jwtAuthFilter.doFilterInternal(request, response, filterChain);
         verify(filterChain).doFilter(request, response);
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -107,12 +108,11 @@ class JwtAuthFilterTest {
         String authHeader = "Bearer " + token;
 
         when(request.getHeader("Authorization")).thenReturn(authHeader);
-        when(jwtService.validateToken(token)).thenReturn(true);
-
         Claims claims = mock(Claims.class);
         when(claims.getSubject()).thenReturn("testuser");
         when(claims.get("roles", List.class)).thenReturn(List.of("ROLE_USER", "ADMIN"));
-        when(jwtService.extractAllClaims(token)).thenReturn(claims);
+        VerifiedToken verified = VerifiedToken.from(claims);
+        when(jwtService.verify(token)).thenReturn(Optional.of(verified));
         jwtAuthFilter.doFilterInternal(request, response, filterChain);
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertNotNull(authentication);
@@ -129,12 +129,11 @@ class JwtAuthFilterTest {
         String authHeader = "Bearer " + token;
 
         when(request.getHeader("Authorization")).thenReturn(authHeader);
-        when(jwtService.validateToken(token)).thenReturn(true);
-
         Claims claims = mock(Claims.class);
         when(claims.getSubject()).thenReturn("testuser");
         when(claims.get("roles", List.class)).thenReturn(null);
-        when(jwtService.extractAllClaims(token)).thenReturn(claims);
+        VerifiedToken verified = VerifiedToken.from(claims);
+        when(jwtService.verify(token)).thenReturn(Optional.of(verified));
         jwtAuthFilter.doFilterInternal(request, response, filterChain);
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertNotNull(authentication);
@@ -148,7 +147,7 @@ class JwtAuthFilterTest {
         String authHeader = "Bearer " + token;
 
         when(request.getHeader("Authorization")).thenReturn(authHeader);
-        when(jwtService.validateToken(token)).thenReturn(false);
+        when(jwtService.verify(token)).thenReturn(Optional.empty());
         jwtAuthFilter.doFilterInternal(request, response, filterChain);
         verify(filterChain).doFilter(request, response);
         assertNull(SecurityContextHolder.getContext().getAuthentication());
@@ -168,7 +167,7 @@ class JwtAuthFilterTest {
         jwtAuthFilter.doFilterInternal(request, response, filterChain);
         verify(filterChain).doFilter(request, response);
         assertEquals(existingAuth, SecurityContextHolder.getContext().getAuthentication());
-        verify(jwtService, never()).validateToken(any());
+        verify(jwtService, never()).verify(any());
     }
 
     @Test
@@ -176,7 +175,7 @@ class JwtAuthFilterTest {
     void doFilterInternal_ExceptionHandling() throws ServletException, IOException {
         String authHeader = "Bearer token";
         when(request.getHeader("Authorization")).thenReturn(authHeader);
-        when(jwtService.validateToken(any())).thenThrow(new RuntimeException("JWT error"));
+        when(jwtService.verify(any())).thenThrow(new RuntimeException("JWT error"));
         jwtAuthFilter.doFilterInternal(request, response, filterChain);
         verify(filterChain).doFilter(request, response);
         assertNull(SecurityContextHolder.getContext().getAuthentication());
@@ -189,12 +188,11 @@ class JwtAuthFilterTest {
         String authHeader = "Bearer " + token;
 
         when(request.getHeader("Authorization")).thenReturn(authHeader);
-        when(jwtService.validateToken(token)).thenReturn(true);
-
         Claims claims = mock(Claims.class);
         when(claims.getSubject()).thenReturn("testuser");
         when(claims.get("roles", List.class)).thenReturn(List.of());
-        when(jwtService.extractAllClaims(token)).thenReturn(claims);
+        VerifiedToken verified = VerifiedToken.from(claims);
+        when(jwtService.verify(token)).thenReturn(Optional.of(verified));
         jwtAuthFilter.doFilterInternal(request, response, filterChain);
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertNotNull(authentication);
@@ -7,7 +7,7 @@ import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.orbitalLogistic.jwt.JwtVerifier;
 
 import javax.crypto.SecretKey;
 import java.util.Base64;
@@ -23,12 +23,10 @@ class JwtServiceTest {
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService();
-
         signingKey = Keys.secretKeyFor(io.jsonwebtoken.SignatureAlgorithm.HS256);
         secretKey = Base64.getEncoder().encodeToString(signingKey.getEncoded());
-        
-        ReflectionTestUtils.setField(jwtService, "secretKey", secretKey);
+
+        jwtService = new JwtService(new JwtVerifier(secretKey));
     }
 
     @Test
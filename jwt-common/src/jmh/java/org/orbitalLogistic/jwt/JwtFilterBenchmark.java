@@ -0,0 +1,104 @@
+package org.orbitalLogistic.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Token to {@link Authentication} cost of the per-service filters versus {@link JwtVerifier}.
+ * {@code legacyFilter} mirrors the old JwtService/JwtAuthFilter pair: key and parser rebuilt on
+ * every call, the token parsed twice, and a new authority list streamed per request.
+ */
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private static final int DISTINCT_TOKENS = 1024;
+
+    private String secret;
+    private String token;
+    private String[] distinctTokens;
+    private JwtVerifier cachingVerifier;
+    private JwtVerifier nonCachingVerifier;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = Jwts.SIG.HS256.key().build();
+        secret = Encoders.BASE64.encode(key.getEncoded());
+        token = token(key, "user-0");
+        distinctTokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            distinctTokens[i] = token(key, "user-" + i);
+        }
+        cachingVerifier = new JwtVerifier(secret);
+        nonCachingVerifier = new JwtVerifier(secret, 0);
+    }
+
+    @Benchmark
+    public Authentication legacyFilter() {
+        if (!legacyValidate(token)) {
+            return null;
+        }
+        Claims claims = legacyParse(token);
+        List<String> roles = claims.get("roles", List.class);
+        List<GrantedAuthority> authorities = (roles == null ? List.<String>of() : roles).stream()
+                .map(role -> role.startsWith("ROLE_") ? role : "ROLE_" + role)
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        return new UsernamePasswordAuthenticationToken(claims.getSubject(), null, authorities);
+    }
+
+    @Benchmark
+    public Authentication sharedVerifierUncached() {
+        String current = distinctTokens[next++ & (DISTINCT_TOKENS - 1)];
+        return nonCachingVerifier.verify(current)
+                .map(JwtFilterBenchmark::authentication)
+                .orElse(null);
+    }
+
+    @Benchmark
+    public Authentication sharedVerifierCached() {
+        return cachingVerifier.verify(token)
+                .map(JwtFilterBenchmark::authentication)
+                .orElse(null);
+    }
+
+    private boolean legacyValidate(String jwt) {
+        return legacyParse(jwt).getExpiration().after(new Date());
+    }
+
+    private Claims legacyParse(String jwt) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(jwt).getPayload();
+    }
+
+    private static Authentication authentication(VerifiedToken verified) {
+        return new UsernamePasswordAuthenticationToken(verified.subject(), null, verified.authorities());
+    }
+
+    private static String token(SecretKey key, String subject) {
+        return Jwts.builder()
+                .subject(subject)
+                .claim("roles", List.of("LOGISTICS_OFFICER", "ADMIN"))
+                .claim("userId", 42L)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(key)
+                .compact();
+    }
+}
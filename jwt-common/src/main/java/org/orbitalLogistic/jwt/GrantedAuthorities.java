@@ -0,0 +1,55 @@
+package org.orbitalLogistic.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Interned {@link GrantedAuthority} instances keyed by the role name found in the token.
+ * The set of roles is tiny, so every request reuses the same authority objects instead of
+ * allocating a new {@link SimpleGrantedAuthority} per role.
+ */
+public final class GrantedAuthorities {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    // Roles only come from signed tokens, the cap just keeps a misbehaving issuer from growing the map forever
+    private static final int MAX_INTERNED = 1024;
+
+    private static final ConcurrentMap<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+
+    private GrantedAuthorities() {
+    }
+
+    public static GrantedAuthority forRole(String role) {
+        GrantedAuthority authority = AUTHORITIES.get(role);
+        if (authority != null) {
+            return authority;
+        }
+        if (AUTHORITIES.size() >= MAX_INTERNED) {
+            return newAuthority(role);
+        }
+        return AUTHORITIES.computeIfAbsent(role, GrantedAuthorities::newAuthority);
+    }
+
+    public static List<GrantedAuthority> forRoles(Collection<?> roles) {
+        if (roles == null || roles.isEmpty()) {
+            return List.of();
+        }
+
+        GrantedAuthority[] authorities = new GrantedAuthority[roles.size()];
+        int i = 0;
+        for (Object role : roles) {
+            authorities[i++] = forRole(String.valueOf(role));
+        }
+        return List.of(authorities);
+    }
+
+    private static GrantedAuthority newAuthority(String role) {
+        return new SimpleGrantedAuthority(role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role);
+    }
+}
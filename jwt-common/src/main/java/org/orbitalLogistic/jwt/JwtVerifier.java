@@ -0,0 +1,121 @@
+package org.orbitalLogistic.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HMAC JWT verifier shared by the servlet and WebFlux filters of all services.
+ * The signing key and parser are built once, every token is parsed a single time,
+ * and verified tokens are kept in a bounded LRU cache until their own expiration.
+ * The cache is keyed by the SHA-256 of the token, so live credentials do not sit on the heap.
+ */
+public class JwtVerifier {
+
+    public static final long DEFAULT_CACHE_SIZE = 10_000;
+
+    private final JwtParser parser;
+
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtVerifier(String base64Secret) {
+        this(base64Secret, DEFAULT_CACHE_SIZE);
+    }
+
+    public JwtVerifier(String base64Secret, long cacheMaxSize) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret)))
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    /**
+     * Returns the verified token, or empty when the signature is invalid, the token is
+     * malformed, expired or has no expiration at all.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String key = cacheKey(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return cached.isExpired() ? Optional.empty() : Optional.of(cached);
+        }
+
+        try {
+            Claims claims = parse(token);
+            if (claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+
+            VerifiedToken verified = VerifiedToken.from(claims);
+            if (verified.isExpired()) {
+                return Optional.empty();
+            }
+            verifiedTokens.put(key, verified);
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Parses and verifies the signature without consulting the cache. Throws the usual
+     * {@link JwtException} subtypes for invalid or expired tokens.
+     */
+    public Claims parse(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    Map<String, VerifiedToken> cachedTokens() {
+        return verifiedTokens.asMap();
+    }
+
+    static String cacheKey(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken verified, long currentTime) {
+            long millisLeft = verified.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(millisLeft, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken verified, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, verified, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken verified, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.orbitalLogistic.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * One {@link JwtVerifier} per application, so every filter and service shares a single parser
+ * and token cache.
+ */
+@AutoConfiguration
+public class JwtVerifierAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public JwtVerifier jwtVerifier(@Value("${jwt.secret-key}") String secretKey,
+                                   @Value("${jwt.cache.max-size:10000}") long cacheMaxSize) {
+        return new JwtVerifier(secretKey, cacheMaxSize);
+    }
+}
@@ -0,0 +1,42 @@
+package org.orbitalLogistic.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Result of a successful verification. Everything a filter needs is computed once,
+ * so cached tokens are turned into an {@code Authentication} without touching the claims again.
+ */
+public record VerifiedToken(
+        String subject,
+        List<String> roles,
+        List<GrantedAuthority> authorities,
+        Claims claims,
+        long expiresAtMillis
+) {
+
+    public static VerifiedToken from(Claims claims) {
+        List<?> rawRoles = claims.get("roles", List.class);
+        List<String> roles = rawRoles == null
+                ? List.of()
+                : rawRoles.stream().map(String::valueOf).toList();
+
+        Date expiration = claims.getExpiration();
+        long expiresAt = expiration == null ? Long.MAX_VALUE : expiration.getTime();
+
+        return new VerifiedToken(
+                claims.getSubject(),
+                roles,
+                GrantedAuthorities.forRoles(roles),
+                claims,
+                expiresAt
+        );
+    }
+
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,31 @@
+package org.orbitalLogistic.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtVerifierAutoConfigurationTest {
+
+    private final String secret = Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded());
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JwtVerifierAutoConfiguration.class))
+            .withPropertyValues("jwt.secret-key=" + secret);
+
+    @Test
+    void registersSingleVerifier() {
+        contextRunner.run(context -> assertThat(context).hasSingleBean(JwtVerifier.class));
+    }
+
+    @Test
+    void backsOffWhenApplicationDefinesVerifier() {
+        JwtVerifier own = new JwtVerifier(secret);
+
+        contextRunner.withBean(JwtVerifier.class, () -> own)
+                .run(context -> assertThat(context.getBean(JwtVerifier.class)).isSameAs(own));
+    }
+}
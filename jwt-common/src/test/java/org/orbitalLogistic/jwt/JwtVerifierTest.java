@@ -0,0 +1,145 @@
+package org.orbitalLogistic.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtVerifierTest {
+
+    private SecretKey signingKey;
+    private JwtVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        signingKey = Jwts.SIG.HS256.key().build();
+        verifier = new JwtVerifier(Encoders.BASE64.encode(signingKey.getEncoded()));
+    }
+
+    @Test
+    void verify_ValidToken_ReturnsSubjectAndAuthorities() {
+        // Given
+        String token = token(signingKey, "testuser", List.of("USER", "ROLE_ADMIN"), 60_000);
+
+        // When
+        Optional<VerifiedToken> result = verifier.verify(token);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals("testuser", result.get().subject());
+        assertEquals(List.of("USER", "ROLE_ADMIN"), result.get().roles());
+        assertEquals(List.of("ROLE_USER", "ROLE_ADMIN"), result.get().authorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+    }
+
+    @Test
+    void verify_SameTokenTwice_ReturnsCachedInstance() {
+        // Given
+        String token = token(signingKey, "testuser", List.of("USER"), 60_000);
+
+        // When
+        VerifiedToken first = verifier.verify(token).orElseThrow();
+        VerifiedToken second = verifier.verify(token).orElseThrow();
+
+        // Then
+        assertSame(first, second);
+    }
+
+    @Test
+    void verify_ValidToken_CachedUnderHashNotRawToken() {
+        // Given
+        String token = token(signingKey, "testuser", List.of("USER"), 60_000);
+
+        // When
+        verifier.verify(token);
+
+        // Then
+        assertFalse(verifier.cachedTokens().containsKey(token));
+        assertTrue(verifier.cachedTokens().containsKey(JwtVerifier.cacheKey(token)));
+    }
+
+    @Test
+    void verify_DifferentTokensWithSameRole_ShareAuthorityInstance() {
+        // Given
+        String first = token(signingKey, "alice", List.of("LOGISTICS_OFFICER"), 60_000);
+        String second = token(signingKey, "bob", List.of("LOGISTICS_OFFICER"), 60_000);
+
+        // When
+        GrantedAuthority a = verifier.verify(first).orElseThrow().authorities().get(0);
+        GrantedAuthority b = verifier.verify(second).orElseThrow().authorities().get(0);
+
+        // Then
+        assertSame(a, b);
+    }
+
+    @Test
+    void verify_ExpiredToken_ReturnsEmpty() {
+        String token = token(signingKey, "testuser", List.of("USER"), -60_000);
+
+        assertTrue(verifier.verify(token).isEmpty());
+    }
+
+    @Test
+    void verify_TokenWithoutExpiration_ReturnsEmpty() {
+        String token = Jwts.builder().subject("testuser").signWith(signingKey).compact();
+
+        assertTrue(verifier.verify(token).isEmpty());
+    }
+
+    @Test
+    void verify_ForeignSignature_ReturnsEmpty() {
+        SecretKey otherKey = Jwts.SIG.HS256.key().build();
+        String token = token(otherKey, "testuser", List.of("USER"), 60_000);
+
+        assertTrue(verifier.verify(token).isEmpty());
+    }
+
+    @Test
+    void verify_MalformedOrMissingToken_ReturnsEmpty() {
+        assertTrue(verifier.verify("not.a.jwt").isEmpty());
+        assertTrue(verifier.verify("").isEmpty());
+        assertTrue(verifier.verify(null).isEmpty());
+    }
+
+    @Test
+    void verify_TokenWithoutRoles_HasNoAuthorities() {
+        String token = Jwts.builder()
+                .subject("testuser")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(signingKey)
+                .compact();
+
+        VerifiedToken verified = verifier.verify(token).orElseThrow();
+
+        assertTrue(verified.roles().isEmpty());
+        assertTrue(verified.authorities().isEmpty());
+    }
+
+    @Test
+    void constructor_AcceptsKeyProducedByKeysHelper() {
+        SecretKey key = Keys.hmacShaKeyFor(signingKey.getEncoded());
+        String token = token(key, "testuser", List.of("USER"), 60_000);
+
+        assertTrue(verifier.verify(token).isPresent());
+    }
+
+    private static String token(SecretKey key, String subject, List<String> roles, long ttlMillis) {
+        return Jwts.builder()
+                .subject(subject)
+                .claim("roles", roles)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + ttlMillis))
+                .signWith(key)
+                .compact();
+    }
+}
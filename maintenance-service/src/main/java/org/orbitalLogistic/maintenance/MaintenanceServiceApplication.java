@@ -7,13 +7,11 @@ import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 
 import java.util.List;
 
 @SpringBootApplication
-@EnableFeignClients
 public class MaintenanceServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(MaintenanceServiceApplication.class, args);
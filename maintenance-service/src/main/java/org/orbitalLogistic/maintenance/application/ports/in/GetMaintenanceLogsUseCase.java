@@ -4,9 +4,14 @@ import org.orbitalLogistic.maintenance.domain.model.MaintenanceLog;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 public interface GetMaintenanceLogsUseCase {
     Flux<MaintenanceLog> getAllMaintenanceLogs(int page, int size);
+    Flux<MaintenanceLog> getMaintenanceLogsAfter(LocalDateTime startTime, Long id, int size);
     Mono<Long> countAll();
+    Mono<Long> estimateAll();
     Flux<MaintenanceLog> getSpacecraftMaintenanceHistory(Long spacecraftId, int page, int size);
     Mono<Long> countBySpacecraftId(Long spacecraftId);
+    Mono<Long> estimateBySpacecraftId(Long spacecraftId);
 }
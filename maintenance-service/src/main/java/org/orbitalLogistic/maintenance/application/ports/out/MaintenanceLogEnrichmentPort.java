@@ -2,7 +2,16 @@ package org.orbitalLogistic.maintenance.application.ports.out;
 
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface MaintenanceLogEnrichmentPort {
     Mono<String> getSpacecraftName(Long spacecraftId);
     Mono<String> getUserName(Long userId);
+
+    /**
+     * Resolves every distinct id once. Ids that could not be resolved are absent from the map.
+     */
+    Mono<Map<Long, String>> getSpacecraftNames(Collection<Long> spacecraftIds);
+    Mono<Map<Long, String>> getUserNames(Collection<Long> userIds);
 }
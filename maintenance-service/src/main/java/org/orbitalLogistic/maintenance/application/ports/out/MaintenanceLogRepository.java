@@ -4,11 +4,16 @@ import org.orbitalLogistic.maintenance.domain.model.MaintenanceLog;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 public interface MaintenanceLogRepository {
     Mono<MaintenanceLog> save(MaintenanceLog maintenanceLog);
     Mono<MaintenanceLog> findById(Long id);
     Flux<MaintenanceLog> findAllPaginated(int offset, int size);
+    Flux<MaintenanceLog> findAllAfter(LocalDateTime startTime, Long id, int size);
     Mono<Long> countAll();
+    Mono<Long> estimateAll();
     Flux<MaintenanceLog> findBySpacecraftIdPaginated(Long spacecraftId, int size, int offset);
     Mono<Long> countBySpacecraftId(Long spacecraftId);
+    Mono<Long> estimateBySpacecraftId(Long spacecraftId);
 }
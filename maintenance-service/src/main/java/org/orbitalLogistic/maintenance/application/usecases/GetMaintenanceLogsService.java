@@ -5,16 +5,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.orbitalLogistic.maintenance.application.ports.in.GetMaintenanceLogsUseCase;
 import org.orbitalLogistic.maintenance.application.ports.out.MaintenanceLogRepository;
 import org.orbitalLogistic.maintenance.domain.model.MaintenanceLog;
+import org.orbitalLogistic.pagination.ReactiveExactCountCache;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GetMaintenanceLogsService implements GetMaintenanceLogsUseCase {
 
     private final MaintenanceLogRepository maintenanceLogRepository;
+    private final ReactiveExactCountCache exactCountCache;
 
     @Override
     public Flux<MaintenanceLog> getAllMaintenanceLogs(int page, int size) {
@@ -23,9 +27,20 @@ public class GetMaintenanceLogsService implements GetMaintenanceLogsUseCase {
         return maintenanceLogRepository.findAllPaginated(offset, size);
     }
 
+    @Override
+    public Flux<MaintenanceLog> getMaintenanceLogsAfter(LocalDateTime startTime, Long id, int size) {
+        log.debug("Getting maintenance logs after ({}, {}), size: {}", startTime, id, size);
+        return maintenanceLogRepository.findAllAfter(startTime, id, size);
+    }
+
     @Override
     public Mono<Long> countAll() {
-        return maintenanceLogRepository.countAll();
+        return exactCountCache.get("maintenance-logs", maintenanceLogRepository::countAll);
+    }
+
+    @Override
+    public Mono<Long> estimateAll() {
+        return maintenanceLogRepository.estimateAll();
     }
 
     @Override
@@ -37,6 +52,12 @@ public class GetMaintenanceLogsService implements GetMaintenanceLogsUseCase {
 
     @Override
     public Mono<Long> countBySpacecraftId(Long spacecraftId) {
-        return maintenanceLogRepository.countBySpacecraftId(spacecraftId);
+        return exactCountCache.get("spacecraft-maintenance-logs",
+                () -> maintenanceLogRepository.countBySpacecraftId(spacecraftId), spacecraftId);
+    }
+
+    @Override
+    public Mono<Long> estimateBySpacecraftId(Long spacecraftId) {
+        return maintenanceLogRepository.estimateBySpacecraftId(spacecraftId);
     }
 }
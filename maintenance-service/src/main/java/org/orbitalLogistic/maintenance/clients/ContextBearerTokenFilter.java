@@ -0,0 +1,28 @@
+package org.orbitalLogistic.maintenance.clients;
+
+import org.orbitalLogistic.maintenance.jwt.JwtAuthFilter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Forwards the JWT that {@link JwtAuthFilter} put into the Reactor Context, so the token follows
+ * the request across threads without a ThreadLocal.
+ */
+public class ContextBearerTokenFilter implements ExchangeFilterFunction {
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(contextView -> {
+            String token = contextView.getOrDefault(JwtAuthFilter.JWT_TOKEN_KEY, "");
+            if (token.isEmpty()) {
+                return next.exchange(request);
+            }
+            return next.exchange(ClientRequest.from(request)
+                    .headers(headers -> headers.setBearerAuth(token))
+                    .build());
+        });
+    }
+}
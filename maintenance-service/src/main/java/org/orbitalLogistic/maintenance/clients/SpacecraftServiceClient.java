@@ -1,54 +1,59 @@
 package org.orbitalLogistic.maintenance.clients;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.orbitalLogistic.maintenance.clients.feign.SpacecraftServiceFeignClient;
-import org.orbitalLogistic.maintenance.config.FeignConfig;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.out.external.dto.SpacecraftDTO;
-import org.orbitalLogistic.maintenance.jwt.JwtAuthFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class SpacecraftServiceClient {
-    private final SpacecraftServiceFeignClient spacecraftServiceFeignClient;
+    private static final ParameterizedTypeReference<List<SpacecraftDTO>> SPACECRAFT_LIST = new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+
+    public SpacecraftServiceClient(WebClient.Builder loadBalancedWebClientBuilder,
+                                   @Value("${clients.spacecraft-service.url:http://spacecraft-service/api/spacecrafts}") String baseUrl) {
+        this.webClient = loadBalancedWebClientBuilder.clone().baseUrl(baseUrl).build();
+    }
 
     public Mono<SpacecraftDTO> getSpacecraftById(Long id) {
-        return Mono.deferContextual(contextView -> {
-            String token = contextView.getOrDefault(JwtAuthFilter.JWT_TOKEN_KEY, "");
-            return Mono.fromCallable(() -> {
-                try {
-                    FeignConfig.setAuthToken(token);
-                    return spacecraftServiceFeignClient.getSpacecraftById(id);
-                } finally {
-                    FeignConfig.clearAuthToken();
-                }
-            }).subscribeOn(Schedulers.boundedElastic());
-        })
-        .onErrorResume(e -> {
-            log.error("Error calling spacecraft-service for id {}: {}", id, e.getMessage());
-            return Mono.empty();
-        });
+        return webClient.get()
+                .uri("/{id}", id)
+                .retrieve()
+                .bodyToMono(SpacecraftDTO.class)
+                .onErrorResume(e -> {
+                    log.error("Error calling spacecraft-service for id {}: {}", id, e.getMessage());
+                    return Mono.empty();
+                });
     }
 
     public Mono<Boolean> spacecraftExists(Long id) {
-        return Mono.deferContextual(contextView -> {
-            String token = contextView.getOrDefault(JwtAuthFilter.JWT_TOKEN_KEY, "");
-            return Mono.fromCallable(() -> {
-                try {
-                    FeignConfig.setAuthToken(token);
-                    return spacecraftServiceFeignClient.spacecraftExists(id);
-                } finally {
-                    FeignConfig.clearAuthToken();
-                }
-            }).subscribeOn(Schedulers.boundedElastic());
-        })
-        .onErrorResume(e -> {
-            log.error("Error checking spacecraft exists for id {}: {}", id, e.getMessage());
-            return Mono.just(false);
-        });
+        return webClient.get()
+                .uri("/{id}/exists", id)
+                .retrieve()
+                .bodyToMono(Boolean.class)
+                .onErrorResume(e -> {
+                    log.error("Error checking spacecraft exists for id {}: {}", id, e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    public Mono<List<SpacecraftDTO>> getSpacecraftsByIds(Collection<Long> ids) {
+        return webClient.post()
+                .uri("/batch")
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToMono(SPACECRAFT_LIST)
+                .onErrorResume(e -> {
+                    log.error("Error calling spacecraft-service for {} ids: {}", ids.size(), e.getMessage());
+                    return Mono.just(List.of());
+                });
     }
 }
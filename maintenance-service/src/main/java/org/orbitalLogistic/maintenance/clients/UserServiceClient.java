@@ -1,54 +1,73 @@
 package org.orbitalLogistic.maintenance.clients;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.orbitalLogistic.maintenance.clients.feign.UserServiceFeignClient;
-import org.orbitalLogistic.maintenance.config.FeignConfig;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.out.external.dto.UserDTO;
-import org.orbitalLogistic.maintenance.jwt.JwtAuthFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class UserServiceClient {
-    private final UserServiceFeignClient userServiceFeignClient;
+    private static final ParameterizedTypeReference<List<UserDTO>> USER_LIST = new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<Map<Long, Boolean>> EXISTS_MAP = new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+
+    public UserServiceClient(WebClient.Builder loadBalancedWebClientBuilder,
+                             @Value("${clients.user-service.url:http://user-service/api/users}") String baseUrl) {
+        this.webClient = loadBalancedWebClientBuilder.clone().baseUrl(baseUrl).build();
+    }
 
     public Mono<UserDTO> getUserById(Long id) {
-        return Mono.deferContextual(contextView -> {
-            String token = contextView.getOrDefault(JwtAuthFilter.JWT_TOKEN_KEY, "");
-            return Mono.fromCallable(() -> {
-                try {
-                    FeignConfig.setAuthToken(token);
-                    return userServiceFeignClient.getUserById(id);
-                } finally {
-                    FeignConfig.clearAuthToken();
-                }
-            }).subscribeOn(Schedulers.boundedElastic());
-        })
-        .onErrorResume(e -> {
-            log.error("Error calling user-service for id {}: {}", id, e.getMessage());
-            return Mono.empty();
-        });
+        return webClient.get()
+                .uri("/{id}", id)
+                .retrieve()
+                .bodyToMono(UserDTO.class)
+                .onErrorResume(e -> {
+                    log.error("Error calling user-service for id {}: {}", id, e.getMessage());
+                    return Mono.empty();
+                });
     }
 
     public Mono<Boolean> userExists(Long id) {
-        return Mono.deferContextual(contextView -> {
-            String token = contextView.getOrDefault(JwtAuthFilter.JWT_TOKEN_KEY, "");
-            return Mono.fromCallable(() -> {
-                try {
-                    FeignConfig.setAuthToken(token);
-                    return userServiceFeignClient.userExists(id);
-                } finally {
-                    FeignConfig.clearAuthToken();
-                }
-            }).subscribeOn(Schedulers.boundedElastic());
-        })
-        .onErrorResume(e -> {
-            log.error("Error checking user exists for id {}: {}", id, e.getMessage());
-            return Mono.just(false);
-        });
+        return webClient.get()
+                .uri("/{id}/exists", id)
+                .retrieve()
+                .bodyToMono(Boolean.class)
+                .onErrorResume(e -> {
+                    log.error("Error checking user exists for id {}: {}", id, e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    public Mono<List<UserDTO>> getUsersByIds(Collection<Long> ids) {
+        return webClient.post()
+                .uri("/batch")
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToMono(USER_LIST)
+                .onErrorResume(e -> {
+                    log.error("Error calling user-service for {} ids: {}", ids.size(), e.getMessage());
+                    return Mono.just(List.of());
+                });
+    }
+
+    public Mono<Map<Long, Boolean>> usersExist(Collection<Long> ids) {
+        return webClient.post()
+                .uri("/exists-batch")
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToMono(EXISTS_MAP)
+                .onErrorResume(e -> {
+                    log.error("Error checking users exist for {} ids: {}", ids.size(), e.getMessage());
+                    return Mono.just(Map.of());
+                });
     }
 }
@@ -1,21 +0,0 @@
-package org.orbitalLogistic.maintenance.config;
-
-import feign.codec.Decoder;
-import feign.codec.Encoder;
-import feign.jackson.JacksonDecoder;
-import feign.jackson.JacksonEncoder;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-
-@Configuration
-public class FeignConfiguration {
-    @Bean
-    public Decoder decoder() {
-        return new JacksonDecoder();
-    }
-
-    @Bean
-    public Encoder encoder() {
-        return new JacksonEncoder();
-    }
-}
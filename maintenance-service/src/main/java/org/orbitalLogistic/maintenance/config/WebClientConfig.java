@@ -0,0 +1,51 @@
+package org.orbitalLogistic.maintenance.config;
+
+import io.netty.channel.ChannelOption;
+import org.orbitalLogistic.maintenance.clients.ContextBearerTokenFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking clients for the services maintenance-service calls. Requests are resolved through
+ * the load balancer, share one bounded connection pool whose gauges are published to Micrometer
+ * (reactor.netty.connection.provider.*), and carry the caller's JWT from the Reactor Context.
+ */
+@Configuration
+public class WebClientConfig {
+
+    @Bean
+    public ConnectionProvider clientConnectionProvider(
+            @Value("${clients.http.max-connections:200}") int maxConnections,
+            @Value("${clients.http.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+            @Value("${clients.http.max-idle-time:30s}") Duration maxIdleTime) {
+        return ConnectionProvider.builder("maintenance-clients")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder(
+            ConnectionProvider clientConnectionProvider,
+            @Value("${clients.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${clients.http.response-timeout:3s}") Duration responseTimeout) {
+        HttpClient httpClient = HttpClient.create(clientConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(new ContextBearerTokenFilter());
+    }
+}
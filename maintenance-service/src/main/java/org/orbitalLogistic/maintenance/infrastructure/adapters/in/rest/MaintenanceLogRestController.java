@@ -6,9 +6,11 @@ import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.orbitalLogistic.maintenance.application.ports.in.*;
 import org.orbitalLogistic.maintenance.domain.model.MaintenanceLog;
+import org.orbitalLogistic.maintenance.infrastructure.adapters.in.rest.dto.MaintenanceLogCursor;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.in.rest.dto.MaintenanceLogRequestDTO;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.in.rest.dto.MaintenanceLogResponseDTO;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.in.rest.mapper.MaintenanceLogRestMapper;
+import org.orbitalLogistic.pagination.IncludeTotal;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -17,6 +19,8 @@ import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RestController
 @Validated
 @RequestMapping("/")
@@ -37,15 +41,35 @@ public class MaintenanceLogRestController {
             @RequestParam(defaultValue = "20")
             @Min(value = 0, message = "Size must be >= 0")
             @Max(value = 50, message = "Size must be <= 50")
-            int size) {
+            int size,
+
+            @RequestParam(required = false)
+            String cursor,
+
+            @RequestParam(required = false)
+            String includeTotal) {
 
-        Flux<MaintenanceLog> domainLogs = getMaintenanceLogsUseCase.getAllMaintenanceLogs(page, size);
-        Flux<MaintenanceLogResponseDTO> items = domainLogs.flatMap(mapper::toResponseDTO);
-        Mono<Long> totalMono = getMaintenanceLogsUseCase.countAll();
+        // Keyset pages skip the COUNT(*) unless asked, so deep pages cost the same as the first one
+        IncludeTotal totalMode = IncludeTotal.parse(includeTotal, cursor != null ? IncludeTotal.NONE : IncludeTotal.EXACT);
 
-        return totalMono.map(total -> ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(total))
-                .body(items));
+        Flux<MaintenanceLog> domainLogs;
+        if (cursor != null) {
+            MaintenanceLogCursor after = MaintenanceLogCursor.decode(cursor);
+            domainLogs = getMaintenanceLogsUseCase.getMaintenanceLogsAfter(after.startTime(), after.id(), size);
+        } else {
+            domainLogs = getMaintenanceLogsUseCase.getAllMaintenanceLogs(page, size);
+        }
+        Mono<Long> totalMono = switch (totalMode) {
+            case NONE -> Mono.just(-1L);
+            case EXACT -> getMaintenanceLogsUseCase.countAll();
+            case ESTIMATE -> getMaintenanceLogsUseCase.estimateAll();
+        };
+
+        return Mono.zip(domainLogs.collectList(), totalMono).map(pageAndTotal -> {
+            List<MaintenanceLog> logs = pageAndTotal.getT1();
+            return withNextCursor(withTotal(ResponseEntity.ok(), pageAndTotal.getT2()), logs, size)
+                    .body(mapper.toResponseDTOs(logs));
+        });
     }
 
     @PostMapping("/maintenance-logs")
@@ -85,14 +109,37 @@ public class MaintenanceLogRestController {
             @RequestParam(defaultValue = "20")
             @Min(value = 0, message = "Size must be >= 0")
             @Max(value = 50, message = "Size must be <= 50")
-            int size) {
+            int size,
+
+            @RequestParam(required = false)
+            String includeTotal) {
+
+        IncludeTotal totalMode = IncludeTotal.parse(includeTotal, IncludeTotal.EXACT);
 
         Flux<MaintenanceLog> domainLogs = getMaintenanceLogsUseCase.getSpacecraftMaintenanceHistory(id, page, size);
-        Flux<MaintenanceLogResponseDTO> items = domainLogs.flatMap(mapper::toResponseDTO);
-        Mono<Long> totalMono = getMaintenanceLogsUseCase.countBySpacecraftId(id);
+        Flux<MaintenanceLogResponseDTO> items = domainLogs.collectList().flatMapMany(mapper::toResponseDTOs);
+        Mono<Long> totalMono = switch (totalMode) {
+            case NONE -> Mono.just(-1L);
+            case EXACT -> getMaintenanceLogsUseCase.countBySpacecraftId(id);
+            case ESTIMATE -> getMaintenanceLogsUseCase.estimateBySpacecraftId(id);
+        };
+
+        return totalMono.map(total -> withTotal(ResponseEntity.ok(), total).body(items));
+    }
+
+    private static ResponseEntity.BodyBuilder withTotal(ResponseEntity.BodyBuilder builder, long total) {
+        if (total >= 0) {
+            builder.header("X-Total-Count", String.valueOf(total));
+        }
+        return builder;
+    }
 
-        return totalMono.map(total -> ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(total))
-                .body(items));
+    private static ResponseEntity.BodyBuilder withNextCursor(ResponseEntity.BodyBuilder builder,
+                                                             List<MaintenanceLog> logs, int size) {
+        String nextCursor = MaintenanceLogCursor.next(logs, size);
+        if (nextCursor != null) {
+            builder.header(MaintenanceLogCursor.NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return builder;
     }
 }
@@ -0,0 +1,53 @@
+package org.orbitalLogistic.maintenance.infrastructure.adapters.in.rest.dto;
+
+import org.orbitalLogistic.maintenance.domain.model.MaintenanceLog;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Opaque keyset position in the maintenance log list, ordered by start time and id (both descending).
+ */
+public record MaintenanceLogCursor(LocalDateTime startTime, Long id) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String SEPARATOR = "|";
+
+    public static MaintenanceLogCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+
+            String startTime = raw.substring(0, separator);
+            return new MaintenanceLogCursor(
+                    startTime.isEmpty() ? null : LocalDateTime.parse(startTime),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Cursor for the page following {@code logs}, or null when a short page shows there is none.
+     */
+    public static String next(List<MaintenanceLog> logs, int size) {
+        if (logs.isEmpty() || logs.size() < size) {
+            return null;
+        }
+        MaintenanceLog last = logs.get(logs.size() - 1);
+        return new MaintenanceLogCursor(last.getStartTime(), last.getId()).encode();
+    }
+
+    public String encode() {
+        String raw = (startTime == null ? "" : startTime.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
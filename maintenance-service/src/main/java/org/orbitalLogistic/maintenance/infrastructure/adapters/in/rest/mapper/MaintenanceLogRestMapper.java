@@ -8,12 +8,19 @@ import org.orbitalLogistic.maintenance.domain.model.MaintenanceLog;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.in.rest.dto.MaintenanceLogRequestDTO;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.in.rest.dto.MaintenanceLogResponseDTO;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @Component
 @RequiredArgsConstructor
 public class MaintenanceLogRestMapper {
 
+    private static final String UNKNOWN = "Unknown";
+
     private final MaintenanceLogEnrichmentPort enrichmentPort;
 
     public CreateMaintenanceLogCommand toCreateCommand(MaintenanceLogRequestDTO dto) {
@@ -48,21 +55,60 @@ public class MaintenanceLogRestMapper {
                 : enrichmentPort.getUserName(domain.getSupervisedByUserId());
 
         return Mono.zip(spacecraftName, performedByName, supervisedByName)
-                .map(tuple -> new MaintenanceLogResponseDTO(
-                        domain.getId(),
-                        domain.getSpacecraftId(),
-                        tuple.getT1(),
-                        mapMaintenanceTypeToDto(domain.getMaintenanceType()),
-                        domain.getPerformedByUserId(),
-                        tuple.getT2(),
-                        domain.getSupervisedByUserId(),
-                        tuple.getT3(),
-                        domain.getStartTime(),
-                        domain.getEndTime(),
-                        mapMaintenanceStatusToDto(domain.getStatus()),
-                        domain.getDescription(),
-                        domain.getCost()
-                ));
+                .map(tuple -> toResponseDTO(domain, tuple.getT1(), tuple.getT2(), tuple.getT3()));
+    }
+
+    /**
+     * Maps a page of logs, resolving each distinct spacecraft and user once for the whole page
+     * instead of up to three lookups per row.
+     */
+    public Flux<MaintenanceLogResponseDTO> toResponseDTOs(List<MaintenanceLog> domains) {
+        if (domains.isEmpty()) {
+            return Flux.empty();
+        }
+
+        Set<Long> spacecraftIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (MaintenanceLog domain : domains) {
+            addIfPresent(spacecraftIds, domain.getSpacecraftId());
+            addIfPresent(userIds, domain.getPerformedByUserId());
+            addIfPresent(userIds, domain.getSupervisedByUserId());
+        }
+
+        return Mono.zip(enrichmentPort.getSpacecraftNames(spacecraftIds), enrichmentPort.getUserNames(userIds))
+                .flatMapIterable(names -> domains.stream()
+                        .map(domain -> toResponseDTO(domain,
+                                names.getT1().getOrDefault(domain.getSpacecraftId(), UNKNOWN),
+                                names.getT2().getOrDefault(domain.getPerformedByUserId(), UNKNOWN),
+                                domain.getSupervisedByUserId() == null
+                                        ? ""
+                                        : names.getT2().getOrDefault(domain.getSupervisedByUserId(), UNKNOWN)))
+                        .toList());
+    }
+
+    private MaintenanceLogResponseDTO toResponseDTO(MaintenanceLog domain, String spacecraftName,
+                                                    String performedByName, String supervisedByName) {
+        return new MaintenanceLogResponseDTO(
+                domain.getId(),
+                domain.getSpacecraftId(),
+                spacecraftName,
+                mapMaintenanceTypeToDto(domain.getMaintenanceType()),
+                domain.getPerformedByUserId(),
+                performedByName,
+                domain.getSupervisedByUserId(),
+                supervisedByName,
+                domain.getStartTime(),
+                domain.getEndTime(),
+                mapMaintenanceStatusToDto(domain.getStatus()),
+                domain.getDescription(),
+                domain.getCost()
+        );
+    }
+
+    private static void addIfPresent(Set<Long> ids, Long id) {
+        if (id != null) {
+            ids.add(id);
+        }
     }
 
     private org.orbitalLogistic.maintenance.domain.model.enums.MaintenanceType mapMaintenanceType(
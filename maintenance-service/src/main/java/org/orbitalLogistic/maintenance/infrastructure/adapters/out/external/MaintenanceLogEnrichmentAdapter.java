@@ -1,42 +1,97 @@
 package org.orbitalLogistic.maintenance.infrastructure.adapters.out.external;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.orbitalLogistic.maintenance.application.ports.out.MaintenanceLogEnrichmentPort;
 import org.orbitalLogistic.maintenance.clients.SpacecraftServiceClient;
 import org.orbitalLogistic.maintenance.clients.UserServiceClient;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.out.external.dto.SpacecraftDTO;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.out.external.dto.UserDTO;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Spacecraft and user names are kept in short-lived, size-bounded caches shared across requests.
+ * Concurrent lookups of the same id share one in-flight call, and ids that could not be resolved
+ * are not cached so the next request retries them.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class MaintenanceLogEnrichmentAdapter implements MaintenanceLogEnrichmentPort {
 
+    private static final String UNKNOWN = "Unknown";
+
     private final SpacecraftServiceClient spacecraftServiceClient;
     private final UserServiceClient userServiceClient;
+    private final AsyncCache<Long, String> spacecraftNames;
+    private final AsyncCache<Long, String> userNames;
+
+    public MaintenanceLogEnrichmentAdapter(SpacecraftServiceClient spacecraftServiceClient,
+                                           UserServiceClient userServiceClient,
+                                           @Value("${enrichment.name-cache.ttl:30s}") Duration ttl,
+                                           @Value("${enrichment.name-cache.max-size:10000}") long maxSize) {
+        this.spacecraftServiceClient = spacecraftServiceClient;
+        this.userServiceClient = userServiceClient;
+        this.spacecraftNames = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).buildAsync();
+        this.userNames = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).buildAsync();
+    }
 
     @Override
     public Mono<String> getSpacecraftName(Long spacecraftId) {
-        return spacecraftServiceClient.getSpacecraftById(spacecraftId)
-                .map(SpacecraftDTO::name)
-                .onErrorResume(ex -> {
-                    log.warn("Fallback: Unable to fetch spacecraft with id: {}, error: {}", spacecraftId, ex.getMessage());
-                    return Mono.just("Unknown");
-                })
-                .defaultIfEmpty("Unknown");
+        return getSpacecraftNames(List.of(spacecraftId))
+                .map(names -> names.getOrDefault(spacecraftId, UNKNOWN));
     }
 
     @Override
     public Mono<String> getUserName(Long userId) {
-        return userServiceClient.getUserById(userId)
-                .map(UserDTO::username)
+        return getUserNames(List.of(userId))
+                .map(names -> names.getOrDefault(userId, UNKNOWN));
+    }
+
+    @Override
+    public Mono<Map<Long, String>> getSpacecraftNames(Collection<Long> spacecraftIds) {
+        if (spacecraftIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return lookup(spacecraftNames, spacecraftIds, missing -> spacecraftServiceClient.getSpacecraftsByIds(missing)
+                .flatMapIterable(spacecrafts -> spacecrafts)
+                .filter(spacecraft -> spacecraft.id() != null && spacecraft.name() != null)
+                .collectMap(SpacecraftDTO::id, SpacecraftDTO::name)
                 .onErrorResume(ex -> {
-                    log.warn("Fallback: Unable to fetch user with id: {}, error: {}", userId, ex.getMessage());
-                    return Mono.just("Unknown");
-                })
-                .defaultIfEmpty("Unknown");
+                    log.warn("Fallback: Unable to fetch spacecrafts {}, error: {}", missing, ex.getMessage());
+                    return Mono.just(Map.of());
+                }));
+    }
+
+    @Override
+    public Mono<Map<Long, String>> getUserNames(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return lookup(userNames, userIds, missing -> userServiceClient.getUsersByIds(missing)
+                .flatMapIterable(users -> users)
+                .filter(user -> user.id() != null && user.username() != null)
+                .collectMap(UserDTO::id, UserDTO::username)
+                .onErrorResume(ex -> {
+                    log.warn("Fallback: Unable to fetch users {}, error: {}", missing, ex.getMessage());
+                    return Mono.just(Map.of());
+                }));
+    }
+
+    private static Mono<Map<Long, String>> lookup(AsyncCache<Long, String> cache, Collection<Long> ids,
+                                                  Function<Set<Long>, Mono<Map<Long, String>>> load) {
+        // toFuture() subscribes outside this chain, so the caller's context (and its JWT) is passed on explicitly.
+        // One subscriber cancelling must not cancel the lookup other requests are waiting on
+        return Mono.deferContextual(context -> Mono.fromFuture(() -> cache.getAll(ids, (missing, executor) ->
+                        load.apply(Set.copyOf(missing)).contextWrite(context).toFuture()), true));
     }
 }
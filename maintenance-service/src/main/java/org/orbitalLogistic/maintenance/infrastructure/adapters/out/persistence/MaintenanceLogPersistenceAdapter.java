@@ -3,10 +3,13 @@ package org.orbitalLogistic.maintenance.infrastructure.adapters.out.persistence;
 import lombok.RequiredArgsConstructor;
 import org.orbitalLogistic.maintenance.application.ports.out.MaintenanceLogRepository;
 import org.orbitalLogistic.maintenance.domain.model.MaintenanceLog;
+import org.orbitalLogistic.pagination.PlanEstimates;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 @Component
 @RequiredArgsConstructor
 public class MaintenanceLogPersistenceAdapter implements MaintenanceLogRepository {
@@ -33,11 +36,34 @@ public class MaintenanceLogPersistenceAdapter implements MaintenanceLogRepositor
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Flux<MaintenanceLog> findAllAfter(LocalDateTime startTime, Long id, int size) {
+        // Logs without a start time sort last, so they are read once the started ones run out
+        if (startTime == null) {
+            return r2dbcRepository.findUnstartedBefore(id, size)
+                    .map(mapper::toDomain);
+        }
+        return r2dbcRepository.findStartedBefore(startTime, id, size)
+                .collectList()
+                .flatMapMany(started -> started.size() < size
+                        ? Flux.fromIterable(started)
+                                .concatWith(r2dbcRepository.findUnstartedBefore(Long.MAX_VALUE, size - started.size()))
+                        : Flux.fromIterable(started))
+                .map(mapper::toDomain);
+    }
+
     @Override
     public Mono<Long> countAll() {
         return r2dbcRepository.countAll();
     }
 
+    @Override
+    public Mono<Long> estimateAll() {
+        return r2dbcRepository.explainAll()
+                .collectList()
+                .map(PlanEstimates::rows);
+    }
+
     @Override
     public Flux<MaintenanceLog> findBySpacecraftIdPaginated(Long spacecraftId, int size, int offset) {
         return r2dbcRepository.findBySpacecraftIdPaginated(spacecraftId, size, offset)
@@ -48,4 +74,11 @@ public class MaintenanceLogPersistenceAdapter implements MaintenanceLogRepositor
     public Mono<Long> countBySpacecraftId(Long spacecraftId) {
         return r2dbcRepository.countBySpacecraftId(spacecraftId);
     }
+
+    @Override
+    public Mono<Long> estimateBySpacecraftId(Long spacecraftId) {
+        return r2dbcRepository.explainBySpacecraftId(spacecraftId)
+                .collectList()
+                .map(PlanEstimates::rows);
+    }
 }
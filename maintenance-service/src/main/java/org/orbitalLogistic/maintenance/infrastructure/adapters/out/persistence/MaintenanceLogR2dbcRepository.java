@@ -7,6 +7,8 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 @Repository
 public interface MaintenanceLogR2dbcRepository extends ReactiveCrudRepository<MaintenanceLogEntity, Long> {
 
@@ -22,9 +24,35 @@ public interface MaintenanceLogR2dbcRepository extends ReactiveCrudRepository<Ma
             @Param("limit") int limit
     );
 
+    @Query("""
+        SELECT m.* FROM maintenance_log m
+        WHERE (m.start_time, m.id) < (:startTime, :id)
+        ORDER BY m.start_time DESC NULLS LAST, m.id DESC
+        LIMIT :limit
+    """)
+    Flux<MaintenanceLogEntity> findStartedBefore(
+            @Param("startTime") LocalDateTime startTime,
+            @Param("id") Long id,
+            @Param("limit") int limit
+    );
+
+    @Query("""
+        SELECT m.* FROM maintenance_log m
+        WHERE m.start_time IS NULL AND m.id < :id
+        ORDER BY m.id DESC
+        LIMIT :limit
+    """)
+    Flux<MaintenanceLogEntity> findUnstartedBefore(
+            @Param("id") Long id,
+            @Param("limit") int limit
+    );
+
     @Query("SELECT COUNT(*) FROM maintenance_log")
     Mono<Long> countAll();
 
+    @Query("EXPLAIN SELECT 1 FROM maintenance_log")
+    Flux<String> explainAll();
+
     @Query("""
         SELECT m.* FROM maintenance_log m
         WHERE m.spacecraft_id = :spacecraftId
@@ -42,4 +70,10 @@ public interface MaintenanceLogR2dbcRepository extends ReactiveCrudRepository<Ma
         WHERE spacecraft_id = :spacecraftId
     """)
     Mono<Long> countBySpacecraftId(@Param("spacecraftId") Long spacecraftId);
+
+    @Query("""
+        EXPLAIN SELECT 1 FROM maintenance_log
+        WHERE spacecraft_id = :spacecraftId
+    """)
+    Flux<String> explainBySpacecraftId(@Param("spacecraftId") Long spacecraftId);
 }
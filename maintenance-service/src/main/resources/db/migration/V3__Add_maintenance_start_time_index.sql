@@ -0,0 +1,2 @@
+-- Supports paging GET /maintenance-logs by (start_time, id)
+CREATE INDEX IF NOT EXISTS idx_maintenance_start_time_id ON maintenance_log(start_time DESC NULLS LAST, id DESC);
@@ -0,0 +1,131 @@
+package org.orbitalLogistic.maintenance.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.maintenance.clients.ContextBearerTokenFilter;
+import org.orbitalLogistic.maintenance.clients.SpacecraftServiceClient;
+import org.orbitalLogistic.maintenance.clients.UserServiceClient;
+import org.orbitalLogistic.maintenance.infrastructure.adapters.out.external.MaintenanceLogEnrichmentAdapter;
+import org.orbitalLogistic.maintenance.infrastructure.adapters.out.external.dto.SpacecraftDTO;
+import org.orbitalLogistic.maintenance.infrastructure.adapters.out.external.dto.UserDTO;
+import org.orbitalLogistic.maintenance.jwt.JwtAuthFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MaintenanceLogEnrichmentAdapterTest {
+
+    @Mock
+    private SpacecraftServiceClient spacecraftServiceClient;
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    private MaintenanceLogEnrichmentAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new MaintenanceLogEnrichmentAdapter(spacecraftServiceClient, userServiceClient,
+                Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    void getUserNames_ResolvesAllIdsInOneBatchCall() {
+        // Given
+        when(userServiceClient.getUsersByIds(Set.of(1L, 2L))).thenReturn(Mono.just(List.of(
+                new UserDTO(1L, "John Doe", "john@example.com"),
+                new UserDTO(2L, "Jane Smith", "jane@example.com"))));
+
+        // When
+        Mono<Map<Long, String>> result = adapter.getUserNames(List.of(1L, 2L));
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(Map.of(1L, "John Doe", 2L, "Jane Smith"))
+                .verifyComplete();
+        verify(userServiceClient, times(1)).getUsersByIds(anyCollection());
+        verify(userServiceClient, never()).getUserById(anyLong());
+    }
+
+    @Test
+    void getSpacecraftNames_CachedIdsAreNotFetchedAgain() {
+        // Given
+        when(spacecraftServiceClient.getSpacecraftsByIds(Set.of(1L)))
+                .thenReturn(Mono.just(List.of(new SpacecraftDTO(1L, "SC-001", "Star Carrier"))));
+        when(spacecraftServiceClient.getSpacecraftsByIds(Set.of(2L, 3L)))
+                .thenReturn(Mono.just(List.of(new SpacecraftDTO(2L, "SC-002", "Moon Hopper"),
+                        new SpacecraftDTO(3L, "SC-003", "Comet Chaser"))));
+        adapter.getSpacecraftNames(List.of(1L)).block();
+
+        // When
+        Map<Long, String> names = adapter.getSpacecraftNames(List.of(1L, 2L, 3L)).block();
+
+        // Then
+        assertEquals(Map.of(1L, "Star Carrier", 2L, "Moon Hopper", 3L, "Comet Chaser"), names);
+        verify(spacecraftServiceClient, times(2)).getSpacecraftsByIds(anyCollection());
+        verify(spacecraftServiceClient, never()).getSpacecraftById(anyLong());
+    }
+
+    @Test
+    void getSpacecraftName_UnresolvedId_FallsBackAndIsRetriedNextTime() {
+        // Given
+        when(spacecraftServiceClient.getSpacecraftsByIds(Set.of(1L)))
+                .thenReturn(Mono.just(List.of()))
+                .thenReturn(Mono.just(List.of(new SpacecraftDTO(1L, "SC-001", "Star Carrier"))));
+
+        // When
+        String first = adapter.getSpacecraftName(1L).block();
+        String second = adapter.getSpacecraftName(1L).block();
+
+        // Then
+        assertEquals("Unknown", first);
+        assertEquals("Star Carrier", second);
+    }
+
+    @Test
+    void getUserNames_CacheMiss_ForwardsBearerTokenFromContext() {
+        // Given
+        AtomicReference<ClientRequest> lastRequest = new AtomicReference<>();
+        WebClient.Builder builder = WebClient.builder()
+                .filter(new ContextBearerTokenFilter())
+                .exchangeFunction(request -> {
+                    lastRequest.set(request);
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("[{\"id\":1,\"username\":\"John Doe\",\"email\":\"john@example.com\"}]")
+                            .build());
+                });
+        MaintenanceLogEnrichmentAdapter webClientAdapter = new MaintenanceLogEnrichmentAdapter(spacecraftServiceClient,
+                new UserServiceClient(builder, "http://user-service/api/users"), Duration.ofMinutes(1), 100);
+
+        // When
+        Mono<Map<Long, String>> result = webClientAdapter.getUserNames(List.of(1L))
+                .contextWrite(Context.of(JwtAuthFilter.JWT_TOKEN_KEY, "token-123"));
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(Map.of(1L, "John Doe"))
+                .verifyComplete();
+        assertEquals("Bearer token-123", lastRequest.get().headers().getFirst(HttpHeaders.AUTHORIZATION));
+    }
+}
@@ -7,6 +7,7 @@ import org.orbitalLogistic.maintenance.domain.model.MaintenanceLog;
 import org.orbitalLogistic.maintenance.domain.model.enums.MaintenanceStatus;
 import org.orbitalLogistic.maintenance.domain.model.enums.MaintenanceType;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.in.rest.MaintenanceLogRestController;
+import org.orbitalLogistic.maintenance.infrastructure.adapters.in.rest.dto.MaintenanceLogCursor;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.in.rest.dto.MaintenanceLogRequestDTO;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.in.rest.dto.MaintenanceLogResponseDTO;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.in.rest.mapper.MaintenanceLogRestMapper;
@@ -111,7 +112,7 @@ class MaintenanceLogRestControllerTest {
         when(getMaintenanceLogsUseCase.getAllMaintenanceLogs(0, 20))
                 .thenReturn(Flux.just(domainLog));
         when(getMaintenanceLogsUseCase.countAll()).thenReturn(Mono.just(1L));
-        when(mapper.toResponseDTO(any(MaintenanceLog.class))).thenReturn(Mono.just(responseDTO));
+        when(mapper.toResponseDTOs(anyList())).thenReturn(Flux.just(responseDTO));
 
         webTestClient.get()
                 .uri("/maintenance-logs?page=0&size=20")
@@ -124,6 +125,101 @@ class MaintenanceLogRestControllerTest {
         verify(getMaintenanceLogsUseCase).countAll();
     }
 
+    @Test
+    void getAllMaintenanceLogs_FullPage_ReturnsNextCursorHeader() {
+        when(getMaintenanceLogsUseCase.getAllMaintenanceLogs(0, 1))
+                .thenReturn(Flux.just(domainLog));
+        when(getMaintenanceLogsUseCase.countAll()).thenReturn(Mono.just(3L));
+        when(mapper.toResponseDTOs(anyList())).thenReturn(Flux.just(responseDTO));
+
+        String expectedCursor = new MaintenanceLogCursor(domainLog.getStartTime(), 1L).encode();
+
+        webTestClient.get()
+                .uri("/maintenance-logs?page=0&size=1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Total-Count", "3")
+                .expectHeader().valueEquals("X-Next-Cursor", expectedCursor);
+    }
+
+    @Test
+    void getAllMaintenanceLogs_WithCursor_SeeksWithoutCounting() {
+        MaintenanceLogCursor cursor = new MaintenanceLogCursor(LocalDateTime.of(2030, 1, 1, 12, 0), 7L);
+        when(getMaintenanceLogsUseCase.getMaintenanceLogsAfter(cursor.startTime(), 7L, 20))
+                .thenReturn(Flux.just(domainLog));
+        when(mapper.toResponseDTOs(anyList())).thenReturn(Flux.just(responseDTO));
+
+        webTestClient.get()
+                .uri("/maintenance-logs?cursor=" + cursor.encode())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Total-Count")
+                .expectHeader().doesNotExist("X-Next-Cursor")
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(1);
+
+        verify(getMaintenanceLogsUseCase, never()).getAllMaintenanceLogs(anyInt(), anyInt());
+        verify(getMaintenanceLogsUseCase, never()).countAll();
+    }
+
+    @Test
+    void getAllMaintenanceLogs_MalformedCursor_ReturnsBadRequest() {
+        webTestClient.get()
+                .uri("/maintenance-logs?cursor=not-a-cursor")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(getMaintenanceLogsUseCase);
+    }
+
+    @Test
+    void getAllMaintenanceLogs_IncludeTotalEstimate_UsesPlannerEstimate() {
+        when(getMaintenanceLogsUseCase.getAllMaintenanceLogs(0, 20))
+                .thenReturn(Flux.just(domainLog));
+        when(getMaintenanceLogsUseCase.estimateAll()).thenReturn(Mono.just(1200L));
+        when(mapper.toResponseDTOs(anyList())).thenReturn(Flux.just(responseDTO));
+
+        webTestClient.get()
+                .uri("/maintenance-logs?includeTotal=estimate")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Total-Count", "1200");
+
+        verify(getMaintenanceLogsUseCase, never()).countAll();
+    }
+
+    @Test
+    void getAllMaintenanceLogs_IncludeTotalFalse_OmitsTotalHeader() {
+        when(getMaintenanceLogsUseCase.getAllMaintenanceLogs(0, 20))
+                .thenReturn(Flux.just(domainLog));
+        when(mapper.toResponseDTOs(anyList())).thenReturn(Flux.just(responseDTO));
+
+        webTestClient.get()
+                .uri("/maintenance-logs?includeTotal=false")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Total-Count");
+
+        verify(getMaintenanceLogsUseCase, never()).countAll();
+        verify(getMaintenanceLogsUseCase, never()).estimateAll();
+    }
+
+    @Test
+    void getAllMaintenanceLogs_UnknownIncludeTotal_ReturnsBadRequest() {
+        webTestClient.get()
+                .uri("/maintenance-logs?includeTotal=sometimes")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(getMaintenanceLogsUseCase);
+    }
+
     @Test
     void createMaintenanceLog_Success() {
         CreateMaintenanceLogCommand command = CreateMaintenanceLogCommand.builder().build();
@@ -167,7 +263,7 @@ class MaintenanceLogRestControllerTest {
         when(getMaintenanceLogsUseCase.getSpacecraftMaintenanceHistory(1L, 0, 20))
                 .thenReturn(Flux.just(domainLog));
         when(getMaintenanceLogsUseCase.countBySpacecraftId(1L)).thenReturn(Mono.just(1L));
-        when(mapper.toResponseDTO(any(MaintenanceLog.class))).thenReturn(Mono.just(responseDTO));
+        when(mapper.toResponseDTOs(anyList())).thenReturn(Flux.just(responseDTO));
 
         webTestClient.get()
                 .uri("/spacecrafts/1/maintenance?page=0&size=20")
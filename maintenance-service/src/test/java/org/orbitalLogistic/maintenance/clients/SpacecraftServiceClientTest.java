@@ -0,0 +1,118 @@
+package org.orbitalLogistic.maintenance.clients;
+
+import org.junit.jupiter.api.Test;
+import org.orbitalLogistic.maintenance.infrastructure.adapters.out.external.dto.SpacecraftDTO;
+import org.orbitalLogistic.maintenance.jwt.JwtAuthFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpacecraftServiceClientTest {
+
+    private final AtomicReference<ClientRequest> lastRequest = new AtomicReference<>();
+
+    @Test
+    void getSpacecraftById_TokenInContext_ForwardsBearerHeader() {
+        // Given
+        SpacecraftServiceClient client = client(HttpStatus.OK, "{\"id\":1,\"code\":\"SC-001\",\"name\":\"Star Carrier\"}");
+
+        // When
+        Mono<SpacecraftDTO> result = client.getSpacecraftById(1L)
+                .contextWrite(Context.of(JwtAuthFilter.JWT_TOKEN_KEY, "token-123"));
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(new SpacecraftDTO(1L, "SC-001", "Star Carrier"))
+                .verifyComplete();
+        assertEquals("Bearer token-123", lastRequest.get().headers().getFirst(HttpHeaders.AUTHORIZATION));
+        assertEquals("/api/spacecrafts/1", lastRequest.get().url().getPath());
+    }
+
+    @Test
+    void getSpacecraftById_NoTokenInContext_SendsNoAuthorization() {
+        // Given
+        SpacecraftServiceClient client = client(HttpStatus.OK, "{\"id\":1,\"code\":\"SC-001\",\"name\":\"Star Carrier\"}");
+
+        // When
+        client.getSpacecraftById(1L).block();
+
+        // Then
+        assertFalse(lastRequest.get().headers().containsKey(HttpHeaders.AUTHORIZATION));
+    }
+
+    @Test
+    void spacecraftExists_ServerError_FallsBackToFalse() {
+        // Given
+        SpacecraftServiceClient client = client(HttpStatus.SERVICE_UNAVAILABLE, "");
+
+        // When
+        Mono<Boolean> result = client.spacecraftExists(1L);
+
+        // Then
+        StepVerifier.create(result).expectNext(false).verifyComplete();
+    }
+
+    @Test
+    void getSpacecraftById_NotFound_CompletesEmpty() {
+        // Given
+        SpacecraftServiceClient client = client(HttpStatus.NOT_FOUND, "");
+
+        // When
+        Mono<SpacecraftDTO> result = client.getSpacecraftById(999L);
+
+        // Then
+        StepVerifier.create(result).verifyComplete();
+    }
+
+    @Test
+    void getSpacecraftsByIds_PostsIdsToBatchEndpoint() {
+        // Given
+        SpacecraftServiceClient client = client(HttpStatus.OK,
+                "[{\"id\":1,\"registryCode\":\"SC-001\",\"name\":\"Star Carrier\"}]");
+
+        // When
+        List<SpacecraftDTO> result = client.getSpacecraftsByIds(List.of(1L)).block();
+
+        // Then
+        assertEquals(List.of(new SpacecraftDTO(1L, null, "Star Carrier")), result);
+        assertEquals(HttpMethod.POST, lastRequest.get().method());
+        assertEquals("/api/spacecrafts/batch", lastRequest.get().url().getPath());
+    }
+
+    @Test
+    void getSpacecraftsByIds_ServerError_FallsBackToEmpty() {
+        // Given
+        SpacecraftServiceClient client = client(HttpStatus.SERVICE_UNAVAILABLE, "");
+
+        // When
+        Mono<List<SpacecraftDTO>> result = client.getSpacecraftsByIds(List.of(1L));
+
+        // Then
+        StepVerifier.create(result).expectNext(List.of()).verifyComplete();
+    }
+
+    private SpacecraftServiceClient client(HttpStatus status, String body) {
+        WebClient.Builder builder = WebClient.builder()
+                .filter(new ContextBearerTokenFilter())
+                .exchangeFunction(request -> {
+                    lastRequest.set(request);
+                    return Mono.just(ClientResponse.create(status)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                });
+        return new SpacecraftServiceClient(builder, "http://spacecraft-service/api/spacecrafts");
+    }
+}
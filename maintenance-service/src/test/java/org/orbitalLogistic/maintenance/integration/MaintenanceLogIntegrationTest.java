@@ -3,8 +3,8 @@ package org.orbitalLogistic.maintenance.integration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
-import org.orbitalLogistic.maintenance.clients.feign.SpacecraftServiceFeignClient;
-import org.orbitalLogistic.maintenance.clients.feign.UserServiceFeignClient;
+import org.orbitalLogistic.maintenance.clients.SpacecraftServiceClient;
+import org.orbitalLogistic.maintenance.clients.UserServiceClient;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.out.external.dto.SpacecraftDTO;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.out.external.dto.UserDTO;
 import org.orbitalLogistic.maintenance.infrastructure.adapters.in.rest.dto.MaintenanceLogRequestDTO;
@@ -28,11 +28,14 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 
@@ -70,10 +73,10 @@ class MaintenanceLogIntegrationTest {
     private MaintenanceLogR2dbcRepository maintenanceLogRepository;
 
     @MockitoBean
-    private SpacecraftServiceFeignClient spacecraftServiceClient;
+    private SpacecraftServiceClient spacecraftServiceClient;
 
     @MockitoBean
-    private UserServiceFeignClient userServiceClient;
+    private UserServiceClient userServiceClient;
 
     @BeforeEach
     void setUp() {
@@ -81,14 +84,14 @@ class MaintenanceLogIntegrationTest {
 
         webTestClient = webTestClient.mutateWith(mockUser().roles("ADMIN"));
 
-        when(spacecraftServiceClient.spacecraftExists(anyLong())).thenReturn(true);
-        when(spacecraftServiceClient.getSpacecraftById(anyLong()))
-                .thenReturn(new SpacecraftDTO(1L, "SC-001", "Star Carrier"));
-        when(userServiceClient.userExists(anyLong())).thenReturn(true);
-        when(userServiceClient.getUserById(1L))
-                .thenReturn(new UserDTO(1L, "John Doe", "john@example.com"));
-        when(userServiceClient.getUserById(2L))
-                .thenReturn(new UserDTO(2L, "Jane Smith", "jane@example.com"));
+        when(spacecraftServiceClient.spacecraftExists(anyLong())).thenReturn(Mono.just(true));
+        when(spacecraftServiceClient.getSpacecraftsByIds(anyCollection()))
+                .thenReturn(Mono.just(List.of(new SpacecraftDTO(1L, "SC-001", "Star Carrier"))));
+        when(userServiceClient.userExists(anyLong())).thenReturn(Mono.just(true));
+        when(userServiceClient.getUsersByIds(anyCollection()))
+                .thenReturn(Mono.just(List.of(
+                        new UserDTO(1L, "John Doe", "john@example.com"),
+                        new UserDTO(2L, "Jane Smith", "jane@example.com"))));
     }
 
     @Test
@@ -260,7 +263,7 @@ class MaintenanceLogIntegrationTest {
 
     @Test
     void createLog_InvalidSpacecraft() {
-        when(spacecraftServiceClient.spacecraftExists(999L)).thenReturn(false);
+        when(spacecraftServiceClient.spacecraftExists(999L)).thenReturn(Mono.just(false));
 
         MaintenanceLogRequestDTO request = new MaintenanceLogRequestDTO(
                 999L, MaintenanceType.ROUTINE, 1L, null,
@@ -279,7 +282,7 @@ class MaintenanceLogIntegrationTest {
 
     @Test
     void createLog_InvalidUser() {
-        when(userServiceClient.userExists(999L)).thenReturn(false);
+        when(userServiceClient.userExists(999L)).thenReturn(Mono.just(false));
 
         MaintenanceLogRequestDTO request = new MaintenanceLogRequestDTO(
                 1L, MaintenanceType.ROUTINE, 999L, null,
@@ -125,6 +125,22 @@ class MaintenanceLogRepositoryTest {
                 .verifyComplete();
     }
 
+    @Test
+    void findStartedBefore_SeeksPastCursorRow() {
+        // Use the stored value so the cursor carries the database precision
+        MaintenanceLogEntity latest = maintenanceLogRepository.findById(testLog2.getId()).block();
+
+        StepVerifier.create(maintenanceLogRepository.findStartedBefore(latest.getStartTime(), latest.getId(), 10))
+                .assertNext(found -> assertEquals(testLog1.getId(), found.getId()))
+                .verifyComplete();
+    }
+
+    @Test
+    void findUnstartedBefore_SkipsStartedLogs() {
+        StepVerifier.create(maintenanceLogRepository.findUnstartedBefore(Long.MAX_VALUE, 10))
+                .verifyComplete();
+    }
+
     @Test
     void countAll_Success() {
         StepVerifier.create(maintenanceLogRepository.countAll())
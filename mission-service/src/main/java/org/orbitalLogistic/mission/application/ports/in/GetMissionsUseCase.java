@@ -3,10 +3,13 @@ package org.orbitalLogistic.mission.application.ports.in;
 import org.orbitalLogistic.mission.domain.model.Mission;
 import org.orbitalLogistic.mission.domain.model.enums.MissionStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface GetMissionsUseCase {
     List<Mission> getAllMissions();
+    List<Mission> getMissions(int page, int size);
+    List<Mission> getMissionsAfter(LocalDateTime scheduledDeparture, Long id, int size);
     List<Mission> getMissionsByStatus(MissionStatus status);
     List<Mission> getMissionsByCommandingOfficerId(Long commandingOfficerId);
     List<Mission> getMissionsBySpacecraftId(Long spacecraftId);
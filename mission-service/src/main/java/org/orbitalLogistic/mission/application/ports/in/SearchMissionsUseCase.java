@@ -2,9 +2,14 @@ package org.orbitalLogistic.mission.application.ports.in;
 
 import org.orbitalLogistic.mission.domain.model.Mission;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface SearchMissionsUseCase {
     List<Mission> searchMissions(String missionCode, String status, String missionType, int page, int size);
+    List<Mission> searchMissionsAfter(String missionCode, String status, String missionType,
+                                      LocalDateTime scheduledDeparture, Long id, int size);
+    List<Mission> searchMissionsRanked(String missionCode, String status, String missionType, int page, int size);
     long countMissions(String missionCode, String status, String missionType);
+    long estimateMissions(String missionCode, String status, String missionType);
 }
@@ -2,7 +2,9 @@ package org.orbitalLogistic.mission.application.ports.out;
 
 import org.orbitalLogistic.mission.domain.model.MissionAssignment;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface MissionAssignmentRepository {
@@ -15,6 +17,7 @@ public interface MissionAssignmentRepository {
     List<MissionAssignment> findWithFilters(Long missionId, Long userId, int limit, int offset);
     long countWithFilters(Long missionId, Long userId);
     int countByMissionId(Long missionId);
+    Map<Long, Integer> countByMissionIds(Collection<Long> missionIds);
     boolean existsById(Long id);
     void deleteById(Long id);
     void deleteAll();
@@ -3,6 +3,7 @@ package org.orbitalLogistic.mission.application.ports.out;
 import org.orbitalLogistic.mission.domain.model.Mission;
 import org.orbitalLogistic.mission.domain.model.enums.MissionStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +16,13 @@ public interface MissionRepository {
     List<Mission> findByCommandingOfficerId(Long commandingOfficerId);
     List<Mission> findBySpacecraftId(Long spacecraftId);
     List<Mission> findWithFilters(String missionCode, String status, String missionType, int limit, int offset);
+    List<Mission> findBySimilarMissionCode(String missionCode, String status, String missionType, int limit, int offset);
     long countWithFilters(String missionCode, String status, String missionType);
+    long estimateWithFilters(String missionCode, String status, String missionType);
+    List<Mission> findPage(int limit, int offset);
+    List<Mission> findPageAfter(LocalDateTime scheduledDeparture, Long id, int limit);
+    List<Mission> findWithFiltersAfter(String missionCode, String status, String missionType,
+                                       LocalDateTime scheduledDeparture, Long id, int limit);
     boolean existsById(Long id);
     boolean existsByMissionCode(String missionCode);
     void deleteById(Long id);
@@ -1,6 +1,10 @@
 package org.orbitalLogistic.mission.application.ports.out;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface SpacecraftServicePort {
     String getSpacecraftNameById(Long spacecraftId);
+    Map<Long, String> getSpacecraftNamesByIds(Collection<Long> spacecraftIds);
     boolean spacecraftExists(Long spacecraftId);
 }
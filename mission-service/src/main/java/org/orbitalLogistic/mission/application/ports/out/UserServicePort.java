@@ -1,6 +1,10 @@
 package org.orbitalLogistic.mission.application.ports.out;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface UserServicePort {
     String getUserNameById(Long userId);
+    Map<Long, String> getUserNamesByIds(Collection<Long> userIds);
     boolean userExists(Long userId);
 }
@@ -9,6 +9,7 @@ import org.orbitalLogistic.mission.domain.model.enums.MissionStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -25,6 +26,20 @@ public class GetMissionsService implements GetMissionsUseCase {
         return missionRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Mission> getMissions(int page, int size) {
+        log.debug("Getting missions page: {}, size: {}", page, size);
+        return missionRepository.findPage(size, page * size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Mission> getMissionsAfter(LocalDateTime scheduledDeparture, Long id, int size) {
+        log.debug("Getting {} missions after departure: {}, id: {}", size, scheduledDeparture, id);
+        return missionRepository.findPageAfter(scheduledDeparture, id, size);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Mission> getMissionsByStatus(MissionStatus status) {
@@ -5,9 +5,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.orbitalLogistic.mission.application.ports.in.SearchMissionsUseCase;
 import org.orbitalLogistic.mission.application.ports.out.MissionRepository;
 import org.orbitalLogistic.mission.domain.model.Mission;
+import org.orbitalLogistic.pagination.ExactCountCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -16,6 +18,7 @@ import java.util.List;
 public class SearchMissionsService implements SearchMissionsUseCase {
 
     private final MissionRepository missionRepository;
+    private final ExactCountCache exactCountCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -26,11 +29,39 @@ public class SearchMissionsService implements SearchMissionsUseCase {
         return missionRepository.findWithFilters(missionCode, status, missionType, size, offset);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Mission> searchMissionsAfter(String missionCode, String status, String missionType,
+                                             LocalDateTime scheduledDeparture, Long id, int size) {
+        log.debug("Searching missions after ({}, {}) with filters - code: {}, status: {}, type: {}, size: {}",
+                  scheduledDeparture, id, missionCode, status, missionType, size);
+        return missionRepository.findWithFiltersAfter(missionCode, status, missionType, scheduledDeparture, id, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Mission> searchMissionsRanked(String missionCode, String status, String missionType, int page, int size) {
+        log.debug("Ranked mission search - code: {}, status: {}, type: {}, page: {}, size: {}",
+                  missionCode, status, missionType, page, size);
+        if (missionCode == null || missionCode.isBlank()) {
+            throw new IllegalArgumentException("Fuzzy search requires a missionCode");
+        }
+        return missionRepository.findBySimilarMissionCode(missionCode, status, missionType, size, page * size);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public long countMissions(String missionCode, String status, String missionType) {
         log.debug("Counting missions with filters - code: {}, status: {}, type: {}", 
                   missionCode, status, missionType);
-        return missionRepository.countWithFilters(missionCode, status, missionType);
+        return exactCountCache.get("missions",
+                () -> missionRepository.countWithFilters(missionCode, status, missionType),
+                missionCode, status, missionType);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long estimateMissions(String missionCode, String status, String missionType) {
+        return missionRepository.estimateWithFilters(missionCode, status, missionType);
     }
 }
@@ -6,6 +6,9 @@ import org.orbitalLogistic.mission.domain.exception.SpacecraftServiceException;
 import org.orbitalLogistic.mission.domain.exception.SpacecraftServiceNotFound;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+
 import feign.FeignException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +33,9 @@ public class ResilientSpacecraftService {
 
     public SpacecraftDTO fallbackGetSpacecraftById(Long id, Throwable t) {
         log.error("Fallback triggered for spacecraft ID: {}. Error: {}", id, t.getMessage(), t);
+        if (t instanceof SpacecraftServiceNotFound notFound) {
+            throw notFound;
+        }
         throw new SpacecraftServiceException("Spacecraft Service unavailable!");
     }
     
@@ -46,6 +52,23 @@ public class ResilientSpacecraftService {
     
     public Boolean spacecraftExistsFallback(Long id, Throwable t) {
         log.error("Fallback for spacecraftExists ID: {}. Error: {}", id, t.getMessage());
+        if (t instanceof SpacecraftServiceNotFound notFound) {
+            throw notFound;
+        }
+        throw new SpacecraftServiceException("Spacecraft Service unavailable!");
+    }
+
+    @CircuitBreaker(name = "spacecraftService", fallbackMethod = "getSpacecraftsByIdsFallback")
+    public List<SpacecraftDTO> getSpacecraftsByIds(Collection<Long> ids) {
+        try {
+            return spacecraftServiceApi.getSpacecraftsByIds(ids);
+        } catch (FeignException e) {
+            throw new SpacecraftServiceException("Spacecraft Service unavailable!");
+        }
+    }
+
+    public List<SpacecraftDTO> getSpacecraftsByIdsFallback(Collection<Long> ids, Throwable t) {
+        log.error("Fallback for getSpacecraftsByIds, {} ids. Error: {}", ids.size(), t.getMessage());
         throw new SpacecraftServiceException("Spacecraft Service unavailable!");
     }
 }
\ No newline at end of file
@@ -6,6 +6,10 @@ import org.orbitalLogistic.mission.domain.exception.UserServiceException;
 import org.orbitalLogistic.mission.domain.exception.UserServiceNotFound;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 import feign.FeignException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +39,9 @@ public class ResilientUserService {
 
     public UserDTO getUserbyIdFallback(Long id, Throwable t) {
         log.error("FALLBACK getUserById! userId: {}, error: {}", id, t.getClass().getSimpleName());
+        if (t instanceof UserServiceNotFound notFound) {
+            throw notFound;
+        }
         throw new UserServiceException("User service unavailable");
     }
 
@@ -55,6 +62,31 @@ public class ResilientUserService {
 
     public Boolean userExistsFallback(Long id, Throwable t) {
         log.error("FALLBACK userExists! userId: {}, error: {}", id, t.getClass().getSimpleName());
+        if (t instanceof UserServiceNotFound notFound) {
+            throw notFound;
+        }
+        throw new UserServiceException("User service unavailable");
+    }
+
+    @CircuitBreaker(name = "userService", fallbackMethod = "getUsersByIdsFallback")
+    public List<UserDTO> getUsersByIds(Collection<Long> ids) {
+        log.debug("Getting {} users by ids", ids.size());
+        return userServiceApi.getUsersByIds(ids);
+    }
+
+    public List<UserDTO> getUsersByIdsFallback(Collection<Long> ids, Throwable t) {
+        log.error("FALLBACK getUsersByIds! ids: {}, error: {}", ids.size(), t.getClass().getSimpleName());
+        throw new UserServiceException("User service unavailable");
+    }
+
+    @CircuitBreaker(name = "userService", fallbackMethod = "usersExistFallback")
+    public Map<Long, Boolean> usersExist(Collection<Long> ids) {
+        log.debug("Checking if {} users exist", ids.size());
+        return userServiceApi.usersExist(ids);
+    }
+
+    public Map<Long, Boolean> usersExistFallback(Collection<Long> ids, Throwable t) {
+        log.error("FALLBACK usersExist! ids: {}, error: {}", ids.size(), t.getClass().getSimpleName());
         throw new UserServiceException("User service unavailable");
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package org.orbitalLogistic.mission.infrastructure.adapters.in.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.orbitalLogistic.mission.infrastructure.adapters.out.client.UserServiceAdapter;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts cached user lookups when user-service deletes a user. Each instance has its own cache,
+ * so each one consumes the topic in its own group, named after the host (the container or pod
+ * name), so a restarted instance rejoins its group instead of leaving an orphaned one behind.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UserEventListener {
+
+    private final UserServiceAdapter userServiceAdapter;
+
+    @KafkaListener(topics = "user-deleted", groupId = "mission-service-user-events-${HOSTNAME:local}",
+            properties = "auto.offset.reset=latest")
+    public void userDeleted(ConsumerRecord<String, Object> record) {
+        try {
+            userServiceAdapter.evictUser(Long.valueOf(record.key()));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring user-deleted event with key {}", record.key());
+        }
+    }
+}
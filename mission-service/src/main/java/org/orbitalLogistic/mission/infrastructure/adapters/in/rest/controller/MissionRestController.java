@@ -7,10 +7,12 @@ import org.orbitalLogistic.mission.application.ports.in.*;
 import org.orbitalLogistic.mission.domain.exception.MissionNotFoundException;
 import org.orbitalLogistic.mission.domain.model.Mission;
 import org.orbitalLogistic.mission.domain.model.enums.MissionStatus;
+import org.orbitalLogistic.mission.infrastructure.adapters.in.rest.dto.common.MissionCursor;
 import org.orbitalLogistic.mission.infrastructure.adapters.in.rest.dto.common.PageResponseDTO;
 import org.orbitalLogistic.mission.infrastructure.adapters.in.rest.dto.request.MissionRequestDTO;
 import org.orbitalLogistic.mission.infrastructure.adapters.in.rest.dto.response.MissionResponseDTO;
 import org.orbitalLogistic.mission.infrastructure.adapters.in.rest.mapper.MissionDTOMapper;
+import org.orbitalLogistic.pagination.IncludeTotal;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -35,25 +37,25 @@ public class MissionRestController {
     public ResponseEntity<PageResponseDTO<MissionResponseDTO>> getAllMissions(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String includeTotal,
             HttpServletRequest request) {
 
         if (size > 50) size = 50;
+        if (size < 1) size = 1;
+        if (page < 0) page = 0;
 
-        List<Mission> missions = getMissionsUseCase.getAllMissions();
-        long total = searchMissionsUseCase.countMissions(null, null, null);
+        // Keyset pages skip the COUNT(*) unless asked, so deep pages cost the same as the first one
+        IncludeTotal totalMode = IncludeTotal.parse(includeTotal, cursor != null ? IncludeTotal.NONE : IncludeTotal.EXACT);
 
-        List<MissionResponseDTO> missionDTOs = missions.stream()
-                .map(missionMapper::toResponseDTO)
-                .toList();
+        if (cursor != null) {
+            MissionCursor after = MissionCursor.decode(cursor);
+            List<Mission> missions = getMissionsUseCase.getMissionsAfter(after.scheduledDeparture(), after.id(), size);
+            return toPage(missions, -1, size, total(totalMode, null, null, null));
+        }
 
-        int totalPages = (int) Math.ceil((double) total / size);
-        PageResponseDTO<MissionResponseDTO> response = new PageResponseDTO<>(
-                missionDTOs, page, size, total, totalPages, page == 0, page >= totalPages - 1
-        );
-
-        return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(total))
-                .body(response);
+        List<Mission> missions = getMissionsUseCase.getMissions(page, size);
+        return toPage(missions, page, size, total(totalMode, null, null, null));
     }
 
     @GetMapping("/search")
@@ -63,25 +65,36 @@ public class MissionRestController {
             @RequestParam(required = false) String missionType,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String includeTotal,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
             HttpServletRequest request) {
 
         if (size > 50) size = 50;
+        if (size < 1) size = 1;
+        if (page < 0) page = 0;
+
+        if (fuzzy) {
+            // Ranked by similarity, so there is no stable key to seek on and no cheap total
+            if (cursor != null) {
+                throw new IllegalArgumentException("cursor cannot be combined with fuzzy search");
+            }
+            List<Mission> missions = searchMissionsUseCase.searchMissionsRanked(missionCode, status, missionType, page, size);
+            return ResponseEntity.ok(new PageResponseDTO<>(
+                    missionMapper.toResponseDTOs(missions), page, size, -1, -1, page == 0, missions.size() < size));
+        }
+
+        IncludeTotal totalMode = IncludeTotal.parse(includeTotal, cursor != null ? IncludeTotal.NONE : IncludeTotal.EXACT);
+
+        if (cursor != null) {
+            MissionCursor after = MissionCursor.decode(cursor);
+            List<Mission> missions = searchMissionsUseCase.searchMissionsAfter(
+                    missionCode, status, missionType, after.scheduledDeparture(), after.id(), size);
+            return toPage(missions, -1, size, total(totalMode, missionCode, status, missionType));
+        }
 
         List<Mission> missions = searchMissionsUseCase.searchMissions(missionCode, status, missionType, page, size);
-        long total = searchMissionsUseCase.countMissions(missionCode, status, missionType);
-
-        List<MissionResponseDTO> missionDTOs = missions.stream()
-                .map(missionMapper::toResponseDTO)
-                .toList();
-
-        int totalPages = (int) Math.ceil((double) total / size);
-        PageResponseDTO<MissionResponseDTO> response = new PageResponseDTO<>(
-                missionDTOs, page, size, total, totalPages, page == 0, page >= totalPages - 1
-        );
-
-        return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(total))
-                .body(response);
+        return toPage(missions, page, size, total(totalMode, missionCode, status, missionType));
     }
 
     @GetMapping("/{id}")
@@ -154,4 +167,41 @@ public class MissionRestController {
         deleteMissionUseCase.deleteMission(id);
         return ResponseEntity.noContent().build();
     }
+
+    private long total(IncludeTotal mode, String missionCode, String status, String missionType) {
+        return switch (mode) {
+            case NONE -> -1;
+            case EXACT -> searchMissionsUseCase.countMissions(missionCode, status, missionType);
+            case ESTIMATE -> searchMissionsUseCase.estimateMissions(missionCode, status, missionType);
+        };
+    }
+
+    /**
+     * Builds the page body; a negative page marks a cursor request and a negative total an omitted count.
+     */
+    private ResponseEntity<PageResponseDTO<MissionResponseDTO>> toPage(
+            List<Mission> missions, int page, int size, long total) {
+
+        String nextCursor = nextCursor(missions, size);
+        boolean counted = total >= 0;
+        int totalPages = counted ? (int) Math.ceil((double) total / size) : -1;
+        boolean last = counted && page >= 0 ? page >= totalPages - 1 : nextCursor == null;
+
+        PageResponseDTO<MissionResponseDTO> response = new PageResponseDTO<>(
+                missionMapper.toResponseDTOs(missions), page, size, total, totalPages, page == 0, last, nextCursor
+        );
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (counted) {
+            builder.header("X-Total-Count", String.valueOf(total));
+        }
+        return builder.body(response);
+    }
+
+    private static String nextCursor(List<Mission> missions, int size) {
+        if (missions.size() < size) {
+            return null;
+        }
+        return MissionCursor.of(missions.get(missions.size() - 1)).encode();
+    }
 }
@@ -0,0 +1,43 @@
+package org.orbitalLogistic.mission.infrastructure.adapters.in.rest.dto.common;
+
+import org.orbitalLogistic.mission.domain.model.Mission;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position in the mission list, ordered by scheduled departure and id (both descending).
+ */
+public record MissionCursor(LocalDateTime scheduledDeparture, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static MissionCursor of(Mission mission) {
+        return new MissionCursor(mission.getScheduledDeparture(), mission.getId());
+    }
+
+    public static MissionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+
+            String departure = raw.substring(0, separator);
+            return new MissionCursor(
+                    departure.isEmpty() ? null : LocalDateTime.parse(departure),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String raw = (scheduledDeparture == null ? "" : scheduledDeparture.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,7 @@
 package org.orbitalLogistic.mission.infrastructure.adapters.in.rest.dto.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 public record PageResponseDTO<T>(
@@ -9,6 +11,12 @@ public record PageResponseDTO<T>(
     long totalElements,
     int totalPages,
     boolean first,
-    boolean last
-) {}
+    boolean last,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor
+) {
 
+    public PageResponseDTO(List<T> content, int currentPage, int pageSize, long totalElements,
+                           int totalPages, boolean first, boolean last) {
+        this(content, currentPage, pageSize, totalElements, totalPages, first, last, null);
+    }
+}
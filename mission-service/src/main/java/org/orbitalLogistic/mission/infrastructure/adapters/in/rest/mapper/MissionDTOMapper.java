@@ -8,6 +8,13 @@ import org.orbitalLogistic.mission.domain.model.Mission;
 import org.orbitalLogistic.mission.infrastructure.adapters.in.rest.dto.response.MissionResponseDTO;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Component
 @RequiredArgsConstructor
 public class MissionDTOMapper {
@@ -23,6 +30,31 @@ public class MissionDTOMapper {
             ? missionAssignmentRepository.countByMissionId(mission.getId()) 
             : 0;
 
+        return toResponseDTO(mission, commanderName, spacecraftName, crewCount);
+    }
+
+    public List<MissionResponseDTO> toResponseDTOs(List<Mission> missions) {
+        if (missions.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, String> commanderNames = userServicePort.getUserNamesByIds(
+                distinctIds(missions.stream().map(Mission::getCommandingOfficerId).toList()));
+        Map<Long, String> spacecraftNames = spacecraftServicePort.getSpacecraftNamesByIds(
+                distinctIds(missions.stream().map(Mission::getSpacecraftId).toList()));
+        Map<Long, Integer> crewCounts = missionAssignmentRepository.countByMissionIds(
+                distinctIds(missions.stream().map(Mission::getId).toList()));
+
+        return missions.stream()
+                .map(mission -> toResponseDTO(
+                        mission,
+                        commanderNames.getOrDefault(mission.getCommandingOfficerId(), "Unknown"),
+                        spacecraftNames.getOrDefault(mission.getSpacecraftId(), "Unknown"),
+                        mission.getId() != null ? crewCounts.getOrDefault(mission.getId(), 0) : 0))
+                .toList();
+    }
+
+    private MissionResponseDTO toResponseDTO(Mission mission, String commanderName, String spacecraftName, Integer crewCount) {
         return new MissionResponseDTO(
             mission.getId(),
             mission.getMissionCode(),
@@ -39,4 +71,10 @@ public class MissionDTOMapper {
             crewCount
         );
     }
+
+    private Set<Long> distinctIds(Collection<Long> ids) {
+        return ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
 }
@@ -1,23 +1,41 @@
 package org.orbitalLogistic.mission.infrastructure.adapters.out.client;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.orbitalLogistic.cache.LookupCache;
+import org.orbitalLogistic.cache.LookupCaches;
 import org.orbitalLogistic.mission.application.ports.out.SpacecraftServicePort;
 import org.orbitalLogistic.mission.clients.SpacecraftDTO;
 import org.orbitalLogistic.mission.clients.resilient.ResilientSpacecraftService;
+import org.orbitalLogistic.mission.domain.exception.SpacecraftServiceNotFound;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SpacecraftServiceAdapter implements SpacecraftServicePort {
 
     private final ResilientSpacecraftService resilientSpacecraftService;
+    private final LookupCache<Long, SpacecraftDTO> spacecrafts;
+    private final LookupCache<Long, Boolean> spacecraftExists;
+
+    public SpacecraftServiceAdapter(ResilientSpacecraftService resilientSpacecraftService,
+                                    LookupCaches lookupCaches) {
+        this.resilientSpacecraftService = resilientSpacecraftService;
+        this.spacecrafts = lookupCaches.<Long, SpacecraftDTO>builder("client.spacecrafts")
+                .notFoundWhen(LookupCache.causedBy(SpacecraftServiceNotFound.class))
+                .build();
+        this.spacecraftExists = lookupCaches.<Long, Boolean>builder("client.spacecraft-exists")
+                .negativeWhen(exists -> !exists)
+                .build();
+    }
 
     @Override
     public String getSpacecraftNameById(Long spacecraftId) {
         try {
-            SpacecraftDTO spacecraft = resilientSpacecraftService.getSpacecraftById(spacecraftId);
+            SpacecraftDTO spacecraft = spacecrafts.get(spacecraftId, resilientSpacecraftService::getSpacecraftById);
             return spacecraft != null ? spacecraft.name() : "Unknown";
         } catch (Exception e) {
             log.warn("Failed to get spacecraft name for spacecraftId {}: {}", spacecraftId, e.getMessage());
@@ -25,10 +43,26 @@ public class SpacecraftServiceAdapter implements SpacecraftServicePort {
         }
     }
 
+    @Override
+    public Map<Long, String> getSpacecraftNamesByIds(Collection<Long> spacecraftIds) {
+        Map<Long, String> names = new HashMap<>();
+        if (spacecraftIds.isEmpty()) {
+            return names;
+        }
+        try {
+            for (SpacecraftDTO spacecraft : resilientSpacecraftService.getSpacecraftsByIds(spacecraftIds)) {
+                names.put(spacecraft.id(), spacecraft.name());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to get spacecraft names for {} spacecraftIds: {}", spacecraftIds.size(), e.getMessage());
+        }
+        return names;
+    }
+
     @Override
     public boolean spacecraftExists(Long spacecraftId) {
         try {
-            Boolean exists = resilientSpacecraftService.spacecraftExists(spacecraftId);
+            Boolean exists = spacecraftExists.get(spacecraftId, resilientSpacecraftService::spacecraftExists);
             return exists != null && exists;
         } catch (Exception e) {
             log.warn("Failed to check spacecraft existence for spacecraftId {}: {}", spacecraftId, e.getMessage());
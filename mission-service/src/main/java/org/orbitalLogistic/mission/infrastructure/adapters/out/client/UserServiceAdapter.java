@@ -1,23 +1,41 @@
 package org.orbitalLogistic.mission.infrastructure.adapters.out.client;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.orbitalLogistic.cache.LookupCache;
+import org.orbitalLogistic.cache.LookupCaches;
 import org.orbitalLogistic.mission.application.ports.out.UserServicePort;
 import org.orbitalLogistic.mission.clients.UserDTO;
 import org.orbitalLogistic.mission.clients.resilient.ResilientUserService;
+import org.orbitalLogistic.mission.domain.exception.UserServiceNotFound;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class UserServiceAdapter implements UserServicePort {
 
     private final ResilientUserService resilientUserService;
+    private final LookupCache<Long, UserDTO> users;
+    private final LookupCache<Long, Boolean> userExists;
+
+    public UserServiceAdapter(ResilientUserService resilientUserService, LookupCaches lookupCaches) {
+        this.resilientUserService = resilientUserService;
+        this.users = lookupCaches.<Long, UserDTO>builder("client.users")
+                .notFoundWhen(LookupCache.causedBy(UserServiceNotFound.class))
+                .build();
+        this.userExists = lookupCaches.<Long, Boolean>builder("client.user-exists")
+                .negativeWhen(exists -> !exists)
+                .build();
+    }
 
     @Override
     public String getUserNameById(Long userId) {
         try {
-            UserDTO user = resilientUserService.getUserById(userId);
+            UserDTO user = users.get(userId, resilientUserService::getUserById);
             return user != null ? user.username() : "Unknown";
         } catch (Exception e) {
             log.warn("Failed to get user name for userId {}: {}", userId, e.getMessage());
@@ -25,14 +43,48 @@ public class UserServiceAdapter implements UserServicePort {
         }
     }
 
+    @Override
+    public Map<Long, String> getUserNamesByIds(Collection<Long> userIds) {
+        Map<Long, String> names = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return names;
+        }
+        try {
+            users.getAll(userIds, this::loadUsers).forEach((userId, user) -> {
+                if (user != null) {
+                    names.put(userId, user.username());
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Failed to get user names for {} userIds: {}", userIds.size(), e.getMessage());
+        }
+        return names;
+    }
+
     @Override
     public boolean userExists(Long userId) {
         try {
-            Boolean exists = resilientUserService.userExists(userId);
+            Boolean exists = userExists.get(userId, resilientUserService::userExists);
             return exists != null && exists;
         } catch (Exception e) {
             log.warn("Failed to check user existence for userId {}: {}", userId, e.getMessage());
             return false;
         }
     }
+
+    private Map<Long, UserDTO> loadUsers(Set<Long> userIds) {
+        Map<Long, UserDTO> loaded = new HashMap<>();
+        for (UserDTO user : resilientUserService.getUsersByIds(userIds)) {
+            loaded.put(user.id(), user);
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the cached lookups of a user, e.g. after it was deleted.
+     */
+    public void evictUser(Long userId) {
+        users.invalidate(userId);
+        userExists.invalidate(userId);
+    }
 }
@@ -1,19 +1,36 @@
 package org.orbitalLogistic.mission.infrastructure.adapters.out.kafka;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.orbitalLogistic.mission.application.ports.in.CreateMissionCommand;
 import org.orbitalLogistic.mission.application.ports.out.ReportSender;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.orbitalLogistic.outbox.ReportOutboxRepository;
+import org.springframework.kafka.support.JacksonUtils;
 import org.springframework.stereotype.Component;
 
+/**
+ * Stores the report event in the outbox of the current transaction; the shared
+ * {@link org.orbitalLogistic.outbox.OutboxRelay} publishes it keyed by mission code,
+ * so events of one mission stay in order.
+ */
 @Component
 @RequiredArgsConstructor
 public class ReportPublisher implements ReportSender {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    static final String TOPIC = "mission-reports-data";
+
+    // same mapper JsonSerializer used before, so consumers see unchanged payloads
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    private final ReportOutboxRepository reportOutboxRepository;
 
     @Override
     public void send(CreateMissionCommand rental) {
-        kafkaTemplate.send("mission-reports-data", rental);
+        try {
+            reportOutboxRepository.append(TOPIC, rental.missionCode(), objectMapper.writeValueAsString(rental));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize mission report event", e);
+        }
     }
 }
@@ -6,9 +6,13 @@ import org.orbitalLogistic.mission.domain.model.MissionAssignment;
 import org.orbitalLogistic.mission.infrastructure.adapters.out.persistence.entity.MissionAssignmentJpaEntity;
 import org.orbitalLogistic.mission.infrastructure.adapters.out.persistence.mapper.MissionAssignmentPersistenceMapper;
 import org.orbitalLogistic.mission.infrastructure.adapters.out.persistence.repository.MissionAssignmentJdbcRepository;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -19,6 +23,7 @@ public class MissionAssignmentRepositoryAdapter implements MissionAssignmentRepo
 
     private final MissionAssignmentJdbcRepository jdbcRepository;
     private final MissionAssignmentPersistenceMapper mapper;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     @Override
     public MissionAssignment save(MissionAssignment missionAssignment) {
@@ -78,6 +83,22 @@ public class MissionAssignmentRepositoryAdapter implements MissionAssignmentRepo
         return jdbcRepository.countByMissionId(missionId);
     }
 
+    @Override
+    public Map<Long, Integer> countByMissionIds(Collection<Long> missionIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (missionIds.isEmpty()) {
+            return counts;
+        }
+        namedParameterJdbcTemplate.query(
+                "SELECT mission_id, COUNT(*) AS crew_count FROM mission_assignment " +
+                "WHERE mission_id IN (:missionIds) GROUP BY mission_id",
+                Map.of("missionIds", missionIds),
+                rs -> {
+                    counts.put(rs.getLong("mission_id"), rs.getInt("crew_count"));
+                });
+        return counts;
+    }
+
     @Override
     public boolean existsById(Long id) {
         return jdbcRepository.existsById(id);
@@ -7,8 +7,11 @@ import org.orbitalLogistic.mission.domain.model.enums.MissionStatus;
 import org.orbitalLogistic.mission.infrastructure.adapters.out.persistence.entity.MissionJpaEntity;
 import org.orbitalLogistic.mission.infrastructure.adapters.out.persistence.mapper.MissionPersistenceMapper;
 import org.orbitalLogistic.mission.infrastructure.adapters.out.persistence.repository.MissionJdbcRepository;
+import org.orbitalLogistic.pagination.PlanEstimates;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -75,11 +78,56 @@ public class MissionRepositoryAdapter implements MissionRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Mission> findBySimilarMissionCode(String missionCode, String status, String missionType, int limit, int offset) {
+        return jdbcRepository.findBySimilarMissionCode(missionCode, status, missionType, limit, offset).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public long countWithFilters(String missionCode, String status, String missionType) {
         return jdbcRepository.countWithFilters(missionCode, status, missionType);
     }
 
+    @Override
+    public long estimateWithFilters(String missionCode, String status, String missionType) {
+        return PlanEstimates.rows(jdbcRepository.explainWithFilters(missionCode, status, missionType));
+    }
+
+    @Override
+    public List<Mission> findPage(int limit, int offset) {
+        return jdbcRepository.findPage(limit, offset).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Mission> findPageAfter(LocalDateTime scheduledDeparture, Long id, int limit) {
+        return findWithFiltersAfter(null, null, null, scheduledDeparture, id, limit);
+    }
+
+    @Override
+    public List<Mission> findWithFiltersAfter(String missionCode, String status, String missionType,
+                                              LocalDateTime scheduledDeparture, Long id, int limit) {
+        // Missions without a departure date sort last, so they are read once the scheduled ones run out
+        List<MissionJpaEntity> entities = new ArrayList<>(limit);
+        if (scheduledDeparture != null) {
+            entities.addAll(jdbcRepository.findScheduledBefore(
+                    missionCode, status, missionType, scheduledDeparture, id, limit));
+            if (entities.size() < limit) {
+                entities.addAll(jdbcRepository.findUnscheduledBefore(
+                        missionCode, status, missionType, Long.MAX_VALUE, limit - entities.size()));
+            }
+        } else {
+            entities.addAll(jdbcRepository.findUnscheduledBefore(missionCode, status, missionType, id, limit));
+        }
+
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public boolean existsById(Long id) {
         return jdbcRepository.existsById(id);
@@ -7,6 +7,7 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,7 +26,7 @@ public interface MissionJdbcRepository extends CrudRepository<MissionJpaEntity,
 
     @Query("""
         SELECT m.* FROM mission m
-        WHERE (CAST(:missionCode AS TEXT) IS NULL OR LOWER(m.mission_code) LIKE LOWER(CONCAT('%', CAST(:missionCode AS TEXT), '%')))
+        WHERE (CAST(:missionCode AS TEXT) IS NULL OR m.mission_code ILIKE CONCAT('%', CAST(:missionCode AS TEXT), '%'))
         AND (CAST(:status AS TEXT) IS NULL OR CAST(m.status AS TEXT) = CAST(:status AS TEXT))
         AND (CAST(:missionType AS TEXT) IS NULL OR CAST(m.mission_type AS TEXT) = CAST(:missionType AS TEXT))
         ORDER BY m.scheduled_departure DESC NULLS LAST, m.id DESC
@@ -39,9 +40,25 @@ public interface MissionJdbcRepository extends CrudRepository<MissionJpaEntity,
         @Param("offset") int offset
     );
 
+    @Query("""
+        SELECT m.* FROM mission m
+        WHERE CAST(:missionCode AS TEXT) <% m.mission_code
+        AND (CAST(:status AS TEXT) IS NULL OR CAST(m.status AS TEXT) = CAST(:status AS TEXT))
+        AND (CAST(:missionType AS TEXT) IS NULL OR CAST(m.mission_type AS TEXT) = CAST(:missionType AS TEXT))
+        ORDER BY word_similarity(CAST(:missionCode AS TEXT), m.mission_code) DESC, m.id DESC
+        LIMIT :limit OFFSET :offset
+        """)
+    List<MissionJpaEntity> findBySimilarMissionCode(
+        @Param("missionCode") String missionCode,
+        @Param("status") String status,
+        @Param("missionType") String missionType,
+        @Param("limit") int limit,
+        @Param("offset") int offset
+    );
+
     @Query("""
         SELECT COUNT(*) FROM mission m
-        WHERE (CAST(:missionCode AS TEXT) IS NULL OR LOWER(m.mission_code) LIKE LOWER(CONCAT('%', CAST(:missionCode AS TEXT), '%')))
+        WHERE (CAST(:missionCode AS TEXT) IS NULL OR m.mission_code ILIKE CONCAT('%', CAST(:missionCode AS TEXT), '%'))
         AND (CAST(:status AS TEXT) IS NULL OR CAST(m.status AS TEXT) = CAST(:status AS TEXT))
         AND (CAST(:missionType AS TEXT) IS NULL OR CAST(m.mission_type AS TEXT) = CAST(:missionType AS TEXT))
         """)
@@ -50,4 +67,58 @@ public interface MissionJdbcRepository extends CrudRepository<MissionJpaEntity,
         @Param("status") String status,
         @Param("missionType") String missionType
     );
+
+    @Query("""
+        EXPLAIN SELECT 1 FROM mission m
+        WHERE (CAST(:missionCode AS TEXT) IS NULL OR m.mission_code ILIKE CONCAT('%', CAST(:missionCode AS TEXT), '%'))
+        AND (CAST(:status AS TEXT) IS NULL OR CAST(m.status AS TEXT) = CAST(:status AS TEXT))
+        AND (CAST(:missionType AS TEXT) IS NULL OR CAST(m.mission_type AS TEXT) = CAST(:missionType AS TEXT))
+        """)
+    List<String> explainWithFilters(
+        @Param("missionCode") String missionCode,
+        @Param("status") String status,
+        @Param("missionType") String missionType
+    );
+
+    @Query("""
+        SELECT m.* FROM mission m
+        ORDER BY m.scheduled_departure DESC NULLS LAST, m.id DESC
+        LIMIT :limit OFFSET :offset
+        """)
+    List<MissionJpaEntity> findPage(@Param("limit") int limit, @Param("offset") int offset);
+
+    @Query("""
+        SELECT m.* FROM mission m
+        WHERE (m.scheduled_departure, m.id) < (:scheduledDeparture, :id)
+        AND (CAST(:missionCode AS TEXT) IS NULL OR m.mission_code ILIKE CONCAT('%', CAST(:missionCode AS TEXT), '%'))
+        AND (CAST(:status AS TEXT) IS NULL OR CAST(m.status AS TEXT) = CAST(:status AS TEXT))
+        AND (CAST(:missionType AS TEXT) IS NULL OR CAST(m.mission_type AS TEXT) = CAST(:missionType AS TEXT))
+        ORDER BY m.scheduled_departure DESC NULLS LAST, m.id DESC
+        LIMIT :limit
+        """)
+    List<MissionJpaEntity> findScheduledBefore(
+        @Param("missionCode") String missionCode,
+        @Param("status") String status,
+        @Param("missionType") String missionType,
+        @Param("scheduledDeparture") LocalDateTime scheduledDeparture,
+        @Param("id") Long id,
+        @Param("limit") int limit
+    );
+
+    @Query("""
+        SELECT m.* FROM mission m
+        WHERE m.scheduled_departure IS NULL AND m.id < :id
+        AND (CAST(:missionCode AS TEXT) IS NULL OR m.mission_code ILIKE CONCAT('%', CAST(:missionCode AS TEXT), '%'))
+        AND (CAST(:status AS TEXT) IS NULL OR CAST(m.status AS TEXT) = CAST(:status AS TEXT))
+        AND (CAST(:missionType AS TEXT) IS NULL OR CAST(m.mission_type AS TEXT) = CAST(:missionType AS TEXT))
+        ORDER BY m.id DESC
+        LIMIT :limit
+        """)
+    List<MissionJpaEntity> findUnscheduledBefore(
+        @Param("missionCode") String missionCode,
+        @Param("status") String status,
+        @Param("missionType") String missionType,
+        @Param("id") Long id,
+        @Param("limit") int limit
+    );
 }
@@ -1,14 +1,12 @@
 package org.orbitalLogistic.mission.jwt;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.orbitalLogistic.jwt.VerifiedToken;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -16,8 +14,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -37,23 +34,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             var jwt = authHeader.substring(7);
 
             if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtService.validateToken(jwt)) {
+                Optional<VerifiedToken> verified = jwtService.verify(jwt);
+                if (verified.isPresent()) {
                     SecurityContext context = SecurityContextHolder.createEmptyContext();
 
-                    Claims claims = jwtService.extractAllClaims(jwt);
-                    List<String> roles = claims.get("roles", List.class);
-
-                    List<GrantedAuthority> authorities = (roles == null ? List.<String>of() : roles).stream()
-                            .map(role -> role.startsWith("ROLE_") ? role : "ROLE_" + role)
-                            .map(SimpleGrantedAuthority::new)
-                            .collect(Collectors.toList());
-
-                    String username = claims.getSubject();
-
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            username,
+                            verified.get().subject(),
                             null,
-                            authorities
+                            verified.get().authorities()
                     );
 
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -0,0 +1,2 @@
+-- Supports paging GET /api/missions by (scheduled_departure, id)
+CREATE INDEX IF NOT EXISTS idx_mission_departure_id ON mission(scheduled_departure DESC NULLS LAST, id DESC);
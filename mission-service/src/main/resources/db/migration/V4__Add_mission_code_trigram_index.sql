@@ -0,0 +1,4 @@
+-- Lets substring (ILIKE '%x%') and fuzzy (<%) searches on mission_code use an index
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_mission_code_trgm ON mission USING gin (mission_code gin_trgm_ops);
@@ -0,0 +1,5 @@
+-- Messages Kafka refuses for good (e.g. larger than the broker accepts) are parked here
+-- instead of being deleted, so they stop blocking the relay and can still be inspected
+ALTER TABLE report_outbox
+    ADD COLUMN parked_at TIMESTAMP,
+    ADD COLUMN last_error TEXT;
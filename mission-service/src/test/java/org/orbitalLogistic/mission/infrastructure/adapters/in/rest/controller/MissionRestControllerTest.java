@@ -8,6 +8,7 @@ import org.orbitalLogistic.mission.domain.model.Mission;
 import org.orbitalLogistic.mission.domain.model.enums.MissionPriority;
 import org.orbitalLogistic.mission.domain.model.enums.MissionStatus;
 import org.orbitalLogistic.mission.domain.model.enums.MissionType;
+import org.orbitalLogistic.mission.infrastructure.adapters.in.rest.dto.common.MissionCursor;
 import org.orbitalLogistic.mission.infrastructure.adapters.in.rest.dto.request.MissionRequestDTO;
 import org.orbitalLogistic.mission.infrastructure.adapters.in.rest.mapper.MissionDTOMapper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -134,6 +135,55 @@ class MissionRestControllerTest {
         verify(createMissionUseCase).createMission(any(CreateMissionCommand.class));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllMissions_LoadsRequestedPageOnly() throws Exception {
+        // Given
+        when(getMissionsUseCase.getMissions(1, 1)).thenReturn(List.of(mission));
+        when(searchMissionsUseCase.countMissions(null, null, null)).thenReturn(3L);
+
+        // When & Then
+        mockMvc.perform(get("/api/missions")
+                        .param("page", "1")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "3"))
+                .andExpect(jsonPath("$.totalPages").value(3))
+                .andExpect(jsonPath("$.nextCursor").value(MissionCursor.of(mission).encode()));
+
+        verify(getMissionsUseCase).getMissions(1, 1);
+        verify(getMissionsUseCase, never()).getAllMissions();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllMissions_WithCursor_SeeksPastCursorWithoutCounting() throws Exception {
+        // Given
+        MissionCursor cursor = new MissionCursor(LocalDateTime.of(2030, 1, 1, 12, 0), 42L);
+        when(getMissionsUseCase.getMissionsAfter(cursor.scheduledDeparture(), 42L, 20)).thenReturn(List.of(mission));
+
+        // When & Then
+        mockMvc.perform(get("/api/missions")
+                        .param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Total-Count"))
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(searchMissionsUseCase, never()).countMissions(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllMissions_MalformedCursor_ReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/missions")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(getMissionsUseCase);
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void searchMissions_Success() throws Exception {
@@ -150,6 +200,101 @@ class MissionRestControllerTest {
         verify(searchMissionsUseCase).searchMissions(any(), any(), any(), anyInt(), anyInt());
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void searchMissions_WithCursor_SeeksWithFilters() throws Exception {
+        // Given
+        MissionCursor cursor = new MissionCursor(null, 42L);
+        when(searchMissionsUseCase.searchMissionsAfter("MARS", null, null, null, 42L, 20))
+                .thenReturn(List.of(mission));
+
+        // When & Then
+        mockMvc.perform(get("/api/missions/search")
+                        .param("missionCode", "MARS")
+                        .param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(-1));
+
+        verify(searchMissionsUseCase, never()).searchMissions(any(), any(), any(), anyInt(), anyInt());
+        verify(searchMissionsUseCase, never()).countMissions(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void searchMissions_EstimateTotal_UsesPlannerEstimate() throws Exception {
+        // Given
+        when(searchMissionsUseCase.searchMissions("MARS", null, null, 0, 20)).thenReturn(List.of(mission));
+        when(searchMissionsUseCase.estimateMissions("MARS", null, null)).thenReturn(120L);
+
+        // When & Then
+        mockMvc.perform(get("/api/missions/search")
+                        .param("missionCode", "MARS")
+                        .param("includeTotal", "estimate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "120"))
+                .andExpect(jsonPath("$.totalPages").value(6));
+
+        verify(searchMissionsUseCase, never()).countMissions(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void searchMissions_Fuzzy_ReturnsRankedPageWithoutCount() throws Exception {
+        // Given
+        when(searchMissionsUseCase.searchMissionsRanked("mras", null, null, 0, 20)).thenReturn(List.of(mission));
+
+        // When & Then
+        mockMvc.perform(get("/api/missions/search")
+                        .param("missionCode", "mras")
+                        .param("fuzzy", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Total-Count"))
+                .andExpect(jsonPath("$.totalElements").value(-1))
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(searchMissionsUseCase, never()).searchMissions(any(), any(), any(), anyInt(), anyInt());
+        verify(searchMissionsUseCase, never()).countMissions(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void searchMissions_FuzzyWithCursor_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/missions/search")
+                        .param("missionCode", "MARS")
+                        .param("fuzzy", "true")
+                        .param("cursor", "abc"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(searchMissionsUseCase);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllMissions_WithoutTotal_SkipsCount() throws Exception {
+        // Given
+        when(getMissionsUseCase.getMissions(0, 20)).thenReturn(List.of(mission));
+
+        // When & Then
+        mockMvc.perform(get("/api/missions")
+                        .param("includeTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Total-Count"))
+                .andExpect(jsonPath("$.totalElements").value(-1))
+                .andExpect(jsonPath("$.last").value(true));
+
+        verifyNoInteractions(searchMissionsUseCase);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllMissions_UnknownTotalMode_ReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/missions")
+                        .param("includeTotal", "sometimes"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void deleteMission_Success() throws Exception {
@@ -0,0 +1,114 @@
+package org.orbitalLogistic.mission.infrastructure.adapters.in.rest.mapper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.mission.application.ports.out.MissionAssignmentRepository;
+import org.orbitalLogistic.mission.application.ports.out.SpacecraftServicePort;
+import org.orbitalLogistic.mission.application.ports.out.UserServicePort;
+import org.orbitalLogistic.mission.domain.model.Mission;
+import org.orbitalLogistic.mission.domain.model.enums.MissionPriority;
+import org.orbitalLogistic.mission.domain.model.enums.MissionStatus;
+import org.orbitalLogistic.mission.domain.model.enums.MissionType;
+import org.orbitalLogistic.mission.infrastructure.adapters.in.rest.dto.response.MissionResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MissionDTOMapperTest {
+
+    @Mock
+    private UserServicePort userServicePort;
+
+    @Mock
+    private SpacecraftServicePort spacecraftServicePort;
+
+    @Mock
+    private MissionAssignmentRepository missionAssignmentRepository;
+
+    @InjectMocks
+    private MissionDTOMapper missionDTOMapper;
+
+    @Test
+    void toResponseDTOs_ResolvesDistinctIdsOncePerPage() {
+        // Given
+        List<Mission> missions = List.of(
+                mission(1L, 10L, 100L),
+                mission(2L, 10L, 100L),
+                mission(3L, 11L, 100L)
+        );
+        when(userServicePort.getUserNamesByIds(Set.of(10L, 11L)))
+                .thenReturn(Map.of(10L, "commander", 11L, "pilot"));
+        when(spacecraftServicePort.getSpacecraftNamesByIds(Set.of(100L)))
+                .thenReturn(Map.of(100L, "Endeavour"));
+        when(missionAssignmentRepository.countByMissionIds(Set.of(1L, 2L, 3L)))
+                .thenReturn(Map.of(1L, 4));
+
+        // When
+        List<MissionResponseDTO> result = missionDTOMapper.toResponseDTOs(missions);
+
+        // Then
+        assertEquals(3, result.size());
+        assertEquals("commander", result.get(1).commanderName());
+        assertEquals("pilot", result.get(2).commanderName());
+        assertEquals("Endeavour", result.get(2).spacecraftName());
+        assertEquals(4, result.get(0).assignedCrewCount());
+        assertEquals(0, result.get(1).assignedCrewCount());
+        verify(userServicePort).getUserNamesByIds(any());
+        verify(spacecraftServicePort).getSpacecraftNamesByIds(any());
+        verify(missionAssignmentRepository).countByMissionIds(any());
+        verify(userServicePort, never()).getUserNameById(anyLong());
+        verify(spacecraftServicePort, never()).getSpacecraftNameById(anyLong());
+        verify(missionAssignmentRepository, never()).countByMissionId(anyLong());
+    }
+
+    @Test
+    void toResponseDTOs_UsesUnknownForUnresolvedNames() {
+        // Given
+        when(userServicePort.getUserNamesByIds(any())).thenReturn(Map.of());
+        when(spacecraftServicePort.getSpacecraftNamesByIds(any())).thenReturn(Map.of());
+        when(missionAssignmentRepository.countByMissionIds(any())).thenReturn(Map.of());
+
+        // When
+        List<MissionResponseDTO> result = missionDTOMapper.toResponseDTOs(List.of(mission(1L, 10L, 100L)));
+
+        // Then
+        assertEquals("Unknown", result.get(0).commanderName());
+        assertEquals("Unknown", result.get(0).spacecraftName());
+    }
+
+    @Test
+    void toResponseDTOs_EmptyPage_NoRemoteCalls() {
+        // When
+        List<MissionResponseDTO> result = missionDTOMapper.toResponseDTOs(List.of());
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(userServicePort, spacecraftServicePort, missionAssignmentRepository);
+    }
+
+    private Mission mission(Long id, Long commanderId, Long spacecraftId) {
+        return Mission.builder()
+                .id(id)
+                .missionCode("MARS-00" + id)
+                .missionName("Mission " + id)
+                .missionType(MissionType.CARGO_TRANSPORT)
+                .status(MissionStatus.PLANNING)
+                .priority(MissionPriority.HIGH)
+                .commandingOfficerId(commanderId)
+                .spacecraftId(spacecraftId)
+                .scheduledDeparture(LocalDateTime.now().plusDays(30))
+                .scheduledArrival(LocalDateTime.now().plusDays(180))
+                .build();
+    }
+}
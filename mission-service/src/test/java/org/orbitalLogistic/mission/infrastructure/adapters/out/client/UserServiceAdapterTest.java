@@ -0,0 +1,118 @@
+package org.orbitalLogistic.mission.infrastructure.adapters.out.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.cache.LookupCaches;
+import org.orbitalLogistic.mission.clients.UserDTO;
+import org.orbitalLogistic.mission.clients.resilient.ResilientUserService;
+import org.orbitalLogistic.mission.domain.exception.UserServiceException;
+import org.orbitalLogistic.mission.domain.exception.UserServiceNotFound;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceAdapterTest {
+
+    @Mock
+    private ResilientUserService resilientUserService;
+
+    private UserServiceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new UserServiceAdapter(resilientUserService,
+                new LookupCaches(100, Duration.ofMinutes(5), Duration.ofSeconds(30), null));
+    }
+
+    @Test
+    void userExists_CalledTwice_AsksUserServiceOnce() {
+        // Given
+        when(resilientUserService.userExists(1L)).thenReturn(false);
+
+        // When
+        boolean first = adapter.userExists(1L);
+        boolean second = adapter.userExists(1L);
+
+        // Then
+        assertFalse(first);
+        assertFalse(second);
+        verify(resilientUserService, times(1)).userExists(1L);
+    }
+
+    @Test
+    void getUserNameById_UserNotFound_CachesNegativeAnswer() {
+        // Given
+        when(resilientUserService.getUserById(1L)).thenThrow(new UserServiceNotFound("not found"));
+
+        // When
+        String first = adapter.getUserNameById(1L);
+        String second = adapter.getUserNameById(1L);
+
+        // Then
+        assertEquals("Unknown", first);
+        assertEquals("Unknown", second);
+        verify(resilientUserService, times(1)).getUserById(1L);
+    }
+
+    @Test
+    void getUserNameById_UserServiceUnavailable_AsksAgain() {
+        // Given
+        when(resilientUserService.getUserById(1L))
+                .thenThrow(new UserServiceException("User service unavailable"))
+                .thenReturn(user(1L, "alice"));
+
+        // When
+        String first = adapter.getUserNameById(1L);
+        String second = adapter.getUserNameById(1L);
+
+        // Then
+        assertEquals("Unknown", first);
+        assertEquals("alice", second);
+    }
+
+    @Test
+    void evictUser_CachedUser_AsksUserServiceAgain() {
+        // Given
+        when(resilientUserService.userExists(1L)).thenReturn(true, false);
+        adapter.userExists(1L);
+
+        // When
+        adapter.evictUser(1L);
+        boolean exists = adapter.userExists(1L);
+
+        // Then
+        assertFalse(exists);
+        verify(resilientUserService, times(2)).userExists(1L);
+    }
+
+    @Test
+    void getUserNamesByIds_SomeUsersCached_FetchesOnlyMissingInOneCall() {
+        // Given
+        when(resilientUserService.getUserById(1L)).thenReturn(user(1L, "alice"));
+        when(resilientUserService.getUsersByIds(Set.of(2L, 3L))).thenReturn(List.of(user(2L, "bob")));
+        adapter.getUserNameById(1L);
+
+        // When
+        Map<Long, String> names = adapter.getUserNamesByIds(List.of(1L, 2L, 3L));
+        String cachedName = adapter.getUserNameById(2L);
+
+        // Then
+        assertEquals(Map.of(1L, "alice", 2L, "bob"), names);
+        assertEquals("bob", cachedName);
+        verify(resilientUserService, times(1)).getUsersByIds(Set.of(2L, 3L));
+        verify(resilientUserService, never()).getUserById(2L);
+    }
+
+    private static UserDTO user(Long id, String username) {
+        return new UserDTO(id, username, username + "@example.com");
+    }
+}
@@ -1,5 +1,7 @@
 package org.orbitalLogistic.mission.infrastructure.adapters.out.kafka;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,180 +13,89 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.orbitalLogistic.mission.application.ports.in.CreateMissionCommand;
 import org.orbitalLogistic.mission.domain.model.enums.MissionPriority;
 import org.orbitalLogistic.mission.domain.model.enums.MissionType;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.orbitalLogistic.outbox.ReportOutboxRepository;
+import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ReportPublisher Unit Tests")
 class ReportPublisherTest {
 
-    @Mock
-    private KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
-    @Captor
-    private ArgumentCaptor<String> topicCaptor;
+    @Mock
+    private ReportOutboxRepository reportOutboxRepository;
 
     @Captor
-    private ArgumentCaptor<Object> messageCaptor;
+    private ArgumentCaptor<String> payloadCaptor;
 
     private ReportPublisher reportPublisher;
 
     @BeforeEach
     void setUp() {
-        reportPublisher = new ReportPublisher(kafkaTemplate);
+        reportPublisher = new ReportPublisher(reportOutboxRepository);
     }
 
     @Test
-    @DisplayName("send должен отправить команду в топик mission-reports-data")
-    void send_ValidCommand_SendsToKafka() {
-        CreateMissionCommand command = new CreateMissionCommand(
-                "TEST-001",
-                "Test Mission",
-                MissionType.CARGO_TRANSPORT,
-                MissionPriority.HIGH,
-                1L,
-                1L,
-                LocalDateTime.now().plusDays(1),
-                LocalDateTime.now().plusDays(10)
-        );
+    @DisplayName("send должен записать команду в outbox с ключом missionCode")
+    void send_ValidCommand_AppendsToOutboxKeyedByMissionCode() throws Exception {
+        CreateMissionCommand command = command("TEST-001");
 
         reportPublisher.send(command);
 
-        verify(kafkaTemplate, times(1)).send(topicCaptor.capture(), messageCaptor.capture());
-
-        assertThat(topicCaptor.getValue()).isEqualTo("mission-reports-data");
-        assertThat(messageCaptor.getValue()).isEqualTo(command);
+        verify(reportOutboxRepository).append(eq("mission-reports-data"), eq("TEST-001"), payloadCaptor.capture());
+        JsonNode payload = objectMapper.readTree(payloadCaptor.getValue());
+        assertThat(payload.get("missionCode").asText()).isEqualTo("TEST-001");
+        assertThat(payload.get("missionType").asText()).isEqualTo("CARGO_TRANSPORT");
     }
 
     @Test
-    @DisplayName("send должен отправить команду с различными типами миссий")
-    void send_DifferentMissionTypes_SendsToKafka() {
-        MissionType[] missionTypes = MissionType.values();
-
-        for (MissionType type : missionTypes) {
-            CreateMissionCommand command = new CreateMissionCommand(
-                    "TEST-" + type.name(),
-                    "Test Mission " + type.name(),
-                    type,
-                    MissionPriority.MEDIUM,
-                    1L,
-                    1L,
-                    LocalDateTime.now().plusDays(1),
-                    LocalDateTime.now().plusDays(10)
-            );
-
-            reportPublisher.send(command);
-        }
-
-        verify(kafkaTemplate, times(missionTypes.length)).send(eq("mission-reports-data"), any(CreateMissionCommand.class));
-    }
-
-    @Test
-    @DisplayName("send должен отправить команду с различными приоритетами")
-    void send_DifferentPriorities_SendsToKafka() {
-        MissionPriority[] priorities = MissionPriority.values();
-
-        for (MissionPriority priority : priorities) {
-            CreateMissionCommand command = new CreateMissionCommand(
-                    "TEST-" + priority.name(),
-                    "Test Mission " + priority.name(),
-                    MissionType.CARGO_TRANSPORT,
-                    priority,
-                    1L,
-                    1L,
-                    LocalDateTime.now().plusDays(1),
-                    LocalDateTime.now().plusDays(10)
-            );
-
-            reportPublisher.send(command);
-        }
-
-        verify(kafkaTemplate, times(priorities.length)).send(eq("mission-reports-data"), any(CreateMissionCommand.class));
-    }
-
-    @Test
-    @DisplayName("send должен отправить команду с минимальными данными")
-    void send_MinimalCommand_SendsToKafka() {
-        CreateMissionCommand command = new CreateMissionCommand(
-                "MIN-001",
-                "Minimal Mission",
-                MissionType.SCIENCE_EXPEDITION,
-                MissionPriority.LOW,
-                1L,
-                1L,
-                LocalDateTime.now(),
-                LocalDateTime.now().plusHours(1)
-        );
+    @DisplayName("send должен сохранять payload в том же виде, что и JsonSerializer раньше")
+    void send_CommandWithDates_MatchesPreviousKafkaSerialization() {
+        LocalDateTime departure = LocalDateTime.of(2030, 1, 15, 10, 30);
+        CreateMissionCommand command = new CreateMissionCommand("DATE-001", "Dated Mission",
+                MissionType.SCIENCE_EXPEDITION, MissionPriority.LOW, 1L, 1L, departure, departure.plusDays(3));
 
         reportPublisher.send(command);
 
-        verify(kafkaTemplate, times(1)).send("mission-reports-data", command);
+        verify(reportOutboxRepository).append(eq("mission-reports-data"), eq("DATE-001"), payloadCaptor.capture());
+        try (JsonSerializer<CreateMissionCommand> serializer = new JsonSerializer<>()) {
+            String previous = new String(serializer.serialize("mission-reports-data", command), StandardCharsets.UTF_8);
+            assertThat(payloadCaptor.getValue()).isEqualTo(previous);
+        }
     }
 
     @Test
-    @DisplayName("send должен корректно обработать команду с граничными датами")
-    void send_CommandWithEdgeDates_SendsToKafka() {
-        LocalDateTime farFuture = LocalDateTime.now().plusYears(10);
-        
-        CreateMissionCommand command = new CreateMissionCommand(
-                "LONG-001",
-                "Long Term Mission",
-                MissionType.PERSONNEL_TRANSPORT,
-                MissionPriority.HIGH,
-                1L,
-                1L,
-                LocalDateTime.now().plusDays(1),
-                farFuture
-        );
+    @DisplayName("send должен записывать каждую команду независимо")
+    void send_MultipleCalls_AppendsEachIndependently() {
+        reportPublisher.send(command("TEST-001"));
+        reportPublisher.send(command("TEST-002"));
 
-        reportPublisher.send(command);
-
-        verify(kafkaTemplate, times(1)).send(topicCaptor.capture(), messageCaptor.capture());
-        
-        CreateMissionCommand sentCommand = (CreateMissionCommand) messageCaptor.getValue();
-        assertThat(sentCommand.scheduledArrival()).isEqualTo(farFuture);
+        verify(reportOutboxRepository).append(eq("mission-reports-data"), eq("TEST-001"), anyString());
+        verify(reportOutboxRepository).append(eq("mission-reports-data"), eq("TEST-002"), anyString());
     }
 
     @Test
-    @DisplayName("send должен отправлять каждую команду независимо")
-    void send_MultipleCalls_SendsEachIndependently() {
-        CreateMissionCommand command1 = new CreateMissionCommand(
-                "TEST-001",
-                "First Mission",
-                MissionType.CARGO_TRANSPORT,
-                MissionPriority.HIGH,
-                1L,
-                1L,
-                LocalDateTime.now().plusDays(1),
-                LocalDateTime.now().plusDays(10)
-        );
+    @DisplayName("send должен пробросить ошибку outbox, чтобы откатить транзакцию")
+    void send_OutboxFails_PropagatesException() {
+        doThrow(new IllegalStateException("No transaction"))
+                .when(reportOutboxRepository).append(anyString(), anyString(), anyString());
 
-        CreateMissionCommand command2 = new CreateMissionCommand(
-                "TEST-002",
-                "Second Mission",
-                MissionType.PERSONNEL_TRANSPORT,
-                MissionPriority.MEDIUM,
-                2L,
-                2L,
-                LocalDateTime.now().plusDays(2),
-                LocalDateTime.now().plusDays(12)
-        );
-
-        reportPublisher.send(command1);
-        reportPublisher.send(command2);
-
-        verify(kafkaTemplate, times(2)).send(eq("mission-reports-data"), any(CreateMissionCommand.class));
+        assertThatThrownBy(() -> reportPublisher.send(command("TEST-001")))
+                .isInstanceOf(IllegalStateException.class);
     }
 
-    @Test
-    @DisplayName("send не должен выбрасывать исключение при отправке")
-    void send_ValidCommand_DoesNotThrowException() {
-        CreateMissionCommand command = new CreateMissionCommand(
-                "TEST-001",
+    private static CreateMissionCommand command(String missionCode) {
+        return new CreateMissionCommand(
+                missionCode,
                 "Test Mission",
                 MissionType.CARGO_TRANSPORT,
                 MissionPriority.HIGH,
@@ -193,7 +104,5 @@ class ReportPublisherTest {
                 LocalDateTime.now().plusDays(1),
                 LocalDateTime.now().plusDays(10)
         );
-
-        org.junit.jupiter.api.Assertions.assertDoesNotThrow(() -> reportPublisher.send(command));
     }
 }
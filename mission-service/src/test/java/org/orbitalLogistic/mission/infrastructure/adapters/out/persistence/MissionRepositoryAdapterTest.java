@@ -20,6 +20,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -161,4 +162,79 @@ class MissionRepositoryAdapterTest {
         assertTrue(result);
         verify(jdbcRepository).existsByMissionCode("MARS-001");
     }
+
+    @Test
+    void findPage_PassesLimitAndOffset() {
+        // Given
+        when(jdbcRepository.findPage(20, 40)).thenReturn(List.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(mission);
+
+        // When
+        List<Mission> result = adapter.findPage(20, 40);
+
+        // Then
+        assertEquals(List.of(mission), result);
+    }
+
+    @Test
+    void findPageAfter_ScheduledRunOut_ContinuesWithUnscheduled() {
+        // Given
+        LocalDateTime departure = LocalDateTime.of(2030, 1, 1, 12, 0);
+        MissionJpaEntity unscheduled = new MissionJpaEntity();
+        unscheduled.setId(7L);
+        Mission unscheduledMission = Mission.builder().id(7L).build();
+        when(jdbcRepository.findScheduledBefore(null, null, null, departure, 5L, 2)).thenReturn(List.of(entity));
+        when(jdbcRepository.findUnscheduledBefore(null, null, null, Long.MAX_VALUE, 1)).thenReturn(List.of(unscheduled));
+        when(mapper.toDomain(entity)).thenReturn(mission);
+        when(mapper.toDomain(unscheduled)).thenReturn(unscheduledMission);
+
+        // When
+        List<Mission> result = adapter.findPageAfter(departure, 5L, 2);
+
+        // Then
+        assertEquals(List.of(mission, unscheduledMission), result);
+    }
+
+    @Test
+    void findPageAfter_UnscheduledCursor_SeeksById() {
+        // Given
+        when(jdbcRepository.findUnscheduledBefore(null, null, null, 5L, 10)).thenReturn(List.of());
+
+        // When
+        List<Mission> result = adapter.findPageAfter(null, 5L, 10);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(jdbcRepository, never()).findScheduledBefore(any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void findWithFiltersAfter_PassesFiltersToSeek() {
+        // Given
+        LocalDateTime departure = LocalDateTime.of(2030, 1, 1, 12, 0);
+        when(jdbcRepository.findScheduledBefore("MARS", "PLANNING", null, departure, 5L, 1))
+                .thenReturn(List.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(mission);
+
+        // When
+        List<Mission> result = adapter.findWithFiltersAfter("MARS", "PLANNING", null, departure, 5L, 1);
+
+        // Then
+        assertEquals(List.of(mission), result);
+        verify(jdbcRepository, never()).findUnscheduledBefore(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void estimateWithFilters_ReadsRowsFromTopPlanNode() {
+        // Given
+        when(jdbcRepository.explainWithFilters(null, "PLANNING", null)).thenReturn(List.of(
+                "Seq Scan on mission m  (cost=0.00..24.12 rows=412 width=4)",
+                "  Filter: ((status)::text = 'PLANNING'::text)"));
+
+        // When
+        long result = adapter.estimateWithFilters(null, "PLANNING", null);
+
+        // Then
+        assertEquals(412L, result);
+    }
 }
@@ -210,6 +210,13 @@ class MissionIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content", hasSize(1)))
                 .andExpect(jsonPath("$.content[0].missionCode", is("SEARCH-001")));
+
+        mockMvc.perform(get("/api/missions/search")
+                        .param("missionCode", "search-002")
+                        .param("fuzzy", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].missionCode", is("SEARCH-002")))
+                .andExpect(jsonPath("$.content[1].missionCode", is("SEARCH-001")));
     }
 
     @Test
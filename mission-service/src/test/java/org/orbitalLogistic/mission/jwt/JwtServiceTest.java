@@ -9,7 +9,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.orbitalLogistic.jwt.JwtVerifier;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
@@ -27,9 +27,8 @@ class JwtServiceTest {
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService();
         secretKey = "yourSuperSecretKeyAtLeast256BitsLongForProductionChangeThis";
-        ReflectionTestUtils.setField(jwtService, "secretKey", secretKey);
+        jwtService = new JwtService(new JwtVerifier(secretKey));
         
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         signingKey = Keys.hmacShaKeyFor(keyBytes);
@@ -0,0 +1,69 @@
+package org.orbitalLogistic.pagination;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived cache of exact COUNT(*) results keyed by the query name and its filter values,
+ * so paging through one result set does not recount the table for every page.
+ * The count runs on the calling thread outside any map lock, so a virtual thread waiting on the
+ * database is never pinned; concurrent callers for the same key wait on the same future and
+ * failed counts are not cached.
+ */
+public class ExactCountCache {
+
+    private final AsyncCache<List<Object>, Long> counts;
+
+    public ExactCountCache(Duration ttl, long maxSize) {
+        this.counts = newCache(ttl, maxSize);
+    }
+
+    public long get(String query, LongSupplier count, Object... filters) {
+        CompletableFuture<Long> counting = new CompletableFuture<>();
+        CompletableFuture<Long> existing = counts.asMap().putIfAbsent(key(query, filters), counting);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            long total = count.getAsLong();
+            counting.complete(total);
+            return total;
+        } catch (RuntimeException e) {
+            counting.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    static AsyncCache<List<Object>, Long> newCache(Duration ttl, long maxSize) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .buildAsync();
+    }
+
+    static List<Object> key(String query, Object... filters) {
+        List<Object> key = new ArrayList<>(filters.length + 1);
+        key.add(query);
+        key.addAll(Arrays.asList(filters));
+        return key;
+    }
+
+    private static long await(CompletableFuture<Long> count) {
+        try {
+            return count.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.orbitalLogistic.pagination;
+
+import java.util.Locale;
+
+/**
+ * How a paged endpoint reports the total: not at all, an exact (briefly cached) COUNT(*),
+ * or the planner's row estimate.
+ */
+public enum IncludeTotal {
+    NONE,
+    EXACT,
+    ESTIMATE;
+
+    public static IncludeTotal parse(String value, IncludeTotal defaultMode) {
+        if (value == null || value.isBlank()) {
+            return defaultMode;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "false", "none" -> NONE;
+            case "true", "exact" -> EXACT;
+            case "estimate" -> ESTIMATE;
+            default -> throw new IllegalArgumentException(
+                    "includeTotal must be one of false, exact, estimate: " + value);
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package org.orbitalLogistic.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Registers the count cache matching the web stack: {@link ExactCountCache} for servlet
+ * services, {@link ReactiveExactCountCache} for reactive ones.
+ */
+@AutoConfiguration
+public class PagedCountAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class Servlet {
+
+        @Bean
+        @ConditionalOnMissingBean
+        ExactCountCache exactCountCache(@Value("${pagination.count-cache.ttl:5s}") Duration ttl,
+                                        @Value("${pagination.count-cache.max-size:1000}") long maxSize) {
+            return new ExactCountCache(ttl, maxSize);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class Reactive {
+
+        @Bean
+        @ConditionalOnMissingBean
+        ReactiveExactCountCache reactiveExactCountCache(
+                @Value("${pagination.count-cache.ttl:5s}") Duration ttl,
+                @Value("${pagination.count-cache.max-size:1000}") long maxSize) {
+            return new ReactiveExactCountCache(ttl, maxSize);
+        }
+    }
+}
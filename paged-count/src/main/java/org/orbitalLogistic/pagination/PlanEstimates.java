@@ -0,0 +1,24 @@
+package org.orbitalLogistic.pagination;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the planner's row estimate from the top node of a text EXPLAIN plan.
+ */
+public final class PlanEstimates {
+
+    private static final Pattern ROWS = Pattern.compile("\\brows=(\\d+)");
+
+    private PlanEstimates() {
+    }
+
+    public static long rows(List<String> plan) {
+        if (plan == null || plan.isEmpty()) {
+            return 0L;
+        }
+        Matcher matcher = ROWS.matcher(plan.get(0));
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0L;
+    }
+}
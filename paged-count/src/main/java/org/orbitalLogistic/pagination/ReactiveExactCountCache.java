@@ -0,0 +1,27 @@
+package org.orbitalLogistic.pagination;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * {@link ExactCountCache} for reactive repositories. Concurrent requests for the same key
+ * share one in-flight count; failed counts are not cached.
+ */
+public class ReactiveExactCountCache {
+
+    private final AsyncCache<List<Object>, Long> counts;
+
+    public ReactiveExactCountCache(Duration ttl, long maxSize) {
+        this.counts = ExactCountCache.newCache(ttl, maxSize);
+    }
+
+    public Mono<Long> get(String query, Supplier<Mono<Long>> count, Object... filters) {
+        List<Object> key = ExactCountCache.key(query, filters);
+        // One subscriber cancelling must not cancel the count other requests are waiting on
+        return Mono.fromFuture(() -> counts.get(key, (k, executor) -> count.get().toFuture()), true);
+    }
+}
@@ -0,0 +1,58 @@
+package org.orbitalLogistic.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExactCountCacheTest {
+
+    private final ExactCountCache cache = new ExactCountCache(Duration.ofMinutes(1), 100);
+
+    @Test
+    void get_SameFilters_CountsOnce() {
+        // Given
+        AtomicInteger counts = new AtomicInteger();
+
+        // When
+        long first = cache.get("missions", () -> counts.incrementAndGet() * 10L, "MARS", null, null);
+        long second = cache.get("missions", () -> counts.incrementAndGet() * 10L, "MARS", null, null);
+
+        // Then
+        assertEquals(10L, first);
+        assertEquals(10L, second);
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    void get_DifferentFiltersOrQuery_CountsSeparately() {
+        // Given
+        AtomicInteger counts = new AtomicInteger();
+
+        // When
+        cache.get("missions", counts::incrementAndGet, "MARS", null, null);
+        cache.get("missions", counts::incrementAndGet, "MARS", "PLANNING", null);
+        cache.get("assignments", counts::incrementAndGet, "MARS", null, null);
+
+        // Then
+        assertEquals(3, counts.get());
+    }
+
+    @Test
+    void get_FailedCount_IsNotCached() {
+        // Given
+        AtomicInteger counts = new AtomicInteger();
+
+        // When
+        assertThrows(IllegalStateException.class, () -> cache.get("missions", () -> {
+            throw new IllegalStateException("db down");
+        }, "MARS"));
+        long retried = cache.get("missions", () -> counts.incrementAndGet() * 10L, "MARS");
+
+        // Then
+        assertEquals(10L, retried);
+        assertEquals(1, counts.get());
+    }
+}
@@ -0,0 +1,60 @@
+package org.orbitalLogistic.pagination;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveExactCountCacheTest {
+
+    private final ReactiveExactCountCache cache = new ReactiveExactCountCache(Duration.ofMinutes(1), 100);
+
+    @Test
+    void get_SameFilters_CountsOnce() {
+        // Given
+        AtomicInteger counts = new AtomicInteger();
+
+        // When
+        Mono<Long> first = cache.get("spacecraft-maintenance-logs",
+                () -> Mono.fromCallable(() -> counts.incrementAndGet() * 10L), 1L);
+        Mono<Long> second = cache.get("spacecraft-maintenance-logs",
+                () -> Mono.fromCallable(() -> counts.incrementAndGet() * 10L), 1L);
+
+        // Then
+        StepVerifier.create(first).expectNext(10L).verifyComplete();
+        StepVerifier.create(second).expectNext(10L).verifyComplete();
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    void get_DifferentFilters_CountsSeparately() {
+        // Given
+        AtomicInteger counts = new AtomicInteger();
+
+        // When
+        cache.get("spacecraft-maintenance-logs", () -> Mono.fromCallable(() -> (long) counts.incrementAndGet()), 1L).block();
+        cache.get("spacecraft-maintenance-logs", () -> Mono.fromCallable(() -> (long) counts.incrementAndGet()), 2L).block();
+
+        // Then
+        assertEquals(2, counts.get());
+    }
+
+    @Test
+    void get_FailedCount_IsNotCached() {
+        // Given
+        AtomicInteger counts = new AtomicInteger();
+
+        // When
+        StepVerifier.create(cache.get("maintenance-logs", () -> Mono.error(new IllegalStateException("db down"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        Mono<Long> retried = cache.get("maintenance-logs", () -> Mono.fromCallable(() -> (long) counts.incrementAndGet()));
+
+        // Then
+        StepVerifier.create(retried).expectNext(1L).verifyComplete();
+    }
+}
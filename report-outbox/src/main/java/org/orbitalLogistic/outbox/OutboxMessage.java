@@ -0,0 +1,3 @@
+package org.orbitalLogistic.outbox;
+
+public record OutboxMessage(Long id, String topic, String messageKey, String payload) {}
@@ -0,0 +1,176 @@
+package org.orbitalLogistic.outbox;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.InvalidRecordException;
+import org.apache.kafka.common.errors.RecordBatchTooLargeException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaProducerException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Publishes the report outbox to Kafka off the request path. A batch is sent at once, so the
+ * producer can group it by {@code linger.ms} and compress it, and every row the broker
+ * acknowledged is deleted in the same transaction. A message that failed stays in the outbox
+ * and is sent again on the next run (at-least-once), one Kafka will never accept, such as a
+ * record over the size limit, is parked so it does not come back with every batch.
+ * The producer is idempotent, so its own retries neither duplicate nor reorder records and
+ * messages of one key arrive in order as long as they are delivered; a message that failed
+ * after those retries may arrive after later messages of its key.
+ */
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    // failures that sending the same record again can never fix
+    private static final List<Class<? extends Throwable>> UNDELIVERABLE = List.of(
+            RecordTooLargeException.class,
+            RecordBatchTooLargeException.class,
+            InvalidRecordException.class,
+            SerializationException.class);
+
+    private final ReportOutboxRepository reportOutboxRepository;
+    private final KafkaOperations<String, String> kafkaOperations;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+
+    @Autowired
+    public OutboxRelay(ReportOutboxRepository reportOutboxRepository,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.kafka.linger-ms:20}") int lingerMs,
+                       @Value("${outbox.kafka.compression-type:lz4}") String compressionType) {
+        this(reportOutboxRepository,
+                new KafkaTemplate<>(producerFactory(bootstrapServers, lingerMs, compressionType)),
+                new TransactionTemplate(transactionManager),
+                batchSize);
+    }
+
+    OutboxRelay(ReportOutboxRepository reportOutboxRepository,
+                KafkaOperations<String, String> kafkaOperations,
+                TransactionOperations transactionOperations,
+                int batchSize) {
+        this.reportOutboxRepository = reportOutboxRepository;
+        this.kafkaOperations = kafkaOperations;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:500}")
+    public void relay() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == batchSize);
+    }
+
+    /**
+     * @return - number of published or parked messages, less than the batch size when the
+     *           outbox is drained, another instance is relaying or a send failed
+     */
+    int relayBatch() {
+        Integer relayed = transactionOperations.execute(status -> {
+            List<OutboxMessage> batch = reportOutboxRepository.lockBatch(batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(batch.size());
+            for (OutboxMessage message : batch) {
+                sends.add(send(message));
+            }
+            kafkaOperations.flush();
+
+            List<Long> published = new ArrayList<>(batch.size());
+            int parked = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                OutboxMessage message = batch.get(i);
+                try {
+                    sends.get(i).get();
+                    published.add(message.id());
+                } catch (ExecutionException e) {
+                    Throwable cause = kafkaCause(e);
+                    if (undeliverable(cause)) {
+                        log.error("Parking outbox message {} to {}, Kafka will not accept it: {}",
+                                message.id(), message.topic(), cause.toString());
+                        reportOutboxRepository.park(message.id(), cause.toString());
+                        parked++;
+                    } else {
+                        log.warn("Failed to publish outbox message {} to {}, retrying on next run: {}",
+                                message.id(), message.topic(), cause.getMessage());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            reportOutboxRepository.delete(published);
+            return published.size() + parked;
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    private CompletableFuture<SendResult<String, String>> send(OutboxMessage message) {
+        try {
+            return kafkaOperations.send(message.topic(), message.messageKey(), message.payload());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Throwable kafkaCause(ExecutionException e) {
+        Throwable cause = e.getCause();
+        return cause instanceof KafkaProducerException && cause.getCause() != null ? cause.getCause() : cause;
+    }
+
+    private static boolean undeliverable(Throwable cause) {
+        return UNDELIVERABLE.stream().anyMatch(type -> type.isInstance(cause));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (kafkaOperations instanceof KafkaTemplate<String, String> kafkaTemplate) {
+            kafkaTemplate.getProducerFactory().reset();
+        }
+    }
+
+    private static DefaultKafkaProducerFactory<String, String> producerFactory(String bootstrapServers,
+                                                                              int lingerMs,
+                                                                              String compressionType) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        // payloads are already JSON, consumers read them with JsonDeserializer as before
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024);
+        return new DefaultKafkaProducerFactory<>(props);
+    }
+}
@@ -0,0 +1,15 @@
+package org.orbitalLogistic.outbox;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Registers the outbox repository and, unless {@code outbox.relay.enabled} is false, the relay
+ * publishing it. The service creates the report_outbox table and enables scheduling.
+ */
+@AutoConfiguration(after = {JdbcTemplateAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class})
+@Import({ReportOutboxRepository.class, OutboxRelay.class})
+public class ReportOutboxAutoConfiguration {
+}
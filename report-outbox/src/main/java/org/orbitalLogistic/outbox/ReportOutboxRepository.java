@@ -0,0 +1,72 @@
+package org.orbitalLogistic.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * The report_outbox table, created by each service in its own schema with a serial {@code id},
+ * {@code topic}, {@code message_key} and {@code payload} columns, and {@code parked_at} and
+ * {@code last_error} for messages Kafka will never accept.
+ */
+public class ReportOutboxRepository {
+
+    // any constant works, it only has to be the same for every instance of the service
+    static final long RELAY_LOCK_ID = 0x7265706f7274L;
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getLong("id"),
+            rs.getString("topic"),
+            rs.getString("message_key"),
+            rs.getString("payload"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReportOutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Must run inside the business transaction, so the event is stored only if the change is.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String topic, String key, String payload) {
+        jdbcTemplate.update("INSERT INTO report_outbox (topic, message_key, payload) VALUES (?, ?, ?)",
+                topic, key, payload);
+    }
+
+    /**
+     * Oldest messages that are not parked, in insertion order. The transaction-scoped advisory lock lets only one
+     * instance relay at a time, which keeps the per-key order; others get an empty batch.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<OutboxMessage> lockBatch(int limit) {
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)",
+                Boolean.class, RELAY_LOCK_ID);
+        if (!Boolean.TRUE.equals(locked)) {
+            return List.of();
+        }
+        return jdbcTemplate.query("SELECT id, topic, message_key, payload FROM report_outbox"
+                        + " WHERE parked_at IS NULL ORDER BY id LIMIT ?",
+                ROW_MAPPER, limit);
+    }
+
+    public void delete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM report_outbox WHERE id = ?",
+                ids.stream().map(id -> new Object[]{id}).toList());
+    }
+
+    /**
+     * Keeps an undeliverable message out of later batches, with the reason it was refused.
+     */
+    public void park(Long id, String error) {
+        jdbcTemplate.update("UPDATE report_outbox SET parked_at = CURRENT_TIMESTAMP, last_error = ? WHERE id = ?",
+                error, id);
+    }
+}
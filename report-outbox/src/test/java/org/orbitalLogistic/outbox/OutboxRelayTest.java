@@ -0,0 +1,161 @@
+package org.orbitalLogistic.outbox;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaProducerException;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private ReportOutboxRepository reportOutboxRepository;
+
+    @Mock
+    private KafkaOperations<String, String> kafkaOperations;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(reportOutboxRepository, kafkaOperations, TransactionOperations.withoutTransaction(), 2);
+    }
+
+    @Test
+    void relayBatch_AllAcknowledged_SendsKeyedAndDeletesBatch() {
+        // Given
+        when(reportOutboxRepository.lockBatch(2)).thenReturn(List.of(message(1L, "10"), message(2L, "11")));
+        when(kafkaOperations.send(anyString(), anyString(), anyString())).thenReturn(acknowledged());
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertEquals(2, relayed);
+        InOrder inOrder = inOrder(kafkaOperations, reportOutboxRepository);
+        inOrder.verify(kafkaOperations).send("cargo-reports-data", "10", "{\"id\":1}");
+        inOrder.verify(kafkaOperations).send("cargo-reports-data", "11", "{\"id\":2}");
+        inOrder.verify(kafkaOperations).flush();
+        inOrder.verify(reportOutboxRepository).delete(List.of(1L, 2L));
+    }
+
+    @Test
+    void relayBatch_MiddleSendFails_DeletesAcknowledgedAndResendsOnlyFailed() {
+        // Given
+        relay = new OutboxRelay(reportOutboxRepository, kafkaOperations, TransactionOperations.withoutTransaction(), 3);
+        when(reportOutboxRepository.lockBatch(3))
+                .thenReturn(List.of(message(1L, "10"), message(2L, "10"), message(3L, "10")))
+                .thenReturn(List.of(message(2L, "10")));
+        when(kafkaOperations.send("cargo-reports-data", "10", "{\"id\":2}"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Broker unavailable")))
+                .thenReturn(acknowledged());
+        when(kafkaOperations.send("cargo-reports-data", "10", "{\"id\":1}")).thenReturn(acknowledged());
+        when(kafkaOperations.send("cargo-reports-data", "10", "{\"id\":3}")).thenReturn(acknowledged());
+
+        // When
+        int firstRun = relay.relayBatch();
+        int secondRun = relay.relayBatch();
+
+        // Then
+        assertEquals(2, firstRun);
+        assertEquals(1, secondRun);
+        verify(reportOutboxRepository).delete(List.of(1L, 3L));
+        verify(reportOutboxRepository).delete(List.of(2L));
+        verify(kafkaOperations, times(1)).send("cargo-reports-data", "10", "{\"id\":1}");
+        verify(kafkaOperations, times(2)).send("cargo-reports-data", "10", "{\"id\":2}");
+        verify(kafkaOperations, times(1)).send("cargo-reports-data", "10", "{\"id\":3}");
+        verify(reportOutboxRepository, never()).park(anyLong(), anyString());
+    }
+
+    @Test
+    void relayBatch_RecordTooLarge_ParksItAndDeletesTheRest() {
+        // Given
+        when(reportOutboxRepository.lockBatch(2)).thenReturn(List.of(message(1L, "10"), message(2L, "11")));
+        when(kafkaOperations.send("cargo-reports-data", "10", "{\"id\":1}")).thenReturn(CompletableFuture.failedFuture(
+                new KafkaProducerException(new ProducerRecord<>("cargo-reports-data", "10", "{\"id\":1}"),
+                        "Send failed", new RecordTooLargeException("The message is 2097152 bytes"))));
+        when(kafkaOperations.send("cargo-reports-data", "11", "{\"id\":2}")).thenReturn(acknowledged());
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertEquals(2, relayed);
+        verify(reportOutboxRepository).park(eq(1L), contains("RecordTooLargeException"));
+        verify(reportOutboxRepository).delete(List.of(2L));
+    }
+
+    @Test
+    void relayBatch_SendThrows_TreatsItAsFailedSend() {
+        // Given
+        when(reportOutboxRepository.lockBatch(2)).thenReturn(List.of(message(1L, "10"), message(2L, "11")));
+        when(kafkaOperations.send("cargo-reports-data", "10", "{\"id\":1}"))
+                .thenThrow(new SerializationException("Can't serialize"));
+        when(kafkaOperations.send("cargo-reports-data", "11", "{\"id\":2}")).thenReturn(acknowledged());
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertEquals(2, relayed);
+        verify(reportOutboxRepository).park(eq(1L), contains("Can't serialize"));
+        verify(reportOutboxRepository).delete(List.of(2L));
+    }
+
+    @Test
+    void relay_FullBatches_DrainsUntilOutboxIsEmpty() {
+        // Given
+        when(reportOutboxRepository.lockBatch(2))
+                .thenReturn(List.of(message(1L, "10"), message(2L, "11")))
+                .thenReturn(List.of(message(3L, "12")));
+        when(kafkaOperations.send(anyString(), anyString(), anyString())).thenReturn(acknowledged());
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(reportOutboxRepository, times(2)).lockBatch(anyInt());
+        verify(reportOutboxRepository).delete(List.of(3L));
+    }
+
+    @Test
+    void relayBatch_LockHeldByAnotherInstance_SendsNothing() {
+        // Given
+        when(reportOutboxRepository.lockBatch(2)).thenReturn(List.of());
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertEquals(0, relayed);
+        verifyNoInteractions(kafkaOperations);
+    }
+
+    private static OutboxMessage message(Long id, String key) {
+        return new OutboxMessage(id, "cargo-reports-data", key, "{\"id\":" + id + "}");
+    }
+
+    private static CompletableFuture<SendResult<String, String>> acknowledged() {
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,86 @@
+package org.orbitalLogistic.outbox;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportOutboxRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ReportOutboxRepository repository;
+
+    @Test
+    void append_InsertsMessage() {
+        // When
+        repository.append("cargo-reports-data", "7", "{}");
+
+        // Then
+        verify(jdbcTemplate).update(contains("INSERT INTO report_outbox"), eq("cargo-reports-data"), eq("7"), eq("{}"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void lockBatch_LockAcquired_ReadsOldestUnparkedMessages() {
+        // Given
+        List<OutboxMessage> messages = List.of(new OutboxMessage(1L, "cargo-reports-data", "7", "{}"));
+        when(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), anyLong()))
+                .thenReturn(true);
+        when(jdbcTemplate.query(contains("WHERE parked_at IS NULL ORDER BY id LIMIT ?"), any(RowMapper.class), eq(100)))
+                .thenReturn(messages);
+
+        // When
+        List<OutboxMessage> result = repository.lockBatch(100);
+
+        // Then
+        assertEquals(messages, result);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void lockBatch_LockHeldElsewhere_ReturnsEmpty() {
+        // Given
+        when(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), anyLong()))
+                .thenReturn(false);
+
+        // When
+        List<OutboxMessage> result = repository.lockBatch(100);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), anyInt());
+    }
+
+    @Test
+    void delete_RemovesEveryPublishedId() {
+        // When
+        repository.delete(List.of(1L, 2L));
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(eq("DELETE FROM report_outbox WHERE id = ?"),
+                argThat((List<Object[]> args) -> args.size() == 2 && args.get(1)[0].equals(2L)));
+    }
+
+    @Test
+    void park_MarksMessageWithError() {
+        // When
+        repository.park(3L, "RecordTooLargeException");
+
+        // Then
+        verify(jdbcTemplate).update(contains("SET parked_at = CURRENT_TIMESTAMP, last_error = ?"),
+                eq("RecordTooLargeException"), eq(3L));
+    }
+}
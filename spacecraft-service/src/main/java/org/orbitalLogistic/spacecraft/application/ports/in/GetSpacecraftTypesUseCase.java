@@ -1,12 +1,11 @@
 package org.orbitalLogistic.spacecraft.application.ports.in;
 
 import org.orbitalLogistic.spacecraft.domain.model.SpacecraftType;
-
-import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface GetSpacecraftTypesUseCase {
-    List<SpacecraftType> getAllSpacecraftTypes(int limit, int offset);
-    long countAllSpacecraftTypes();
+    Flux<SpacecraftType> getAllSpacecraftTypes(int limit, int offset);
+    Mono<Long> countAllSpacecraftTypes();
     SpacecraftType getSpacecraftTypeById(Long id);
 }
-
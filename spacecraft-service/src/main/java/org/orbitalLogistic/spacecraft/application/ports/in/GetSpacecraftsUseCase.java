@@ -1,14 +1,19 @@
 package org.orbitalLogistic.spacecraft.application.ports.in;
 
 import org.orbitalLogistic.spacecraft.domain.model.Spacecraft;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.util.Collection;
 
 public interface GetSpacecraftsUseCase {
-    List<Spacecraft> getSpacecrafts(String name, String status, int limit, int offset);
-    long countSpacecrafts(String name, String status);
-    Spacecraft getSpacecraftById(Long id);
-    List<Spacecraft> getAvailableSpacecrafts();
-    boolean spacecraftExists(Long id);
+    Flux<Spacecraft> getSpacecrafts(String name, String status, int limit, int offset);
+    Flux<Spacecraft> getSpacecraftsAfter(String name, String status, Long afterId, int limit);
+    Flux<Spacecraft> getSpacecraftsRanked(String name, String status, int limit, int offset);
+    Mono<Long> countSpacecrafts(String name, String status);
+    Mono<Long> estimateSpacecrafts(String name, String status);
+    Mono<Spacecraft> getSpacecraftById(Long id);
+    Flux<Spacecraft> getSpacecraftsByIds(Collection<Long> ids);
+    Flux<Spacecraft> getAvailableSpacecrafts();
+    Mono<Boolean> spacecraftExists(Long id);
 }
-
@@ -0,0 +1,26 @@
+package org.orbitalLogistic.spacecraft.application.ports.out;
+
+import org.orbitalLogistic.spacecraft.domain.model.Spacecraft;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Non-blocking counterpart of {@link SpacecraftRepository}. Backed by R2DBC or, by default, by the
+ * JDBC adapter on the bounded elastic scheduler; see {@code spacecraft.persistence}.
+ */
+public interface ReactiveSpacecraftRepository {
+    Mono<Spacecraft> save(Spacecraft spacecraft);
+    Mono<Spacecraft> findById(Long id);
+    Flux<Spacecraft> findAllByIds(Collection<Long> ids);
+    Flux<Spacecraft> findWithFilters(String name, String status, int limit, int offset);
+    Flux<Spacecraft> findWithFiltersAfter(String name, String status, Long afterId, int limit);
+    Flux<Spacecraft> findBySimilarName(String name, String status, int limit, int offset);
+    Mono<Long> countWithFilters(String name, String status);
+    Mono<Long> estimateWithFilters(String name, String status);
+    Flux<Spacecraft> findAvailableForMission();
+    Mono<Boolean> existsById(Long id);
+    Mono<Boolean> existsByRegistryCode(String registryCode);
+    Mono<Void> deleteById(Long id);
+}
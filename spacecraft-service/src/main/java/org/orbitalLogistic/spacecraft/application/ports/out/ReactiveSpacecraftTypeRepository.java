@@ -0,0 +1,18 @@
+package org.orbitalLogistic.spacecraft.application.ports.out;
+
+import org.orbitalLogistic.spacecraft.domain.model.SpacecraftType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link SpacecraftTypeRepository}.
+ */
+public interface ReactiveSpacecraftTypeRepository {
+    Mono<SpacecraftType> save(SpacecraftType spacecraftType);
+    Mono<SpacecraftType> findById(Long id);
+    Flux<SpacecraftType> findAll();
+    Flux<SpacecraftType> findAll(int limit, int offset);
+    Mono<Long> countAll();
+    Mono<Boolean> existsById(Long id);
+    Mono<Void> deleteById(Long id);
+}
@@ -2,14 +2,19 @@ package org.orbitalLogistic.spacecraft.application.ports.out;
 
 import org.orbitalLogistic.spacecraft.domain.model.Spacecraft;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface SpacecraftRepository {
     Spacecraft save(Spacecraft spacecraft);
     Optional<Spacecraft> findById(Long id);
+    List<Spacecraft> findAllByIds(Collection<Long> ids);
     List<Spacecraft> findWithFilters(String name, String status, int limit, int offset);
+    List<Spacecraft> findWithFiltersAfter(String name, String status, Long afterId, int limit);
+    List<Spacecraft> findBySimilarName(String name, String status, int limit, int offset);
     long countWithFilters(String name, String status);
+    long estimateWithFilters(String name, String status);
     List<Spacecraft> findAvailableForMission();
     boolean existsById(Long id);
     boolean existsByRegistryCode(String registryCode);
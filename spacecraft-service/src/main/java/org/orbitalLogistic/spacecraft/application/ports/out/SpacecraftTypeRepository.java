@@ -8,6 +8,7 @@ import java.util.Optional;
 public interface SpacecraftTypeRepository {
     SpacecraftType save(SpacecraftType spacecraftType);
     Optional<SpacecraftType> findById(Long id);
+    List<SpacecraftType> findAll();
     List<SpacecraftType> findAll(int limit, int offset);
     long countAll();
     boolean existsById(Long id);
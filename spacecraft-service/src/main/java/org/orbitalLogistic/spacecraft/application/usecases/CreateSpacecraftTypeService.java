@@ -14,6 +14,7 @@ import org.springframework.stereotype.Service;
 public class CreateSpacecraftTypeService implements CreateSpacecraftTypeUseCase {
 
     private final SpacecraftTypeRepository spacecraftTypeRepository;
+    private final SpacecraftTypeCache spacecraftTypeCache;
 
     @Override
     public SpacecraftType createSpacecraftType(CreateSpacecraftTypeCommand command) {
@@ -28,6 +29,7 @@ public class CreateSpacecraftTypeService implements CreateSpacecraftTypeUseCase
         spacecraftType.validate();
 
         SpacecraftType saved = spacecraftTypeRepository.save(spacecraftType);
+        spacecraftTypeCache.put(saved);
         log.info("Created spacecraft type with id: {}", saved.getId());
 
         return saved;
@@ -3,35 +3,37 @@ package org.orbitalLogistic.spacecraft.application.usecases;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.orbitalLogistic.spacecraft.application.ports.in.GetSpacecraftTypesUseCase;
-import org.orbitalLogistic.spacecraft.application.ports.out.SpacecraftTypeRepository;
+import org.orbitalLogistic.spacecraft.application.ports.out.ReactiveSpacecraftTypeRepository;
 import org.orbitalLogistic.spacecraft.domain.model.SpacecraftType;
 import org.orbitalLogistic.spacecraft.exceptions.SpacecraftTypeNotFoundException;
 import org.springframework.stereotype.Service;
-
-import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GetSpacecraftTypesService implements GetSpacecraftTypesUseCase {
 
-    private final SpacecraftTypeRepository spacecraftTypeRepository;
+    private final ReactiveSpacecraftTypeRepository spacecraftTypeRepository;
+    private final SpacecraftTypeCache spacecraftTypeCache;
 
     @Override
-    public List<SpacecraftType> getAllSpacecraftTypes(int limit, int offset) {
+    public Flux<SpacecraftType> getAllSpacecraftTypes(int limit, int offset) {
         log.debug("Getting all spacecraft types with limit: {}, offset: {}", limit, offset);
         return spacecraftTypeRepository.findAll(limit, offset);
     }
 
     @Override
-    public long countAllSpacecraftTypes() {
+    public Mono<Long> countAllSpacecraftTypes() {
         return spacecraftTypeRepository.countAll();
     }
 
+    // Served from the in-memory type table; only a miss falls through to a blocking lookup
     @Override
     public SpacecraftType getSpacecraftTypeById(Long id) {
         log.debug("Getting spacecraft type by id: {}", id);
-        return spacecraftTypeRepository.findById(id)
+        return spacecraftTypeCache.get(id)
                 .orElseThrow(() -> new SpacecraftTypeNotFoundException("Spacecraft type not found with id: " + id));
     }
 }
@@ -3,48 +3,81 @@ package org.orbitalLogistic.spacecraft.application.usecases;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.orbitalLogistic.spacecraft.application.ports.in.GetSpacecraftsUseCase;
-import org.orbitalLogistic.spacecraft.application.ports.out.SpacecraftRepository;
+import org.orbitalLogistic.spacecraft.application.ports.out.ReactiveSpacecraftRepository;
 import org.orbitalLogistic.spacecraft.domain.model.Spacecraft;
 import org.orbitalLogistic.spacecraft.exceptions.SpacecraftNotFoundException;
+import org.orbitalLogistic.pagination.ReactiveExactCountCache;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.util.Collection;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GetSpacecraftsService implements GetSpacecraftsUseCase {
 
-    private final SpacecraftRepository spacecraftRepository;
+    private final ReactiveSpacecraftRepository spacecraftRepository;
+    private final ReactiveExactCountCache exactCountCache;
 
     @Override
-    public List<Spacecraft> getSpacecrafts(String name, String status, int limit, int offset) {
+    public Flux<Spacecraft> getSpacecrafts(String name, String status, int limit, int offset) {
         log.debug("Getting spacecrafts with filters - name: {}, status: {}, limit: {}, offset: {}",
                 name, status, limit, offset);
         return spacecraftRepository.findWithFilters(name, status, limit, offset);
     }
 
     @Override
-    public long countSpacecrafts(String name, String status) {
-        return spacecraftRepository.countWithFilters(name, status);
+    public Flux<Spacecraft> getSpacecraftsAfter(String name, String status, Long afterId, int limit) {
+        log.debug("Getting spacecrafts after id: {} with filters - name: {}, status: {}, limit: {}",
+                afterId, name, status, limit);
+        return spacecraftRepository.findWithFiltersAfter(name, status, afterId, limit);
     }
 
     @Override
-    public Spacecraft getSpacecraftById(Long id) {
+    public Flux<Spacecraft> getSpacecraftsRanked(String name, String status, int limit, int offset) {
+        log.debug("Ranked spacecraft search - name: {}, status: {}, limit: {}, offset: {}", name, status, limit, offset);
+        if (name == null || name.isBlank()) {
+            return Flux.error(new IllegalArgumentException("Fuzzy search requires a name"));
+        }
+        return spacecraftRepository.findBySimilarName(name, status, limit, offset);
+    }
+
+    @Override
+    public Mono<Long> countSpacecrafts(String name, String status) {
+        return exactCountCache.get("spacecrafts", () -> spacecraftRepository.countWithFilters(name, status), name, status);
+    }
+
+    @Override
+    public Mono<Long> estimateSpacecrafts(String name, String status) {
+        return spacecraftRepository.estimateWithFilters(name, status);
+    }
+
+    @Override
+    public Mono<Spacecraft> getSpacecraftById(Long id) {
         log.debug("Getting spacecraft by id: {}", id);
         return spacecraftRepository.findById(id)
-                .orElseThrow(() -> new SpacecraftNotFoundException("Spacecraft not found with id: " + id));
+                .switchIfEmpty(Mono.error(() -> new SpacecraftNotFoundException("Spacecraft not found with id: " + id)));
+    }
+
+    @Override
+    public Flux<Spacecraft> getSpacecraftsByIds(Collection<Long> ids) {
+        log.debug("Getting spacecrafts by ids: {}", ids);
+        if (ids == null || ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return spacecraftRepository.findAllByIds(ids);
     }
 
     @Override
-    public List<Spacecraft> getAvailableSpacecrafts() {
+    public Flux<Spacecraft> getAvailableSpacecrafts() {
         log.debug("Getting available spacecrafts");
         return spacecraftRepository.findAvailableForMission();
     }
 
     @Override
-    public boolean spacecraftExists(Long id) {
+    public Mono<Boolean> spacecraftExists(Long id) {
         return spacecraftRepository.existsById(id);
     }
 }
-
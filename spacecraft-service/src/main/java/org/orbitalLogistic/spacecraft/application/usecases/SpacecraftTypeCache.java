@@ -0,0 +1,73 @@
+package org.orbitalLogistic.spacecraft.application.usecases;
+
+import lombok.extern.slf4j.Slf4j;
+import org.orbitalLogistic.spacecraft.application.ports.out.SpacecraftTypeRepository;
+import org.orbitalLogistic.spacecraft.domain.model.SpacecraftType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory copy of the spacecraft_type table, which is small and read for every spacecraft
+ * in a response. The type write services update it in place; a periodic reload picks up
+ * changes made through other instances.
+ */
+@Component
+@Slf4j
+public class SpacecraftTypeCache {
+
+    private final SpacecraftTypeRepository spacecraftTypeRepository;
+    private final long reloadIntervalNanos;
+
+    private volatile Map<Long, SpacecraftType> types = Map.of();
+    private volatile long loadedAtNanos;
+    private volatile boolean loaded;
+
+    public SpacecraftTypeCache(SpacecraftTypeRepository spacecraftTypeRepository,
+                               @Value("${spacecraft-types.cache.reload-interval:5m}") Duration reloadInterval) {
+        this.spacecraftTypeRepository = spacecraftTypeRepository;
+        this.reloadIntervalNanos = reloadInterval.toNanos();
+    }
+
+    public Optional<SpacecraftType> get(Long id) {
+        if (isStale()) {
+            reloadIfStale();
+        }
+        SpacecraftType type = types.get(id);
+        if (type == null) {
+            // Possibly created through another instance since the last reload
+            Optional<SpacecraftType> stored = spacecraftTypeRepository.findById(id);
+            stored.ifPresent(this::put);
+            return stored;
+        }
+        return Optional.of(type);
+    }
+
+    public synchronized void put(SpacecraftType type) {
+        Map<Long, SpacecraftType> updated = new HashMap<>(types);
+        updated.put(type.getId(), type);
+        types = Map.copyOf(updated);
+    }
+
+    // Callers that queued behind a reload find the table fresh and return without a second one
+    private synchronized void reloadIfStale() {
+        if (!isStale()) {
+            return;
+        }
+        types = spacecraftTypeRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(SpacecraftType::getId, Function.identity()));
+        loadedAtNanos = System.nanoTime();
+        loaded = true;
+        log.debug("Loaded {} spacecraft types", types.size());
+    }
+
+    private boolean isStale() {
+        return !loaded || System.nanoTime() - loadedAtNanos > reloadIntervalNanos;
+    }
+}
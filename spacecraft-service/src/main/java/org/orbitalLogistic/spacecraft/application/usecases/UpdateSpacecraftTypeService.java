@@ -15,6 +15,7 @@ import org.springframework.stereotype.Service;
 public class UpdateSpacecraftTypeService implements UpdateSpacecraftTypeUseCase {
 
     private final SpacecraftTypeRepository spacecraftTypeRepository;
+    private final SpacecraftTypeCache spacecraftTypeCache;
 
     @Override
     public SpacecraftType updateSpacecraftType(UpdateSpacecraftTypeCommand command) {
@@ -34,6 +35,7 @@ public class UpdateSpacecraftTypeService implements UpdateSpacecraftTypeUseCase
         spacecraftType.validate();
 
         SpacecraftType saved = spacecraftTypeRepository.save(spacecraftType);
+        spacecraftTypeCache.put(saved);
         log.info("Updated spacecraft type with id: {}", saved.getId());
 
         return saved;
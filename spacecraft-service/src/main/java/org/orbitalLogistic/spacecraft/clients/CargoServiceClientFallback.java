@@ -16,4 +16,3 @@ public class CargoServiceClientFallback implements CargoServiceClient {
         return new SpacecraftCargoUsageDTO(spacecraftId, BigDecimal.ZERO, BigDecimal.ZERO);
     }
 }
-
@@ -0,0 +1,63 @@
+package org.orbitalLogistic.spacecraft.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * Connection pool for {@code spacecraft.persistence=r2dbc}. The JDBC DataSource stays in place for
+ * Flyway and the write use cases, so by default the R2DBC URL and credentials are derived from it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spacecraft.persistence", havingValue = "r2dbc")
+public class R2dbcPersistenceConfiguration {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool r2dbcConnectionPool(
+            @Value("${spacecraft.r2dbc.url:}") String url,
+            @Value("${spring.datasource.url:}") String jdbcUrl,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${spacecraft.r2dbc.pool.max-size:20}") int maxSize,
+            @Value("${spacecraft.r2dbc.pool.max-idle-time:30m}") Duration maxIdleTime) {
+
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions
+                .parse(url.isBlank() ? toR2dbcUrl(jdbcUrl) : url)
+                .mutate();
+        if (!username.isBlank()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isBlank()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("spacecraft-r2dbc")
+                .maxSize(maxSize)
+                .maxIdleTime(maxIdleTime)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionPool r2dbcConnectionPool) {
+        return DatabaseClient.create(r2dbcConnectionPool);
+    }
+
+    static String toR2dbcUrl(String jdbcUrl) {
+        if (!jdbcUrl.startsWith("jdbc:postgresql:")) {
+            throw new IllegalStateException("Set spacecraft.r2dbc.url, cannot derive it from " + jdbcUrl);
+        }
+        // JDBC-only parameters such as stringtype are not understood by the R2DBC driver
+        int query = jdbcUrl.indexOf('?');
+        String base = query >= 0 ? jdbcUrl.substring(0, query) : jdbcUrl;
+        return "r2dbc:" + base.substring("jdbc:".length());
+    }
+}
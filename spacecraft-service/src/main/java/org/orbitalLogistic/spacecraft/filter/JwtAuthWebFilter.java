@@ -1,11 +1,9 @@
 package org.orbitalLogistic.spacecraft.filter;
 
-import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import org.orbitalLogistic.jwt.VerifiedToken;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextImpl;
@@ -15,9 +13,6 @@ import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Component
 @RequiredArgsConstructor
 public class JwtAuthWebFilter implements WebFilter {
@@ -34,21 +29,12 @@ public class JwtAuthWebFilter implements WebFilter {
 
             String jwt = authHeader.substring(7);
 
-            if (!jwtService.validateToken(jwt)) {
+            VerifiedToken verified = jwtService.verify(jwt).orElse(null);
+            if (verified == null) {
                 return chain.filter(exchange);
             }
 
-            Claims claims = jwtService.extractAllClaims(jwt);
-            List<String> roles = claims.get("roles", List.class);
-
-            List<GrantedAuthority> authorities = (roles == null ? List.<String>of() : roles).stream()
-                    .map(role -> role.startsWith("ROLE_") ? role : "ROLE_" + role)
-                    .map(SimpleGrantedAuthority::new)
-                    .collect(Collectors.toList());
-
-            String username = claims.getSubject();
-
-            Authentication auth = new UsernamePasswordAuthenticationToken(username, null, authorities);
+            Authentication auth = new UsernamePasswordAuthenticationToken(verified.subject(), null, verified.authorities());
             SecurityContext securityContext = new SecurityContextImpl(auth);
 
             return chain.filter(exchange)
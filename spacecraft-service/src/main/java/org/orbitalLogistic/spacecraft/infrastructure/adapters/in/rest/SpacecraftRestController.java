@@ -10,10 +10,13 @@ import org.orbitalLogistic.spacecraft.application.ports.in.UpdateSpacecraftStatu
 import org.orbitalLogistic.spacecraft.application.ports.in.UpdateSpacecraftUseCase;
 import org.orbitalLogistic.spacecraft.domain.model.Spacecraft;
 import org.orbitalLogistic.spacecraft.domain.model.enums.SpacecraftStatus;
+import org.orbitalLogistic.spacecraft.infrastructure.adapters.in.rest.dto.IdCursor;
 import org.orbitalLogistic.spacecraft.infrastructure.adapters.in.rest.dto.PageResponseDTO;
 import org.orbitalLogistic.spacecraft.infrastructure.adapters.in.rest.dto.SpacecraftRequestDTO;
 import org.orbitalLogistic.spacecraft.infrastructure.adapters.in.rest.dto.SpacecraftResponseDTO;
+import org.orbitalLogistic.spacecraft.infrastructure.adapters.in.rest.dto.SpacecraftSummaryDTO;
 import org.orbitalLogistic.spacecraft.infrastructure.adapters.in.rest.mapper.SpacecraftRestMapper;
+import org.orbitalLogistic.pagination.IncludeTotal;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -25,10 +28,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/spacecrafts")
@@ -46,59 +51,89 @@ public class SpacecraftRestController {
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String includeTotal,
+            @RequestParam(defaultValue = "false") boolean fuzzy) {
 
         if (size > 50) size = 50;
+        if (size < 1) size = 1;
 
         int finalSize = size;
-        return Mono.fromCallable(() -> {
-            int offset = page * finalSize;
-            List<Spacecraft> spacecrafts = getSpacecraftsUseCase.getSpacecrafts(name, status, finalSize, offset);
-            long total = getSpacecraftsUseCase.countSpacecrafts(name, status);
-
-            List<SpacecraftResponseDTO> spacecraftDTOs = spacecrafts.stream()
-                    .map(spacecraftRestMapper::toResponseDTO)
-                    .toList();
-
-            int totalPages = (int) Math.ceil((double) total / finalSize);
-            PageResponseDTO<SpacecraftResponseDTO> response = new PageResponseDTO<>(
-                    spacecraftDTOs, page, finalSize, total, totalPages, page == 0, page >= totalPages - 1
-            );
-
-            return ResponseEntity.ok()
-                    .header("X-Total-Count", String.valueOf(total))
-                    .body(response);
-        }).subscribeOn(Schedulers.boundedElastic());
+        // Keyset pages skip the COUNT(*) unless asked, so deep pages cost the same as the first one
+        IncludeTotal totalMode = fuzzy
+                ? IncludeTotal.NONE
+                : IncludeTotal.parse(includeTotal, cursor != null ? IncludeTotal.NONE : IncludeTotal.EXACT);
+
+        Mono<List<Spacecraft>> found = Flux.defer(() -> {
+            if (fuzzy) {
+                // Ranked by similarity, so there is no id order to seek on and no cheap total
+                if (cursor != null) {
+                    return Flux.error(new IllegalArgumentException("cursor cannot be combined with fuzzy search"));
+                }
+                return getSpacecraftsUseCase.getSpacecraftsRanked(name, status, finalSize, page * finalSize);
+            }
+            return cursor != null
+                    ? getSpacecraftsUseCase.getSpacecraftsAfter(name, status, IdCursor.decode(cursor).id(), finalSize)
+                    : getSpacecraftsUseCase.getSpacecrafts(name, status, finalSize, page * finalSize);
+        }).collectList();
+
+        return found.flatMap(spacecrafts -> total(totalMode, name, status)
+                // Mapping resolves spacecraft types through the blocking cache, so it leaves the event loop
+                .publishOn(Schedulers.boundedElastic())
+                .map(totalElements -> {
+                    List<SpacecraftResponseDTO> content = spacecraftRestMapper.toResponseDTOs(spacecrafts);
+                    if (fuzzy) {
+                        return ResponseEntity.ok(new PageResponseDTO<>(
+                                content, page, finalSize, -1, -1, page == 0, spacecrafts.size() < finalSize));
+                    }
+                    return toPage(content, spacecrafts, cursor != null ? -1 : page, finalSize, totalElements);
+                }));
     }
 
     @GetMapping("/scroll")
     public Mono<ResponseEntity<List<SpacecraftResponseDTO>>> getSpacecraftsScroll(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
 
         if (size > 50) size = 50;
+        if (size < 1) size = 1;
 
         int finalSize = size;
-        return Mono.fromCallable(() -> {
-            int offset = page * finalSize;
-            List<Spacecraft> spacecrafts = getSpacecraftsUseCase.getSpacecrafts(null, null, finalSize + 1, offset);
+        Mono<List<Spacecraft>> found = Flux.defer(() -> cursor != null
+                ? getSpacecraftsUseCase.getSpacecraftsAfter(null, null, IdCursor.decode(cursor).id(), finalSize + 1)
+                : getSpacecraftsUseCase.getSpacecrafts(null, null, finalSize + 1, page * finalSize)).collectList();
 
-            List<SpacecraftResponseDTO> spacecraftDTOs = spacecrafts.stream()
+        // Mapping resolves spacecraft types through the blocking cache, so it leaves the event loop
+        return found.publishOn(Schedulers.boundedElastic()).map(spacecrafts -> {
+            List<Spacecraft> pageItems = spacecrafts.stream()
                     .limit(finalSize)
-                    .map(spacecraftRestMapper::toResponseDTO)
                     .toList();
 
-            return ResponseEntity.ok(spacecraftDTOs);
-        }).subscribeOn(Schedulers.boundedElastic());
+            // The extra row fetched above tells whether another page exists
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+            if (spacecrafts.size() > finalSize) {
+                builder.header(IdCursor.NEXT_CURSOR_HEADER,
+                        new IdCursor(pageItems.get(pageItems.size() - 1).getId()).encode());
+            }
+            return builder.body(spacecraftRestMapper.toResponseDTOs(pageItems));
+        });
     }
 
     @GetMapping("/{id}")
     public Mono<ResponseEntity<SpacecraftResponseDTO>> getSpacecraftById(@PathVariable Long id) {
-        return Mono.fromCallable(() -> {
-            Spacecraft spacecraft = getSpacecraftsUseCase.getSpacecraftById(id);
-            SpacecraftResponseDTO response = spacecraftRestMapper.toResponseDTO(spacecraft);
-            return ResponseEntity.ok(response);
-        }).subscribeOn(Schedulers.boundedElastic());
+        return getSpacecraftsUseCase.getSpacecraftById(id)
+                .publishOn(Schedulers.boundedElastic())
+                .map(spacecraft -> ResponseEntity.ok(spacecraftRestMapper.toResponseDTO(spacecraft)));
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<SpacecraftSummaryDTO>>> getSpacecraftsByIds(@RequestBody Set<Long> ids) {
+        return getSpacecraftsUseCase.getSpacecraftsByIds(ids)
+                .map(spacecraftRestMapper::toSummaryDTO)
+                .collectList()
+                .map(ResponseEntity::ok);
     }
 
     @PostMapping
@@ -130,13 +165,10 @@ public class SpacecraftRestController {
 
     @GetMapping("/available")
     public Mono<ResponseEntity<List<SpacecraftResponseDTO>>> getAvailableSpacecrafts() {
-        return Mono.fromCallable(() -> {
-            List<Spacecraft> spacecrafts = getSpacecraftsUseCase.getAvailableSpacecrafts();
-            List<SpacecraftResponseDTO> response = spacecrafts.stream()
-                    .map(spacecraftRestMapper::toResponseDTO)
-                    .toList();
-            return ResponseEntity.ok(response);
-        }).subscribeOn(Schedulers.boundedElastic());
+        return getSpacecraftsUseCase.getAvailableSpacecrafts()
+                .collectList()
+                .publishOn(Schedulers.boundedElastic())
+                .map(spacecrafts -> ResponseEntity.ok(spacecraftRestMapper.toResponseDTOs(spacecrafts)));
     }
 
     @PutMapping("/{id}/status")
@@ -154,10 +186,44 @@ public class SpacecraftRestController {
 
     @GetMapping("/{id}/exists")
     public Mono<ResponseEntity<Boolean>> spacecraftExists(@PathVariable Long id) {
-        return Mono.fromCallable(() -> {
-            boolean exists = getSpacecraftsUseCase.spacecraftExists(id);
-            return ResponseEntity.ok(exists);
-        }).subscribeOn(Schedulers.boundedElastic());
+        return getSpacecraftsUseCase.spacecraftExists(id)
+                .map(ResponseEntity::ok);
     }
-}
 
+    private Mono<Long> total(IncludeTotal mode, String name, String status) {
+        return switch (mode) {
+            case NONE -> Mono.just(-1L);
+            case EXACT -> getSpacecraftsUseCase.countSpacecrafts(name, status);
+            case ESTIMATE -> getSpacecraftsUseCase.estimateSpacecrafts(name, status);
+        };
+    }
+
+    /**
+     * Builds the page body; a negative page marks a cursor request and a negative total an omitted count.
+     */
+    private ResponseEntity<PageResponseDTO<SpacecraftResponseDTO>> toPage(
+            List<SpacecraftResponseDTO> content, List<Spacecraft> spacecrafts, int page, int size, long total) {
+
+        String nextCursor = nextCursor(spacecrafts, size);
+        boolean counted = total >= 0;
+        int totalPages = counted ? (int) Math.ceil((double) total / size) : -1;
+        boolean last = counted && page >= 0 ? page >= totalPages - 1 : nextCursor == null;
+
+        PageResponseDTO<SpacecraftResponseDTO> response = new PageResponseDTO<>(
+                content, page, size, total, totalPages, page == 0, last, nextCursor
+        );
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (counted) {
+            builder.header("X-Total-Count", String.valueOf(total));
+        }
+        return builder.body(response);
+    }
+
+    private static String nextCursor(List<Spacecraft> spacecrafts, int size) {
+        if (spacecrafts.isEmpty()) {
+            return null;
+        }
+        return IdCursor.next(spacecrafts.size(), size, spacecrafts.get(spacecrafts.size() - 1).getId());
+    }
+}
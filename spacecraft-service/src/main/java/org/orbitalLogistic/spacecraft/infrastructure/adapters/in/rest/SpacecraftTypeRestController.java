@@ -46,10 +46,13 @@ public class SpacecraftTypeRestController {
         if (size > 50) size = 50;
 
         int finalSize = size;
-        return Mono.fromCallable(() -> {
-            int offset = page * finalSize;
-            List<SpacecraftType> types = getSpacecraftTypesUseCase.getAllSpacecraftTypes(finalSize, offset);
-            long total = getSpacecraftTypesUseCase.countAllSpacecraftTypes();
+        int offset = page * finalSize;
+        return Mono.zip(
+                getSpacecraftTypesUseCase.getAllSpacecraftTypes(finalSize, offset).collectList(),
+                getSpacecraftTypesUseCase.countAllSpacecraftTypes()
+        ).map(typesAndTotal -> {
+            List<SpacecraftType> types = typesAndTotal.getT1();
+            long total = typesAndTotal.getT2();
 
             List<SpacecraftTypeResponseDTO> typeDTOs = types.stream()
                     .map(spacecraftTypeRestMapper::toResponseDTO)
@@ -63,7 +66,7 @@ public class SpacecraftTypeRestController {
             return ResponseEntity.ok()
                     .header("X-Total-Count", String.valueOf(total))
                     .body(response);
-        }).subscribeOn(Schedulers.boundedElastic());
+        });
     }
 
     @GetMapping("/{id}")
@@ -1,5 +1,7 @@
 package org.orbitalLogistic.spacecraft.infrastructure.adapters.in.rest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 public record PageResponseDTO<T>(
@@ -9,17 +11,12 @@ public record PageResponseDTO<T>(
         long totalElements,
         int totalPages,
         boolean first,
-        boolean last
+        boolean last,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor
 ) {
-}
-
-
-
-
-
-
-
-
-
-
 
+    public PageResponseDTO(List<T> content, int page, int size, long totalElements,
+                           int totalPages, boolean first, boolean last) {
+        this(content, page, size, totalElements, totalPages, first, last, null);
+    }
+}
@@ -0,0 +1,8 @@
+package org.orbitalLogistic.spacecraft.infrastructure.adapters.in.rest.dto;
+
+public record SpacecraftSummaryDTO(
+        Long id,
+        String registryCode,
+        String name
+) {
+}
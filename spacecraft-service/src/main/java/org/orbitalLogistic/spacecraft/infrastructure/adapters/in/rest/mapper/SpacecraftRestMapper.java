@@ -10,9 +10,11 @@ import org.orbitalLogistic.spacecraft.domain.model.SpacecraftType;
 import org.orbitalLogistic.spacecraft.dto.common.SpacecraftCargoUsageDTO;
 import org.orbitalLogistic.spacecraft.infrastructure.adapters.in.rest.dto.SpacecraftRequestDTO;
 import org.orbitalLogistic.spacecraft.infrastructure.adapters.in.rest.dto.SpacecraftResponseDTO;
+import org.orbitalLogistic.spacecraft.infrastructure.adapters.in.rest.dto.SpacecraftSummaryDTO;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -47,19 +49,33 @@ public class SpacecraftRestMapper {
     }
 
     public SpacecraftResponseDTO toResponseDTO(Spacecraft spacecraft) {
+        SpacecraftCargoUsageDTO cargoUsage = null;
+        try {
+            cargoUsage = cargoServiceClient.getSpacecraftCargoUsage(spacecraft.getId());
+        } catch (Exception e) {
+            // Log but don't fail - cargo usage is optional
+        }
+        return toResponseDTO(spacecraft, cargoUsage);
+    }
+
+    /**
+     * Pages report zero cargo usage: cargo-service has no bulk cargo-usage route, and asking it
+     * once per row is what made page mapping slow.
+     */
+    public List<SpacecraftResponseDTO> toResponseDTOs(List<Spacecraft> spacecrafts) {
+        return spacecrafts.stream()
+                .map(spacecraft -> toResponseDTO(spacecraft, null))
+                .toList();
+    }
+
+    private SpacecraftResponseDTO toResponseDTO(Spacecraft spacecraft, SpacecraftCargoUsageDTO cargoUsage) {
         SpacecraftType spacecraftType = getSpacecraftTypesUseCase.getSpacecraftTypeById(spacecraft.getSpacecraftTypeId());
 
         BigDecimal currentMassUsage = BigDecimal.ZERO;
         BigDecimal currentVolumeUsage = BigDecimal.ZERO;
-
-        try {
-            SpacecraftCargoUsageDTO cargoUsage = cargoServiceClient.getSpacecraftCargoUsage(spacecraft.getId());
-            if (cargoUsage != null) {
-                currentMassUsage = cargoUsage.currentMassUsage();
-                currentVolumeUsage = cargoUsage.currentVolumeUsage();
-            }
-        } catch (Exception e) {
-            // Log but don't fail - cargo usage is optional
+        if (cargoUsage != null) {
+            currentMassUsage = cargoUsage.currentMassUsage();
+            currentVolumeUsage = cargoUsage.currentVolumeUsage();
         }
 
         return new SpacecraftResponseDTO(
@@ -76,5 +92,12 @@ public class SpacecraftRestMapper {
                 currentVolumeUsage
         );
     }
-}
 
+    public SpacecraftSummaryDTO toSummaryDTO(Spacecraft spacecraft) {
+        return new SpacecraftSummaryDTO(
+                spacecraft.getId(),
+                spacecraft.getRegistryCode(),
+                spacecraft.getName()
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package org.orbitalLogistic.spacecraft.infrastructure.adapters.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.orbitalLogistic.spacecraft.application.ports.out.ReactiveSpacecraftRepository;
+import org.orbitalLogistic.spacecraft.application.ports.out.SpacecraftRepository;
+import org.orbitalLogistic.spacecraft.domain.model.Spacecraft;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Default {@link ReactiveSpacecraftRepository}: runs the blocking JDBC adapter on the bounded
+ * elastic scheduler, so each in-flight query holds one elastic thread.
+ */
+@Component
+@ConditionalOnProperty(name = "spacecraft.persistence", havingValue = "jdbc", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JdbcReactiveSpacecraftRepository implements ReactiveSpacecraftRepository {
+
+    private final SpacecraftRepository spacecraftRepository;
+
+    @Override
+    public Mono<Spacecraft> save(Spacecraft spacecraft) {
+        return blocking(() -> spacecraftRepository.save(spacecraft));
+    }
+
+    @Override
+    public Mono<Spacecraft> findById(Long id) {
+        return blocking(() -> spacecraftRepository.findById(id).orElse(null));
+    }
+
+    @Override
+    public Flux<Spacecraft> findAllByIds(Collection<Long> ids) {
+        return blockingList(() -> spacecraftRepository.findAllByIds(ids));
+    }
+
+    @Override
+    public Flux<Spacecraft> findWithFilters(String name, String status, int limit, int offset) {
+        return blockingList(() -> spacecraftRepository.findWithFilters(name, status, limit, offset));
+    }
+
+    @Override
+    public Flux<Spacecraft> findWithFiltersAfter(String name, String status, Long afterId, int limit) {
+        return blockingList(() -> spacecraftRepository.findWithFiltersAfter(name, status, afterId, limit));
+    }
+
+    @Override
+    public Flux<Spacecraft> findBySimilarName(String name, String status, int limit, int offset) {
+        return blockingList(() -> spacecraftRepository.findBySimilarName(name, status, limit, offset));
+    }
+
+    @Override
+    public Mono<Long> countWithFilters(String name, String status) {
+        return blocking(() -> spacecraftRepository.countWithFilters(name, status));
+    }
+
+    @Override
+    public Mono<Long> estimateWithFilters(String name, String status) {
+        return blocking(() -> spacecraftRepository.estimateWithFilters(name, status));
+    }
+
+    @Override
+    public Flux<Spacecraft> findAvailableForMission() {
+        return blockingList(spacecraftRepository::findAvailableForMission);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return blocking(() -> spacecraftRepository.existsById(id));
+    }
+
+    @Override
+    public Mono<Boolean> existsByRegistryCode(String registryCode) {
+        return blocking(() -> spacecraftRepository.existsByRegistryCode(registryCode));
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return blocking(() -> {
+            spacecraftRepository.deleteById(id);
+            return null;
+        }).then();
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static <T> Flux<T> blockingList(Callable<List<T>> call) {
+        return blocking(call).flatMapIterable(list -> list);
+    }
+}
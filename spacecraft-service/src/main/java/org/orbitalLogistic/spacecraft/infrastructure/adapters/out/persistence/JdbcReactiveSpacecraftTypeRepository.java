@@ -0,0 +1,63 @@
+package org.orbitalLogistic.spacecraft.infrastructure.adapters.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.orbitalLogistic.spacecraft.application.ports.out.ReactiveSpacecraftTypeRepository;
+import org.orbitalLogistic.spacecraft.application.ports.out.SpacecraftTypeRepository;
+import org.orbitalLogistic.spacecraft.domain.model.SpacecraftType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+
+@Component
+@ConditionalOnProperty(name = "spacecraft.persistence", havingValue = "jdbc", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JdbcReactiveSpacecraftTypeRepository implements ReactiveSpacecraftTypeRepository {
+
+    private final SpacecraftTypeRepository spacecraftTypeRepository;
+
+    @Override
+    public Mono<SpacecraftType> save(SpacecraftType spacecraftType) {
+        return blocking(() -> spacecraftTypeRepository.save(spacecraftType));
+    }
+
+    @Override
+    public Mono<SpacecraftType> findById(Long id) {
+        return blocking(() -> spacecraftTypeRepository.findById(id).orElse(null));
+    }
+
+    @Override
+    public Flux<SpacecraftType> findAll() {
+        return blocking(spacecraftTypeRepository::findAll).flatMapIterable(types -> types);
+    }
+
+    @Override
+    public Flux<SpacecraftType> findAll(int limit, int offset) {
+        return blocking(() -> spacecraftTypeRepository.findAll(limit, offset)).flatMapIterable(types -> types);
+    }
+
+    @Override
+    public Mono<Long> countAll() {
+        return blocking(spacecraftTypeRepository::countAll);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return blocking(() -> spacecraftTypeRepository.existsById(id));
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return blocking(() -> {
+            spacecraftTypeRepository.deleteById(id);
+            return null;
+        }).then();
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -17,7 +17,7 @@ public interface SpacecraftJdbcRepository extends CrudRepository<SpacecraftEntit
 
     @Query("""
         SELECT s.* FROM spacecraft s 
-        WHERE (CAST(:name AS VARCHAR) IS NULL OR LOWER(s.name) LIKE LOWER(CONCAT('%', CAST(:name AS VARCHAR), '%'))) 
+        WHERE (CAST(:name AS VARCHAR) IS NULL OR s.name ILIKE CONCAT('%', CAST(:name AS VARCHAR), '%')) 
         AND (CAST(:status AS VARCHAR) IS NULL OR s.status = CAST(:status AS spacecraft_status_enum))
         ORDER BY s.id
         LIMIT :limit OFFSET :offset
@@ -29,13 +29,49 @@ public interface SpacecraftJdbcRepository extends CrudRepository<SpacecraftEntit
         @Param("offset") int offset
     );
 
+    @Query("""
+        SELECT s.* FROM spacecraft s 
+        WHERE s.id > :afterId
+        AND (CAST(:name AS VARCHAR) IS NULL OR s.name ILIKE CONCAT('%', CAST(:name AS VARCHAR), '%')) 
+        AND (CAST(:status AS VARCHAR) IS NULL OR s.status = CAST(:status AS spacecraft_status_enum))
+        ORDER BY s.id
+        LIMIT :limit
+    """)
+    List<SpacecraftEntity> findWithFiltersAfter(
+        @Param("name") String name,
+        @Param("status") String status,
+        @Param("afterId") Long afterId,
+        @Param("limit") int limit
+    );
+
+    @Query("""
+        SELECT s.* FROM spacecraft s
+        WHERE CAST(:name AS VARCHAR) <% s.name
+        AND (CAST(:status AS VARCHAR) IS NULL OR s.status = CAST(:status AS spacecraft_status_enum))
+        ORDER BY word_similarity(CAST(:name AS VARCHAR), s.name) DESC, s.id
+        LIMIT :limit OFFSET :offset
+    """)
+    List<SpacecraftEntity> findBySimilarName(
+        @Param("name") String name,
+        @Param("status") String status,
+        @Param("limit") int limit,
+        @Param("offset") int offset
+    );
+
     @Query("""
         SELECT COUNT(*) FROM spacecraft s 
-        WHERE (CAST(:name AS VARCHAR) IS NULL OR LOWER(s.name) LIKE LOWER(CONCAT('%', CAST(:name AS VARCHAR), '%'))) 
+        WHERE (CAST(:name AS VARCHAR) IS NULL OR s.name ILIKE CONCAT('%', CAST(:name AS VARCHAR), '%')) 
         AND (CAST(:status AS VARCHAR) IS NULL OR s.status = CAST(:status AS spacecraft_status_enum))
     """)
     long countWithFilters(@Param("name") String name, @Param("status") String status);
 
+    @Query("""
+        EXPLAIN SELECT 1 FROM spacecraft s 
+        WHERE (CAST(:name AS VARCHAR) IS NULL OR s.name ILIKE CONCAT('%', CAST(:name AS VARCHAR), '%')) 
+        AND (CAST(:status AS VARCHAR) IS NULL OR s.status = CAST(:status AS spacecraft_status_enum))
+    """)
+    List<String> explainWithFilters(@Param("name") String name, @Param("status") String status);
+
     @Query("SELECT s.* FROM spacecraft s WHERE s.status IN ('DOCKED', 'MAINTENANCE')")
     List<SpacecraftEntity> findAvailableForMission();
 }
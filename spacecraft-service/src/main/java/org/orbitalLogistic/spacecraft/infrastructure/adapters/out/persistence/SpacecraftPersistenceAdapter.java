@@ -3,12 +3,15 @@ package org.orbitalLogistic.spacecraft.infrastructure.adapters.out.persistence;
 import lombok.RequiredArgsConstructor;
 import org.orbitalLogistic.spacecraft.application.ports.out.SpacecraftRepository;
 import org.orbitalLogistic.spacecraft.domain.model.Spacecraft;
+import org.orbitalLogistic.pagination.PlanEstimates;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 @Component
 @RequiredArgsConstructor
@@ -69,6 +72,13 @@ public class SpacecraftPersistenceAdapter implements SpacecraftRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Spacecraft> findAllByIds(Collection<Long> ids) {
+        return StreamSupport.stream(jdbcRepository.findAllById(ids).spliterator(), false)
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Spacecraft> findWithFilters(String name, String status, int limit, int offset) {
         return jdbcRepository.findWithFilters(name, status, limit, offset).stream()
@@ -76,11 +86,30 @@ public class SpacecraftPersistenceAdapter implements SpacecraftRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Spacecraft> findWithFiltersAfter(String name, String status, Long afterId, int limit) {
+        return jdbcRepository.findWithFiltersAfter(name, status, afterId, limit).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Spacecraft> findBySimilarName(String name, String status, int limit, int offset) {
+        return jdbcRepository.findBySimilarName(name, status, limit, offset).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public long countWithFilters(String name, String status) {
         return jdbcRepository.countWithFilters(name, status);
     }
 
+    @Override
+    public long estimateWithFilters(String name, String status) {
+        return PlanEstimates.rows(jdbcRepository.explainWithFilters(name, status));
+    }
+
     @Override
     public List<Spacecraft> findAvailableForMission() {
         return jdbcRepository.findAvailableForMission().stream()
@@ -0,0 +1,202 @@
+package org.orbitalLogistic.spacecraft.infrastructure.adapters.out.persistence;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.orbitalLogistic.spacecraft.application.ports.out.ReactiveSpacecraftRepository;
+import org.orbitalLogistic.spacecraft.domain.model.Spacecraft;
+import org.orbitalLogistic.spacecraft.domain.model.enums.SpacecraftStatus;
+import org.orbitalLogistic.pagination.PlanEstimates;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * R2DBC implementation of {@link ReactiveSpacecraftRepository}, enabled with
+ * {@code spacecraft.persistence=r2dbc}. Queries mirror {@link SpacecraftJdbcRepository}; the status
+ * enum is read back as text and written through an explicit cast, as in {@link SpacecraftPersistenceAdapter}.
+ */
+@Component
+@ConditionalOnProperty(name = "spacecraft.persistence", havingValue = "r2dbc")
+@RequiredArgsConstructor
+public class SpacecraftR2dbcPersistenceAdapter implements ReactiveSpacecraftRepository {
+
+    private static final String COLUMNS = "s.id, s.registry_code, s.name, s.spacecraft_type_id, " +
+            "s.mass_capacity, s.volume_capacity, CAST(s.status AS VARCHAR) AS status, s.current_location";
+
+    private static final String FILTERS = """
+            (CAST(:name AS VARCHAR) IS NULL OR s.name ILIKE CONCAT('%', CAST(:name AS VARCHAR), '%'))
+            AND (CAST(:status AS VARCHAR) IS NULL OR s.status = CAST(:status AS spacecraft_status_enum))
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Spacecraft> save(Spacecraft spacecraft) {
+        if (spacecraft.getId() == null) {
+            return bindFields(databaseClient.sql("""
+                            INSERT INTO spacecraft
+                            (registry_code, name, spacecraft_type_id, mass_capacity, volume_capacity, status, current_location)
+                            VALUES (:registryCode, :name, :typeId, :massCapacity, :volumeCapacity,
+                                    CAST(:status AS spacecraft_status_enum), :currentLocation)
+                            RETURNING id
+                            """), spacecraft)
+                    .map(row -> row.get("id", Long.class))
+                    .one()
+                    .map(newId -> spacecraft.toBuilder().id(newId).build());
+        }
+        return bindFields(databaseClient.sql("""
+                        UPDATE spacecraft SET
+                        registry_code = :registryCode,
+                        name = :name,
+                        spacecraft_type_id = :typeId,
+                        mass_capacity = :massCapacity,
+                        volume_capacity = :volumeCapacity,
+                        status = CAST(:status AS spacecraft_status_enum),
+                        current_location = :currentLocation
+                        WHERE id = :id
+                        """), spacecraft)
+                .bind("id", spacecraft.getId())
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(spacecraft);
+    }
+
+    @Override
+    public Mono<Spacecraft> findById(Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM spacecraft s WHERE s.id = :id")
+                .bind("id", id)
+                .map(SpacecraftR2dbcPersistenceAdapter::toDomain)
+                .one();
+    }
+
+    @Override
+    public Flux<Spacecraft> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM spacecraft s WHERE s.id IN (:ids)")
+                .bind("ids", ids)
+                .map(SpacecraftR2dbcPersistenceAdapter::toDomain)
+                .all();
+    }
+
+    @Override
+    public Flux<Spacecraft> findWithFilters(String name, String status, int limit, int offset) {
+        return bindFilters(databaseClient.sql("SELECT " + COLUMNS + " FROM spacecraft s WHERE " + FILTERS +
+                        "ORDER BY s.id LIMIT :limit OFFSET :offset"), name, status)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(SpacecraftR2dbcPersistenceAdapter::toDomain)
+                .all();
+    }
+
+    @Override
+    public Flux<Spacecraft> findWithFiltersAfter(String name, String status, Long afterId, int limit) {
+        return bindFilters(databaseClient.sql("SELECT " + COLUMNS + " FROM spacecraft s WHERE s.id > :afterId AND " +
+                        FILTERS + "ORDER BY s.id LIMIT :limit"), name, status)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(SpacecraftR2dbcPersistenceAdapter::toDomain)
+                .all();
+    }
+
+    @Override
+    public Flux<Spacecraft> findBySimilarName(String name, String status, int limit, int offset) {
+        return bindFilters(databaseClient.sql("""
+                        SELECT %s FROM spacecraft s
+                        WHERE CAST(:name AS VARCHAR) <%% s.name
+                        AND (CAST(:status AS VARCHAR) IS NULL OR s.status = CAST(:status AS spacecraft_status_enum))
+                        ORDER BY word_similarity(CAST(:name AS VARCHAR), s.name) DESC, s.id
+                        LIMIT :limit OFFSET :offset
+                        """.formatted(COLUMNS)), name, status)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(SpacecraftR2dbcPersistenceAdapter::toDomain)
+                .all();
+    }
+
+    @Override
+    public Mono<Long> countWithFilters(String name, String status) {
+        return bindFilters(databaseClient.sql("SELECT COUNT(*) AS total FROM spacecraft s WHERE " + FILTERS), name, status)
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Long> estimateWithFilters(String name, String status) {
+        return bindFilters(databaseClient.sql("EXPLAIN SELECT 1 FROM spacecraft s WHERE " + FILTERS), name, status)
+                .map(row -> row.get(0, String.class))
+                .all()
+                .collectList()
+                .map(PlanEstimates::rows);
+    }
+
+    @Override
+    public Flux<Spacecraft> findAvailableForMission() {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM spacecraft s WHERE s.status IN ('DOCKED', 'MAINTENANCE')")
+                .map(SpacecraftR2dbcPersistenceAdapter::toDomain)
+                .all();
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT EXISTS (SELECT 1 FROM spacecraft WHERE id = :id) AS found")
+                .bind("id", id)
+                .map(row -> row.get("found", Boolean.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Boolean> existsByRegistryCode(String registryCode) {
+        return databaseClient.sql("SELECT EXISTS (SELECT 1 FROM spacecraft WHERE registry_code = :registryCode) AS found")
+                .bind("registryCode", registryCode)
+                .map(row -> row.get("found", Boolean.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM spacecraft WHERE id = :id")
+                .bind("id", id)
+                .then();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindFields(DatabaseClient.GenericExecuteSpec spec, Spacecraft spacecraft) {
+        spec = spec.bind("registryCode", spacecraft.getRegistryCode())
+                .bind("name", spacecraft.getName())
+                .bind("typeId", spacecraft.getSpacecraftTypeId())
+                .bind("massCapacity", spacecraft.getMassCapacity())
+                .bind("volumeCapacity", spacecraft.getVolumeCapacity())
+                .bind("status", spacecraft.getStatus().name());
+        return bindNullable(spec, "currentLocation", spacecraft.getCurrentLocation());
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindFilters(DatabaseClient.GenericExecuteSpec spec,
+                                                                 String name, String status) {
+        return bindNullable(bindNullable(spec, "name", name), "status", status);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec,
+                                                                  String parameter, String value) {
+        return value != null ? spec.bind(parameter, value) : spec.bindNull(parameter, String.class);
+    }
+
+    private static Spacecraft toDomain(Readable row) {
+        String status = row.get("status", String.class);
+        return Spacecraft.builder()
+                .id(row.get("id", Long.class))
+                .registryCode(row.get("registry_code", String.class))
+                .name(row.get("name", String.class))
+                .spacecraftTypeId(row.get("spacecraft_type_id", Long.class))
+                .massCapacity(row.get("mass_capacity", BigDecimal.class))
+                .volumeCapacity(row.get("volume_capacity", BigDecimal.class))
+                .status(status != null ? SpacecraftStatus.valueOf(status) : null)
+                .currentLocation(row.get("current_location", String.class))
+                .build();
+    }
+}
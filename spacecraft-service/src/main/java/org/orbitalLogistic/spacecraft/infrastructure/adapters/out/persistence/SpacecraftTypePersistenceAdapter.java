@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 @Component
 @RequiredArgsConstructor
@@ -59,6 +60,13 @@ public class SpacecraftTypePersistenceAdapter implements SpacecraftTypeRepositor
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<SpacecraftType> findAll() {
+        return StreamSupport.stream(jdbcRepository.findAll().spliterator(), false)
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<SpacecraftType> findAll(int limit, int offset) {
         return jdbcRepository.findAllPaginated(limit, offset).stream()
@@ -0,0 +1,113 @@
+package org.orbitalLogistic.spacecraft.infrastructure.adapters.out.persistence;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.orbitalLogistic.spacecraft.application.ports.out.ReactiveSpacecraftTypeRepository;
+import org.orbitalLogistic.spacecraft.domain.model.SpacecraftType;
+import org.orbitalLogistic.spacecraft.domain.model.enums.SpacecraftClassification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(name = "spacecraft.persistence", havingValue = "r2dbc")
+@RequiredArgsConstructor
+public class SpacecraftTypeR2dbcPersistenceAdapter implements ReactiveSpacecraftTypeRepository {
+
+    private static final String COLUMNS =
+            "id, type_name, CAST(classification AS VARCHAR) AS classification, max_crew_capacity";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<SpacecraftType> save(SpacecraftType spacecraftType) {
+        if (spacecraftType.getId() == null) {
+            return bindFields(databaseClient.sql("""
+                            INSERT INTO spacecraft_type (type_name, classification, max_crew_capacity)
+                            VALUES (:typeName, CAST(:classification AS spacecraft_classification_enum), :maxCrewCapacity)
+                            RETURNING id
+                            """), spacecraftType)
+                    .map(row -> row.get("id", Long.class))
+                    .one()
+                    .map(newId -> spacecraftType.toBuilder().id(newId).build());
+        }
+        return bindFields(databaseClient.sql("""
+                        UPDATE spacecraft_type SET
+                        type_name = :typeName,
+                        classification = CAST(:classification AS spacecraft_classification_enum),
+                        max_crew_capacity = :maxCrewCapacity
+                        WHERE id = :id
+                        """), spacecraftType)
+                .bind("id", spacecraftType.getId())
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(spacecraftType);
+    }
+
+    @Override
+    public Mono<SpacecraftType> findById(Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM spacecraft_type WHERE id = :id")
+                .bind("id", id)
+                .map(SpacecraftTypeR2dbcPersistenceAdapter::toDomain)
+                .one();
+    }
+
+    @Override
+    public Flux<SpacecraftType> findAll() {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM spacecraft_type ORDER BY id")
+                .map(SpacecraftTypeR2dbcPersistenceAdapter::toDomain)
+                .all();
+    }
+
+    @Override
+    public Flux<SpacecraftType> findAll(int limit, int offset) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM spacecraft_type ORDER BY id LIMIT :limit OFFSET :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(SpacecraftTypeR2dbcPersistenceAdapter::toDomain)
+                .all();
+    }
+
+    @Override
+    public Mono<Long> countAll() {
+        return databaseClient.sql("SELECT COUNT(*) AS total FROM spacecraft_type")
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT EXISTS (SELECT 1 FROM spacecraft_type WHERE id = :id) AS found")
+                .bind("id", id)
+                .map(row -> row.get("found", Boolean.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM spacecraft_type WHERE id = :id")
+                .bind("id", id)
+                .then();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindFields(DatabaseClient.GenericExecuteSpec spec,
+                                                                SpacecraftType spacecraftType) {
+        spec = spec.bind("typeName", spacecraftType.getTypeName())
+                .bind("classification", spacecraftType.getClassification().name());
+        return spacecraftType.getMaxCrewCapacity() != null
+                ? spec.bind("maxCrewCapacity", spacecraftType.getMaxCrewCapacity())
+                : spec.bindNull("maxCrewCapacity", Integer.class);
+    }
+
+    private static SpacecraftType toDomain(Readable row) {
+        String classification = row.get("classification", String.class);
+        return SpacecraftType.builder()
+                .id(row.get("id", Long.class))
+                .typeName(row.get("type_name", String.class))
+                .classification(classification != null ? SpacecraftClassification.valueOf(classification) : null)
+                .maxCrewCapacity(row.get("max_crew_capacity", Integer.class))
+                .build();
+    }
+}
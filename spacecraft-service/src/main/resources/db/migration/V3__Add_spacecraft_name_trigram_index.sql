@@ -0,0 +1,4 @@
+-- Lets substring (ILIKE '%x%') and fuzzy (<%) searches on spacecraft name use an index
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_spacecraft_name_trgm ON spacecraft USING gin (name gin_trgm_ops);
@@ -6,16 +6,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.orbitalLogistic.spacecraft.application.ports.out.SpacecraftRepository;
+import org.orbitalLogistic.spacecraft.application.ports.out.ReactiveSpacecraftRepository;
 import org.orbitalLogistic.spacecraft.domain.model.Spacecraft;
 import org.orbitalLogistic.spacecraft.domain.model.enums.SpacecraftStatus;
 import org.orbitalLogistic.spacecraft.exceptions.SpacecraftNotFoundException;
+import org.orbitalLogistic.pagination.ReactiveExactCountCache;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -25,7 +30,10 @@ import static org.mockito.Mockito.*;
 class GetSpacecraftsServiceTest {
 
     @Mock
-    private SpacecraftRepository spacecraftRepository;
+    private ReactiveSpacecraftRepository spacecraftRepository;
+
+    @Spy
+    private ReactiveExactCountCache exactCountCache = new ReactiveExactCountCache(Duration.ofMinutes(1), 100);
 
     @InjectMocks
     private GetSpacecraftsService getSpacecraftsService;
@@ -63,9 +71,9 @@ class GetSpacecraftsServiceTest {
     void getSpacecrafts_WithFilters_Success() {
         List<Spacecraft> spacecrafts = Arrays.asList(spacecraft1);
         when(spacecraftRepository.findWithFilters(anyString(), anyString(), anyInt(), anyInt()))
-                .thenReturn(spacecrafts);
+                .thenReturn(Flux.fromIterable(spacecrafts));
 
-        List<Spacecraft> result = getSpacecraftsService.getSpacecrafts("Star", "DOCKED", 10, 0);
+        List<Spacecraft> result = getSpacecraftsService.getSpacecrafts("Star", "DOCKED", 10, 0).collectList().block();
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -74,12 +82,46 @@ class GetSpacecraftsServiceTest {
         verify(spacecraftRepository).findWithFilters("Star", "DOCKED", 10, 0);
     }
 
+    @Test
+    @DisplayName("Получение кораблей после курсора - успешно")
+    void getSpacecraftsAfter_SeeksPastCursor() {
+        when(spacecraftRepository.findWithFiltersAfter(null, "DOCKED", 1L, 10))
+                .thenReturn(Flux.just(spacecraft2));
+
+        List<Spacecraft> result = getSpacecraftsService.getSpacecraftsAfter(null, "DOCKED", 1L, 10).collectList().block();
+
+        assertEquals(List.of(spacecraft2), result);
+        verify(spacecraftRepository, never()).findWithFilters(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Нечёткий поиск кораблей по имени - успешно")
+    void getSpacecraftsRanked_UsesSimilaritySearch() {
+        when(spacecraftRepository.findBySimilarName("Star Carier", null, 10, 0))
+                .thenReturn(Flux.just(spacecraft1));
+
+        List<Spacecraft> result = getSpacecraftsService.getSpacecraftsRanked("Star Carier", null, 10, 0).collectList().block();
+
+        assertEquals(List.of(spacecraft1), result);
+        verify(spacecraftRepository, never()).findWithFilters(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Нечёткий поиск без имени - ошибка")
+    void getSpacecraftsRanked_WithoutName_Throws() {
+        StepVerifier.create(getSpacecraftsService.getSpacecraftsRanked(null, "DOCKED", 10, 0))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(spacecraftRepository);
+    }
+
     @Test
     @DisplayName("Получение корабля по ID - успешно")
     void getSpacecraftById_Success() {
-        when(spacecraftRepository.findById(1L)).thenReturn(Optional.of(spacecraft1));
+        when(spacecraftRepository.findById(1L)).thenReturn(Mono.just(spacecraft1));
 
-        Spacecraft result = getSpacecraftsService.getSpacecraftById(1L);
+        Spacecraft result = getSpacecraftsService.getSpacecraftById(1L).block();
 
         assertNotNull(result);
         assertEquals("SC-001", result.getRegistryCode());
@@ -91,10 +133,11 @@ class GetSpacecraftsServiceTest {
     @Test
     @DisplayName("Получение корабля по ID - не найден")
     void getSpacecraftById_NotFound() {
-        when(spacecraftRepository.findById(999L)).thenReturn(Optional.empty());
+        when(spacecraftRepository.findById(999L)).thenReturn(Mono.empty());
 
-        assertThrows(SpacecraftNotFoundException.class,
-                () -> getSpacecraftsService.getSpacecraftById(999L));
+        StepVerifier.create(getSpacecraftsService.getSpacecraftById(999L))
+                .expectError(SpacecraftNotFoundException.class)
+                .verify();
 
         verify(spacecraftRepository).findById(999L);
     }
@@ -103,9 +146,9 @@ class GetSpacecraftsServiceTest {
     @DisplayName("Получение доступных кораблей - успешно")
     void getAvailableSpacecrafts_Success() {
         List<Spacecraft> availableSpacecrafts = Arrays.asList(spacecraft1);
-        when(spacecraftRepository.findAvailableForMission()).thenReturn(availableSpacecrafts);
+        when(spacecraftRepository.findAvailableForMission()).thenReturn(Flux.fromIterable(availableSpacecrafts));
 
-        List<Spacecraft> result = getSpacecraftsService.getAvailableSpacecrafts();
+        List<Spacecraft> result = getSpacecraftsService.getAvailableSpacecrafts().collectList().block();
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -117,23 +160,44 @@ class GetSpacecraftsServiceTest {
     @Test
     @DisplayName("Подсчет кораблей с фильтрами")
     void countSpacecrafts_Success() {
-        when(spacecraftRepository.countWithFilters(anyString(), anyString())).thenReturn(5L);
+        when(spacecraftRepository.countWithFilters(anyString(), anyString())).thenReturn(Mono.just(5L));
 
-        long result = getSpacecraftsService.countSpacecrafts("Star", "DOCKED");
+        long result = getSpacecraftsService.countSpacecrafts("Star", "DOCKED").block();
 
         assertEquals(5L, result);
 
         verify(spacecraftRepository).countWithFilters("Star", "DOCKED");
     }
 
+    @Test
+    @DisplayName("Повторный подсчет с теми же фильтрами берется из кэша")
+    void countSpacecrafts_SameFilters_CountsOnce() {
+        when(spacecraftRepository.countWithFilters("Star", null)).thenReturn(Mono.just(5L));
+
+        getSpacecraftsService.countSpacecrafts("Star", null).block();
+        long result = getSpacecraftsService.countSpacecrafts("Star", null).block();
+
+        assertEquals(5L, result);
+        verify(spacecraftRepository, times(1)).countWithFilters("Star", null);
+    }
+
+    @Test
+    @DisplayName("Оценка количества кораблей по плану запроса")
+    void estimateSpacecrafts_UsesRepositoryEstimate() {
+        when(spacecraftRepository.estimateWithFilters(null, "DOCKED")).thenReturn(Mono.just(40L));
+
+        assertEquals(40L, getSpacecraftsService.estimateSpacecrafts(null, "DOCKED").block());
+        verify(spacecraftRepository, never()).countWithFilters(any(), any());
+    }
+
     @Test
     @DisplayName("Проверка существования корабля")
     void spacecraftExists_Success() {
-        when(spacecraftRepository.existsById(1L)).thenReturn(true);
-        when(spacecraftRepository.existsById(999L)).thenReturn(false);
+        when(spacecraftRepository.existsById(1L)).thenReturn(Mono.just(true));
+        when(spacecraftRepository.existsById(999L)).thenReturn(Mono.just(false));
 
-        assertTrue(getSpacecraftsService.spacecraftExists(1L));
-        assertFalse(getSpacecraftsService.spacecraftExists(999L));
+        assertTrue(getSpacecraftsService.spacecraftExists(1L).block());
+        assertFalse(getSpacecraftsService.spacecraftExists(999L).block());
 
         verify(spacecraftRepository).existsById(1L);
         verify(spacecraftRepository).existsById(999L);
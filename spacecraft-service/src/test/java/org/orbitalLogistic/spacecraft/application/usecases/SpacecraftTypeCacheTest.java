@@ -0,0 +1,114 @@
+package org.orbitalLogistic.spacecraft.application.usecases;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.spacecraft.application.ports.out.SpacecraftTypeRepository;
+import org.orbitalLogistic.spacecraft.domain.model.SpacecraftType;
+import org.orbitalLogistic.spacecraft.domain.model.enums.SpacecraftClassification;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpacecraftTypeCacheTest {
+
+    @Mock
+    private SpacecraftTypeRepository spacecraftTypeRepository;
+
+    private SpacecraftTypeCache cache;
+
+    private SpacecraftType freighter;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SpacecraftTypeCache(spacecraftTypeRepository, Duration.ofMinutes(5));
+        freighter = SpacecraftType.builder()
+                .id(1L)
+                .typeName("Freighter")
+                .classification(SpacecraftClassification.CARGO_HAULER)
+                .maxCrewCapacity(5)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Типы загружаются один раз на все обращения")
+    void get_LoadsAllTypesOnce() {
+        when(spacecraftTypeRepository.findAll()).thenReturn(List.of(freighter));
+
+        assertEquals(Optional.of(freighter), cache.get(1L));
+        assertEquals(Optional.of(freighter), cache.get(1L));
+
+        verify(spacecraftTypeRepository, times(1)).findAll();
+        verify(spacecraftTypeRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Неизвестный тип догружается по ID")
+    void get_UnknownId_FallsBackToRepository() {
+        SpacecraftType tanker = freighter.toBuilder().id(2L).typeName("Tanker").build();
+        when(spacecraftTypeRepository.findAll()).thenReturn(List.of(freighter));
+        when(spacecraftTypeRepository.findById(2L)).thenReturn(Optional.of(tanker));
+
+        assertEquals(Optional.of(tanker), cache.get(2L));
+        assertEquals(Optional.of(tanker), cache.get(2L));
+
+        verify(spacecraftTypeRepository, times(1)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("Записанный тип сразу виден при чтении")
+    void put_ReplacesCachedType() {
+        when(spacecraftTypeRepository.findAll()).thenReturn(List.of(freighter));
+        cache.get(1L);
+
+        SpacecraftType renamed = freighter.toBuilder().typeName("Heavy Freighter").build();
+        cache.put(renamed);
+
+        assertEquals("Heavy Freighter", cache.get(1L).orElseThrow().getTypeName());
+        verify(spacecraftTypeRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Одновременные обращения к устаревшему кэшу перезагружают его один раз")
+    void get_ConcurrentStaleReads_ReloadOnce() throws Exception {
+        when(spacecraftTypeRepository.findAll()).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return List.of(freighter);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<Optional<SpacecraftType>>> reads = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                reads.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(1L);
+                }));
+            }
+            start.countDown();
+
+            for (Future<Optional<SpacecraftType>> read : reads) {
+                assertEquals(Optional.of(freighter), read.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(spacecraftTypeRepository, times(1)).findAll();
+    }
+}
@@ -0,0 +1,74 @@
+package org.orbitalLogistic.spacecraft.infrastructure.adapters.in.rest.mapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.spacecraft.application.ports.in.GetSpacecraftTypesUseCase;
+import org.orbitalLogistic.spacecraft.clients.ResilientCargoServiceClient;
+import org.orbitalLogistic.spacecraft.domain.model.Spacecraft;
+import org.orbitalLogistic.spacecraft.domain.model.SpacecraftType;
+import org.orbitalLogistic.spacecraft.domain.model.enums.SpacecraftClassification;
+import org.orbitalLogistic.spacecraft.domain.model.enums.SpacecraftStatus;
+import org.orbitalLogistic.spacecraft.infrastructure.adapters.in.rest.dto.SpacecraftResponseDTO;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpacecraftRestMapperTest {
+
+    @Mock
+    private GetSpacecraftTypesUseCase getSpacecraftTypesUseCase;
+
+    @Mock
+    private ResilientCargoServiceClient cargoServiceClient;
+
+    @InjectMocks
+    private SpacecraftRestMapper mapper;
+
+    private Spacecraft spacecraft1;
+    private Spacecraft spacecraft2;
+
+    @BeforeEach
+    void setUp() {
+        spacecraft1 = spacecraft(1L, "SC-001");
+        spacecraft2 = spacecraft(2L, "SC-002");
+        when(getSpacecraftTypesUseCase.getSpacecraftTypeById(1L)).thenReturn(SpacecraftType.builder()
+                .id(1L)
+                .typeName("Freighter")
+                .classification(SpacecraftClassification.CARGO_HAULER)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Страница не обращается к сервису грузов и показывает нулевую загрузку")
+    void toResponseDTOs_ReportsZeroUsageWithoutCargoServiceCalls() {
+        List<SpacecraftResponseDTO> result = mapper.toResponseDTOs(List.of(spacecraft1, spacecraft2));
+
+        assertEquals(2, result.size());
+        assertEquals("Freighter", result.get(0).spacecraftTypeName());
+        assertEquals(BigDecimal.ZERO, result.get(0).currentMassUsage());
+        assertEquals(BigDecimal.ZERO, result.get(1).currentVolumeUsage());
+        verifyNoInteractions(cargoServiceClient);
+    }
+
+    private static Spacecraft spacecraft(Long id, String registryCode) {
+        return Spacecraft.builder()
+                .id(id)
+                .registryCode(registryCode)
+                .name("Ship " + id)
+                .spacecraftTypeId(1L)
+                .massCapacity(new BigDecimal("50000"))
+                .volumeCapacity(new BigDecimal("10000"))
+                .status(SpacecraftStatus.DOCKED)
+                .currentLocation("Earth Orbit")
+                .build();
+    }
+}
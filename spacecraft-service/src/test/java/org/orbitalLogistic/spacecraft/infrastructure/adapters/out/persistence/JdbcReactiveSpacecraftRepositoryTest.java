@@ -0,0 +1,61 @@
+package org.orbitalLogistic.spacecraft.infrastructure.adapters.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.spacecraft.application.ports.out.SpacecraftRepository;
+import org.orbitalLogistic.spacecraft.domain.model.Spacecraft;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcReactiveSpacecraftRepositoryTest {
+
+    @Mock
+    private SpacecraftRepository spacecraftRepository;
+
+    @InjectMocks
+    private JdbcReactiveSpacecraftRepository repository;
+
+    @Test
+    @DisplayName("Блокирующий JDBC-вызов выполняется на boundedElastic")
+    void findById_RunsOnBoundedElastic() {
+        Spacecraft spacecraft = Spacecraft.builder().id(1L).build();
+        when(spacecraftRepository.findById(1L)).thenAnswer(invocation -> {
+            assertTrue(Thread.currentThread().getName().startsWith("boundedElastic"));
+            return Optional.of(spacecraft);
+        });
+
+        StepVerifier.create(repository.findById(1L))
+                .expectNext(spacecraft)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Отсутствующий корабль - пустой Mono")
+    void findById_Missing_CompletesEmpty() {
+        when(spacecraftRepository.findById(999L)).thenReturn(Optional.empty());
+
+        StepVerifier.create(repository.findById(999L)).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Список разворачивается в Flux")
+    void findWithFilters_EmitsEachRow() {
+        Spacecraft first = Spacecraft.builder().id(1L).build();
+        Spacecraft second = Spacecraft.builder().id(2L).build();
+        when(spacecraftRepository.findWithFilters(null, "DOCKED", 10, 0)).thenReturn(List.of(first, second));
+
+        StepVerifier.create(repository.findWithFilters(null, "DOCKED", 10, 0))
+                .expectNext(first, second)
+                .verifyComplete();
+    }
+}
@@ -347,4 +347,70 @@ class SpacecraftIntegrationTest {
                 .jsonPath("$.content.length()").isEqualTo(1)
                 .jsonPath("$.content[0].status").value(org.hamcrest.Matchers.equalTo("IN_TRANSIT"));
     }
+
+    @Test
+    @DisplayName("Интеграционный тест: постраничный обход по курсору")
+    void listSpacecrafts_FollowsCursorToLastPage() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            spacecraftRepository.save(SpacecraftEntity.builder()
+                    .registryCode("SC-CUR-" + i)
+                    .name("Cursor Ship " + i)
+                    .spacecraftTypeId(testSpacecraftType.getId())
+                    .massCapacity(new BigDecimal("5000.00"))
+                    .volumeCapacity(new BigDecimal("2500.00"))
+                    .status(SpacecraftStatus.DOCKED.name())
+                    .currentLocation("Earth")
+                    .build());
+        }
+
+        var firstPage = webTestClient.get().uri("/api/spacecrafts?size=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .returnResult();
+        String nextCursor = objectMapper.readTree(new String(firstPage.getResponseBody())).get("nextCursor").asText();
+
+        webTestClient.get().uri("/api/spacecrafts?size=2&cursor=" + nextCursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.content[0].registryCode").isEqualTo("SC-CUR-3")
+                .jsonPath("$.last").isEqualTo(true)
+                .jsonPath("$.nextCursor").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Интеграционный тест: поиск по подстроке и нечёткий поиск по имени")
+    void listSpacecrafts_SubstringAndFuzzyNameSearch() {
+        for (String name : new String[] {"Trigram Tanker", "Trigram Freighter"}) {
+            spacecraftRepository.save(SpacecraftEntity.builder()
+                    .registryCode("SC-TRG-" + name.length())
+                    .name(name)
+                    .spacecraftTypeId(testSpacecraftType.getId())
+                    .massCapacity(new BigDecimal("5000.00"))
+                    .volumeCapacity(new BigDecimal("2500.00"))
+                    .status(SpacecraftStatus.DOCKED.name())
+                    .currentLocation("Earth")
+                    .build());
+        }
+
+        webTestClient.get().uri("/api/spacecrafts?name=TRIGRAM")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2);
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/spacecrafts")
+                        .queryParam("name", "trigram frieghter")
+                        .queryParam("fuzzy", "true")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Total-Count")
+                .expectBody()
+                .jsonPath("$.content[0].name").isEqualTo("Trigram Freighter")
+                .jsonPath("$.totalElements").isEqualTo(-1);
+    }
 }
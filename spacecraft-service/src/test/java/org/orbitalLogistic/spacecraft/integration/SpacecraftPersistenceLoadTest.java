@@ -0,0 +1,162 @@
+package org.orbitalLogistic.spacecraft.integration;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.orbitalLogistic.spacecraft.TestcontainersConfiguration;
+import org.orbitalLogistic.spacecraft.application.ports.out.ReactiveSpacecraftRepository;
+import org.orbitalLogistic.spacecraft.application.ports.out.SpacecraftRepository;
+import org.orbitalLogistic.spacecraft.domain.model.enums.SpacecraftClassification;
+import org.orbitalLogistic.spacecraft.domain.model.enums.SpacecraftStatus;
+import org.orbitalLogistic.spacecraft.infrastructure.adapters.out.persistence.JdbcReactiveSpacecraftRepository;
+import org.orbitalLogistic.spacecraft.infrastructure.adapters.out.persistence.SpacecraftEntity;
+import org.orbitalLogistic.spacecraft.infrastructure.adapters.out.persistence.SpacecraftJdbcRepository;
+import org.orbitalLogistic.spacecraft.infrastructure.adapters.out.persistence.SpacecraftR2dbcPersistenceAdapter;
+import org.orbitalLogistic.spacecraft.infrastructure.adapters.out.persistence.SpacecraftTypeEntity;
+import org.orbitalLogistic.spacecraft.infrastructure.adapters.out.persistence.SpacecraftTypeJdbcRepository;
+import org.orbitalLogistic.spacecraft.domain.model.Spacecraft;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires the same burst of concurrent lookups through the JDBC bridge and the R2DBC adapter and
+ * records which threads delivered the rows. The JDBC path parks one bounded elastic thread per
+ * in-flight query; the R2DBC path should not touch the elastic pool at all.
+ */
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+@Tag("integration-tests")
+@TestPropertySource(properties = {
+        "spring.cloud.config.enabled=false"
+})
+class SpacecraftPersistenceLoadTest {
+
+    private static final int SPACECRAFTS = 50;
+    private static final int REQUESTS = 2_000;
+    private static final int CONCURRENCY = 256;
+
+    @Autowired
+    private SpacecraftRepository spacecraftRepository;
+
+    @Autowired
+    private SpacecraftJdbcRepository spacecraftJdbcRepository;
+
+    @Autowired
+    private SpacecraftTypeJdbcRepository spacecraftTypeJdbcRepository;
+
+    @Autowired
+    private PostgreSQLContainer<?> postgres;
+
+    private ConnectionPool connectionPool;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        spacecraftJdbcRepository.deleteAll();
+        spacecraftTypeJdbcRepository.deleteAll();
+        Long typeId = spacecraftTypeJdbcRepository.save(SpacecraftTypeEntity.builder()
+                .typeName("Load Hauler")
+                .classification(SpacecraftClassification.CARGO_HAULER.name())
+                .maxCrewCapacity(4)
+                .build()).getId();
+        ids = LongStream.range(0, SPACECRAFTS)
+                .mapToObj(i -> spacecraftRepository.save(Spacecraft.builder()
+                        .registryCode("LOAD-" + i)
+                        .name("Load Test " + i)
+                        .spacecraftTypeId(typeId)
+                        .massCapacity(BigDecimal.TEN)
+                        .volumeCapacity(BigDecimal.TEN)
+                        .status(SpacecraftStatus.DOCKED)
+                        .build()).getId())
+                .toList();
+
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(
+                        ConnectionFactoryOptions.parse(postgres.getJdbcUrl().replaceFirst("^jdbc:", "r2dbc:").replaceFirst("\\?.*$", ""))
+                                .mutate()
+                                .option(ConnectionFactoryOptions.USER, postgres.getUsername())
+                                .option(ConnectionFactoryOptions.PASSWORD, postgres.getPassword())
+                                .build()))
+                .maxSize(10)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionPool.dispose();
+        spacecraftJdbcRepository.deleteAll();
+        spacecraftTypeJdbcRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Нагрузочный тест: R2DBC не занимает потоки boundedElastic, JDBC занимает")
+    void r2dbcPath_DoesNotSaturateElasticPool() {
+        LoadResult jdbc = run(new JdbcReactiveSpacecraftRepository(spacecraftRepository));
+        LoadResult r2dbc = run(new SpacecraftR2dbcPersistenceAdapter(DatabaseClient.create(connectionPool)));
+
+        System.out.printf("jdbc:  %d ms, %d elastic threads%n", jdbc.elapsed().toMillis(), jdbc.elasticThreads());
+        System.out.printf("r2dbc: %d ms, %d elastic threads%n", r2dbc.elapsed().toMillis(), r2dbc.elasticThreads());
+
+        assertThat(jdbc.found()).isEqualTo(REQUESTS);
+        assertThat(r2dbc.found()).isEqualTo(REQUESTS);
+        assertThat(jdbc.elasticThreads()).isGreaterThan(1);
+        assertThat(r2dbc.elasticThreads()).isZero();
+    }
+
+    @Test
+    @DisplayName("R2DBC сохраняет статус через приведение к spacecraft_status_enum")
+    void r2dbcSave_CastsStatusEnum() {
+        ReactiveSpacecraftRepository r2dbc = new SpacecraftR2dbcPersistenceAdapter(DatabaseClient.create(connectionPool));
+        Spacecraft stored = r2dbc.findById(ids.get(0)).block();
+
+        Spacecraft updated = r2dbc.save(stored.toBuilder().status(SpacecraftStatus.MAINTENANCE).build())
+                .then(r2dbc.findById(stored.getId()))
+                .block();
+
+        assertThat(updated.getStatus()).isEqualTo(SpacecraftStatus.MAINTENANCE);
+        assertThat(spacecraftRepository.findById(stored.getId()).orElseThrow().getStatus())
+                .isEqualTo(SpacecraftStatus.MAINTENANCE);
+    }
+
+    private LoadResult run(ReactiveSpacecraftRepository repository) {
+        Set<String> elasticThreads = ConcurrentHashMap.newKeySet();
+        long started = System.nanoTime();
+
+        Long found = Flux.range(0, REQUESTS)
+                .flatMap(i -> repository.findById(ids.get(i % SPACECRAFTS))
+                        .doOnNext(spacecraft -> {
+                            String thread = Thread.currentThread().getName();
+                            if (thread.startsWith("boundedElastic")) {
+                                elasticThreads.add(thread);
+                            }
+                        }), CONCURRENCY)
+                .count()
+                .block(Duration.ofMinutes(2));
+
+        return new LoadResult(found, Duration.ofNanos(System.nanoTime() - started), elasticThreads.size());
+    }
+
+    private record LoadResult(long found, Duration elapsed, int elasticThreads) {
+    }
+}
@@ -2,13 +2,21 @@ package org.orbitalLogistic.user.application.ports.in;
 
 import org.orbitalLogistic.user.domain.model.User;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface GetUsersUseCase {
+    /** Most ids one batch lookup may ask for. */
+    int MAX_BATCH_SIZE = 1000;
+
     Optional<User> getById(Long id);
+    List<User> getByIds(Collection<Long> ids);
     Optional<User> getByUsername(String username);
     Optional<User> getByEmail(String email);
     boolean existsById(Long id);
+    Map<Long, Boolean> existsByIds(Collection<Long> ids);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
 }
@@ -0,0 +1,5 @@
+package org.orbitalLogistic.user.application.ports.out;
+
+public interface UserEventSender {
+    void userDeleted(Long userId);
+}
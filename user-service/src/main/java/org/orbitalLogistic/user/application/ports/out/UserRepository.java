@@ -2,11 +2,16 @@ package org.orbitalLogistic.user.application.ports.out;
 
 import org.orbitalLogistic.user.domain.model.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserRepository {
     User save(User user);
     Optional<User> findById(Long id);
+    List<User> findAllByIds(Collection<Long> ids);
+    Set<Long> findExistingIds(Collection<Long> ids);
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
     boolean existsById(Long id);
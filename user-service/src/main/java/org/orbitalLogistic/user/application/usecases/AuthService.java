@@ -99,7 +99,7 @@ public class AuthService implements AuthUseCase {
 
         // Генерируем JWT токен
         String token = jwtTokenPort.generateToken(savedUser);
-        reportSender.send(command);
+        reportSender.send(savedUser.getId(), command);
 
         return token;
     }
@@ -13,7 +13,6 @@ import org.orbitalLogistic.user.domain.exception.RoleNotFoundException;
 import org.orbitalLogistic.user.domain.exception.UserAlreadyExistsException;
 import org.orbitalLogistic.user.domain.model.Role;
 import org.orbitalLogistic.user.domain.model.User;
-import org.orbitalLogistic.user.infrastructure.adapters.out.kafka.ReportPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -3,6 +3,7 @@ package org.orbitalLogistic.user.application.usecases;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.orbitalLogistic.user.application.ports.in.DeleteUserUseCase;
+import org.orbitalLogistic.user.application.ports.out.UserEventSender;
 import org.orbitalLogistic.user.application.ports.out.UserRepository;
 import org.orbitalLogistic.user.domain.exception.UserNotFoundException;
 import org.springframework.stereotype.Service;
@@ -14,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteUserService implements DeleteUserUseCase {
 
     private final UserRepository userRepository;
+    private final UserEventSender userEventSender;
 
     @Override
     @Transactional
@@ -28,6 +30,7 @@ public class DeleteUserService implements DeleteUserUseCase {
 
         // Удаляем пользователя
         userRepository.deleteById(id);
+        userEventSender.userDeleted(id);
         log.info("User deleted successfully with id: {}", id);
     }
 }
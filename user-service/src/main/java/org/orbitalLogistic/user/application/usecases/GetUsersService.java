@@ -8,7 +8,12 @@ import org.orbitalLogistic.user.domain.model.User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +29,17 @@ public class GetUsersService implements GetUsersUseCase {
         return userRepository.findById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> getByIds(Collection<Long> ids) {
+        log.debug("Finding {} users by ids", ids.size());
+        requireBatchSize(ids);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findAllByIds(ids);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<User> getByUsername(String username) {
@@ -45,6 +61,19 @@ public class GetUsersService implements GetUsersUseCase {
         return userRepository.existsById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Boolean> existsByIds(Collection<Long> ids) {
+        log.debug("Checking if {} users exist by ids", ids.size());
+        requireBatchSize(ids);
+        Set<Long> existingIds = ids.isEmpty() ? Set.of() : userRepository.findExistingIds(ids);
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            result.put(id, existingIds.contains(id));
+        }
+        return result;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsByUsername(String username) {
@@ -58,4 +87,10 @@ public class GetUsersService implements GetUsersUseCase {
         log.debug("Checking if user exists by email: {}", email);
         return userRepository.existsByEmail(email);
     }
+
+    private static void requireBatchSize(Collection<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must not contain more than " + MAX_BATCH_SIZE + " ids");
+        }
+    }
 }
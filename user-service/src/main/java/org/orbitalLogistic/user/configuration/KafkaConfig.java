@@ -11,12 +11,14 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
 @EnableKafka
+@EnableScheduling
 public class KafkaConfig {
 
     @Value("${spring.kafka.bootstrap-servers}")
@@ -57,4 +59,9 @@ public class KafkaConfig {
     public NewTopic createReportsDataTopic() {
         return new NewTopic("user-reports-data", 3, (short) 3);
     }
+
+    @Bean
+    public NewTopic createUserDeletedTopic() {
+        return new NewTopic("user-deleted", 3, (short) 3);
+    }
 }
@@ -8,6 +8,7 @@ import org.orbitalLogistic.user.domain.exception.UserNotFoundException;
 import org.orbitalLogistic.user.domain.model.User;
 import org.orbitalLogistic.user.infrastructure.adapters.in.rest.dto.UpdateUserRequest;
 import org.orbitalLogistic.user.infrastructure.adapters.in.rest.dto.UserResponse;
+import org.orbitalLogistic.user.infrastructure.adapters.in.rest.dto.UserSummaryResponse;
 import org.orbitalLogistic.user.infrastructure.adapters.in.rest.mapper.UserRestMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +17,10 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -53,6 +58,19 @@ public class UserRestController {
         return ResponseEntity.ok(exists);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserSummaryResponse>> getByIds(@RequestBody Set<Long> ids) {
+        List<UserSummaryResponse> users = getUsersUseCase.getByIds(ids).stream()
+                .map(userRestMapper::toSummaryResponse)
+                .toList();
+        return ResponseEntity.ok(users);
+    }
+
+    @PostMapping("/exists-batch")
+    public ResponseEntity<Map<Long, Boolean>> usersExist(@RequestBody Set<Long> ids) {
+        return ResponseEntity.ok(getUsersUseCase.existsByIds(ids));
+    }
+
     @GetMapping("/{id}/roles")
     public ResponseEntity<?> getUserRoles(@PathVariable Long id) {
         User user = getUsersUseCase.getById(id)
@@ -0,0 +1,8 @@
+package org.orbitalLogistic.user.infrastructure.adapters.in.rest.dto;
+
+public record UserSummaryResponse(
+        Long id,
+        String username,
+        String email
+) {
+}
@@ -8,6 +8,7 @@ import org.orbitalLogistic.user.infrastructure.adapters.in.rest.dto.CreateUserRe
 import org.orbitalLogistic.user.infrastructure.adapters.in.rest.dto.RoleResponse;
 import org.orbitalLogistic.user.infrastructure.adapters.in.rest.dto.UpdateUserRequest;
 import org.orbitalLogistic.user.infrastructure.adapters.in.rest.dto.UserResponse;
+import org.orbitalLogistic.user.infrastructure.adapters.in.rest.dto.UserSummaryResponse;
 import org.springframework.stereotype.Component;
 
 import java.util.Set;
@@ -43,6 +44,14 @@ public class UserRestMapper {
         );
     }
 
+    public UserSummaryResponse toSummaryResponse(User user) {
+        return new UserSummaryResponse(
+                user.getId(),
+                user.getUsername(),
+                user.getEmail()
+        );
+    }
+
     public Set<RoleResponse> rolesToResponse(Set<Role> roles) {
         return roles.stream()
                 .map(role -> new RoleResponse(role.getId(), role.getName()))
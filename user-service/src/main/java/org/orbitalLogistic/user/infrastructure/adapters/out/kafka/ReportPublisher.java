@@ -1,21 +1,43 @@
 package org.orbitalLogistic.user.infrastructure.adapters.out.kafka;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.orbitalLogistic.user.application.ports.in.CreateUserCommand;
+import org.orbitalLogistic.outbox.ReportOutboxRepository;
 import org.orbitalLogistic.user.application.ports.in.RegisterCommand;
 import org.orbitalLogistic.user.application.ports.out.ReportSender;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.JacksonUtils;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
+
+/**
+ * Stores the report event in the outbox of the current transaction; the shared
+ * {@link org.orbitalLogistic.outbox.OutboxRelay} publishes it keyed by user id,
+ * so events of one user stay in order.
+ */
 @Component
 @RequiredArgsConstructor
 public class ReportPublisher implements ReportSender {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    static final String TOPIC = "user-reports-data";
+
+    // same mapper JsonSerializer used before, so consumers see unchanged payloads
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    private final ReportOutboxRepository reportOutboxRepository;
 
     @Override
-    public void send(RegisterCommand user) {
-        RegisterCommand censored = new RegisterCommand(user.username(), "", user.email(), user.roleIds());
-        kafkaTemplate.send("user-reports-data", censored);
+    public void send(Long userId, RegisterCommand user) {
+        // the outbox row outlives the request, so the password never goes into it
+        UserReport report = new UserReport(user.username(), user.email(), user.roleIds());
+        try {
+            reportOutboxRepository.append(TOPIC, String.valueOf(userId), objectMapper.writeValueAsString(report));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize user report event", e);
+        }
+    }
+
+    record UserReport(String username, String email, Set<Long> roleIds) {
     }
 }
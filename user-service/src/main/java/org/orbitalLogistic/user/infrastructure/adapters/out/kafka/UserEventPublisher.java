@@ -0,0 +1,24 @@
+package org.orbitalLogistic.user.infrastructure.adapters.out.kafka;
+
+import lombok.RequiredArgsConstructor;
+import org.orbitalLogistic.outbox.ReportOutboxRepository;
+import org.orbitalLogistic.user.application.ports.out.UserEventSender;
+import org.springframework.stereotype.Component;
+
+/**
+ * User lifecycle events for services that cache user lookups. They go through the same outbox
+ * as the reports, so an event is published only if the change was committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEventPublisher implements UserEventSender {
+
+    static final String USER_DELETED_TOPIC = "user-deleted";
+
+    private final ReportOutboxRepository reportOutboxRepository;
+
+    @Override
+    public void userDeleted(Long userId) {
+        reportOutboxRepository.append(USER_DELETED_TOPIC, String.valueOf(userId), "{\"userId\":" + userId + "}");
+    }
+}
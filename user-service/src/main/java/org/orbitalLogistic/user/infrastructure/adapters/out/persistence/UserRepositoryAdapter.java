@@ -3,9 +3,15 @@ package org.orbitalLogistic.user.infrastructure.adapters.out.persistence;
 import lombok.RequiredArgsConstructor;
 import org.orbitalLogistic.user.application.ports.out.UserRepository;
 import org.orbitalLogistic.user.domain.model.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -13,6 +19,7 @@ public class UserRepositoryAdapter implements UserRepository {
 
     private final UserJdbcRepository jdbcRepository;
     private final UserPersistenceMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public User save(User user) {
@@ -27,6 +34,28 @@ public class UserRepositoryAdapter implements UserRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<User> findAllByIds(Collection<Long> ids) {
+        return jdbcTemplate.query(
+                "SELECT id, username, email, enabled FROM users WHERE id = ANY(?)",
+                idsArray(ids),
+                (rs, rowNum) -> User.builder()
+                        .id(rs.getLong("id"))
+                        .username(rs.getString("username"))
+                        .email(rs.getString("email"))
+                        .enabled(rs.getBoolean("enabled"))
+                        .roles(Set.of())
+                        .build());
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        return new HashSet<>(jdbcTemplate.query(
+                "SELECT id FROM users WHERE id = ANY(?)",
+                idsArray(ids),
+                (rs, rowNum) -> rs.getLong("id")));
+    }
+
     @Override
     public Optional<User> findByUsername(String username) {
         return jdbcRepository.findByUsername(username)
@@ -58,4 +87,8 @@ public class UserRepositoryAdapter implements UserRepository {
     public void deleteById(Long id) {
         jdbcRepository.deleteById(id);
     }
+
+    private PreparedStatementSetter idsArray(Collection<Long> ids) {
+        return ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray()));
+    }
 }
@@ -148,6 +148,7 @@ class AuthServiceTest {
         verify(passwordEncoder).encode("password123");
         verify(userRepository).save(any(User.class));
         verify(jwtTokenPort).generateToken(any(User.class));
+        verify(reportSender).send(testUser.getId(), command);
     }
 
     @Test
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.user.application.ports.out.UserEventSender;
 import org.orbitalLogistic.user.application.ports.out.UserRepository;
 import org.orbitalLogistic.user.domain.exception.UserNotFoundException;
 import org.orbitalLogistic.user.domain.model.Role;
@@ -25,6 +26,9 @@ class DeleteUserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserEventSender userEventSender;
+
     @InjectMocks
     private DeleteUserService deleteUserService;
 
@@ -60,6 +64,7 @@ class DeleteUserServiceTest {
         // Then
         verify(userRepository).existsById(1L);
         verify(userRepository).deleteById(1L);
+        verify(userEventSender).userDeleted(1L);
     }
 
     @Test
@@ -74,5 +79,6 @@ class DeleteUserServiceTest {
         
         verify(userRepository).existsById(999L);
         verify(userRepository, never()).deleteById(anyLong());
+        verify(userEventSender, never()).userDeleted(anyLong());
     }
 }
@@ -7,14 +7,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.user.application.ports.in.GetUsersUseCase;
 import org.orbitalLogistic.user.application.ports.out.UserRepository;
 import org.orbitalLogistic.user.domain.model.Role;
 import org.orbitalLogistic.user.domain.model.User;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -159,4 +165,59 @@ class GetUsersServiceTest {
         verify(userRepository).existsByEmail("test@example.com");
         verify(userRepository).existsByEmail("unknown@example.com");
     }
+
+    @Test
+    @DisplayName("Should get users by ids in a single repository call")
+    void shouldGetUsersByIds() {
+        // Given
+        when(userRepository.findAllByIds(Set.of(1L, 2L))).thenReturn(List.of(testUser));
+
+        // When
+        List<User> result = getUsersService.getByIds(Set.of(1L, 2L));
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("testuser", result.get(0).getUsername());
+        verify(userRepository).findAllByIds(Set.of(1L, 2L));
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should report existence for every requested id")
+    void shouldCheckIfUsersExistByIds() {
+        // Given
+        List<Long> ids = List.of(1L, 999L);
+        when(userRepository.findExistingIds(ids)).thenReturn(Set.of(1L));
+
+        // When
+        Map<Long, Boolean> result = getUsersService.existsByIds(ids);
+
+        // Then
+        assertEquals(Map.of(1L, true, 999L, false), result);
+        verify(userRepository).findExistingIds(ids);
+        verify(userRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("Should not query repository for empty id batch")
+    void shouldSkipRepositoryForEmptyBatch() {
+        // When & Then
+        assertTrue(getUsersService.getByIds(Set.of()).isEmpty());
+        assertTrue(getUsersService.existsByIds(Set.of()).isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject id batches larger than the limit")
+    void shouldRejectOversizedBatch() {
+        // Given
+        Set<Long> ids = LongStream.rangeClosed(1, GetUsersUseCase.MAX_BATCH_SIZE + 1)
+                .boxed()
+                .collect(Collectors.toSet());
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> getUsersService.getByIds(ids));
+        assertThrows(IllegalArgumentException.class, () -> getUsersService.existsByIds(ids));
+        verifyNoInteractions(userRepository);
+    }
 }
@@ -0,0 +1,54 @@
+package org.orbitalLogistic.user.infrastructure.adapters.out.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.outbox.ReportOutboxRepository;
+import org.orbitalLogistic.user.application.ports.in.RegisterCommand;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReportPublisherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private ReportOutboxRepository reportOutboxRepository;
+
+    private ReportPublisher reportPublisher;
+
+    @BeforeEach
+    void setUp() {
+        reportPublisher = new ReportPublisher(reportOutboxRepository);
+    }
+
+    @Test
+    @DisplayName("Should append registration without password keyed by user id")
+    void send_AppendsRegistrationWithoutPasswordKeyedByUserId() throws Exception {
+        // Given
+        RegisterCommand command = new RegisterCommand("newuser", "password123", "new@example.com", Set.of(1L));
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+
+        // When
+        reportPublisher.send(42L, command);
+
+        // Then
+        verify(reportOutboxRepository).append(eq("user-reports-data"), eq("42"), payload.capture());
+        JsonNode json = objectMapper.readTree(payload.getValue());
+        assertEquals("newuser", json.get("username").asText());
+        assertEquals("new@example.com", json.get("email").asText());
+        assertFalse(json.has("password"));
+        assertFalse(payload.getValue().contains("password123"));
+    }
+}
@@ -0,0 +1,31 @@
+package org.orbitalLogistic.user.infrastructure.adapters.out.kafka;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orbitalLogistic.outbox.ReportOutboxRepository;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserEventPublisherTest {
+
+    @Mock
+    private ReportOutboxRepository reportOutboxRepository;
+
+    @InjectMocks
+    private UserEventPublisher userEventPublisher;
+
+    @Test
+    @DisplayName("Should append user deleted event keyed by user id")
+    void userDeleted_AppendsEventKeyedByUserId() {
+        // When
+        userEventPublisher.userDeleted(42L);
+
+        // Then
+        verify(reportOutboxRepository).append("user-deleted", "42", "{\"userId\":42}");
+    }
+}
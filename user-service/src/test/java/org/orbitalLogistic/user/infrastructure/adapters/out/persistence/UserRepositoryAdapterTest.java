@@ -14,10 +14,12 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @SpringBootTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -137,4 +139,46 @@ class UserRepositoryAdapterTest {
         // Then
         assertThat(foundUser).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should find users by ids with one query and skip unknown ids")
+    void shouldFindAllUsersByIds() {
+        // Given
+        User first = userRepositoryAdapter.save(user("batchuser1", "batch1@example.com"));
+        User second = userRepositoryAdapter.save(user("batchuser2", "batch2@example.com"));
+        userRepositoryAdapter.save(user("batchuser3", "batch3@example.com"));
+
+        // When
+        List<User> found = userRepositoryAdapter.findAllByIds(List.of(first.getId(), second.getId(), -1L));
+
+        // Then
+        assertThat(found)
+                .extracting(User::getId, User::getUsername, User::getEmail)
+                .containsExactlyInAnyOrder(
+                        tuple(first.getId(), "batchuser1", "batch1@example.com"),
+                        tuple(second.getId(), "batchuser2", "batch2@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should return only the ids of existing users")
+    void shouldFindExistingIds() {
+        // Given
+        User existing = userRepositoryAdapter.save(user("existsbatch", "existsbatch@example.com"));
+
+        // When
+        Set<Long> ids = userRepositoryAdapter.findExistingIds(List.of(existing.getId(), -1L, -2L));
+
+        // Then
+        assertThat(ids).containsExactly(existing.getId());
+    }
+
+    private User user(String username, String email) {
+        return User.builder()
+                .username(username)
+                .password("encoded_password")
+                .email(email)
+                .enabled(true)
+                .roles(Set.of(testRole))
+                .build();
+    }
 }